@@ -55,6 +55,7 @@ public class ImageCommandProvider {
 	private static final String FILTER = "--filter";
 	private static final boolean USE_SUDO = false;
 	private static final String TARGET = "target";
+	private static final String NO_CACHE = "no-cache";
 	
 	@Autowired
 	private ImageMetadataProvider imageMetadataProvider;
@@ -66,13 +67,36 @@ public class ImageCommandProvider {
     // --label “imageowner=hyscale"
     public String dockerBuildCommand(String appName, String serviceName, String tag, String dockerFilePath,String target,
                                      Map<String, String> buildArgs) {
+        return dockerBuildCommand(appName, serviceName, tag, dockerFilePath, target, buildArgs, null, false, false);
+    }
+
+    /**
+     * @param labels  added to image along with image owner label
+     * @param noCache build without using layer cache
+     * @param pull    always pull newer version of base image
+     * @return docker build command
+     */
+    public String dockerBuildCommand(String appName, String serviceName, String tag, String dockerFilePath, String target,
+                                     Map<String, String> buildArgs, Map<String, String> labels, boolean noCache, boolean pull) {
 		StringBuilder buildCommand = new StringBuilder();
 		buildCommand.append(DOCKER_BUILD);
 		if (target != null) {
 			buildCommand.append(SPACE).append(HYPHEN).append(HYPHEN).append(TARGET).append(SPACE).append(target);
 		}
+		if (noCache) {
+			buildCommand.append(SPACE).append(HYPHEN).append(HYPHEN).append(NO_CACHE);
+		}
+		if (pull) {
+			buildCommand.append(SPACE).append(HYPHEN).append(HYPHEN).append(PULL_COMMAND);
+		}
 		buildCommand.append(SPACE).append(HYPHEN).append(HYPHEN).append(LABEL_ARGS).append(SPACE).append(IMAGE_OWNER)
 				.append(EQUALS).append(HYSCALE);
+		if (labels != null) {
+			labels.entrySet().stream().forEach(each -> {
+				buildCommand.append(SPACE).append(HYPHEN).append(HYPHEN).append(LABEL_ARGS).append(SPACE)
+						.append(each.getKey()).append(EQUALS).append(each.getValue());
+			});
+		}
 
         if (buildArgs != null && !buildArgs.isEmpty()) {
             buildCommand.append(getBuildArgs(buildArgs));
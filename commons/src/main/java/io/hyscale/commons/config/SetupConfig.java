@@ -40,6 +40,7 @@ public class SetupConfig {
     private static final String logDir = "logs";
     private static final String appsDirectory = "apps";
     private static final String hyscale = "hyscale";
+    private static final String cacheDirectory = "cache";
 
     private static final ThreadLocal<String> absolutePathTL = new ThreadLocal<String>();
 
@@ -62,6 +63,13 @@ public class SetupConfig {
         return absolutePathTL.get();
     }
 
+    /**
+     * @return service spec directory set for the current thread, null if not set
+     */
+    public static String getSpecDirectory() {
+        return absolutePathTL.get();
+    }
+
     public static void clearAbsolutePath() {
         if (absolutePathTL != null) {
             absolutePathTL.remove();
@@ -97,6 +105,13 @@ public class SetupConfig {
         return getInstallationDir() + hyscale + FILE_SEPARATOR + appsDirectory + FILE_SEPARATOR;
     }
 
+    /**
+     * Files under cache directory are retained across commands and service directory clean up
+     */
+    public String getCacheDir() {
+        return getInstallationDir() + hyscale + FILE_SEPARATOR + cacheDirectory + FILE_SEPARATOR;
+    }
+
     public String getServiceDir(String appName, String serviceName) {
         StringBuilder sb = new StringBuilder();
         sb.append(getAppsDir()).append(appName).append(FILE_SEPARATOR).append(serviceName).append(FILE_SEPARATOR);
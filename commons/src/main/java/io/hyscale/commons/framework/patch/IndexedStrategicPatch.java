@@ -0,0 +1,271 @@
+/**
+ * Copyright 2019 Pramati Prism, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.hyscale.commons.framework.patch;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+import javax.json.Json;
+import javax.json.JsonArray;
+import javax.json.JsonArrayBuilder;
+import javax.json.JsonObject;
+import javax.json.JsonObjectBuilder;
+import javax.json.JsonValue;
+import javax.json.JsonValue.ValueType;
+
+import org.apache.commons.lang3.StringUtils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeType;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import io.hyscale.commons.exception.HyscaleException;
+
+/**
+ * Strategic Patch with same merge semantics as {@link StrategicPatch}
+ * Array elements of source are indexed by merge key once
+ * so arrays are merged in linear time, order is preserved as
+ * source elements followed by new patch elements
+ * 
+ * Besides javax.json objects, merge can be done on jackson trees
+ * so callers holding parsed trees need not go through json strings
+ *
+ */
+public class IndexedStrategicPatch {
+
+    private IndexedStrategicPatch() {
+    }
+
+    /**
+     * @see StrategicPatch#apply(String, String, FieldMetaDataProvider)
+     * @param source
+     * @param patch
+     * @param fieldDataProvider
+     * @return String - Json representation after merging source and patch
+     * @throws HyscaleException
+     */
+    public static String apply(String source, String patch, FieldMetaDataProvider fieldDataProvider)
+            throws HyscaleException {
+        return StrategicPatch.apply(source, patch, fieldDataProvider, IndexedStrategicPatch::mergeJsonObjects);
+    }
+
+    /**
+     * Updates source with patch values as per {@link StrategicPatch#mergeJsonObjects(JsonObject, JsonObject, FieldMetaDataProvider)}
+     * Fields keep source order, new fields are added in patch order
+     * 
+     * @param source
+     * @param patch
+     * @param fieldDataProvider - provides keys while merging array entities
+     * @return merged JsonObject
+     * @throws HyscaleException
+     */
+    public static JsonObject mergeJsonObjects(JsonObject source, JsonObject patch,
+            FieldMetaDataProvider fieldDataProvider) throws HyscaleException {
+
+        if (patch == null) {
+            return source;
+        }
+
+        if (source == null) {
+            return patch;
+        }
+
+        JsonObjectBuilder objBuilder = Json.createObjectBuilder(source);
+
+        for (Entry<String, JsonValue> entrySet : patch.entrySet()) {
+            String key = entrySet.getKey();
+            JsonValue value = entrySet.getValue();
+            if (value.getValueType() == ValueType.NULL) {
+                // Empty/Null value field are ignored
+                continue;
+            }
+
+            // if absent in source or different type than patch, put patch value
+            JsonValue sourceJsonValue = source.get(key);
+            if (sourceJsonValue == null || value.getValueType() != sourceJsonValue.getValueType()
+                    || StrategicPatch.replacementValueTypes.contains(value.getValueType())) {
+                objBuilder.add(key, value);
+            } else if (value.getValueType() == ValueType.ARRAY) {
+                objBuilder.add(key,
+                        mergeJsonArrays(key, sourceJsonValue.asJsonArray(), value.asJsonArray(), fieldDataProvider));
+            } else {
+                objBuilder.add(key,
+                        mergeJsonObjects(sourceJsonValue.asJsonObject(), value.asJsonObject(), fieldDataProvider));
+            }
+        }
+
+        return objBuilder.build();
+    }
+
+    /**
+     * Merges patch array into source array
+     * Objects are merged with the source object having the same merge key value,
+     * others are added if not present, duplicates are removed
+     */
+    private static JsonArray mergeJsonArrays(String key, JsonArray sourceArray, JsonArray patchArray,
+            FieldMetaDataProvider fieldDataProvider) throws HyscaleException {
+        List<JsonValue> mergedValues = new ArrayList<>(sourceArray);
+        String mergeKey = null;
+        Map<JsonValue, Integer> keyIndex = null;
+
+        for (JsonValue patchValue : patchArray) {
+            if (patchValue.getValueType() != ValueType.OBJECT) {
+                // replacement value type
+                mergedValues.add(patchValue);
+                continue;
+            }
+            if (mergeKey == null) {
+                mergeKey = getMergeKey(key, fieldDataProvider);
+                keyIndex = getKeyIndex(sourceArray, mergeKey);
+            }
+            JsonObject patchObj = patchValue.asJsonObject();
+            JsonValue keyValue = patchObj.get(mergeKey);
+            Integer sourceIndex = keyValue != null ? keyIndex.get(keyValue) : null;
+            if (sourceIndex == null) {
+                mergedValues.add(patchObj);
+            } else {
+                // Patch objects with same key are merged in order
+                JsonObject sourceObj = mergedValues.get(sourceIndex).asJsonObject();
+                mergedValues.set(sourceIndex, mergeJsonObjects(sourceObj, patchObj, fieldDataProvider));
+            }
+        }
+
+        JsonArrayBuilder arrayBuilder = Json.createArrayBuilder();
+        new LinkedHashSet<>(mergedValues).forEach(arrayBuilder::add);
+        return arrayBuilder.build();
+    }
+
+    /**
+     * Tree variant of {@link #mergeJsonObjects(JsonObject, JsonObject, FieldMetaDataProvider)}
+     * Source tree is updated in place, patch nodes may be attached to it
+     * 
+     * @param source
+     * @param patch
+     * @param fieldDataProvider - provides keys while merging array entities
+     * @return merged tree
+     * @throws HyscaleException
+     */
+    public static ObjectNode apply(ObjectNode source, ObjectNode patch, FieldMetaDataProvider fieldDataProvider)
+            throws HyscaleException {
+        if (patch == null) {
+            return source;
+        }
+        if (source == null) {
+            return patch;
+        }
+        Iterator<Entry<String, JsonNode>> patchFields = patch.fields();
+        while (patchFields.hasNext()) {
+            Entry<String, JsonNode> patchField = patchFields.next();
+            String key = patchField.getKey();
+            JsonNode value = patchField.getValue();
+            if (value.isNull()) {
+                // Empty/Null value field are ignored
+                continue;
+            }
+            JsonNode sourceValue = source.get(key);
+            if (sourceValue == null || value.getNodeType() != sourceValue.getNodeType() || value.isValueNode()) {
+                source.set(key, value);
+            } else if (value.getNodeType() == JsonNodeType.ARRAY) {
+                mergeArrayNodes(key, (ArrayNode) sourceValue, (ArrayNode) value, fieldDataProvider);
+            } else {
+                apply((ObjectNode) sourceValue, (ObjectNode) value, fieldDataProvider);
+            }
+        }
+        return source;
+    }
+
+    private static void mergeArrayNodes(String key, ArrayNode sourceArray, ArrayNode patchArray,
+            FieldMetaDataProvider fieldDataProvider) throws HyscaleException {
+        int sourceSize = sourceArray.size();
+        String mergeKey = null;
+        Map<JsonNode, Integer> keyIndex = null;
+
+        for (JsonNode patchValue : patchArray) {
+            if (!patchValue.isObject()) {
+                // replacement value type
+                sourceArray.add(patchValue);
+                continue;
+            }
+            if (mergeKey == null) {
+                mergeKey = getMergeKey(key, fieldDataProvider);
+                keyIndex = getKeyIndex(sourceArray, sourceSize, mergeKey);
+            }
+            JsonNode keyValue = patchValue.get(mergeKey);
+            Integer sourceIndex = keyValue != null ? keyIndex.get(keyValue) : null;
+            if (sourceIndex == null) {
+                sourceArray.add(patchValue);
+            } else {
+                // Patch objects with same key are merged in order
+                apply((ObjectNode) sourceArray.get(sourceIndex), (ObjectNode) patchValue, fieldDataProvider);
+            }
+        }
+
+        Set<JsonNode> mergedValues = new LinkedHashSet<>();
+        sourceArray.forEach(mergedValues::add);
+        if (mergedValues.size() != sourceArray.size()) {
+            sourceArray.removeAll();
+            sourceArray.addAll(mergedValues);
+        }
+    }
+
+    private static Map<JsonNode, Integer> getKeyIndex(ArrayNode sourceArray, int sourceSize, String mergeKey) {
+        Map<JsonNode, Integer> keyIndex = new HashMap<>();
+        for (int index = 0; index < sourceSize; index++) {
+            JsonNode keyValue = sourceArray.get(index).get(mergeKey);
+            if (keyValue != null) {
+                keyIndex.putIfAbsent(keyValue, index);
+            }
+        }
+        return keyIndex;
+    }
+
+    private static String getMergeKey(String key, FieldMetaDataProvider fieldDataProvider) throws HyscaleException {
+        if (fieldDataProvider == null) {
+            throw StrategicPatch.getException(key);
+        }
+        FieldMetaData mergeKey = fieldDataProvider.getMetaData(key);
+        if (mergeKey == null || StringUtils.isBlank(mergeKey.getKey())) {
+            throw StrategicPatch.getException(key);
+        }
+        return mergeKey.getKey();
+    }
+
+    /**
+     * @return merge key value to index of first source object having it
+     */
+    private static Map<JsonValue, Integer> getKeyIndex(JsonArray sourceArray, String mergeKey) {
+        Map<JsonValue, Integer> keyIndex = new HashMap<>();
+        for (int index = 0; index < sourceArray.size(); index++) {
+            JsonValue sourceValue = sourceArray.get(index);
+            if (sourceValue.getValueType() != ValueType.OBJECT) {
+                continue;
+            }
+            JsonValue keyValue = sourceValue.asJsonObject().get(mergeKey);
+            if (keyValue != null) {
+                keyIndex.putIfAbsent(keyValue, index);
+            }
+        }
+        return keyIndex;
+    }
+
+}
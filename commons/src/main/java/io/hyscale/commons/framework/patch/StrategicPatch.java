@@ -52,7 +52,7 @@ public class StrategicPatch {
 
     private static final Logger logger = LoggerFactory.getLogger(StrategicPatch.class);
 
-    private static final List<ValueType> replacementValueTypes = Arrays.asList(ValueType.NUMBER, ValueType.STRING,
+    static final List<ValueType> replacementValueTypes = Arrays.asList(ValueType.NUMBER, ValueType.STRING,
             ValueType.TRUE, ValueType.FALSE);
 
     /**
@@ -68,6 +68,11 @@ public class StrategicPatch {
      */
     public static String apply(String source, String patch, FieldMetaDataProvider fieldDataProvider)
             throws HyscaleException {
+        return apply(source, patch, fieldDataProvider, StrategicPatch::mergeJsonObjects);
+    }
+
+    static String apply(String source, String patch, FieldMetaDataProvider fieldDataProvider, JsonMerger jsonMerger)
+            throws HyscaleException {
 
         if (StringUtils.isBlank(source)) {
             return patch;
@@ -83,7 +88,7 @@ public class StrategicPatch {
             JsonObject patchJson = Json.createReader(new StringReader(patch)).readObject();
 
             // Convert JSON Object to String
-            mergedJsonObject = mergeJsonObjects(sourceJson, patchJson, fieldDataProvider);
+            mergedJsonObject = jsonMerger.merge(sourceJson, patchJson, fieldDataProvider);
             if (mergedJsonObject != null) {
                 return mergedJsonObject.toString();
             }
@@ -231,11 +236,20 @@ public class StrategicPatch {
         return null;
     }
     
-    private static HyscaleException getException(String key) {
+    static HyscaleException getException(String key) {
         HyscaleException ex = new HyscaleException(CommonErrorCode.STRATEGIC_MERGE_KEY_NOT_FOUND,
                 key);
         logger.error("Error while performing strategic patch", ex);
         return ex;
     }
 
-}
\ No newline at end of file
+    /**
+     * Merges patch json into source json
+     */
+    @FunctionalInterface
+    interface JsonMerger {
+        JsonObject merge(JsonObject source, JsonObject patch, FieldMetaDataProvider fieldDataProvider)
+                throws HyscaleException;
+    }
+
+}
@@ -58,6 +58,17 @@ public class LogProcessor {
 		Files.copy(is, Paths.get(logFile), StandardCopyOption.REPLACE_EXISTING);
 	}
 
+	/**
+	 * Opens a {@link LogSink} for logs streamed line by line
+	 *
+	 * @param logFile
+	 * @return log sink appending to log file
+	 * @throws HyscaleException
+	 */
+	public LogSink openLogSink(String logFile) throws HyscaleException {
+		return LogSink.open(logFile);
+	}
+
 	public TailLogFile tailLogFile(File logFile, TailHandler handler){
 		if (logFile == null || !logFile.exists()) {
 			logger.debug("Invalid log file path found for tailing.");
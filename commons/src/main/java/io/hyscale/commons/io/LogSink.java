@@ -0,0 +1,191 @@
+/**
+ * Copyright 2019 Pramati Prism, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.hyscale.commons.io;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.hyscale.commons.constants.ToolConstants;
+import io.hyscale.commons.exception.CommonErrorCode;
+import io.hyscale.commons.exception.HyscaleException;
+
+/**
+ * Appends log lines of an activity like image build or push to a log file.
+ * The file is kept open for the lifetime of the sink, lines are queued by the caller
+ * and written in batches on a background writer thread.
+ * Queue is bounded, callers block once the writer falls behind.
+ * {@link #close()} flushes all queued lines, it is to be called on completion as well as failure
+ *
+ */
+public class LogSink implements AutoCloseable {
+
+	private static final Logger logger = LoggerFactory.getLogger(LogSink.class);
+
+	private static final int QUEUE_CAPACITY = 4096;
+
+	private static final String END_OF_LOGS = new String("end-of-logs");
+
+	private final String logFile;
+
+	private final BlockingQueue<String> lines = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+
+	private final Thread writerThread;
+
+	private volatile IOException writeError;
+
+	private boolean closed;
+
+	private LogSink(String logFile, Writer writer) {
+		this.logFile = logFile;
+		this.writerThread = new Thread(() -> writeLines(writer), "log-sink-" + new File(logFile).getName());
+		this.writerThread.setDaemon(true);
+		this.writerThread.start();
+	}
+
+	/**
+	 * Opens sink appending to log file, creates parent directories if missing
+	 *
+	 * @param logFile
+	 * @return log sink
+	 * @throws HyscaleException if log file cannot be opened
+	 */
+	public static LogSink open(String logFile) throws HyscaleException {
+		if (StringUtils.isBlank(logFile)) {
+			throw new HyscaleException(CommonErrorCode.LOGFILE_NOT_FOUND);
+		}
+		File file = new File(logFile);
+		if (file.getParentFile() != null) {
+			file.getParentFile().mkdirs();
+		}
+		try {
+			Writer writer = new BufferedWriter(
+					new OutputStreamWriter(new FileOutputStream(file, true), StandardCharsets.UTF_8));
+			return new LogSink(logFile, writer);
+		} catch (IOException e) {
+			logger.error("Failed to open log file {}", logFile, e);
+			throw new HyscaleException(e, CommonErrorCode.FAILED_TO_WRITE_FILE, logFile);
+		}
+	}
+
+	/**
+	 * Queues line to be written to log file, blocks if the queue is full
+	 *
+	 * @param line written followed by new line
+	 */
+	public void writeLine(String line) {
+		if (line == null) {
+			return;
+		}
+		synchronized (this) {
+			if (closed) {
+				logger.debug("Ignoring log line, sink for {} is closed", logFile);
+				return;
+			}
+		}
+		try {
+			lines.put(line);
+		} catch (InterruptedException e) {
+			logger.error("Interrupted while writing to {}", logFile);
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	public String getLogFile() {
+		return logFile;
+	}
+
+	/**
+	 * Waits for queued lines to be written and closes the log file
+	 *
+	 * @throws HyscaleException if any line could not be written
+	 */
+	@Override
+	public void close() throws HyscaleException {
+		synchronized (this) {
+			if (closed) {
+				return;
+			}
+			closed = true;
+		}
+		try {
+			lines.put(END_OF_LOGS);
+			writerThread.join();
+		} catch (InterruptedException e) {
+			logger.error("Interrupted while closing {}", logFile);
+			Thread.currentThread().interrupt();
+		}
+		if (writeError != null) {
+			throw new HyscaleException(writeError, CommonErrorCode.FAILED_TO_WRITE_FILE, logFile);
+		}
+	}
+
+	private void writeLines(Writer writer) {
+		List<String> batch = new ArrayList<>();
+		boolean endOfLogs = false;
+		try (Writer logWriter = writer) {
+			while (!endOfLogs) {
+				batch.add(lines.take());
+				lines.drainTo(batch);
+				for (String line : batch) {
+					// Identity check, END_OF_LOGS is never equal to a queued line
+					if (line == END_OF_LOGS) {
+						endOfLogs = true;
+						break;
+					}
+					logWriter.write(line);
+					logWriter.write(ToolConstants.NEW_LINE);
+				}
+				batch.clear();
+				if (lines.isEmpty()) {
+					logWriter.flush();
+				}
+			}
+		} catch (IOException e) {
+			logger.error("Failed to write logs to {}", logFile, e);
+			writeError = e;
+			if (!endOfLogs && batch.stream().noneMatch(line -> line == END_OF_LOGS)) {
+				// Keep consuming so that callers never block on a failed sink
+				discardLines();
+			}
+		} catch (InterruptedException e) {
+			logger.error("Log writer for {} interrupted", logFile);
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private void discardLines() {
+		try {
+			while (lines.take() != END_OF_LOGS) {
+				logger.trace("Discarding log line for {}", logFile);
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,102 @@
+/**
+ * Copyright 2019 Pramati Prism, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.hyscale.commons.io;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.hyscale.commons.exception.HyscaleException;
+
+/**
+ * Persists files off the calling thread.
+ * Files are written in submission order on a single daemon thread,
+ * {@link #flush()} blocks till all submitted files are written
+ *
+ */
+public class WriteBehindFileWriter {
+
+	private static final Logger logger = LoggerFactory.getLogger(WriteBehindFileWriter.class);
+
+	private final ExecutorService executor;
+
+	private final List<CompletableFuture<File>> pendingWrites = new ArrayList<>();
+
+	private static final class InstanceHolder {
+		private static final WriteBehindFileWriter INSTANCE = new WriteBehindFileWriter();
+	}
+
+	public static WriteBehindFileWriter getInstance() {
+		return InstanceHolder.INSTANCE;
+	}
+
+	private WriteBehindFileWriter() {
+		executor = Executors.newSingleThreadExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "write-behind-file-writer");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * Submits file for writing, file data is computed on the writer thread
+	 *
+	 * @param filename
+	 * @param fileDataSupplier
+	 * @return future completing with the written file,
+	 *         completes exceptionally with {@link HyscaleException} on failure
+	 */
+	public CompletableFuture<File> write(String filename, Supplier<String> fileDataSupplier) {
+		CompletableFuture<File> future = CompletableFuture.supplyAsync(() -> {
+			try {
+				return HyscaleFilesUtil.createFile(filename, fileDataSupplier.get());
+			} catch (HyscaleException e) {
+				logger.error("Failed to write file {}", filename, e);
+				throw new CompletionException(e);
+			}
+		}, executor);
+		synchronized (pendingWrites) {
+			pendingWrites.removeIf(CompletableFuture::isDone);
+			pendingWrites.add(future);
+		}
+		return future;
+	}
+
+	/**
+	 * Blocks till all submitted files are written, failures are ignored
+	 * as they are already reported by the writer
+	 */
+	public void flush() {
+		List<CompletableFuture<File>> writes;
+		synchronized (pendingWrites) {
+			writes = new ArrayList<>(pendingWrites);
+			pendingWrites.clear();
+		}
+		try {
+			CompletableFuture.allOf(writes.toArray(new CompletableFuture[0])).join();
+		} catch (CompletionException e) {
+			logger.debug("Ignoring failed write behind", e);
+		}
+	}
+}
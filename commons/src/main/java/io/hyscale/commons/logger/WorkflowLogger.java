@@ -15,6 +15,7 @@
  */
 package io.hyscale.commons.logger;
 
+import io.hyscale.commons.constants.ToolConstants;
 import io.hyscale.commons.models.Activity;
 import io.hyscale.commons.models.Status;
 import org.apache.commons.lang3.StringUtils;
@@ -34,16 +35,18 @@ public class WorkflowLogger {
     private static final String START_BRACES = "[";
     private static final String END_BRACES = "]";
     private static final List<String> persistedActivities = new ArrayList<>();
+    private static final ThreadLocal<StringBuilder> activityBuffer = new ThreadLocal<>();
+    private static final ThreadLocal<List<String>> persistBuffer = new ThreadLocal<>();
 
     public static void header(Activity activity, String... args) {
-        System.out.println();
-        System.out.println(STARS + getPaddedHeader(String.format(getActivity(activity), args)) + STARS);
-        System.out.println();
+        println(ToolConstants.EMPTY_STRING);
+        println(STARS + getPaddedHeader(String.format(getActivity(activity), args)) + STARS);
+        println(ToolConstants.EMPTY_STRING);
     }
 
     public static void footer() {
-        System.out.println();
-        System.out.println(STARS + STARS + STARS + STARS);
+        println(ToolConstants.EMPTY_STRING);
+        println(STARS + STARS + STARS + STARS);
     }
 
     public static void info(Activity activity, String... args) {
@@ -74,11 +77,11 @@ public class WorkflowLogger {
         StringBuilder sb = new StringBuilder();
         sb.append(LoggerTags.ACTION.getTag()).append(ALIGNEMENT_SPACES);
         sb.append(getLeftAlignedActivity(getFormattedMessage(activity, args)));
-        System.out.print(sb.toString());
+        print(sb.toString());
     }
 
     public static void continueActivity() {
-        System.out.print(CONTINUATION_DOTS);
+        print(CONTINUATION_DOTS);
     }
 
     public static void endActivity(Status status, String... args) {
@@ -86,19 +89,19 @@ public class WorkflowLogger {
         sb.append(ALIGNEMENT_SPACES).append(START_BRACES);
         sb.append(String.format(status.getMessage(), args));
         sb.append(END_BRACES);
-        System.out.println(sb.toString());
+        println(sb.toString());
     }
 
     public static void logTable(TableFormatter tableFormatter) {
-        System.out.print(tableFormatter.toString());
+        print(tableFormatter.toString());
     }
 
     public static void logTableRow(TableFormatter tableFormatter, String[] row) {
-        System.out.println(tableFormatter.getFormattedRow(row));
+        println(tableFormatter.getFormattedRow(row));
     }
 
     public static void logTableFields(TableFormatter tableFormatter) {
-        System.out.println(tableFormatter.getFormattedFields());
+        println(tableFormatter.getFormattedFields());
     }
 
     private static String getActivityMessage(Activity activity, LoggerTags tag, String... args) {
@@ -112,7 +115,7 @@ public class WorkflowLogger {
     }
 
     private static void logActivity(Activity activity, LoggerTags tag, String... args) {
-        System.out.println(getActivityMessage(activity, tag, args));
+        println(getActivityMessage(activity, tag, args));
     }
 
     private static String getFormattedMessage(Activity activity, String... args) {
@@ -164,7 +167,7 @@ public class WorkflowLogger {
             StringBuilder sb = new StringBuilder();
             sb.append(LoggerTags.ACTION.getTag()).append(ALIGNEMENT_SPACES);
             sb.append(getFormattedMessage(context.getStartActivity(), args));
-            System.out.print(sb.toString());
+            print(sb.toString());
         }
     }
 
@@ -172,7 +175,7 @@ public class WorkflowLogger {
         if (context != null) {
             int remaining = context.getRemaining();
             if (context.getRemaining() > 0) {
-                System.out.print(CONTINUATION_DOTS);
+                print(CONTINUATION_DOTS);
                 context.setRemaining(--remaining);
             }
         } else {
@@ -185,7 +188,7 @@ public class WorkflowLogger {
             int remaining = context.getRemaining();
             if (remaining > 0) {
                 for (int i = 0; i < remaining; i++) {
-                    System.out.print(CONTINUATION_DOTS);
+                    print(CONTINUATION_DOTS);
                 }
                 context.setRemaining(0);
             }
@@ -206,7 +209,42 @@ public class WorkflowLogger {
 
     public static void persist(Activity activity, LoggerTags loggerTags, String... args) {
         if (activity != null) {
-            persistedActivities.add(getActivityMessage(activity, loggerTags, args));
+            List<String> buffer = persistBuffer.get();
+            if (buffer != null) {
+                buffer.add(getActivityMessage(activity, loggerTags, args));
+            } else {
+                persistedActivities.add(getActivityMessage(activity, loggerTags, args));
+            }
+        }
+    }
+
+    /**
+     * Buffers activities persisted by the current thread until {@link #releasePersistBuffer()} is called,
+     * used when inputs are processed concurrently so that persisted activities follow input order
+     */
+    public static void bufferPersistedActivities() {
+        persistBuffer.set(new ArrayList<>());
+    }
+
+    /**
+     * Stops buffering persisted activities for the current thread
+     *
+     * @return activities persisted since {@link #bufferPersistedActivities()}
+     */
+    public static List<String> releasePersistBuffer() {
+        List<String> buffer = persistBuffer.get();
+        persistBuffer.remove();
+        return buffer != null ? buffer : new ArrayList<>();
+    }
+
+    /**
+     * Persists activities released from a buffer as is
+     *
+     * @param bufferedActivities
+     */
+    public static void persistBuffered(List<String> bufferedActivities) {
+        if (bufferedActivities != null) {
+            persistedActivities.addAll(bufferedActivities);
         }
     }
 
@@ -215,15 +253,58 @@ public class WorkflowLogger {
             persistedActivities.stream().filter(each -> {
                 return each != null && StringUtils.isNotBlank(each);
             }).forEach(each -> {
-                System.out.println(each);
+                println(each);
             });
-            System.out.println();
+            println(ToolConstants.EMPTY_STRING);
         }
         persistedActivities.clear();
     }
 
     public static void log(String message) {
-        System.out.println(message);
+        println(message);
+    }
+
+    /**
+     * Buffers console output of the current thread until {@link #releaseBuffer()} is called,
+     * used when activities run concurrently so that their output is not interleaved
+     */
+    public static void bufferActivities() {
+        activityBuffer.set(new StringBuilder());
+    }
+
+    /**
+     * Stops buffering for the current thread
+     *
+     * @return output buffered since {@link #bufferActivities()}
+     */
+    public static String releaseBuffer() {
+        StringBuilder buffer = activityBuffer.get();
+        activityBuffer.remove();
+        return buffer != null ? buffer.toString() : ToolConstants.EMPTY_STRING;
+    }
+
+    /**
+     * Writes output released from a buffer as is
+     *
+     * @param bufferedOutput
+     */
+    public static void logBuffered(String bufferedOutput) {
+        if (StringUtils.isNotEmpty(bufferedOutput)) {
+            print(bufferedOutput);
+        }
+    }
+
+    private static void print(String message) {
+        StringBuilder buffer = activityBuffer.get();
+        if (buffer != null) {
+            buffer.append(message);
+        } else {
+            System.out.print(message);
+        }
+    }
+
+    private static void println(String message) {
+        print(message + System.lineSeparator());
     }
 
 }
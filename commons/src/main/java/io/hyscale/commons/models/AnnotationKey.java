@@ -27,6 +27,8 @@ public enum AnnotationKey {
     DEFAULT_STORAGE_CLASS("storageclass.kubernetes.io/is-default-class"),
     DEFAULT_BETA_STORAGE_CLASS("storageclass.beta.kubernetes.io/is-default-class"),
     LAST_UPDATED_AT("hyscale.io/last-updated-at"),
+    HYSCALE_SPEC_DIGEST("hyscale.io/spec-digest"),
+    HYSCALE_APPLIED_GENERATION("hyscale.io/applied-generation"),
     CHECKSUM("hyscale.io/checksum");
     
 
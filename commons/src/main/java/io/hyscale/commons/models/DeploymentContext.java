@@ -27,6 +27,8 @@ public class DeploymentContext {
 	private boolean tailLogs;
 	private String appName;
 	private Integer readLines;
+	private int appliedResourceCount;
+	private int skippedResourceCount;
 
 	public List<Manifest> getManifests() {
 		return manifests;
@@ -99,4 +101,23 @@ public class DeploymentContext {
 	public void setReadLines(Integer readLines) {
 		this.readLines = readLines;
 	}
+
+	public int getAppliedResourceCount() {
+		return appliedResourceCount;
+	}
+
+	public void setAppliedResourceCount(int appliedResourceCount) {
+		this.appliedResourceCount = appliedResourceCount;
+	}
+
+	/**
+	 * @return number of resources not written to cluster as they were unchanged
+	 */
+	public int getSkippedResourceCount() {
+		return skippedResourceCount;
+	}
+
+	public void setSkippedResourceCount(int skippedResourceCount) {
+		this.skippedResourceCount = skippedResourceCount;
+	}
 }
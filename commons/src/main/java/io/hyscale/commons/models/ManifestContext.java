@@ -15,6 +15,7 @@
  */
 package io.hyscale.commons.models;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -28,7 +29,8 @@ public class ManifestContext {
 	private Map<String, Object> generationAttributes;
 
 	public ManifestContext() {
-		this.generationAttributes = new HashMap<>();
+		// Manifest plugins may run concurrently
+		this.generationAttributes = Collections.synchronizedMap(new HashMap<>());
 		this.customLabels = new HashMap<String, String>();
 	}
 
@@ -16,7 +16,7 @@
 package io.hyscale.commons.models;
 
 public enum MetadataFieldSelector implements ResourceFieldSelectorKey{
-	METADATA_NAMESPACE("metadata.namespace");
+	METADATA_NAMESPACE("metadata.namespace"), METADATA_NAME("metadata.name");
 
 	private String name;
 
@@ -0,0 +1,79 @@
+/**
+ * Copyright 2019 Pramati Prism, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.hyscale.commons.models;
+
+import java.io.File;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * YAML manifest carrying the generated object model,
+ * consumers bind from the object model while the yaml file
+ * is persisted in the background
+ *
+ */
+public class ObjectManifest extends YAMLManifest {
+
+	private static final Logger logger = LoggerFactory.getLogger(ObjectManifest.class);
+
+	private static final String API_VERSION = "apiVersion";
+	private static final String KIND = "kind";
+
+	private ObjectNode manifestNode;
+
+	private CompletableFuture<File> persistedManifest;
+
+	public ObjectManifest(ObjectNode manifestNode, CompletableFuture<File> persistedManifest) {
+		this.manifestNode = manifestNode;
+		this.persistedManifest = persistedManifest;
+	}
+
+	public ObjectNode getManifestNode() {
+		return manifestNode;
+	}
+
+	public String getKind() {
+		return manifestNode.hasNonNull(KIND) ? manifestNode.get(KIND).asText() : null;
+	}
+
+	public String getApiVersion() {
+		return manifestNode.hasNonNull(API_VERSION) ? manifestNode.get(API_VERSION).asText() : null;
+	}
+
+	/**
+	 * @return persisted yaml file, waits for the file to be written
+	 *         null if the file could not be written
+	 */
+	@Override
+	public File getYamlManifest() {
+		File yamlManifest = super.getYamlManifest();
+		if (yamlManifest != null || persistedManifest == null) {
+			return yamlManifest;
+		}
+		try {
+			yamlManifest = persistedManifest.join();
+			setYamlManifest(yamlManifest);
+		} catch (CompletionException e) {
+			logger.error("Manifest file of {} not available", getKind(), e);
+		}
+		return yamlManifest;
+	}
+}
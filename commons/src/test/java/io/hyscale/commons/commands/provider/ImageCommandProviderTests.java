@@ -0,0 +1,82 @@
+/**
+ * Copyright 2019 Pramati Prism, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.hyscale.commons.commands.provider;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Field;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.hyscale.commons.utils.ImageMetadataProvider;
+
+public class ImageCommandProviderTests {
+
+    private static final String APP_NAME = "myapp";
+    private static final String SERVICE_NAME = "myservice";
+    private static final String TAG = "1.0";
+    private static final String CONTEXT_DIR = "/tmp/context";
+
+    private ImageCommandProvider imageCommandProvider;
+
+    @BeforeEach
+    public void init() throws ReflectiveOperationException {
+        imageCommandProvider = new ImageCommandProvider();
+        Field imageMetadataProvider = ImageCommandProvider.class.getDeclaredField("imageMetadataProvider");
+        imageMetadataProvider.setAccessible(true);
+        imageMetadataProvider.set(imageCommandProvider, new ImageMetadataProvider());
+    }
+
+    @Test
+    public void testBuildCommandDefaults() {
+        String buildCommand = imageCommandProvider.dockerBuildCommand(APP_NAME, SERVICE_NAME, TAG, CONTEXT_DIR);
+
+        assertEquals("docker build --label imageowner=hyscale -t hyscale.io/myapp/myservice:1.0 /tmp/context/",
+                buildCommand);
+    }
+
+    @Test
+    public void testBuildCommandCacheAndPull() {
+        String buildCommand = imageCommandProvider.dockerBuildCommand(APP_NAME, SERVICE_NAME, TAG, CONTEXT_DIR,
+                null, null, null, true, true);
+        assertTrue(buildCommand.startsWith("docker build --no-cache --pull --label imageowner=hyscale"), buildCommand);
+
+        buildCommand = imageCommandProvider.dockerBuildCommand(APP_NAME, SERVICE_NAME, TAG, CONTEXT_DIR, null, null,
+                null, false, false);
+        assertFalse(buildCommand.contains("--no-cache"), buildCommand);
+        assertFalse(buildCommand.contains("--pull"), buildCommand);
+    }
+
+    @Test
+    public void testBuildCommandLabelsTargetAndArgs() {
+        Map<String, String> labels = new HashMap<>();
+        labels.put("hyscale.io/build-digest", "abc123");
+        Map<String, String> buildArgs = new HashMap<>();
+        buildArgs.put("VERSION", "2.0");
+
+        String buildCommand = imageCommandProvider.dockerBuildCommand(APP_NAME, SERVICE_NAME, TAG, CONTEXT_DIR,
+                "release", buildArgs, labels, true, false);
+
+        assertEquals("docker build --target release --no-cache --label imageowner=hyscale "
+                + "--label hyscale.io/build-digest=abc123 --build-arg VERSION=2.0 -t hyscale.io/myapp/myservice:1.0 "
+                + "/tmp/context/", buildCommand);
+    }
+}
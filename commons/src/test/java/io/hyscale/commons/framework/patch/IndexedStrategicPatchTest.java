@@ -0,0 +1,105 @@
+/**
+ * Copyright 2019 Pramati Prism, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.hyscale.commons.framework.patch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.io.File;
+import java.io.StringReader;
+import java.net.URL;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import javax.json.Json;
+import javax.json.JsonObject;
+import javax.json.JsonString;
+
+import org.json.JSONException;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.skyscreamer.jsonassert.JSONAssert;
+
+import io.hyscale.commons.exception.CommonErrorCode;
+import io.hyscale.commons.exception.HyscaleException;
+import io.hyscale.commons.io.HyscaleFilesUtil;
+
+public class IndexedStrategicPatchTest {
+
+    private static final FieldMetaDataProvider fieldDataProvider = field -> {
+        FieldMetaData fieldMetaData = new FieldMetaData();
+        fieldMetaData.setKey("patchTestModelList".equals(field) ? "key" : null);
+        return fieldMetaData;
+    };
+
+    private static String sourceData;
+    private static String patchData;
+    private static String mergedData;
+
+    @BeforeAll
+    public static void init() throws HyscaleException {
+        sourceData = getData("/patch/source.json");
+        patchData = getData("/patch/patch.json");
+        mergedData = getData("/patch/merged.json");
+    }
+
+    @Test
+    public void testApply() throws HyscaleException, JSONException {
+        String actualMergedData = IndexedStrategicPatch.apply(sourceData, patchData, fieldDataProvider);
+        JSONAssert.assertEquals(mergedData, actualMergedData, false);
+        JSONAssert.assertEquals(StrategicPatch.apply(sourceData, patchData, fieldDataProvider), actualMergedData,
+                false);
+    }
+
+    @Test
+    public void testMissingMergeKey() {
+        try {
+            IndexedStrategicPatch.apply(sourceData, patchData, null);
+            fail();
+        } catch (HyscaleException e) {
+            assertEquals(CommonErrorCode.STRATEGIC_MERGE_KEY_NOT_FOUND, e.getHyscaleError());
+        }
+    }
+
+    @Test
+    public void testOrderPreserved() throws HyscaleException {
+        JsonObject source = toJson("{\"b\":\"1\",\"a\":\"2\",\"patchTestModelList\":[{\"key\":\"k3\"},{\"key\":\"k1\"},"
+                + "{\"key\":\"k2\"}],\"testList\":[\"z\",\"x\"]}");
+        JsonObject patch = toJson("{\"c\":\"3\",\"a\":\"4\",\"patchTestModelList\":[{\"key\":\"k0\"},"
+                + "{\"key\":\"k1\",\"val\":\"v\"}],\"testList\":[\"y\",\"z\"]}");
+        JsonObject merged = IndexedStrategicPatch.mergeJsonObjects(source, patch, fieldDataProvider);
+
+        assertEquals(Arrays.asList("b", "a", "patchTestModelList", "testList", "c"),
+                merged.keySet().stream().collect(Collectors.toList()));
+        assertEquals("4", merged.getString("a"));
+        List<String> keys = merged.getJsonArray("patchTestModelList").stream()
+                .map(each -> each.asJsonObject().getString("key")).collect(Collectors.toList());
+        assertEquals(Arrays.asList("k3", "k1", "k2", "k0"), keys);
+        assertEquals("v", merged.getJsonArray("patchTestModelList").getJsonObject(1).getString("val"));
+        assertEquals(Arrays.asList("z", "x", "y"), merged.getJsonArray("testList").getValuesAs(JsonString.class)
+                .stream().map(JsonString::getString).collect(Collectors.toList()));
+    }
+
+    private static JsonObject toJson(String json) {
+        return Json.createReader(new StringReader(json)).readObject();
+    }
+
+    private static String getData(String path) throws HyscaleException {
+        URL urlPath = IndexedStrategicPatchTest.class.getResource(path);
+        return HyscaleFilesUtil.readFileData(new File(urlPath.getFile()));
+    }
+}
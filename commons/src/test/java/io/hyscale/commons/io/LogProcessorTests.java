@@ -170,6 +170,36 @@ public class LogProcessorTests {
         }
     }
 
+    @Nested
+    @DisplayName("Log sink test cases.")
+    public class LogSinkTests {
+
+        @Test
+        public void testLogSink() throws HyscaleException, IOException {
+            file.delete();
+            List<String> lines = Stream.iterate(0, i -> i + 1).limit(20000).map(i -> "Step " + i)
+                    .collect(Collectors.toList());
+            try (LogSink logSink = logProcessor.openLogSink(LOG_FILE_PATH)) {
+                lines.forEach(logSink::writeLine);
+            }
+            Assertions.assertEquals(lines, FileUtils.readLines(file, ENCODING));
+        }
+
+        @Test
+        public void testLogSinkAppends() throws HyscaleException, IOException {
+            FileUtils.writeStringToFile(file, "logger running\n", ENCODING);
+            try (LogSink logSink = logProcessor.openLogSink(LOG_FILE_PATH)) {
+                logSink.writeLine("logger running");
+            }
+            Assertions.assertEquals(logFileContent, FileUtils.readFileToString(file, ENCODING).trim());
+        }
+
+        @Test
+        public void testNullConditionsForLogSink() {
+            Assertions.assertThrows(HyscaleException.class, () -> logProcessor.openLogSink(null));
+        }
+    }
+
     private static InputStream getInputStream() {
         InputStream inputStream = new ByteArrayInputStream(logFileContent.getBytes(Charset.forName(ENCODING)));
         return inputStream;
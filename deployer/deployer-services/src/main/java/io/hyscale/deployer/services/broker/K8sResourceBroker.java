@@ -16,9 +16,15 @@
 package io.hyscale.deployer.services.broker;
 
 import io.hyscale.commons.exception.HyscaleException;
+import io.hyscale.commons.models.AnnotationKey;
 import io.hyscale.commons.models.KubernetesResource;
+import io.hyscale.deployer.services.constants.DeployerConstants;
 import io.hyscale.deployer.services.handler.ResourceLifeCycleHandler;
 import io.hyscale.deployer.services.model.ResourceUpdatePolicy;
+import io.hyscale.deployer.services.util.ExceptionHelper;
+import io.hyscale.deployer.services.util.K8sResourcePatchUtil;
+import io.hyscale.deployer.services.util.KubernetesResourceUtil;
+import io.kubernetes.client.custom.V1Patch;
 import io.kubernetes.client.openapi.ApiClient;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import org.apache.commons.lang.StringUtils;
@@ -59,6 +65,23 @@ public class K8sResourceBroker {
         if (kubernetesResource == null || kubernetesResource.getV1ObjectMeta() == null) {
             return;
         }
+        T liveResource = null;
+        if (updatePolicy == ResourceUpdatePolicy.SERVER_SIDE_APPLY) {
+            liveResource = get(lifeCycleHandler, kubernetesResource.getV1ObjectMeta().getName());
+        }
+        update(lifeCycleHandler, kubernetesResource, updatePolicy, liveResource);
+    }
+
+    /**
+     * Handle resource update based on update policy
+     *
+     * @param liveResource resource on cluster, null if not found
+     */
+    public <T> void update(ResourceLifeCycleHandler<T> lifeCycleHandler, KubernetesResource kubernetesResource,
+            ResourceUpdatePolicy updatePolicy, T liveResource) throws HyscaleException {
+        if (kubernetesResource == null || kubernetesResource.getV1ObjectMeta() == null) {
+            return;
+        }
         V1ObjectMeta objectMeta = kubernetesResource.getV1ObjectMeta();
         T obj = (T) kubernetesResource.getResource();
         String namespace = kubernetesResource.getV1ObjectMeta().getNamespace();
@@ -81,6 +104,20 @@ public class K8sResourceBroker {
             case UPDATE:
                 lifeCycleHandler.update(apiClient, obj, namespace);
                 break;
+            case SERVER_SIDE_APPLY:
+                try {
+                    moveFieldOwnership(lifeCycleHandler, liveResource, objectMeta.getName(), namespace);
+                    lifeCycleHandler.apply(apiClient, objectMeta.getName(), namespace, obj);
+                } catch (HyscaleException e) {
+                    if (!ExceptionHelper.isApplyNotSupported(e)) {
+                        throw e;
+                    }
+                    // Fallback to patch if cluster does not support server side apply
+                    logger.info("Server side apply not supported for {}, falling back to patch, error {}",
+                            lifeCycleHandler.getKind(), e.toString());
+                    update(lifeCycleHandler, kubernetesResource, ResourceUpdatePolicy.PATCH);
+                }
+                break;
             case DELETE_AND_CREATE:
                 lifeCycleHandler.delete(apiClient, objectMeta.getName(), namespace, true);
                 lifeCycleHandler.create(apiClient, obj, namespace);
@@ -88,7 +125,58 @@ public class K8sResourceBroker {
         }
     }
 
-    public <T> void create(ResourceLifeCycleHandler<T> lifeCycleHandler, T resource) {
+    /**
+     * Moves ownership of fields set by create and patch calls to the hyscale apply manager,
+     * without it fields removed from the service spec remain co-owned by the earlier manager
+     * and are not removed by server side apply.
+     * Resource is applied regardless of the outcome
+     */
+    private <T> void moveFieldOwnership(ResourceLifeCycleHandler<T> lifeCycleHandler, T liveResource, String name,
+            String namespace) {
+        if (liveResource == null) {
+            return;
+        }
+        try {
+            V1Patch metadataPatch = K8sResourcePatchUtil.getFieldOwnershipPatch(apiClient,
+                    KubernetesResourceUtil.getObjectMeta(liveResource));
+            if (metadataPatch != null) {
+                logger.debug("Moving field ownership of {} {} to {}", lifeCycleHandler.getKind(), name,
+                        DeployerConstants.FIELD_MANAGER);
+                lifeCycleHandler.patchMetadata(apiClient, name, namespace, metadataPatch);
+            }
+        } catch (HyscaleException e) {
+            logger.warn("Unable to move field ownership of {} {}, error {}", lifeCycleHandler.getKind(), name,
+                    e.toString());
+        } catch (ReflectiveOperationException e) {
+            logger.warn("Unable to read metadata of {} {}", lifeCycleHandler.getKind(), name, e);
+        }
+    }
+
+    /**
+     * Records generation of the resource on cluster in {@link AnnotationKey#HYSCALE_APPLIED_GENERATION},
+     * generation changes only when the resource spec changes so that later modifications
+     * on cluster can be detected. Failure to record only prevents skipping the resource in later applies
+     *
+     * @return resource on cluster after recording, null if resource not found
+     */
+    public <T> T recordAppliedGeneration(ResourceLifeCycleHandler<T> lifeCycleHandler, String name) {
+        T liveResource = get(lifeCycleHandler, name);
+        Long generation = KubernetesResourceUtil.getGeneration(liveResource);
+        if (generation == null || generation.toString()
+                .equals(KubernetesResourceUtil.getAnnotation(liveResource, AnnotationKey.HYSCALE_APPLIED_GENERATION))) {
+            return liveResource;
+        }
+        try {
+            lifeCycleHandler.patchMetadata(apiClient, name, namespace, K8sResourcePatchUtil.getAnnotationPatch(apiClient,
+                    AnnotationKey.HYSCALE_APPLIED_GENERATION, generation.toString()));
+        } catch (HyscaleException e) {
+            logger.debug("Unable to record generation of {} {}, error {}", lifeCycleHandler.getKind(), name,
+                    e.toString());
+        }
+        return liveResource;
+    }
+
+    public <T> void create(ResourceLifeCycleHandler<T> lifeCycleHandler, T resource) throws HyscaleException {
         if (resource == null) {
             return;
         }
@@ -96,6 +184,7 @@ public class K8sResourceBroker {
             lifeCycleHandler.create(apiClient, resource, namespace);
         } catch (HyscaleException e) {
             logger.debug("Error while creating resource {}", lifeCycleHandler.getKind(), e);
+            throw e;
         }
     }
 
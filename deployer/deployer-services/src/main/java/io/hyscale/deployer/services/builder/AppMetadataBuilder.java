@@ -52,31 +52,44 @@ public class AppMetadataBuilder {
             if (ResourceKind.STATEFUL_SET.getKind().equalsIgnoreCase(podParent.getKind())) {
                 metadata = ((V1StatefulSet)podParent.getParent()).getMetadata();
             }
-            String namespace = metadata.getNamespace();
-            String appName = ResourceLabelUtil.getAppName(metadata.getLabels());
-            String serviceName = ResourceLabelUtil.getServiceName(metadata.getLabels());
-            String envName = ResourceLabelUtil.getEnvName(metadata.getLabels());
-
-            if (mapping.get(namespace) == null) {
-                AppMetadata appData = new AppMetadata();
-                appData.setNamespace(namespace);
-                mapping.put(namespace, appData);
-            }
-            if (StringUtils.isBlank(appName) || StringUtils.isBlank(serviceName)) {
-                return;
-            }
-            // One namespace can have only one app
-            mapping.get(namespace).setAppName(appName);
-            if (StringUtils.isNotBlank(envName)) {
-                mapping.get(namespace).setEnvName(envName);
-            }
-            if (mapping.get(namespace).getServices() == null
-                    || !mapping.get(namespace).getServices().contains(serviceName)) {
-                mapping.get(namespace).addServices(serviceName);
-            }
+            update(mapping, metadata);
         });
         
         return mapping.values().stream().collect(Collectors.toList());
     }
 
+    /**
+     * Adds app details from pod parent metadata to the namespace mapping,
+     * lets callers aggregate apps while paging through resources
+     * @param mapping namespace to {@link AppMetadata}
+     * @param metadata of pod parent
+     */
+    public void update(Map<String, AppMetadata> mapping, V1ObjectMeta metadata) {
+        if (metadata == null) {
+            return;
+        }
+        String namespace = metadata.getNamespace();
+        String appName = ResourceLabelUtil.getAppName(metadata.getLabels());
+        String serviceName = ResourceLabelUtil.getServiceName(metadata.getLabels());
+        String envName = ResourceLabelUtil.getEnvName(metadata.getLabels());
+
+        if (mapping.get(namespace) == null) {
+            AppMetadata appData = new AppMetadata();
+            appData.setNamespace(namespace);
+            mapping.put(namespace, appData);
+        }
+        if (StringUtils.isBlank(appName) || StringUtils.isBlank(serviceName)) {
+            return;
+        }
+        // One namespace can have only one app
+        mapping.get(namespace).setAppName(appName);
+        if (StringUtils.isNotBlank(envName)) {
+            mapping.get(namespace).setEnvName(envName);
+        }
+        if (mapping.get(namespace).getServices() == null
+                || !mapping.get(namespace).getServices().contains(serviceName)) {
+            mapping.get(namespace).addServices(serviceName);
+        }
+    }
+
 }
@@ -0,0 +1,169 @@
+/**
+ * Copyright 2019 Pramati Prism, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.hyscale.deployer.services.cache;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.hyscale.commons.constants.ToolConstants;
+import io.hyscale.commons.exception.HyscaleException;
+import io.hyscale.deployer.services.constants.DeployerConstants;
+import io.kubernetes.client.openapi.ApiClient;
+
+/**
+ * Informer style cache of cluster state for read only commands
+ * <p>
+ * While a {@link Session} is open, handlers serve label selector lookups from
+ * a store per kind and namespace instead of calling the cluster. Each store
+ * does one list and keeps itself updated through a watch, so status of an app
+ * costs one list per kind irrespective of number of services.
+ * Stores are discarded and watches stopped once all sessions are closed.
+ * <p>
+ * Usage:
+ * <pre>
+ * try (ClusterStateCache.Session session = ClusterStateCache.open()) {
+ *     ...
+ * }
+ * </pre>
+ */
+public final class ClusterStateCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(ClusterStateCache.class);
+
+    private static final Object lock = new Object();
+
+    private static int openSessions = 0;
+
+    private static Map<String, ResourceStore<?, ?>> stores = new HashMap<>();
+
+    private static ExecutorService watchExecutor;
+
+    private ClusterStateCache() {
+    }
+
+    public static Session open() {
+        synchronized (lock) {
+            if (openSessions == 0) {
+                watchExecutor = Executors.newCachedThreadPool(runnable -> {
+                    Thread thread = new Thread(runnable, "cluster-state-watch");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+            }
+            openSessions++;
+        }
+        return new Session();
+    }
+
+    public static boolean isActive() {
+        synchronized (lock) {
+            return openSessions > 0;
+        }
+    }
+
+    /**
+     * Resources matching the label selector from the cached store of kind and namespace
+     *
+     * @param apiClient
+     * @param source    describes how to list and watch the kind
+     * @param selector  label selector
+     * @param namespace
+     * @return matching resources, null if cache is not active or selector cannot be served from cache
+     * @throws HyscaleException if listing resources fails
+     */
+    public static <T, L> List<T> getBySelector(ApiClient apiClient, ResourceCacheSource<T, L> source,
+            String selector, String namespace) throws HyscaleException {
+        if (apiClient == null || StringUtils.isBlank(namespace)) {
+            return null;
+        }
+        LabelSelectorMatcher matcher = LabelSelectorMatcher.parse(selector);
+        if (matcher == null) {
+            return null;
+        }
+        ResourceStore<T, L> store = null;
+        ExecutorService executor = null;
+        synchronized (lock) {
+            if (openSessions == 0) {
+                return null;
+            }
+            String key = source.getKind() + ToolConstants.COLON + namespace;
+            store = stores.computeIfAbsent(key,
+                    k -> new ResourceStore<>(source, apiClient, namespace, DeployerConstants.CACHE_WATCH_TIMEOUT_IN_SEC))
+                    .forSource(source);
+            executor = watchExecutor;
+        }
+        if (store == null) {
+            logger.debug("Cached {} belong to a different source, skipping cache", source.getKind());
+            return null;
+        }
+        if (store.getApiClient() != apiClient) {
+            logger.debug("Cached {} belong to a different cluster client, skipping cache", source.getKind());
+            return null;
+        }
+        store.sync(executor);
+        return store.getBySelector(matcher);
+    }
+
+    /**
+     * @return number of list calls made by cached stores in the current sessions
+     */
+    public static int getListCount() {
+        synchronized (lock) {
+            return stores.values().stream().mapToInt(ResourceStore::getListCount).sum();
+        }
+    }
+
+    private static void close() {
+        synchronized (lock) {
+            openSessions--;
+            if (openSessions > 0) {
+                return;
+            }
+            stores.values().forEach(ResourceStore::stop);
+            stores.clear();
+            if (watchExecutor != null) {
+                watchExecutor.shutdownNow();
+                watchExecutor = null;
+            }
+        }
+    }
+
+    /**
+     * Scope in which handlers serve lookups from the cache
+     */
+    public static final class Session implements AutoCloseable {
+
+        private boolean closed = false;
+
+        private Session() {
+        }
+
+        @Override
+        public void close() {
+            if (!closed) {
+                closed = true;
+                ClusterStateCache.close();
+            }
+        }
+    }
+}
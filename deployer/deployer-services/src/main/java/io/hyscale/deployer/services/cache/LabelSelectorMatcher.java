@@ -0,0 +1,139 @@
+/**
+ * Copyright 2019 Pramati Prism, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.hyscale.deployer.services.cache;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * Matches resource labels against equality based label selectors
+ * like "key1=value1,key2!=value2,key3,!key4"
+ * Set based selectors are not supported, {@link #parse(String)} returns null for them
+ */
+public final class LabelSelectorMatcher {
+
+    private static final String NOT_EQUALS = "!=";
+    private static final String DOUBLE_EQUALS = "==";
+    private static final String EQUALS = "=";
+    private static final String NOT = "!";
+
+    private enum Operator {
+        EQUALS, NOT_EQUALS, EXISTS, NOT_EXISTS
+    }
+
+    private static final class Requirement {
+        private final String key;
+        private final Operator operator;
+        private final String value;
+
+        private Requirement(String key, Operator operator, String value) {
+            this.key = key;
+            this.operator = operator;
+            this.value = value;
+        }
+
+        private boolean matches(Map<String, String> labels) {
+            String labelValue = labels != null ? labels.get(key) : null;
+            switch (operator) {
+            case EQUALS:
+                return value.equals(labelValue);
+            case NOT_EQUALS:
+                return !value.equals(labelValue);
+            case EXISTS:
+                return labels != null && labels.containsKey(key);
+            case NOT_EXISTS:
+                return labels == null || !labels.containsKey(key);
+            default:
+                return false;
+            }
+        }
+    }
+
+    private final List<Requirement> requirements;
+
+    private LabelSelectorMatcher(List<Requirement> requirements) {
+        this.requirements = requirements;
+    }
+
+    /**
+     * @param selector
+     * @return matcher for the selector, null if selector is not equality based
+     */
+    public static LabelSelectorMatcher parse(String selector) {
+        List<Requirement> requirements = new ArrayList<>();
+        if (StringUtils.isBlank(selector)) {
+            return new LabelSelectorMatcher(requirements);
+        }
+        for (String each : selector.split(",")) {
+            String term = each.trim();
+            if (term.isEmpty() || term.contains("(") || term.contains(" ")) {
+                return null;
+            }
+            Requirement requirement = null;
+            if (term.contains(NOT_EQUALS)) {
+                requirement = build(term, NOT_EQUALS, Operator.NOT_EQUALS);
+            } else if (term.contains(DOUBLE_EQUALS)) {
+                requirement = build(term, DOUBLE_EQUALS, Operator.EQUALS);
+            } else if (term.contains(EQUALS)) {
+                requirement = build(term, EQUALS, Operator.EQUALS);
+            } else if (term.startsWith(NOT)) {
+                requirement = new Requirement(term.substring(NOT.length()), Operator.NOT_EXISTS, null);
+            } else {
+                requirement = new Requirement(term, Operator.EXISTS, null);
+            }
+            if (requirement == null) {
+                return null;
+            }
+            requirements.add(requirement);
+        }
+        return new LabelSelectorMatcher(requirements);
+    }
+
+    private static Requirement build(String term, String separator, Operator operator) {
+        int index = term.indexOf(separator);
+        String key = term.substring(0, index);
+        String value = term.substring(index + separator.length());
+        if (key.isEmpty() || value.contains(EQUALS) || value.contains(NOT)) {
+            return null;
+        }
+        return new Requirement(key, operator, value);
+    }
+
+    public boolean matches(Map<String, String> labels) {
+        return requirements.stream().allMatch(each -> each.matches(labels));
+    }
+
+    /**
+     * @return "key=value" terms of equality requirements, which can be looked up in a label index
+     */
+    public List<String> getIndexTerms() {
+        if (requirements.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<String> indexTerms = new ArrayList<>();
+        requirements.stream().filter(each -> each.operator == Operator.EQUALS)
+                .forEach(each -> indexTerms.add(indexTerm(each.key, each.value)));
+        return indexTerms;
+    }
+
+    static String indexTerm(String key, String value) {
+        return key + EQUALS + value;
+    }
+}
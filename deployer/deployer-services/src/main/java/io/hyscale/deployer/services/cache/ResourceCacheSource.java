@@ -0,0 +1,96 @@
+/**
+ * Copyright 2019 Pramati Prism, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.hyscale.deployer.services.cache;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.function.Function;
+
+import io.kubernetes.client.openapi.ApiClient;
+import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.models.V1ListMeta;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import okhttp3.Call;
+
+/**
+ * Describes how a resource kind is listed and watched in a namespace,
+ * used by the {@link ClusterStateCache} and to wait on resource conditions
+ *
+ * @param <T> resource type
+ * @param <L> list type of the resource
+ */
+public final class ResourceCacheSource<T, L> {
+
+    /**
+     * Builds list call for the namespace, watch call if watch is true
+     * Field selector, resource version and timeout are optional
+     */
+    @FunctionalInterface
+    public interface ListCall {
+        Call build(ApiClient apiClient, String namespace, String fieldSelector, String resourceVersion,
+                Integer timeoutSeconds, boolean watch) throws ApiException;
+    }
+
+    private final String kind;
+    private final Class<L> listType;
+    private final Type watchType;
+    private final ListCall listCall;
+    private final Function<L, List<T>> items;
+    private final Function<L, V1ListMeta> listMetadata;
+    private final Function<T, V1ObjectMeta> metadata;
+
+    public ResourceCacheSource(String kind, Class<L> listType, Type watchType, ListCall listCall,
+            Function<L, List<T>> items, Function<L, V1ListMeta> listMetadata, Function<T, V1ObjectMeta> metadata) {
+        this.kind = kind;
+        this.listType = listType;
+        this.watchType = watchType;
+        this.listCall = listCall;
+        this.items = items;
+        this.listMetadata = listMetadata;
+        this.metadata = metadata;
+    }
+
+    public String getKind() {
+        return kind;
+    }
+
+    public Class<L> getListType() {
+        return listType;
+    }
+
+    /**
+     * @return type of Watch.Response of the resource
+     */
+    public Type getWatchType() {
+        return watchType;
+    }
+
+    public ListCall getListCall() {
+        return listCall;
+    }
+
+    public List<T> getItems(L list) {
+        return list != null ? items.apply(list) : null;
+    }
+
+    public V1ListMeta getListMetadata(L list) {
+        return list != null ? listMetadata.apply(list) : null;
+    }
+
+    public V1ObjectMeta getMetadata(T resource) {
+        return resource != null ? metadata.apply(resource) : null;
+    }
+}
@@ -0,0 +1,280 @@
+/**
+ * Copyright 2019 Pramati Prism, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.hyscale.deployer.services.cache;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.hyscale.commons.exception.HyscaleException;
+import io.hyscale.deployer.core.model.ResourceOperation;
+import io.hyscale.deployer.services.util.ExceptionHelper;
+import io.hyscale.deployer.services.util.K8sResourceWatchUtil;
+import io.kubernetes.client.openapi.ApiClient;
+import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.models.V1ListMeta;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.util.Watch;
+import okhttp3.Call;
+import okhttp3.OkHttpClient;
+
+/**
+ * Holds resources of one kind in a namespace, indexed by label
+ * Resources are listed once and kept up to date through a watch started
+ * from the listed resource version. When the watch fails the store is marked
+ * out of sync and the next lookup lists again.
+ *
+ * @param <T> resource type
+ * @param <L> list type of the resource
+ */
+class ResourceStore<T, L> {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResourceStore.class);
+
+    private static final String ADDED = "ADDED";
+    private static final String MODIFIED = "MODIFIED";
+    private static final String DELETED = "DELETED";
+    private static final String BOOKMARK = "BOOKMARK";
+
+    private final ResourceCacheSource<T, L> source;
+    private final ApiClient apiClient;
+    private final String namespace;
+    private final int watchTimeoutInSec;
+
+    private final Map<String, T> resources = new HashMap<>();
+    private final Map<String, Set<String>> labelIndex = new HashMap<>();
+
+    private volatile boolean synced;
+    private volatile boolean watching;
+    private volatile boolean stopped;
+    private volatile String resourceVersion;
+    private volatile Watch<T> watch;
+    private int listCount;
+
+    ResourceStore(ResourceCacheSource<T, L> source, ApiClient apiClient, String namespace, int watchTimeoutInSec) {
+        this.source = source;
+        this.apiClient = apiClient;
+        this.namespace = namespace;
+        this.watchTimeoutInSec = watchTimeoutInSec;
+    }
+
+    ApiClient getApiClient() {
+        return apiClient;
+    }
+
+    /**
+     * Narrows a store looked up by kind to the types of the source
+     *
+     * @param requestedSource source the store is looked up for
+     * @return this store, null if store was created for a different source
+     */
+    @SuppressWarnings("unchecked")
+    <S, SL> ResourceStore<S, SL> forSource(ResourceCacheSource<S, SL> requestedSource) {
+        // Sources are singletons per kind, same source instance guarantees same resource and list types
+        return source == requestedSource ? (ResourceStore<S, SL>) this : null;
+    }
+
+    /**
+     * Lists resources from cluster if store is not in sync, starts watch if not running
+     *
+     * @param watchExecutor executor to run watch on, watch is not started if null
+     * @throws HyscaleException
+     */
+    synchronized void sync(ExecutorService watchExecutor) throws HyscaleException {
+        if (synced || stopped) {
+            return;
+        }
+        L list = null;
+        try {
+            Call call = source.getListCall().build(apiClient, namespace, null, null, null, false);
+            list = apiClient.<L>execute(call, source.getListType()).getData();
+        } catch (ApiException e) {
+            HyscaleException ex = ExceptionHelper.buildGetException(source.getKind(), e,
+                    ResourceOperation.GET_BY_SELECTOR);
+            logger.error("Error while listing {} in namespace {} for cache, error {}", source.getKind(), namespace,
+                    ex.toString());
+            throw ex;
+        }
+        listCount++;
+        resources.clear();
+        labelIndex.clear();
+        List<T> items = source.getItems(list);
+        if (items != null) {
+            items.forEach(this::put);
+        }
+        V1ListMeta listMeta = source.getListMetadata(list);
+        resourceVersion = listMeta != null ? listMeta.getResourceVersion() : null;
+        synced = true;
+        logger.debug("Cached {} {} in namespace {}", resources.size(), source.getKind(), namespace);
+
+        if (!watching && watchExecutor != null && resourceVersion != null) {
+            watching = true;
+            try {
+                watchExecutor.execute(this::watch);
+            } catch (RejectedExecutionException e) {
+                logger.debug("Cache closed, not watching {} in namespace {}", source.getKind(), namespace);
+                watching = false;
+            }
+        }
+    }
+
+    synchronized List<T> getBySelector(LabelSelectorMatcher matcher) {
+        Collection<String> candidates = null;
+        for (String indexTerm : matcher.getIndexTerms()) {
+            Set<String> names = labelIndex.get(indexTerm);
+            if (names == null) {
+                return new ArrayList<>();
+            }
+            if (candidates == null || names.size() < candidates.size()) {
+                candidates = names;
+            }
+        }
+        if (candidates == null) {
+            candidates = resources.keySet();
+        }
+        List<T> matched = new ArrayList<>();
+        for (String name : candidates) {
+            T resource = resources.get(name);
+            V1ObjectMeta metadata = source.getMetadata(resource);
+            if (metadata != null && matcher.matches(metadata.getLabels())) {
+                matched.add(resource);
+            }
+        }
+        return matched;
+    }
+
+    synchronized int getListCount() {
+        return listCount;
+    }
+
+    void stop() {
+        stopped = true;
+        Watch<T> currentWatch = watch;
+        if (currentWatch != null) {
+            try {
+                currentWatch.close();
+            } catch (Exception e) {
+                logger.debug("Error while closing {} watch in namespace {}", source.getKind(), namespace, e);
+            }
+        }
+    }
+
+    private void watch() {
+        OkHttpClient watchHttpClient = K8sResourceWatchUtil.getWatchHttpClient(apiClient);
+        try {
+            while (!stopped && synced) {
+                Call call = source.getListCall().build(apiClient, namespace, null, resourceVersion,
+                        watchTimeoutInSec, true);
+                try (Watch<T> currentWatch = Watch.createWatch(apiClient, watchHttpClient.newCall(call.request()),
+                        source.getWatchType())) {
+                    watch = currentWatch;
+                    for (Watch.Response<T> item : currentWatch) {
+                        if (stopped || !handle(item)) {
+                            break;
+                        }
+                    }
+                }
+            }
+        } catch (Exception e) {
+            if (!stopped) {
+                logger.debug("Watch on {} in namespace {} stopped, error {}", source.getKind(), namespace,
+                        e.getMessage());
+            }
+        } finally {
+            watch = null;
+            synchronized (this) {
+                watching = false;
+                synced = false;
+            }
+        }
+    }
+
+    /**
+     * @param item
+     * @return false if watch has to be restarted through list
+     */
+    private synchronized boolean handle(Watch.Response<T> item) {
+        if (item.object == null) {
+            logger.debug("Watch on {} in namespace {} returned {} with status {}", source.getKind(), namespace,
+                    item.type, item.status);
+            synced = false;
+            return false;
+        }
+        V1ObjectMeta metadata = source.getMetadata(item.object);
+        if (metadata != null && metadata.getResourceVersion() != null) {
+            resourceVersion = metadata.getResourceVersion();
+        }
+        switch (item.type) {
+        case ADDED:
+        case MODIFIED:
+            put(item.object);
+            break;
+        case DELETED:
+            remove(metadata != null ? metadata.getName() : null);
+            break;
+        case BOOKMARK:
+            break;
+        default:
+            synced = false;
+            return false;
+        }
+        return true;
+    }
+
+    private void put(T resource) {
+        V1ObjectMeta metadata = source.getMetadata(resource);
+        if (metadata == null || metadata.getName() == null) {
+            return;
+        }
+        remove(metadata.getName());
+        resources.put(metadata.getName(), resource);
+        if (metadata.getLabels() != null) {
+            metadata.getLabels().forEach((key, value) -> labelIndex
+                    .computeIfAbsent(LabelSelectorMatcher.indexTerm(key, value), k -> new HashSet<>())
+                    .add(metadata.getName()));
+        }
+    }
+
+    private void remove(String name) {
+        if (name == null) {
+            return;
+        }
+        T existing = resources.remove(name);
+        V1ObjectMeta metadata = source.getMetadata(existing);
+        if (metadata == null || metadata.getLabels() == null) {
+            return;
+        }
+        metadata.getLabels().forEach((key, value) -> {
+            String indexTerm = LabelSelectorMatcher.indexTerm(key, value);
+            Set<String> names = labelIndex.get(indexTerm);
+            if (names != null) {
+                names.remove(name);
+                if (names.isEmpty()) {
+                    labelIndex.remove(indexTerm);
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,181 @@
+/**
+ * Copyright 2019 Pramati Prism, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.hyscale.deployer.services.client;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import io.hyscale.commons.exception.HyscaleException;
+import io.hyscale.commons.models.K8sAuthType;
+import io.hyscale.commons.models.K8sAuthorisation;
+import io.hyscale.commons.models.K8sConfigFileAuth;
+import io.hyscale.deployer.services.model.ClientRegistryStats;
+import io.kubernetes.client.openapi.ApiClient;
+import okhttp3.ConnectionPool;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+
+/**
+ * Registry of {@link ApiClient} keyed by {@link K8sAuthorisation}
+ * <p>
+ * Every client handed out by the registry shares a single OkHttp {@link ConnectionPool}
+ * and negotiates HTTP/2 where the api server supports it, so that repeated calls
+ * within a command reuse warm connections instead of doing a fresh TLS handshake.
+ * Clients built from a kubeconfig file are rebuilt when the file changes on disk.
+ * </p>
+ */
+@Component
+public class K8sClientRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(K8sClientRegistry.class);
+
+    private static final int MAX_IDLE_CONNECTIONS = 10;
+    private static final long KEEP_ALIVE_DURATION_IN_MINUTES = 5;
+
+    private final ConnectionPool connectionPool = new ConnectionPool(MAX_IDLE_CONNECTIONS,
+            KEEP_ALIVE_DURATION_IN_MINUTES, TimeUnit.MINUTES);
+
+    private final Map<K8sAuthorisation, RegisteredClient> clients = new ConcurrentHashMap<>();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    /**
+     * Supplies a new {@link ApiClient} when the registry has none for an auth config
+     */
+    @FunctionalInterface
+    public interface ApiClientFactory {
+        ApiClient create(K8sAuthorisation authConfig) throws HyscaleException;
+    }
+
+    /**
+     * Get registered client for auth config, create and register one through factory if
+     * not present or if the backing kubeconfig file has changed since it was created
+     *
+     * @param authConfig
+     * @param factory
+     * @return Kubernetes Api client
+     * @throws HyscaleException
+     */
+    public synchronized ApiClient get(K8sAuthorisation authConfig, ApiClientFactory factory) throws HyscaleException {
+        if (authConfig == null) {
+            return null;
+        }
+        String fingerprint = getFingerprint(authConfig);
+        RegisteredClient registeredClient = clients.get(authConfig);
+        if (registeredClient != null) {
+            if (registeredClient.isValid(fingerprint)) {
+                hits.incrementAndGet();
+                return registeredClient.apiClient;
+            }
+            logger.debug("Kube config changed for auth type {}, rebuilding client", authConfig.getK8sAuthType());
+            invalidations.incrementAndGet();
+            clients.remove(authConfig);
+        }
+        misses.incrementAndGet();
+        ApiClient apiClient = factory.create(authConfig);
+        if (apiClient == null) {
+            return null;
+        }
+        tune(apiClient);
+        clients.put(authConfig, new RegisteredClient(apiClient, fingerprint));
+        return apiClient;
+    }
+
+    /**
+     * Remove registered client for the auth config, next call to get rebuilds it
+     *
+     * @param authConfig
+     */
+    public void invalidate(K8sAuthorisation authConfig) {
+        if (authConfig != null && clients.remove(authConfig) != null) {
+            invalidations.incrementAndGet();
+        }
+    }
+
+    public void invalidateAll() {
+        invalidations.addAndGet(clients.size());
+        clients.clear();
+        connectionPool.evictAll();
+    }
+
+    /**
+     * @return registry and connection reuse statistics
+     */
+    public ClientRegistryStats getStats() {
+        ClientRegistryStats stats = new ClientRegistryStats();
+        stats.setRegisteredClients(clients.size());
+        stats.setHits(hits.get());
+        stats.setMisses(misses.get());
+        stats.setInvalidations(invalidations.get());
+        stats.setConnectionCount(connectionPool.connectionCount());
+        stats.setIdleConnectionCount(connectionPool.idleConnectionCount());
+        return stats;
+    }
+
+    /*
+     * Rebuild http client on top of the shared connection pool, retaining the
+     * ssl and authentication settings applied by the kubernetes client
+     */
+    private void tune(ApiClient apiClient) {
+        OkHttpClient httpClient = apiClient.getHttpClient();
+        if (httpClient == null) {
+            return;
+        }
+        apiClient.setHttpClient(httpClient.newBuilder()
+                .connectionPool(connectionPool)
+                .protocols(Arrays.asList(Protocol.HTTP_2, Protocol.HTTP_1_1))
+                .retryOnConnectionFailure(true)
+                .build());
+    }
+
+    /*
+     * Identifies the version of the kubeconfig file a client was built from
+     */
+    private String getFingerprint(K8sAuthorisation authConfig) {
+        if (authConfig.getK8sAuthType() != K8sAuthType.KUBE_CONFIG_FILE) {
+            return null;
+        }
+        File kubeConfigFile = ((K8sConfigFileAuth) authConfig).getK8sConfigFile();
+        if (kubeConfigFile == null || !kubeConfigFile.exists()) {
+            return null;
+        }
+        return kubeConfigFile.lastModified() + ":" + kubeConfigFile.length();
+    }
+
+    private static class RegisteredClient {
+        private final ApiClient apiClient;
+        private final String fingerprint;
+
+        RegisteredClient(ApiClient apiClient, String fingerprint) {
+            this.apiClient = apiClient;
+            this.fingerprint = fingerprint;
+        }
+
+        boolean isValid(String currentFingerprint) {
+            return fingerprint == null ? currentFingerprint == null : fingerprint.equals(currentFingerprint);
+        }
+    }
+}
@@ -24,4 +24,23 @@ public class DeployerConstants {
     public static final long DEFAULT_LB_READY_TIMEOUT = 90000;
     
     public static final long DEFAULT_POD_RESTART_COUNT = 3;
+
+    public static final int DEFAULT_APPLY_PARALLELISM = 5;
+
+    public static final String FIELD_MANAGER = "hyscale";
+
+    /**
+     * Field manager the cluster derives from the kubernetes client user agent
+     * for create and patch calls made without field manager
+     */
+    public static final String LEGACY_FIELD_MANAGER = "OpenAPI-Generator";
+
+    public static final int CACHE_WATCH_TIMEOUT_IN_SEC = 300;
+
+    public static final int LIST_PAGE_LIMIT = 500;
+
+    /**
+     * Requests metadata only list, servers without support return the full list
+     */
+    public static final String METADATA_ONLY_ACCEPT = "application/json;as=PartialObjectMetadataList;v=v1;g=meta.k8s.io,application/json";
 }
@@ -18,7 +18,6 @@ package io.hyscale.deployer.services.deployer.impl;
 import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -35,6 +34,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import io.hyscale.commons.constants.ToolConstants;
 import io.hyscale.commons.exception.HyscaleException;
 import io.hyscale.commons.logger.WorkflowLogger;
 import io.hyscale.commons.models.ClusterVersionInfo;
@@ -42,7 +42,7 @@ import io.hyscale.commons.models.DeploymentContext;
 import io.hyscale.commons.models.K8sAuthorisation;
 import io.hyscale.commons.models.KubernetesResource;
 import io.hyscale.commons.models.Manifest;
-import io.hyscale.commons.models.YAMLManifest;
+import io.hyscale.commons.models.ResourceLabelKey;
 import io.hyscale.commons.utils.ResourceSelectorUtil;
 import io.hyscale.deployer.core.model.AppMetadata;
 import io.hyscale.deployer.core.model.DeploymentStatus;
@@ -55,7 +55,6 @@ import io.hyscale.deployer.services.exception.DeployerErrorCodes;
 import io.hyscale.deployer.services.handler.AuthenticationHandler;
 import io.hyscale.deployer.services.handler.ResourceHandlers;
 import io.hyscale.deployer.services.handler.ResourceLifeCycleHandler;
-import io.hyscale.deployer.services.handler.impl.V1PersistentVolumeClaimHandler;
 import io.hyscale.deployer.services.handler.impl.V1PodHandler;
 import io.hyscale.deployer.services.handler.impl.V1ServiceHandler;
 import io.hyscale.deployer.services.provider.K8sClientProvider;
@@ -64,10 +63,9 @@ import io.hyscale.deployer.services.util.K8sPodUtil;
 import io.hyscale.deployer.services.util.K8sReplicaUtil;
 import io.hyscale.deployer.services.util.K8sResourceDispatcher;
 import io.hyscale.deployer.services.util.KubernetesResourceUtil;
+import io.hyscale.deployer.services.util.PodVolumeResolver;
 import io.kubernetes.client.openapi.ApiClient;
-import io.kubernetes.client.openapi.models.V1PersistentVolumeClaim;
 import io.kubernetes.client.openapi.models.V1Pod;
-import io.kubernetes.client.openapi.models.V1Volume;
 import io.kubernetes.client.openapi.models.V1VolumeMount;
 
 /**
@@ -77,7 +75,6 @@ import io.kubernetes.client.openapi.models.V1VolumeMount;
 public class KubernetesDeployer implements Deployer<K8sAuthorisation> {
 
     private static final Logger logger = LoggerFactory.getLogger(KubernetesDeployer.class);
-    private static final String STORAGE = "storage";
 
     @Autowired
     private DeployerConfig deployerConfig;
@@ -115,11 +112,19 @@ public class KubernetesDeployer implements Deployer<K8sAuthorisation> {
             logger.error("Error while deploying service {} in namespace {} , error {} ", context.getServiceName(),
                     context.getNamespace(), e.toString());
             throw e;
+        } finally {
+            context.setAppliedResourceCount(resourceDispatcher.getAppliedResourceCount());
+            context.setSkippedResourceCount(resourceDispatcher.getSkippedResourceCount());
         }
+        logger.debug("Service {} applied resources: {}, skipped resources: {}", context.getServiceName(),
+                context.getAppliedResourceCount(), context.getSkippedResourceCount());
+        WorkflowLogger.info(DeployerActivity.RESOURCES_APPLIED, String.valueOf(context.getAppliedResourceCount()),
+                String.valueOf(context.getSkippedResourceCount()));
     }
 
     /**
      * Wait for Pod scheduled, creation and Readiness state
+     * Skipped when none of the resources were changed and all pods are already ready
      */
     @Override
     public void waitForDeployment(DeploymentContext context) throws HyscaleException {
@@ -128,6 +133,11 @@ public class KubernetesDeployer implements Deployer<K8sAuthorisation> {
         String serviceName = context.getServiceName();
         String namespace = context.getNamespace();
         String appName = context.getAppName();
+        if (context.getAppliedResourceCount() == 0 && context.getSkippedResourceCount() > 0
+                && arePodsReady(apiClient, appName, serviceName, namespace)) {
+            WorkflowLogger.info(DeployerActivity.SERVICE_UNCHANGED);
+            return;
+        }
         WorkflowLogger.header(DeployerActivity.WAITING_FOR_DEPLOYMENT);
         try {
             podHandler.watch(apiClient, appName, serviceName, namespace);
@@ -136,6 +146,19 @@ public class KubernetesDeployer implements Deployer<K8sAuthorisation> {
         }
     }
 
+    private boolean arePodsReady(ApiClient apiClient, String appName, String serviceName, String namespace) {
+        V1PodHandler podHandler = (V1PodHandler) ResourceHandlers.getHandlerOf(ResourceKind.POD.getKind());
+        try {
+            List<V1Pod> v1PodList = podHandler.getBySelector(apiClient,
+                    ResourceSelectorUtil.getServiceSelector(appName, serviceName), true, namespace);
+            return v1PodList != null && !v1PodList.isEmpty() && v1PodList.stream()
+                    .allMatch(v1Pod -> K8sPodUtil.checkForPodCondition(v1Pod, PodCondition.READY));
+        } catch (HyscaleException e) {
+            logger.debug("Error while checking pod readiness of service {}", serviceName, e);
+        }
+        return false;
+    }
+
     @Override
     public ResourceStatus status(String namespace, Manifest manifest, K8sAuthorisation authConfig) throws Exception {
         /*
@@ -143,9 +166,8 @@ public class KubernetesDeployer implements Deployer<K8sAuthorisation> {
          * cluster Get status of the fetched resource
          */
         ApiClient apiClient = clientProvider.get((K8sAuthorisation) authConfig);
-        YAMLManifest yamlManifest = (YAMLManifest) manifest;
         try {
-            KubernetesResource resource = KubernetesResourceUtil.getKubernetesResource(yamlManifest, namespace);
+            KubernetesResource resource = KubernetesResourceUtil.getKubernetesResource(manifest, namespace);
             String kind = resource.getKind();
             ResourceLifeCycleHandler lifeCycleHandler = ResourceHandlers.getHandlerOf(kind);
             String resourceName = resource.getV1ObjectMeta().getName();
@@ -163,29 +185,19 @@ public class KubernetesDeployer implements Deployer<K8sAuthorisation> {
         List<V1Pod> v1PodList = null;
         try {
             ApiClient apiClient = clientProvider.get(k8sAuthorisation);
-            V1PodHandler v1PodHandler = (V1PodHandler) ResourceHandlers.getHandlerOf(ResourceKind.POD.getKind());
 
             String selector = ResourceSelectorUtil.getServiceSelector(appName, serviceName);
+            PodVolumeResolver volumeResolver = new PodVolumeResolver(apiClient, selector, namespace);
 
-            v1PodList = v1PodHandler.getBySelector(apiClient, selector, true, namespace);
+            v1PodList = volumeResolver.getPods();
             if (v1PodList == null || v1PodList.isEmpty()) {
                 return null;
             }
 
             for (V1Pod v1Pod : v1PodList) {
                 PodBuilder builder = new PodBuilder();
-                List<V1Volume> v1VolumeList = v1Pod.getSpec().getVolumes();
-                List<Volume> podVolumeList = new ArrayList<Volume>();
-                Set<String> volumeNames = new HashSet<>();
-                if (v1VolumeList != null) {
-                    for (V1Volume v1Volume : v1VolumeList) {
-                        Volume volume = getVolume(apiClient, v1Volume, namespace);
-                        if (volume != null) {
-                            volumeNames.add(volume.getName());
-                            podVolumeList.add(volume);
-                        }
-                    }
-                }
+                List<Volume> podVolumeList = volumeResolver.getVolumes(v1Pod);
+                Set<String> volumeNames = podVolumeList.stream().map(Volume::getName).collect(Collectors.toSet());
                 builder.withName(v1Pod.getMetadata().getName())
                         .withStatus(K8sPodUtil.getAggregatedStatusOfContainersForPod(v1Pod))
                         .withContainers(getContainers(v1Pod, volumeNames))
@@ -294,7 +306,12 @@ public class KubernetesDeployer implements Deployer<K8sAuthorisation> {
     @Override
     public List<AppMetadata> getAppsMetadata(K8sAuthorisation authConfig) throws HyscaleException {
         ApiClient apiClient = clientProvider.get(authConfig);
-        return appMetadataBuilder.build(podParentProvider.getAllPodParents(apiClient));
+        Map<String, AppMetadata> appMetadataMap = new HashMap<>();
+        String selector = ResourceLabelKey.APP_NAME.getLabel() + ToolConstants.COMMA
+                + ResourceLabelKey.SERVICE_NAME.getLabel();
+        podParentProvider.forEachPodParentMetadata(apiClient, selector,
+                metadata -> appMetadataBuilder.update(appMetadataMap, metadata));
+        return new ArrayList<>(appMetadataMap.values());
     }
 
     @Override
@@ -343,29 +360,6 @@ public class KubernetesDeployer implements Deployer<K8sAuthorisation> {
         return containers;
     }
 
-    private Volume getVolume(ApiClient apiClient, V1Volume v1Volume, String namespace) throws HyscaleException {
-        if (v1Volume.getPersistentVolumeClaim() == null) {
-            return null;
-        }
-        String claimName = v1Volume.getPersistentVolumeClaim().getClaimName();
-        if (claimName == null) {
-            return null;
-        }
-        V1PersistentVolumeClaimHandler v1PersistentVolumeClaimHandler = (V1PersistentVolumeClaimHandler) ResourceHandlers
-                .getHandlerOf(ResourceKind.PERSISTENT_VOLUME_CLAIM.getKind());
-        Volume volume = new Volume();
-        volume.setName(v1Volume.getName());
-        volume.setClaimName(claimName);
-
-        V1PersistentVolumeClaim pvc = v1PersistentVolumeClaimHandler.get(apiClient, claimName,
-                namespace);
-        if (pvc.getStatus() != null && pvc.getStatus().getCapacity() != null
-                && pvc.getStatus().getCapacity().get(STORAGE) != null) {
-            volume.setSize(pvc.getStatus().getCapacity().get(STORAGE).toSuffixedString());
-        }
-        return volume;
-    }
-
     private VolumeMount getVolumeMount(V1VolumeMount v1VolumeMount) {
         VolumeMount volumeMount = new VolumeMount();
         volumeMount.setMountPath(v1VolumeMount.getMountPath());
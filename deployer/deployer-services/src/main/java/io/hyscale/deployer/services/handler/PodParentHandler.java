@@ -21,18 +21,28 @@ import io.hyscale.commons.exception.HyscaleException;
 import io.hyscale.commons.logger.WorkflowLogger;
 import io.hyscale.commons.utils.ResourceLabelUtil;
 import io.hyscale.deployer.core.model.DeploymentStatus;
+import io.hyscale.deployer.core.model.ResourceOperation;
+import io.hyscale.deployer.services.constants.DeployerConstants;
 import io.hyscale.deployer.services.exception.DeployerErrorCodes;
+import io.hyscale.deployer.services.model.PartialObjectMetadataList;
 import io.hyscale.deployer.services.model.ScaleOperation;
+import io.hyscale.deployer.services.util.ExceptionHelper;
 import io.hyscale.deployer.services.util.K8sResourcePatchUtil;
 import io.kubernetes.client.openapi.ApiClient;
+import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.models.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import okhttp3.Call;
+import okhttp3.Request;
+
 public abstract class PodParentHandler<T> {
 
     private static final Logger logger = LoggerFactory.getLogger(PodParentHandler.class);
 
+    private static final String ACCEPT = "Accept";
+
     public abstract List<DeploymentStatus> getStatus(ApiClient apiClient, String selector, boolean label, String namespace);
 
     public abstract DeploymentStatus buildStatus(T t);
@@ -53,6 +63,42 @@ public abstract class PodParentHandler<T> {
     public abstract List<T> listForAllNamespaces(ApiClient apiClient, String selector, boolean label)
             throws HyscaleException;
 
+    /**
+     * List call of the resource across namespaces, used for paginated listing
+     * @param apiClient
+     * @param labelSelector
+     * @param continueToken from previous page, null for first page
+     * @param limit page size
+     * @return list call
+     * @throws ApiException
+     */
+    protected abstract Call listForAllNamespacesCall(ApiClient apiClient, String labelSelector, String continueToken,
+            Integer limit) throws ApiException;
+
+    /**
+     * Page of metadata only resources across namespaces
+     * @param apiClient
+     * @param labelSelector
+     * @param continueToken from previous page, null for first page
+     * @param limit page size
+     * @return {@link PartialObjectMetadataList}, continue token of its metadata points to next page
+     * @throws HyscaleException
+     */
+    public PartialObjectMetadataList listMetadataForAllNamespaces(ApiClient apiClient, String labelSelector,
+            String continueToken, Integer limit) throws HyscaleException {
+        try {
+            Request request = listForAllNamespacesCall(apiClient, labelSelector, continueToken, limit).request()
+                    .newBuilder().header(ACCEPT, DeployerConstants.METADATA_ONLY_ACCEPT).build();
+            return apiClient.<PartialObjectMetadataList>execute(apiClient.getHttpClient().newCall(request),
+                    PartialObjectMetadataList.class).getData();
+        } catch (ApiException e) {
+            HyscaleException ex = ExceptionHelper.buildGetException(getKind(), e, ResourceOperation.GET_ALL);
+            logger.error("Error while listing {} metadata in all namespaces, with selectors {}, error {} ", getKind(),
+                    labelSelector, ex.toString());
+            throw ex;
+        }
+    }
+
     protected abstract String getPodRevision(ApiClient apiClient, T t);
 
     public abstract Integer getReplicas(T t);
@@ -17,6 +17,8 @@ package io.hyscale.deployer.services.handler;
 
 import java.util.Iterator;
 import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -29,9 +31,12 @@ import io.hyscale.commons.logger.WorkflowLogger;
 import io.hyscale.commons.models.Status;
 import io.hyscale.commons.utils.ThreadPoolUtil;
 import io.hyscale.deployer.core.model.ResourceOperation;
+import io.hyscale.deployer.services.cache.ResourceCacheSource;
 import io.hyscale.deployer.services.exception.DeployerErrorCodes;
 import io.hyscale.deployer.services.model.ResourceStatus;
 import io.hyscale.deployer.services.model.ResourceUpdatePolicy;
+import io.hyscale.deployer.services.util.K8sResourceWatchUtil;
+import io.kubernetes.client.custom.V1Patch;
 import io.kubernetes.client.openapi.ApiClient;
 import io.kubernetes.client.openapi.models.V1DeleteOptions;
 
@@ -125,6 +130,40 @@ public interface ResourceLifeCycleHandler<T> {
      */
     public boolean patch(ApiClient apiClient, String name, String namespace, T body) throws HyscaleException;
 
+    /**
+     * Server side apply resource
+     * Complete resource is sent as an apply patch owned by hyscale field manager,
+     * creates the resource if not found on cluster
+     *
+     * @param apiClient
+     * @param name
+     * @param namespace
+     * @param body
+     * @return true if applied else false
+     * @throws HyscaleException
+     */
+    default boolean apply(ApiClient apiClient, String name, String namespace, T body) throws HyscaleException {
+        throw new HyscaleException(DeployerErrorCodes.OPERATION_NOT_SUPPORTED,
+                ResourceOperation.APPLY.getOperation(), getKind());
+    }
+
+    /**
+     * Patch metadata of resource through the json patch, spec of the resource is not changed
+     * Used to move field ownership to hyscale field manager before server side apply
+     *
+     * @param apiClient
+     * @param name
+     * @param namespace
+     * @param metadataPatch json patch of metadata fields
+     * @return true if patched else false
+     * @throws HyscaleException
+     */
+    default boolean patchMetadata(ApiClient apiClient, String name, String namespace, V1Patch metadataPatch)
+            throws HyscaleException {
+        throw new HyscaleException(DeployerErrorCodes.OPERATION_NOT_SUPPORTED,
+                ResourceOperation.PATCH.getOperation(), getKind());
+    }
+
     /**
      * Delete resource and wait if enabled
      *
@@ -176,6 +215,55 @@ public interface ResourceLifeCycleHandler<T> {
         return deleteOptions;
     }
 
+    /**
+     * Describes how resources of this kind are listed and watched
+     *
+     * @return {@link ResourceCacheSource}, null if kind does not support watch
+     */
+    default ResourceCacheSource<T, ?> getListWatchSource() {
+        return null;
+    }
+
+    /**
+     * Wait until resource satisfies the condition or timeout
+     * Watches the resource when kind provides {@link #getListWatchSource()},
+     * else polls the resource
+     *
+     * @param apiClient
+     * @param name
+     * @param namespace
+     * @param condition       tested with the resource, null when resource does not exist
+     * @param timeoutInMillis
+     * @param activityContext for displaying continuation
+     * @return true if condition is satisfied, false on timeout
+     * @throws HyscaleException
+     */
+    default boolean waitFor(ApiClient apiClient, String name, String namespace, Predicate<T> condition,
+            long timeoutInMillis, ActivityContext activityContext) throws HyscaleException {
+        ResourceCacheSource<T, ?> source = getListWatchSource();
+        if (source != null) {
+            return K8sResourceWatchUtil.waitFor(apiClient, source, name, namespace, condition, timeoutInMillis,
+                    activityContext);
+        }
+        long startTime = System.currentTimeMillis();
+        while (System.currentTimeMillis() - startTime < timeoutInMillis) {
+            T resource = null;
+            try {
+                resource = get(apiClient, name, namespace);
+            } catch (HyscaleException e) {
+                if (e.getHyscaleError() != DeployerErrorCodes.RESOURCE_NOT_FOUND) {
+                    throw e;
+                }
+            }
+            if (condition.test(resource)) {
+                return true;
+            }
+            WorkflowLogger.continueActivity(activityContext);
+            ThreadPoolUtil.sleepSilently(DELETE_SLEEP_INTERVAL_IN_MILLIS);
+        }
+        return false;
+    }
+
     /**
      * Wait until resource is no longer available
      * or timeout, in which case throws exception
@@ -194,22 +282,20 @@ public interface ResourceLifeCycleHandler<T> {
             return;
         }
         long startTime = System.currentTimeMillis();
-        while (!pendingResources.isEmpty()
-                && (System.currentTimeMillis() - startTime < MAX_WAIT_TIME_IN_MILLISECONDS)) {
-            Iterator<String> deletePendingResourceIterator = pendingResources.iterator();
-            WorkflowLogger.continueActivity(activityContext);
-            while (deletePendingResourceIterator.hasNext()) {
-                String pendingResource = deletePendingResourceIterator.next();
-                try {
-                    get(apiClient, pendingResource, namespace);
-                    logger.debug("Resource {} found to be existing, waiting for resource deletion", pendingResource);
-                } catch (HyscaleException e) {
-                    if (e.getHyscaleError() == DeployerErrorCodes.RESOURCE_NOT_FOUND) {
-                        deletePendingResourceIterator.remove();
-                    }
+        Iterator<String> deletePendingResourceIterator = pendingResources.iterator();
+        while (deletePendingResourceIterator.hasNext()) {
+            String pendingResource = deletePendingResourceIterator.next();
+            long remaining = MAX_WAIT_TIME_IN_MILLISECONDS - (System.currentTimeMillis() - startTime);
+            if (remaining <= 0) {
+                break;
+            }
+            try {
+                if (waitFor(apiClient, pendingResource, namespace, Objects::isNull, remaining, activityContext)) {
+                    deletePendingResourceIterator.remove();
                 }
+            } catch (HyscaleException e) {
+                logger.debug("Error while waiting for resource {} deletion, error {}", pendingResource, e.toString());
             }
-            ThreadPoolUtil.sleepSilently(DELETE_SLEEP_INTERVAL_IN_MILLIS);
         }
         // Fail case
         if (!pendingResources.isEmpty()) {
@@ -17,6 +17,7 @@ package io.hyscale.deployer.services.handler.impl;
 
 import java.util.List;
 
+import io.hyscale.deployer.services.cache.ResourceCacheSource;
 import io.hyscale.deployer.services.model.DeployerActivity;
 import io.hyscale.deployer.services.exception.DeployerErrorCodes;
 import io.hyscale.deployer.services.handler.ResourceLifeCycleHandler;
@@ -26,6 +27,7 @@ import org.slf4j.LoggerFactory;
 
 import com.google.common.collect.Lists;
 import com.google.gson.JsonSyntaxException;
+import com.google.gson.reflect.TypeToken;
 
 import io.hyscale.commons.exception.HyscaleException;
 import io.hyscale.commons.logger.ActivityContext;
@@ -38,6 +40,8 @@ import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.apis.CoreV1Api;
 import io.kubernetes.client.openapi.models.V1DeleteOptions;
 import io.kubernetes.client.openapi.models.V1Namespace;
+import io.kubernetes.client.openapi.models.V1NamespaceList;
+import io.kubernetes.client.util.Watch;
 
 /**
  * V1Namespace resource operations
@@ -47,6 +51,14 @@ public class NamespaceHandler implements ResourceLifeCycleHandler<V1Namespace> {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(NamespaceHandler.class);
 
+    private static final ResourceCacheSource<V1Namespace, V1NamespaceList> LIST_WATCH_SOURCE = new ResourceCacheSource<>(
+            ResourceKind.NAMESPACE.getKind(), V1NamespaceList.class, new TypeToken<Watch.Response<V1Namespace>>() {
+            }.getType(),
+            (apiClient, namespace, fieldSelector, resourceVersion, timeoutSeconds, watch) -> new CoreV1Api(apiClient)
+                    .listNamespaceCall(null, null, null, fieldSelector, null, null, resourceVersion,
+                            timeoutSeconds, watch, null),
+            V1NamespaceList::getItems, V1NamespaceList::getMetadata, V1Namespace::getMetadata);
+
     @Override
     public V1Namespace create(ApiClient apiClient, V1Namespace resource, String namespace) throws HyscaleException {
         if (resource == null) {
@@ -161,6 +173,11 @@ public class NamespaceHandler implements ResourceLifeCycleHandler<V1Namespace> {
         return ResourceKind.NAMESPACE.getKind();
     }
 
+    @Override
+    public ResourceCacheSource<V1Namespace, ?> getListWatchSource() {
+        return LIST_WATCH_SOURCE;
+    }
+
     @Override
     public boolean cleanUp() {
         return false;
@@ -17,6 +17,7 @@ package io.hyscale.deployer.services.handler.impl;
 
 import java.util.List;
 
+import io.hyscale.deployer.services.cache.ResourceCacheSource;
 import io.hyscale.deployer.services.model.DeployerActivity;
 import io.hyscale.deployer.services.model.ResourceStatus;
 import io.hyscale.deployer.services.exception.DeployerErrorCodes;
@@ -28,6 +29,7 @@ import org.slf4j.LoggerFactory;
 
 import com.google.common.collect.Lists;
 import com.google.gson.JsonSyntaxException;
+import com.google.gson.reflect.TypeToken;
 
 import io.hyscale.commons.exception.HyscaleException;
 import io.hyscale.commons.logger.ActivityContext;
@@ -43,11 +45,23 @@ import io.kubernetes.client.openapi.models.V1ConfigMap;
 import io.kubernetes.client.openapi.models.V1ConfigMapList;
 import io.kubernetes.client.openapi.models.V1DeleteOptions;
 import io.kubernetes.client.custom.V1Patch;
+import io.hyscale.deployer.services.constants.DeployerConstants;
+import io.hyscale.deployer.services.model.ResourceUpdatePolicy;
+import io.kubernetes.client.util.PatchUtils;
+import io.kubernetes.client.util.Watch;
 
 public class V1ConfigMapHandler implements ResourceLifeCycleHandler<V1ConfigMap> {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(V1ConfigMapHandler.class);
 
+    private static final ResourceCacheSource<V1ConfigMap, V1ConfigMapList> LIST_WATCH_SOURCE = new ResourceCacheSource<>(
+            ResourceKind.CONFIG_MAP.getKind(), V1ConfigMapList.class, new TypeToken<Watch.Response<V1ConfigMap>>() {
+            }.getType(),
+            (apiClient, namespace, fieldSelector, resourceVersion, timeoutSeconds, watch) -> new CoreV1Api(apiClient)
+                    .listNamespacedConfigMapCall(namespace, null, null, null, fieldSelector, null, null, resourceVersion,
+                            timeoutSeconds, watch, null),
+            V1ConfigMapList::getItems, V1ConfigMapList::getMetadata, V1ConfigMap::getMetadata);
+
     @Override
     public V1ConfigMap create(ApiClient apiClient, V1ConfigMap resource, String namespace) throws HyscaleException {
         if (resource == null) {
@@ -191,6 +205,51 @@ public class V1ConfigMapHandler implements ResourceLifeCycleHandler<V1ConfigMap>
         return true;
     }
 
+    /**
+     * Server side apply target, no prior fetch or client side diff is required
+     */
+    @Override
+    public boolean apply(ApiClient apiClient, String name, String namespace, V1ConfigMap target) throws HyscaleException {
+        if (target == null) {
+            LOGGER.debug("Cannot apply null ConfigMap");
+            return false;
+        }
+        CoreV1Api coreV1Api = new CoreV1Api(apiClient);
+        target.getMetadata().putAnnotationsItem(AnnotationKey.K8S_HYSCALE_LAST_APPLIED_CONFIGURATION.getAnnotation(),
+                gson.toJson(target));
+        WorkflowLogger.startActivity(DeployerActivity.DEPLOYING_CONFIGMAP);
+        try {
+            V1Patch v1Patch = K8sResourcePatchUtil.getApplyPatch(apiClient, target);
+            PatchUtils.patch(V1ConfigMap.class, () -> coreV1Api.patchNamespacedConfigMapCall(name, namespace, v1Patch, TRUE, null,
+                    DeployerConstants.FIELD_MANAGER, true, null), V1Patch.PATCH_FORMAT_APPLY_YAML, apiClient);
+        } catch (ApiException e) {
+            HyscaleException ex = new HyscaleException(e, DeployerErrorCodes.FAILED_TO_PATCH_RESOURCE,
+                    ExceptionHelper.getExceptionMessage(getKind(), e, ResourceOperation.APPLY));
+            LOGGER.error("Error while applying ConfigMap {} in namespace {} , error {}", name, namespace, ex.toString());
+            WorkflowLogger.endActivity(Status.FAILED);
+            throw ex;
+        }
+        WorkflowLogger.endActivity(Status.DONE);
+        return true;
+    }
+
+    @Override
+    public boolean patchMetadata(ApiClient apiClient, String name, String namespace, V1Patch metadataPatch)
+            throws HyscaleException {
+        CoreV1Api coreV1Api = new CoreV1Api(apiClient);
+        try {
+            PatchUtils.patch(V1ConfigMap.class, () -> coreV1Api.patchNamespacedConfigMapCall(name, namespace, metadataPatch,
+                    TRUE, null, DeployerConstants.FIELD_MANAGER, null, null), V1Patch.PATCH_FORMAT_JSON_PATCH, apiClient);
+        } catch (ApiException e) {
+            HyscaleException ex = new HyscaleException(e, DeployerErrorCodes.FAILED_TO_PATCH_RESOURCE,
+                    ExceptionHelper.getExceptionMessage(getKind(), e, ResourceOperation.PATCH));
+            LOGGER.error("Error while patching metadata of ConfigMap {} in namespace {} , error {}", name,
+                    namespace, ex.toString());
+            throw ex;
+        }
+        return true;
+    }
+
     @Override
     public boolean delete(ApiClient apiClient, String name, String namespace, boolean wait) throws HyscaleException {
         CoreV1Api coreV1Api = new CoreV1Api(apiClient);
@@ -251,6 +310,11 @@ public class V1ConfigMapHandler implements ResourceLifeCycleHandler<V1ConfigMap>
         return ResourceKind.CONFIG_MAP.getKind();
     }
 
+    @Override
+    public ResourceCacheSource<V1ConfigMap, ?> getListWatchSource() {
+        return LIST_WATCH_SOURCE;
+    }
+
     @Override
     public boolean cleanUp() {
         return true;
@@ -264,4 +328,9 @@ public class V1ConfigMapHandler implements ResourceLifeCycleHandler<V1ConfigMap>
 	public ResourceStatus status(V1ConfigMap v1ConfigMap){
 		return ResourceStatus.STABLE;
 	}
+
+    @Override
+    public ResourceUpdatePolicy getUpdatePolicy() {
+        return ResourceUpdatePolicy.SERVER_SIDE_APPLY;
+    }
 }
@@ -27,6 +27,7 @@ import org.slf4j.LoggerFactory;
 
 import com.google.common.collect.Lists;
 import com.google.gson.JsonSyntaxException;
+import com.google.gson.reflect.TypeToken;
 
 import io.hyscale.commons.constants.K8SRuntimeConstants;
 import io.hyscale.commons.exception.HyscaleException;
@@ -38,6 +39,8 @@ import io.hyscale.commons.utils.ResourceLabelUtil;
 import io.hyscale.deployer.core.model.DeploymentStatus;
 import io.hyscale.deployer.core.model.ResourceKind;
 import io.hyscale.deployer.core.model.ResourceOperation;
+import io.hyscale.deployer.services.cache.ClusterStateCache;
+import io.hyscale.deployer.services.cache.ResourceCacheSource;
 import io.hyscale.deployer.services.exception.DeployerErrorCodes;
 import io.hyscale.deployer.services.handler.PodParentHandler;
 import io.hyscale.deployer.services.handler.ResourceHandlers;
@@ -50,10 +53,23 @@ import io.kubernetes.client.custom.V1Patch;
 import io.kubernetes.client.openapi.ApiClient;
 import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.apis.AppsV1Api;
+import io.hyscale.deployer.services.constants.DeployerConstants;
+import io.hyscale.deployer.services.model.ResourceUpdatePolicy;
+import io.kubernetes.client.util.PatchUtils;
+import io.kubernetes.client.util.Watch;
+import okhttp3.Call;
 
 public class V1DeploymentHandler extends PodParentHandler<V1Deployment> implements ResourceLifeCycleHandler<V1Deployment> {
     private static final Logger LOGGER = LoggerFactory.getLogger(V1DeploymentHandler.class);
 
+    private static final ResourceCacheSource<V1Deployment, V1DeploymentList> LIST_WATCH_SOURCE = new ResourceCacheSource<>(
+            ResourceKind.DEPLOYMENT.getKind(), V1DeploymentList.class, new TypeToken<Watch.Response<V1Deployment>>() {
+            }.getType(),
+            (apiClient, namespace, fieldSelector, resourceVersion, timeoutSeconds, watch) -> new AppsV1Api(apiClient)
+                    .listNamespacedDeploymentCall(namespace, null, null, null, fieldSelector, null, null, resourceVersion,
+                            timeoutSeconds, watch, null),
+            V1DeploymentList::getItems, V1DeploymentList::getMetadata, V1Deployment::getMetadata);
+
     public V1Deployment create(ApiClient apiClient, V1Deployment resource, String namespace) throws HyscaleException {
         if (resource == null) {
             LOGGER.debug("Cannot create null Deployment");
@@ -129,6 +145,12 @@ public class V1DeploymentHandler extends PodParentHandler<V1Deployment> implemen
 
     @Override
     public List<V1Deployment> getBySelector(ApiClient apiClient, String selector, boolean label, String namespace) throws HyscaleException {
+        if (label && ClusterStateCache.isActive()) {
+            List<V1Deployment> cached = ClusterStateCache.getBySelector(apiClient, LIST_WATCH_SOURCE, selector, namespace);
+            if (cached != null) {
+                return cached;
+            }
+        }
         AppsV1Api appsV1Api = new AppsV1Api(apiClient);
         List<V1Deployment> v1Deployments = null;
         try {
@@ -170,6 +192,13 @@ public class V1DeploymentHandler extends PodParentHandler<V1Deployment> implemen
         return v1Deployments;
     }
 
+    @Override
+    protected Call listForAllNamespacesCall(ApiClient apiClient, String labelSelector, String continueToken,
+            Integer limit) throws ApiException {
+        return new AppsV1Api(apiClient).listDeploymentForAllNamespacesCall(null, continueToken, null, labelSelector, limit, TRUE,
+                null, null, null, null);
+    }
+
     @Override
     public boolean patch(ApiClient apiClient, String name, String namespace, V1Deployment target) throws HyscaleException {
         if (target == null) {
@@ -213,6 +242,51 @@ public class V1DeploymentHandler extends PodParentHandler<V1Deployment> implemen
         return true;
     }
 
+    /**
+     * Server side apply target, no prior fetch or client side diff is required
+     */
+    @Override
+    public boolean apply(ApiClient apiClient, String name, String namespace, V1Deployment target) throws HyscaleException {
+        if (target == null) {
+            LOGGER.debug("Cannot apply null Deployment");
+            return false;
+        }
+        AppsV1Api appsV1Api = new AppsV1Api(apiClient);
+        target.getMetadata().putAnnotationsItem(AnnotationKey.K8S_HYSCALE_LAST_APPLIED_CONFIGURATION.getAnnotation(),
+                gson.toJson(target));
+        WorkflowLogger.startActivity(DeployerActivity.DEPLOYING_DEPLOYMENT);
+        try {
+            V1Patch v1Patch = K8sResourcePatchUtil.getApplyPatch(apiClient, target);
+            PatchUtils.patch(V1Deployment.class, () -> appsV1Api.patchNamespacedDeploymentCall(name, namespace, v1Patch, TRUE, null,
+                    DeployerConstants.FIELD_MANAGER, true, null), V1Patch.PATCH_FORMAT_APPLY_YAML, apiClient);
+        } catch (ApiException e) {
+            HyscaleException ex = new HyscaleException(e, DeployerErrorCodes.FAILED_TO_PATCH_RESOURCE,
+                    ExceptionHelper.getExceptionMessage(getKind(), e, ResourceOperation.APPLY));
+            LOGGER.error("Error while applying Deployment {} in namespace {} , error {}", name, namespace, ex.toString());
+            WorkflowLogger.endActivity(Status.FAILED);
+            throw ex;
+        }
+        WorkflowLogger.endActivity(Status.DONE);
+        return true;
+    }
+
+    @Override
+    public boolean patchMetadata(ApiClient apiClient, String name, String namespace, V1Patch metadataPatch)
+            throws HyscaleException {
+        AppsV1Api appsV1Api = new AppsV1Api(apiClient);
+        try {
+            PatchUtils.patch(V1Deployment.class, () -> appsV1Api.patchNamespacedDeploymentCall(name, namespace, metadataPatch,
+                    TRUE, null, DeployerConstants.FIELD_MANAGER, null, null), V1Patch.PATCH_FORMAT_JSON_PATCH, apiClient);
+        } catch (ApiException e) {
+            HyscaleException ex = new HyscaleException(e, DeployerErrorCodes.FAILED_TO_PATCH_RESOURCE,
+                    ExceptionHelper.getExceptionMessage(getKind(), e, ResourceOperation.PATCH));
+            LOGGER.error("Error while patching metadata of Deployment {} in namespace {} , error {}", name,
+                    namespace, ex.toString());
+            throw ex;
+        }
+        return true;
+    }
+
     @Override
     public boolean delete(ApiClient apiClient, String name, String namespace, boolean wait) throws HyscaleException {
         AppsV1Api appsV1Api = new AppsV1Api(apiClient);
@@ -275,6 +349,11 @@ public class V1DeploymentHandler extends PodParentHandler<V1Deployment> implemen
         return ResourceKind.DEPLOYMENT.getKind();
     }
 
+    @Override
+    public ResourceCacheSource<V1Deployment, ?> getListWatchSource() {
+        return LIST_WATCH_SOURCE;
+    }
+
     @Override
     public int getWeight() {
         return ResourceKind.DEPLOYMENT.getWeight();
@@ -474,34 +553,22 @@ public class V1DeploymentHandler extends PodParentHandler<V1Deployment> implemen
     }
 
     private boolean waitForDesiredState(ApiClient apiClient, String name, String namespace,ActivityContext activityContext) throws HyscaleException {
-        Long startTime = System.currentTimeMillis();
-        boolean stable = false;
-        int rotateThreshold = 5;
-        int sleep = 3;
         try {
-            int rotations = 0;
-            while (System.currentTimeMillis() - startTime < MAX_WAIT_TIME_IN_MILLISECONDS) {
-                rotations++;
-                V1Deployment updatedDeployment = null;
-                updatedDeployment = get(apiClient, name, namespace);
-                logger.debug("Patched deployment status :{} ", updatedDeployment.getStatus());
-                if (status(updatedDeployment) == ResourceStatus.STABLE) {
-                    stable = true;
-                    break;
-                }
-                if (rotateThreshold == rotations) {
-                    sleep++;
-                    rotations = 0;
+            return waitFor(apiClient, name, namespace, each -> {
+                if (each == null) {
+                    return false;
                 }
-                WorkflowLogger.continueActivity(activityContext);
-                Thread.currentThread().sleep(sleep * 1000);
-            }
-        } catch (InterruptedException e) {
-            logger.error("Sleep Thread interrupted ", e);
+                logger.debug("Patched deployment status :{} ", each.getStatus());
+                return status(each) == ResourceStatus.STABLE;
+            }, MAX_WAIT_TIME_IN_MILLISECONDS, activityContext);
         } catch (HyscaleException ex){
             logger.error("Error while fetching deployment {}", ex.getHyscaleError(), ex);
         }
-        return stable;
+        return false;
     }
 
+    @Override
+    public ResourceUpdatePolicy getUpdatePolicy() {
+        return ResourceUpdatePolicy.SERVER_SIDE_APPLY;
+    }
 }
@@ -17,6 +17,7 @@ package io.hyscale.deployer.services.handler.impl;
 
 import com.google.common.collect.Lists;
 import com.google.gson.JsonSyntaxException;
+import com.google.gson.reflect.TypeToken;
 import io.hyscale.commons.exception.HyscaleException;
 import io.hyscale.commons.logger.ActivityContext;
 import io.hyscale.commons.logger.WorkflowLogger;
@@ -24,6 +25,7 @@ import io.hyscale.commons.models.AnnotationKey;
 import io.hyscale.commons.models.Status;
 import io.hyscale.deployer.core.model.ResourceKind;
 import io.hyscale.deployer.core.model.ResourceOperation;
+import io.hyscale.deployer.services.cache.ResourceCacheSource;
 import io.hyscale.deployer.services.exception.DeployerErrorCodes;
 import io.hyscale.deployer.services.handler.ResourceLifeCycleHandler;
 import io.hyscale.deployer.services.model.DeployerActivity;
@@ -38,6 +40,10 @@ import org.slf4j.LoggerFactory;
 import io.kubernetes.client.custom.V1Patch;
 
 import java.util.List;
+import io.hyscale.deployer.services.constants.DeployerConstants;
+import io.hyscale.deployer.services.model.ResourceUpdatePolicy;
+import io.kubernetes.client.util.PatchUtils;
+import io.kubernetes.client.util.Watch;
 
 /**
  * This class is responsible for the lifecycle operations of resource
@@ -50,6 +56,14 @@ public class V1HorizontalPodAutoScalerHandler implements ResourceLifeCycleHandle
 
     private static final Logger logger = LoggerFactory.getLogger(V1HorizontalPodAutoScalerHandler.class);
 
+    private static final ResourceCacheSource<V1HorizontalPodAutoscaler, V1HorizontalPodAutoscalerList> LIST_WATCH_SOURCE = new ResourceCacheSource<>(
+            ResourceKind.HORIZONTAL_POD_AUTOSCALER.getKind(), V1HorizontalPodAutoscalerList.class, new TypeToken<Watch.Response<V1HorizontalPodAutoscaler>>() {
+            }.getType(),
+            (apiClient, namespace, fieldSelector, resourceVersion, timeoutSeconds, watch) -> new AutoscalingV1Api(apiClient)
+                    .listNamespacedHorizontalPodAutoscalerCall(namespace, null, null, null, fieldSelector, null, null, resourceVersion,
+                            timeoutSeconds, watch, null),
+            V1HorizontalPodAutoscalerList::getItems, V1HorizontalPodAutoscalerList::getMetadata, V1HorizontalPodAutoscaler::getMetadata);
+
     @Override
     public V1HorizontalPodAutoscaler create(ApiClient apiClient, V1HorizontalPodAutoscaler resource, String namespace) throws HyscaleException {
         if (resource == null) {
@@ -187,6 +201,51 @@ public class V1HorizontalPodAutoScalerHandler implements ResourceLifeCycleHandle
         return true;
     }
 
+    /**
+     * Server side apply target, no prior fetch or client side diff is required
+     */
+    @Override
+    public boolean apply(ApiClient apiClient, String name, String namespace, V1HorizontalPodAutoscaler target) throws HyscaleException {
+        if (target == null) {
+            logger.debug("Cannot apply null HorizontalPodAutoScaler");
+            return false;
+        }
+        AutoscalingV1Api autoscalingV1Api = new AutoscalingV1Api(apiClient);
+        target.getMetadata().putAnnotationsItem(AnnotationKey.K8S_HYSCALE_LAST_APPLIED_CONFIGURATION.getAnnotation(),
+                gson.toJson(target));
+        WorkflowLogger.startActivity(DeployerActivity.DEPLOYING_HORIZONTAL_AUTO_SCALER);
+        try {
+            V1Patch v1Patch = K8sResourcePatchUtil.getApplyPatch(apiClient, target);
+            PatchUtils.patch(V1HorizontalPodAutoscaler.class, () -> autoscalingV1Api.patchNamespacedHorizontalPodAutoscalerCall(name, namespace, v1Patch, TRUE, null,
+                    DeployerConstants.FIELD_MANAGER, true, null), V1Patch.PATCH_FORMAT_APPLY_YAML, apiClient);
+        } catch (ApiException e) {
+            HyscaleException ex = new HyscaleException(e, DeployerErrorCodes.FAILED_TO_PATCH_RESOURCE,
+                    ExceptionHelper.getExceptionMessage(getKind(), e, ResourceOperation.APPLY));
+            logger.error("Error while applying HorizontalPodAutoScaler {} in namespace {} , error {}", name, namespace, ex.toString());
+            WorkflowLogger.endActivity(Status.FAILED);
+            throw ex;
+        }
+        WorkflowLogger.endActivity(Status.DONE);
+        return true;
+    }
+
+    @Override
+    public boolean patchMetadata(ApiClient apiClient, String name, String namespace, V1Patch metadataPatch)
+            throws HyscaleException {
+        AutoscalingV1Api autoscalingV1Api = new AutoscalingV1Api(apiClient);
+        try {
+            PatchUtils.patch(V1HorizontalPodAutoscaler.class, () -> autoscalingV1Api.patchNamespacedHorizontalPodAutoscalerCall(name, namespace, metadataPatch,
+                    TRUE, null, DeployerConstants.FIELD_MANAGER, null, null), V1Patch.PATCH_FORMAT_JSON_PATCH, apiClient);
+        } catch (ApiException e) {
+            HyscaleException ex = new HyscaleException(e, DeployerErrorCodes.FAILED_TO_PATCH_RESOURCE,
+                    ExceptionHelper.getExceptionMessage(getKind(), e, ResourceOperation.PATCH));
+            logger.error("Error while patching metadata of HorizontalPodAutoscaler {} in namespace {} , error {}", name,
+                    namespace, ex.toString());
+            throw ex;
+        }
+        return true;
+    }
+
     @Override
     public boolean delete(ApiClient apiClient, String name, String namespace, boolean wait) throws HyscaleException {
         AutoscalingV1Api autoscalingV1Api = new AutoscalingV1Api(apiClient);
@@ -249,6 +308,11 @@ public class V1HorizontalPodAutoScalerHandler implements ResourceLifeCycleHandle
         return ResourceKind.HORIZONTAL_POD_AUTOSCALER.getKind();
     }
 
+    @Override
+    public ResourceCacheSource<V1HorizontalPodAutoscaler, ?> getListWatchSource() {
+        return LIST_WATCH_SOURCE;
+    }
+
     @Override
     public int getWeight() {
         return ResourceKind.HORIZONTAL_POD_AUTOSCALER.getWeight();
@@ -258,4 +322,9 @@ public class V1HorizontalPodAutoScalerHandler implements ResourceLifeCycleHandle
     public boolean cleanUp() {
         return true;
     }
+
+    @Override
+    public ResourceUpdatePolicy getUpdatePolicy() {
+        return ResourceUpdatePolicy.SERVER_SIDE_APPLY;
+    }
 }
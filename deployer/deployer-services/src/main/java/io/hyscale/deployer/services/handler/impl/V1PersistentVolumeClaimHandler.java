@@ -17,6 +17,7 @@ package io.hyscale.deployer.services.handler.impl;
 
 import java.util.List;
 
+import io.hyscale.deployer.services.cache.ResourceCacheSource;
 import io.hyscale.deployer.services.model.DeployerActivity;
 import io.hyscale.deployer.services.exception.DeployerErrorCodes;
 import io.hyscale.deployer.services.handler.ResourceLifeCycleHandler;
@@ -26,6 +27,7 @@ import org.slf4j.LoggerFactory;
 
 import com.google.common.collect.Lists;
 import com.google.gson.JsonSyntaxException;
+import com.google.gson.reflect.TypeToken;
 
 import io.hyscale.commons.exception.HyscaleException;
 import io.hyscale.commons.logger.ActivityContext;
@@ -39,11 +41,20 @@ import io.kubernetes.client.openapi.apis.CoreV1Api;
 import io.kubernetes.client.openapi.models.V1DeleteOptions;
 import io.kubernetes.client.openapi.models.V1PersistentVolumeClaim;
 import io.kubernetes.client.openapi.models.V1PersistentVolumeClaimList;
+import io.kubernetes.client.util.Watch;
 
 public class V1PersistentVolumeClaimHandler implements ResourceLifeCycleHandler<V1PersistentVolumeClaim> {
 
 	private static final Logger logger = LoggerFactory.getLogger(V1PersistentVolumeClaimHandler.class);
 
+	private static final ResourceCacheSource<V1PersistentVolumeClaim, V1PersistentVolumeClaimList> LIST_WATCH_SOURCE = new ResourceCacheSource<>(
+	        ResourceKind.PERSISTENT_VOLUME_CLAIM.getKind(), V1PersistentVolumeClaimList.class, new TypeToken<Watch.Response<V1PersistentVolumeClaim>>() {
+	        }.getType(),
+	        (apiClient, namespace, fieldSelector, resourceVersion, timeoutSeconds, watch) -> new CoreV1Api(apiClient)
+	                .listNamespacedPersistentVolumeClaimCall(namespace, null, null, null, fieldSelector, null, null, resourceVersion,
+	                        timeoutSeconds, watch, null),
+	        V1PersistentVolumeClaimList::getItems, V1PersistentVolumeClaimList::getMetadata, V1PersistentVolumeClaim::getMetadata);
+
 	@Override
 	public V1PersistentVolumeClaim create(ApiClient apiClient, V1PersistentVolumeClaim resource, String namespace)
 			throws HyscaleException {
@@ -172,6 +183,11 @@ public class V1PersistentVolumeClaimHandler implements ResourceLifeCycleHandler<
 		return ResourceKind.PERSISTENT_VOLUME_CLAIM.getKind();
 	}
 
+	@Override
+	public ResourceCacheSource<V1PersistentVolumeClaim, ?> getListWatchSource() {
+		return LIST_WATCH_SOURCE;
+	}
+
 	@Override
 	public boolean cleanUp() {
 		return false;
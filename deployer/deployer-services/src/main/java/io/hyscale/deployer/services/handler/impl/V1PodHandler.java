@@ -39,6 +39,8 @@ import io.hyscale.commons.utils.HyscaleContextUtil;
 import io.hyscale.commons.utils.ResourceSelectorUtil;
 import io.hyscale.deployer.core.model.ResourceKind;
 import io.hyscale.deployer.core.model.ResourceOperation;
+import io.hyscale.deployer.services.cache.ClusterStateCache;
+import io.hyscale.deployer.services.cache.ResourceCacheSource;
 import io.hyscale.deployer.services.config.DeployerEnvConfig;
 import io.hyscale.deployer.services.exception.DeployerErrorCodes;
 import io.hyscale.deployer.services.factory.PodParentFactory;
@@ -50,7 +52,6 @@ import io.hyscale.deployer.services.predicates.PodPredicates;
 import io.hyscale.deployer.services.processor.PodParentProvider;
 import io.hyscale.deployer.services.util.ExceptionHelper;
 import io.hyscale.deployer.services.util.K8sResourcePatchUtil;
-import io.kubernetes.client.PodLogs;
 import io.kubernetes.client.custom.V1Patch;
 import io.kubernetes.client.openapi.ApiClient;
 import io.kubernetes.client.openapi.ApiException;
@@ -68,6 +69,14 @@ import okhttp3.Response;
 public class V1PodHandler implements ResourceLifeCycleHandler<V1Pod> {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(V1PodHandler.class);
+
+    private static final ResourceCacheSource<V1Pod, V1PodList> LIST_WATCH_SOURCE = new ResourceCacheSource<>(
+            ResourceKind.POD.getKind(), V1PodList.class, new TypeToken<Watch.Response<V1Pod>>() {
+            }.getType(),
+            (apiClient, namespace, fieldSelector, resourceVersion, timeoutSeconds, watch) -> new CoreV1Api(apiClient)
+                    .listNamespacedPodCall(namespace, null, null, null, fieldSelector, null, null, resourceVersion,
+                            timeoutSeconds, watch, null),
+            V1PodList::getItems, V1PodList::getMetadata, V1Pod::getMetadata);
     private static final long MAX_TIME_TO_CONTAINER_READY = 120 * 1000;
     private static final long POD_RESTART_COUNT = DeployerEnvConfig.getPodRestartCount();
     private static final Integer POD_WATCH_TIMEOUT_IN_SEC = 10;
@@ -144,6 +153,12 @@ public class V1PodHandler implements ResourceLifeCycleHandler<V1Pod> {
     @Override
     public List<V1Pod> getBySelector(ApiClient apiClient, String selector, boolean label, String namespace)
             throws HyscaleException {
+        if (label && ClusterStateCache.isActive()) {
+            List<V1Pod> cached = ClusterStateCache.getBySelector(apiClient, LIST_WATCH_SOURCE, selector, namespace);
+            if (cached != null) {
+                return cached;
+            }
+        }
         CoreV1Api coreV1Api = new CoreV1Api(apiClient);
         String labelSelector = label ? selector : null;
         String fieldSelector = label ? null : selector;
@@ -273,6 +288,11 @@ public class V1PodHandler implements ResourceLifeCycleHandler<V1Pod> {
         return ResourceKind.POD.getKind();
     }
 
+    @Override
+    public ResourceCacheSource<V1Pod, ?> getListWatchSource() {
+        return LIST_WATCH_SOURCE;
+    }
+
     public InputStream tailLogs(ApiClient apiClient, String name, String namespace, Integer readLines)
             throws HyscaleException {
         return tailLogs(apiClient, name, namespace, null, name, readLines);
@@ -288,21 +308,27 @@ public class V1PodHandler implements ResourceLifeCycleHandler<V1Pod> {
             }
             podName = v1Pods.get(0).getMetadata().getName();
         }
-        OkHttpClient existingHttpClient = apiClient.getHttpClient();
         try {
-            // Update timeout
-            apiClient.setHttpClient(getUpdatedHttpClient(existingHttpClient));
-            PodLogs logs = new PodLogs(apiClient);
-            return logs.streamNamespacedPodLog(namespace, podName, containerName, null, readLines,
-                    true);
+            // Shared api client is not modified, log stream runs on its own http client with longer timeout
+            CoreV1Api coreV1Api = new CoreV1Api(apiClient);
+            Call call = coreV1Api.readNamespacedPodLogCall(podName, namespace, containerName, Boolean.TRUE, null,
+                    null, Boolean.FALSE, null, readLines, Boolean.TRUE, null);
+            Response response = getUpdatedHttpClient(apiClient.getHttpClient()).newCall(call.request()).execute();
+            if (!response.isSuccessful()) {
+                int code = response.code();
+                response.close();
+                throw new ApiException(code, "Logs request failed: " + code);
+            }
+            return response.body().byteStream();
         } catch (IOException | ApiException e) {
             LOGGER.error("Failed to tail Pod logs for service {} in namespace {} ", serviceName, namespace);
             throw new HyscaleException(DeployerErrorCodes.FAILED_TO_TAIL_POD, serviceName, namespace);
-        } finally {
-            apiClient.setHttpClient(existingHttpClient);
         }
     }
 
+    /**
+     * @return http client for the call, the existing client is left unchanged
+     */
     private OkHttpClient getUpdatedHttpClient(OkHttpClient existingHttpClient) {
         Builder newClientBuilder = existingHttpClient.newBuilder()
                 .readTimeout(120, TimeUnit.MINUTES);
@@ -345,27 +371,19 @@ public class V1PodHandler implements ResourceLifeCycleHandler<V1Pod> {
 
     // Integrate this check to K8sUtil
     private void waitForContainerCreation(ApiClient apiClient, V1Pod v1Pod, String name, String namespace) {
-        long startTime = System.currentTimeMillis();
         boolean containerReady = false;
         WorkflowLogger.startActivity(DeployerActivity.WAITING_FOR_CONTAINER_CREATION);
-        while (!containerReady && System.currentTimeMillis() - startTime < MAX_TIME_TO_CONTAINER_READY) {
-            WorkflowLogger.continueActivity();
-            try {
-                v1Pod = get(apiClient, v1Pod.getMetadata().getName(), namespace);
-                List<V1ContainerStatus> containerStatuses = v1Pod.getStatus().getContainerStatuses();
-                if (containerStatuses != null && !containerStatuses.isEmpty()) {
-                    V1ContainerStatus v1ContainerStatus = v1Pod.getStatus().getContainerStatuses().stream()
-                            .filter(each -> {
-                                return each.getName().equals(name);
-                            }).findFirst().get();
-                    containerReady = v1ContainerStatus.getReady();
-                    // TODO Check if container is in error state and exit fast
+        try {
+            containerReady = waitFor(apiClient, v1Pod.getMetadata().getName(), namespace, pod -> {
+                if (pod == null || pod.getStatus() == null || pod.getStatus().getContainerStatuses() == null) {
+                    return false;
                 }
-                Thread.sleep(5 * 1000);
-            } catch (InterruptedException e) {
-            } catch (HyscaleException ex) {
-
-            }
+                // TODO Check if container is in error state and exit fast
+                return pod.getStatus().getContainerStatuses().stream()
+                        .anyMatch(each -> name.equals(each.getName()) && Boolean.TRUE.equals(each.getReady()));
+            }, MAX_TIME_TO_CONTAINER_READY, null);
+        } catch (HyscaleException ex) {
+            LOGGER.debug("Error while waiting for container {} creation, error {}", name, ex.toString());
         }
 
         if (containerReady) {
@@ -422,14 +440,7 @@ public class V1PodHandler implements ResourceLifeCycleHandler<V1Pod> {
         if (latestPodSelector == null) {
             throw new HyscaleException(DeployerErrorCodes.FAILED_TO_RETRIEVE_SERVICE_REPLICAS);
         }
-        OkHttpClient previousHttpClient = apiClient.getHttpClient();
-        OkHttpClient newHttpClient = getUpdatedHttpClient(previousHttpClient);
-        apiClient.setHttpClient(newHttpClient);
-        try {
-            watchPods(apiClient, namespace, latestPodSelector, replicas);
-        } finally {
-            apiClient.setHttpClient(previousHttpClient);
-        }
+        watchPods(apiClient, namespace, latestPodSelector, replicas);
     }
     
     private void watchPods(ApiClient apiClient, String namespace, String latestPodSelector, Integer replicas) throws HyscaleException {
@@ -441,6 +452,7 @@ public class V1PodHandler implements ResourceLifeCycleHandler<V1Pod> {
         ActivityContext creationActivityContext = new ActivityContext(DeployerActivity.POD_CREATION);
         ActivityContext readyActivityContext = new ActivityContext(DeployerActivity.POD_READINESS);
         ActivityContext currentActivityContext = initializedActivityContext;
+        OkHttpClient watchHttpClient = getUpdatedHttpClient(apiClient.getHttpClient());
 
         boolean initializationActivityDone = false, creationActivityStarted = false, creationActivityDone = false,
                 readyActivityStarted = false;
@@ -449,7 +461,7 @@ public class V1PodHandler implements ResourceLifeCycleHandler<V1Pod> {
         boolean isTimeout = true;
         while (System.currentTimeMillis() - startTime < replicas * MAX_TIME_TO_CONTAINER_READY) {
             WorkflowLogger.continueActivity(currentActivityContext);
-            try (Watch<V1Pod> watch = getWatch(apiClient, namespace, latestPodSelector)){
+            try (Watch<V1Pod> watch = getWatch(apiClient, watchHttpClient, namespace, latestPodSelector)){
                 for (Watch.Response<V1Pod> item : watch) {
                     WorkflowLogger.continueActivity(currentActivityContext);
                     /*if pod  status is failed then watch will exit*/
@@ -536,13 +548,13 @@ public class V1PodHandler implements ResourceLifeCycleHandler<V1Pod> {
 
     }
     
-    private Watch<V1Pod> getWatch(ApiClient apiClient, String namespace, String latestPodSelector)
-            throws HyscaleException {
+    private Watch<V1Pod> getWatch(ApiClient apiClient, OkHttpClient watchHttpClient, String namespace,
+            String latestPodSelector) throws HyscaleException {
         CoreV1Api api = new CoreV1Api(apiClient);
         try {
-            return Watch.createWatch(
-                    apiClient, api.listNamespacedPodCall(namespace, null, false, null, null, latestPodSelector, null,
-                            null, POD_WATCH_TIMEOUT_IN_SEC, Boolean.TRUE, null),
+            Call call = api.listNamespacedPodCall(namespace, null, false, null, null, latestPodSelector, null, null,
+                    POD_WATCH_TIMEOUT_IN_SEC, Boolean.TRUE, null);
+            return Watch.createWatch(apiClient, watchHttpClient.newCall(call.request()),
                     new TypeToken<Watch.Response<V1Pod>>() {
                     }.getType());
         } catch (ApiException e) {
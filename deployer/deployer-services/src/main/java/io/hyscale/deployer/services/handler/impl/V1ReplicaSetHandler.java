@@ -25,6 +25,8 @@ import io.hyscale.commons.exception.HyscaleException;
 import io.hyscale.commons.models.AnnotationKey;
 import io.hyscale.deployer.core.model.ResourceKind;
 import io.hyscale.deployer.core.model.ResourceOperation;
+import io.hyscale.deployer.services.cache.ClusterStateCache;
+import io.hyscale.deployer.services.cache.ResourceCacheSource;
 import io.hyscale.deployer.services.exception.DeployerErrorCodes;
 import io.hyscale.deployer.services.handler.ResourceLifeCycleHandler;
 import io.hyscale.deployer.services.util.ExceptionHelper;
@@ -33,11 +35,21 @@ import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.apis.AppsV1Api;
 import io.kubernetes.client.openapi.models.V1ReplicaSet;
 import io.kubernetes.client.openapi.models.V1ReplicaSetList;
+import io.kubernetes.client.util.Watch;
+import com.google.gson.reflect.TypeToken;
 
 public class V1ReplicaSetHandler implements ResourceLifeCycleHandler<V1ReplicaSet> {
 
 	private static final Logger logger = LoggerFactory.getLogger(V1ReplicaSetHandler.class);
 
+	private static final ResourceCacheSource<V1ReplicaSet, V1ReplicaSetList> LIST_WATCH_SOURCE = new ResourceCacheSource<>(
+	        ResourceKind.REPLICA_SET.getKind(), V1ReplicaSetList.class, new TypeToken<Watch.Response<V1ReplicaSet>>() {
+	        }.getType(),
+	        (apiClient, namespace, fieldSelector, resourceVersion, timeoutSeconds, watch) -> new AppsV1Api(apiClient)
+	                .listNamespacedReplicaSetCall(namespace, null, null, null, fieldSelector, null, null, resourceVersion,
+	                        timeoutSeconds, watch, null),
+	        V1ReplicaSetList::getItems, V1ReplicaSetList::getMetadata, V1ReplicaSet::getMetadata);
+
 	@Override
 	public V1ReplicaSet create(ApiClient apiClient, V1ReplicaSet resource, String namespace) throws HyscaleException {
 		HyscaleException hyscaleException = new HyscaleException(DeployerErrorCodes.OPERATION_NOT_SUPPORTED,
@@ -65,6 +77,12 @@ public class V1ReplicaSetHandler implements ResourceLifeCycleHandler<V1ReplicaSe
 	@Override
 	public List<V1ReplicaSet> getBySelector(ApiClient apiClient, String selector, boolean label, String namespace)
 			throws HyscaleException {
+		if (label && ClusterStateCache.isActive()) {
+			List<V1ReplicaSet> cached = ClusterStateCache.getBySelector(apiClient, LIST_WATCH_SOURCE, selector, namespace);
+			if (cached != null) {
+				return cached;
+			}
+		}
 	    AppsV1Api appsV1Api = new AppsV1Api(apiClient);
         List<V1ReplicaSet> v1ReplicaSets = null;
         try {
@@ -115,6 +133,11 @@ public class V1ReplicaSetHandler implements ResourceLifeCycleHandler<V1ReplicaSe
 		return ResourceKind.REPLICA_SET.getKind();
 	}
 
+	@Override
+	public ResourceCacheSource<V1ReplicaSet, ?> getListWatchSource() {
+		return LIST_WATCH_SOURCE;
+	}
+
 	@Override
 	public boolean cleanUp() {
 		return false;
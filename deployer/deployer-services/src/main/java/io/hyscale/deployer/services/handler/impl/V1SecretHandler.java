@@ -20,6 +20,7 @@ package io.hyscale.deployer.services.handler.impl;
 
 import java.util.List;
 
+import io.hyscale.deployer.services.cache.ResourceCacheSource;
 import io.hyscale.deployer.services.exception.DeployerErrorCodes;
 import io.hyscale.deployer.services.handler.ResourceLifeCycleHandler;
 import io.hyscale.deployer.services.model.DeployerActivity;
@@ -30,6 +31,7 @@ import org.slf4j.LoggerFactory;
 
 import com.google.common.collect.Lists;
 import com.google.gson.JsonSyntaxException;
+import com.google.gson.reflect.TypeToken;
 
 import io.hyscale.commons.exception.HyscaleException;
 import io.hyscale.commons.logger.ActivityContext;
@@ -45,12 +47,24 @@ import io.kubernetes.client.openapi.models.V1DeleteOptions;
 import io.kubernetes.client.openapi.models.V1Secret;
 import io.kubernetes.client.openapi.models.V1SecretList;
 import io.kubernetes.client.custom.V1Patch;
+import io.hyscale.deployer.services.constants.DeployerConstants;
+import io.hyscale.deployer.services.model.ResourceUpdatePolicy;
+import io.kubernetes.client.util.PatchUtils;
+import io.kubernetes.client.util.Watch;
 
 // TODO Integrate logging with AOP
 public class V1SecretHandler implements ResourceLifeCycleHandler<V1Secret> {
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(V1SecretHandler.class);
 
+	private static final ResourceCacheSource<V1Secret, V1SecretList> LIST_WATCH_SOURCE = new ResourceCacheSource<>(
+	        ResourceKind.SECRET.getKind(), V1SecretList.class, new TypeToken<Watch.Response<V1Secret>>() {
+	        }.getType(),
+	        (apiClient, namespace, fieldSelector, resourceVersion, timeoutSeconds, watch) -> new CoreV1Api(apiClient)
+	                .listNamespacedSecretCall(namespace, null, null, null, fieldSelector, null, null, resourceVersion,
+	                        timeoutSeconds, watch, null),
+	        V1SecretList::getItems, V1SecretList::getMetadata, V1Secret::getMetadata);
+
 	@Override
 	public V1Secret create(ApiClient apiClient, V1Secret resource, String namespace) throws HyscaleException {
 		if (resource == null) {
@@ -185,6 +199,51 @@ public class V1SecretHandler implements ResourceLifeCycleHandler<V1Secret> {
 		return true;
 	}
 
+	/**
+	 * Server side apply target, no prior fetch or client side diff is required
+	 */
+	@Override
+	public boolean apply(ApiClient apiClient, String name, String namespace, V1Secret target) throws HyscaleException {
+		if (target == null) {
+			LOGGER.debug("Cannot apply null Secret");
+			return false;
+		}
+		CoreV1Api coreV1Api = new CoreV1Api(apiClient);
+		target.getMetadata().putAnnotationsItem(AnnotationKey.K8S_HYSCALE_LAST_APPLIED_CONFIGURATION.getAnnotation(),
+				gson.toJson(target));
+		WorkflowLogger.startActivity(DeployerActivity.DEPLOYING_SECRETS);
+		try {
+			V1Patch v1Patch = K8sResourcePatchUtil.getApplyPatch(apiClient, target);
+			PatchUtils.patch(V1Secret.class, () -> coreV1Api.patchNamespacedSecretCall(name, namespace, v1Patch, TRUE, null,
+					DeployerConstants.FIELD_MANAGER, true, null), V1Patch.PATCH_FORMAT_APPLY_YAML, apiClient);
+		} catch (ApiException e) {
+			HyscaleException ex = new HyscaleException(e, DeployerErrorCodes.FAILED_TO_PATCH_RESOURCE,
+					ExceptionHelper.getExceptionMessage(getKind(), e, ResourceOperation.APPLY));
+			LOGGER.error("Error while applying Secret {} in namespace {} , error {}", name, namespace, ex.toString());
+			WorkflowLogger.endActivity(Status.FAILED);
+			throw ex;
+		}
+		WorkflowLogger.endActivity(Status.DONE);
+		return true;
+	}
+
+	@Override
+	public boolean patchMetadata(ApiClient apiClient, String name, String namespace, V1Patch metadataPatch)
+			throws HyscaleException {
+		CoreV1Api coreV1Api = new CoreV1Api(apiClient);
+		try {
+			PatchUtils.patch(V1Secret.class, () -> coreV1Api.patchNamespacedSecretCall(name, namespace, metadataPatch,
+					TRUE, null, DeployerConstants.FIELD_MANAGER, null, null), V1Patch.PATCH_FORMAT_JSON_PATCH, apiClient);
+		} catch (ApiException e) {
+			HyscaleException ex = new HyscaleException(e, DeployerErrorCodes.FAILED_TO_PATCH_RESOURCE,
+					ExceptionHelper.getExceptionMessage(getKind(), e, ResourceOperation.PATCH));
+			LOGGER.error("Error while patching metadata of Secret {} in namespace {} , error {}", name,
+					namespace, ex.toString());
+			throw ex;
+		}
+		return true;
+	}
+
 	@Override
 	public boolean delete(ApiClient apiClient, String name, String namespace, boolean wait) throws HyscaleException {
 		CoreV1Api coreV1Api = new CoreV1Api(apiClient);
@@ -244,6 +303,11 @@ public class V1SecretHandler implements ResourceLifeCycleHandler<V1Secret> {
 		return ResourceKind.SECRET.getKind();
 	}
 
+	@Override
+	public ResourceCacheSource<V1Secret, ?> getListWatchSource() {
+		return LIST_WATCH_SOURCE;
+	}
+
 	@Override
 	public boolean cleanUp() {
 		return true;
@@ -254,4 +318,8 @@ public class V1SecretHandler implements ResourceLifeCycleHandler<V1Secret> {
 	    return ResourceKind.SECRET.getWeight();
 	}
 
+	@Override
+	public ResourceUpdatePolicy getUpdatePolicy() {
+		return ResourceUpdatePolicy.SERVER_SIDE_APPLY;
+	}
 }
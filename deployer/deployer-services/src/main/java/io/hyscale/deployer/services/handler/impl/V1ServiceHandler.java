@@ -17,12 +17,15 @@ package io.hyscale.deployer.services.handler.impl;
 
 import java.util.List;
 
+import io.hyscale.deployer.services.cache.ClusterStateCache;
+import io.hyscale.deployer.services.cache.ResourceCacheSource;
 import io.hyscale.deployer.services.config.DeployerEnvConfig;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.google.common.collect.Lists;
 import com.google.gson.JsonSyntaxException;
+import com.google.gson.reflect.TypeToken;
 
 import io.hyscale.commons.exception.HyscaleException;
 import io.hyscale.commons.logger.ActivityContext;
@@ -46,11 +49,23 @@ import io.kubernetes.client.openapi.models.V1LoadBalancerIngress;
 import io.kubernetes.client.openapi.models.V1Service;
 import io.kubernetes.client.openapi.models.V1ServiceList;
 import io.kubernetes.client.custom.V1Patch;
+import io.hyscale.deployer.services.constants.DeployerConstants;
+import io.hyscale.deployer.services.model.ResourceUpdatePolicy;
+import io.kubernetes.client.util.PatchUtils;
+import io.kubernetes.client.util.Watch;
 
 public class V1ServiceHandler implements ResourceLifeCycleHandler<V1Service> {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(V1ServiceHandler.class);
 
+    private static final ResourceCacheSource<V1Service, V1ServiceList> LIST_WATCH_SOURCE = new ResourceCacheSource<>(
+            ResourceKind.SERVICE.getKind(), V1ServiceList.class, new TypeToken<Watch.Response<V1Service>>() {
+            }.getType(),
+            (apiClient, namespace, fieldSelector, resourceVersion, timeoutSeconds, watch) -> new CoreV1Api(apiClient)
+                    .listNamespacedServiceCall(namespace, null, null, null, fieldSelector, null, null, resourceVersion,
+                            timeoutSeconds, watch, null),
+            V1ServiceList::getItems, V1ServiceList::getMetadata, V1Service::getMetadata);
+
     private static final long LB_READY_STATE_TIME = DeployerEnvConfig.getLBReadyTimeout();
     private static final long MAX_LB_WAIT_TIME = 2000;
 
@@ -132,6 +147,12 @@ public class V1ServiceHandler implements ResourceLifeCycleHandler<V1Service> {
     @Override
     public List<V1Service> getBySelector(ApiClient apiClient, String selector, boolean label, String namespace)
             throws HyscaleException {
+        if (label && ClusterStateCache.isActive()) {
+            List<V1Service> cached = ClusterStateCache.getBySelector(apiClient, LIST_WATCH_SOURCE, selector, namespace);
+            if (cached != null) {
+                return cached;
+            }
+        }
         CoreV1Api coreV1Api = new CoreV1Api(apiClient);
         List<V1Service> v1Services = null;
         try {
@@ -191,6 +212,51 @@ public class V1ServiceHandler implements ResourceLifeCycleHandler<V1Service> {
         return true;
     }
 
+    /**
+     * Server side apply target, no prior fetch or client side diff is required
+     */
+    @Override
+    public boolean apply(ApiClient apiClient, String name, String namespace, V1Service target) throws HyscaleException {
+        if (target == null) {
+            LOGGER.debug("Cannot apply null Service");
+            return false;
+        }
+        CoreV1Api coreV1Api = new CoreV1Api(apiClient);
+        target.getMetadata().putAnnotationsItem(AnnotationKey.K8S_HYSCALE_LAST_APPLIED_CONFIGURATION.getAnnotation(),
+                gson.toJson(target));
+        WorkflowLogger.startActivity(DeployerActivity.DEPLOYING_SERVICE);
+        try {
+            V1Patch v1Patch = K8sResourcePatchUtil.getApplyPatch(apiClient, target);
+            PatchUtils.patch(V1Service.class, () -> coreV1Api.patchNamespacedServiceCall(name, namespace, v1Patch, TRUE, null,
+                    DeployerConstants.FIELD_MANAGER, true, null), V1Patch.PATCH_FORMAT_APPLY_YAML, apiClient);
+        } catch (ApiException e) {
+            HyscaleException ex = new HyscaleException(e, DeployerErrorCodes.FAILED_TO_PATCH_RESOURCE,
+                    ExceptionHelper.getExceptionMessage(getKind(), e, ResourceOperation.APPLY));
+            LOGGER.error("Error while applying Service {} in namespace {} , error {}", name, namespace, ex.toString());
+            WorkflowLogger.endActivity(Status.FAILED);
+            throw ex;
+        }
+        WorkflowLogger.endActivity(Status.DONE);
+        return true;
+    }
+
+    @Override
+    public boolean patchMetadata(ApiClient apiClient, String name, String namespace, V1Patch metadataPatch)
+            throws HyscaleException {
+        CoreV1Api coreV1Api = new CoreV1Api(apiClient);
+        try {
+            PatchUtils.patch(V1Service.class, () -> coreV1Api.patchNamespacedServiceCall(name, namespace, metadataPatch,
+                    TRUE, null, DeployerConstants.FIELD_MANAGER, null, null), V1Patch.PATCH_FORMAT_JSON_PATCH, apiClient);
+        } catch (ApiException e) {
+            HyscaleException ex = new HyscaleException(e, DeployerErrorCodes.FAILED_TO_PATCH_RESOURCE,
+                    ExceptionHelper.getExceptionMessage(getKind(), e, ResourceOperation.PATCH));
+            LOGGER.error("Error while patching metadata of Service {} in namespace {} , error {}", name,
+                    namespace, ex.toString());
+            throw ex;
+        }
+        return true;
+    }
+
     @Override
     public boolean delete(ApiClient apiClient, String name, String namespace, boolean wait) throws HyscaleException {
         CoreV1Api coreV1Api = new CoreV1Api(apiClient);
@@ -243,6 +309,11 @@ public class V1ServiceHandler implements ResourceLifeCycleHandler<V1Service> {
         return ResourceKind.SERVICE.getKind();
     }
 
+    @Override
+    public ResourceCacheSource<V1Service, ?> getListWatchSource() {
+        return LIST_WATCH_SOURCE;
+    }
+
     @Override
     public boolean cleanUp() {
         return true;
@@ -308,4 +379,8 @@ public class V1ServiceHandler implements ResourceLifeCycleHandler<V1Service> {
 
     }
 
+    @Override
+    public ResourceUpdatePolicy getUpdatePolicy() {
+        return ResourceUpdatePolicy.SERVER_SIDE_APPLY;
+    }
 }
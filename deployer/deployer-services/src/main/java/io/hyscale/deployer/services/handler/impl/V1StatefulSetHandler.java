@@ -26,6 +26,7 @@ import org.slf4j.LoggerFactory;
 
 import com.google.common.collect.Lists;
 import com.google.gson.JsonSyntaxException;
+import com.google.gson.reflect.TypeToken;
 
 import io.hyscale.commons.constants.K8SRuntimeConstants;
 import io.hyscale.commons.exception.HyscaleException;
@@ -39,6 +40,9 @@ import io.hyscale.commons.utils.ResourceSelectorUtil;
 import io.hyscale.deployer.core.model.DeploymentStatus;
 import io.hyscale.deployer.core.model.ResourceKind;
 import io.hyscale.deployer.core.model.ResourceOperation;
+import io.hyscale.deployer.services.cache.ClusterStateCache;
+import io.hyscale.deployer.services.cache.ResourceCacheSource;
+import io.hyscale.deployer.services.constants.DeployerConstants;
 import io.hyscale.deployer.services.exception.DeployerErrorCodes;
 import io.hyscale.deployer.services.handler.PodParentHandler;
 import io.hyscale.deployer.services.handler.ResourceHandlers;
@@ -53,6 +57,9 @@ import io.kubernetes.client.custom.V1Patch;
 import io.kubernetes.client.openapi.ApiClient;
 import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.apis.AppsV1Api;
+import io.kubernetes.client.util.PatchUtils;
+import io.kubernetes.client.util.Watch;
+import okhttp3.Call;
 
 /**
  * @author tushart
@@ -61,6 +68,14 @@ import io.kubernetes.client.openapi.apis.AppsV1Api;
 public class V1StatefulSetHandler extends PodParentHandler<V1StatefulSet> implements ResourceLifeCycleHandler<V1StatefulSet> {
     private static final Logger LOGGER = LoggerFactory.getLogger(V1StatefulSetHandler.class);
 
+    private static final ResourceCacheSource<V1StatefulSet, V1StatefulSetList> LIST_WATCH_SOURCE = new ResourceCacheSource<>(
+            ResourceKind.STATEFUL_SET.getKind(), V1StatefulSetList.class, new TypeToken<Watch.Response<V1StatefulSet>>() {
+            }.getType(),
+            (apiClient, namespace, fieldSelector, resourceVersion, timeoutSeconds, watch) -> new AppsV1Api(apiClient)
+                    .listNamespacedStatefulSetCall(namespace, null, null, null, fieldSelector, null, null, resourceVersion,
+                            timeoutSeconds, watch, null),
+            V1StatefulSetList::getItems, V1StatefulSetList::getMetadata, V1StatefulSet::getMetadata);
+
     @Override
     public V1StatefulSet create(ApiClient apiClient, V1StatefulSet resource, String namespace) throws HyscaleException {
         if (resource == null) {
@@ -139,6 +154,12 @@ public class V1StatefulSetHandler extends PodParentHandler<V1StatefulSet> implem
 
     @Override
     public List<V1StatefulSet> getBySelector(ApiClient apiClient, String selector, boolean label, String namespace) throws HyscaleException {
+        if (label && ClusterStateCache.isActive()) {
+            List<V1StatefulSet> cached = ClusterStateCache.getBySelector(apiClient, LIST_WATCH_SOURCE, selector, namespace);
+            if (cached != null) {
+                return cached;
+            }
+        }
         AppsV1Api appsV1Api = new AppsV1Api(apiClient);
         String labelSelector = label ? selector : null;
         String fieldSelector = label ? null : selector;
@@ -176,6 +197,13 @@ public class V1StatefulSetHandler extends PodParentHandler<V1StatefulSet> implem
         return statefulSets;
     }
 
+    @Override
+    protected Call listForAllNamespacesCall(ApiClient apiClient, String labelSelector, String continueToken,
+            Integer limit) throws ApiException {
+        return new AppsV1Api(apiClient).listStatefulSetForAllNamespacesCall(null, continueToken, null, labelSelector, limit, TRUE,
+                null, null, null, null);
+    }
+
     @Override
     public boolean patch(ApiClient apiClient, String name, String namespace, V1StatefulSet target) throws HyscaleException {
         if (target == null) {
@@ -228,6 +256,23 @@ public class V1StatefulSetHandler extends PodParentHandler<V1StatefulSet> implem
         return true;
     }
 
+    @Override
+    public boolean patchMetadata(ApiClient apiClient, String name, String namespace, V1Patch metadataPatch)
+            throws HyscaleException {
+        AppsV1Api appsV1Api = new AppsV1Api(apiClient);
+        try {
+            PatchUtils.patch(V1StatefulSet.class, () -> appsV1Api.patchNamespacedStatefulSetCall(name, namespace, metadataPatch,
+                    TRUE, null, DeployerConstants.FIELD_MANAGER, null, null), V1Patch.PATCH_FORMAT_JSON_PATCH, apiClient);
+        } catch (ApiException e) {
+            HyscaleException ex = new HyscaleException(e, DeployerErrorCodes.FAILED_TO_PATCH_RESOURCE,
+                    ExceptionHelper.getExceptionMessage(getKind(), e, ResourceOperation.PATCH));
+            LOGGER.error("Error while patching metadata of StatefulSet {} in namespace {} , error {}", name,
+                    namespace, ex.toString());
+            throw ex;
+        }
+        return true;
+    }
+
     @Override
     public boolean delete(ApiClient apiClient, String name, String namespace, boolean wait) throws HyscaleException {
         AppsV1Api appsV1Api = new AppsV1Api(apiClient);
@@ -288,6 +333,11 @@ public class V1StatefulSetHandler extends PodParentHandler<V1StatefulSet> implem
         return ResourceKind.STATEFUL_SET.getKind();
     }
 
+    @Override
+    public ResourceCacheSource<V1StatefulSet, ?> getListWatchSource() {
+        return LIST_WATCH_SOURCE;
+    }
+
     @Override
     public boolean cleanUp() {
         return true;
@@ -504,33 +554,18 @@ public class V1StatefulSetHandler extends PodParentHandler<V1StatefulSet> implem
     }
 
     private boolean waitForDesiredState(ApiClient apiClient, String name, String namespace,ActivityContext activityContext) throws HyscaleException {
-        Long startTime = System.currentTimeMillis();
-        boolean stable = false;
-        int rotateThreshold = 5;
-        int sleep = 3;
         try {
-            int rotations = 0;
-            while (System.currentTimeMillis() - startTime < MAX_WAIT_TIME_IN_MILLISECONDS) {
-                V1StatefulSet updatedStatefulset = null;
-                updatedStatefulset = get(apiClient, name, namespace);
-                logger.debug("Patched Statefulset status :{} ", updatedStatefulset.getStatus());
-                if (status(updatedStatefulset) == ResourceStatus.STABLE) {
-                    stable = true;
-                    break;
+            return waitFor(apiClient, name, namespace, each -> {
+                if (each == null) {
+                    return false;
                 }
-                WorkflowLogger.continueActivity(activityContext);
-                if (rotateThreshold == rotations) {
-                    sleep++;
-                    rotations = 0;
-                }
-                Thread.currentThread().sleep(sleep * 1000);
-            }
-        } catch (InterruptedException e) {
-            logger.error("Sleep Thread interrupted ", e);
+                logger.debug("Patched statefulset status :{} ", each.getStatus());
+                return status(each) == ResourceStatus.STABLE;
+            }, MAX_WAIT_TIME_IN_MILLISECONDS, activityContext);
         } catch (HyscaleException ex){
             logger.error("Error while fetching statefulset {}", ex.getHyscaleError(), ex);
         }
-        return stable;
+        return false;
     }
 
 }
@@ -0,0 +1,87 @@
+/**
+ * Copyright 2019 Pramati Prism, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.hyscale.deployer.services.model;
+
+/**
+ * Snapshot of {@link io.hyscale.deployer.services.client.K8sClientRegistry} usage
+ * hits - client served from registry
+ * misses - client created by registry
+ * connectionCount, idleConnectionCount - state of shared connection pool
+ */
+public class ClientRegistryStats {
+
+    private int registeredClients;
+    private long hits;
+    private long misses;
+    private long invalidations;
+    private int connectionCount;
+    private int idleConnectionCount;
+
+    public int getRegisteredClients() {
+        return registeredClients;
+    }
+
+    public void setRegisteredClients(int registeredClients) {
+        this.registeredClients = registeredClients;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public void setHits(long hits) {
+        this.hits = hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public void setMisses(long misses) {
+        this.misses = misses;
+    }
+
+    public long getInvalidations() {
+        return invalidations;
+    }
+
+    public void setInvalidations(long invalidations) {
+        this.invalidations = invalidations;
+    }
+
+    public int getConnectionCount() {
+        return connectionCount;
+    }
+
+    public void setConnectionCount(int connectionCount) {
+        this.connectionCount = connectionCount;
+    }
+
+    public int getIdleConnectionCount() {
+        return idleConnectionCount;
+    }
+
+    public void setIdleConnectionCount(int idleConnectionCount) {
+        this.idleConnectionCount = idleConnectionCount;
+    }
+
+    @Override
+    public String toString() {
+        return "ClientRegistryStats [registeredClients=" + registeredClients + ", hits=" + hits + ", misses=" + misses
+                + ", invalidations=" + invalidations + ", connectionCount=" + connectionCount
+                + ", idleConnectionCount=" + idleConnectionCount + "]";
+    }
+}
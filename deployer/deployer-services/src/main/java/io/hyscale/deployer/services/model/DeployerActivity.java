@@ -51,7 +51,9 @@ public enum DeployerActivity implements Activity {
 	SERVICE_WITH_ZERO_REPLICAS("Service has zero replicas"),
 	SCALING_SERVICE("Scaling service "),
 	SCALE_DOWN_VOLUME("The scale operation would leave stale replica volumes [{}] in your namespace {} and are meant for review and manual deletion. If not deleted, when you scale up the service the same volumes are reattached to the new replicas"),
-	DESIRED_STATE("Service is already with desired state of replicas {} ");
+	DESIRED_STATE("Service is already with desired state of replicas {} "),
+	RESOURCES_APPLIED("Applied {} resources, skipped {} unchanged resources "),
+	SERVICE_UNCHANGED("Service is unchanged and its replicas are ready, skipping wait for deployment ");
 
 	private String message;
 
@@ -0,0 +1,64 @@
+/**
+ * Copyright 2019 Pramati Prism, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.hyscale.deployer.services.model;
+
+import java.util.List;
+
+import io.kubernetes.client.openapi.models.V1ListMeta;
+
+/**
+ * Page of metadata only resources, meta.k8s.io/v1 PartialObjectMetadataList
+ * List metadata carries the continue token for the next page
+ */
+public class PartialObjectMetadataList {
+
+    private String apiVersion;
+    private String kind;
+    private V1ListMeta metadata;
+    private List<PartialObjectMetadata> items;
+
+    public String getApiVersion() {
+        return apiVersion;
+    }
+
+    public void setApiVersion(String apiVersion) {
+        this.apiVersion = apiVersion;
+    }
+
+    public String getKind() {
+        return kind;
+    }
+
+    public void setKind(String kind) {
+        this.kind = kind;
+    }
+
+    public V1ListMeta getMetadata() {
+        return metadata;
+    }
+
+    public void setMetadata(V1ListMeta metadata) {
+        this.metadata = metadata;
+    }
+
+    public List<PartialObjectMetadata> getItems() {
+        return items;
+    }
+
+    public void setItems(List<PartialObjectMetadata> items) {
+        this.items = items;
+    }
+}
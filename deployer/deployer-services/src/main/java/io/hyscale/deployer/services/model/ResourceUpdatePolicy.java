@@ -17,10 +17,12 @@ package io.hyscale.deployer.services.model;
 
 /**
  * Defines update policies for resource update on cluster
+ * SERVER_SIDE_APPLY sends the complete resource as an apply patch,
+ * cluster merges it with the live object
  *
  */
 public enum ResourceUpdatePolicy {
 
-	DELETE_AND_CREATE, UPDATE, PATCH;
+	DELETE_AND_CREATE, UPDATE, PATCH, SERVER_SIDE_APPLY;
 
 }
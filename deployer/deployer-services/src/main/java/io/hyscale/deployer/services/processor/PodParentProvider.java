@@ -17,15 +17,23 @@ package io.hyscale.deployer.services.processor;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+import org.apache.commons.lang3.StringUtils;
 
 import org.springframework.stereotype.Component;
 
 import io.hyscale.commons.exception.HyscaleException;
 import io.hyscale.commons.utils.ResourceSelectorUtil;
+import io.hyscale.deployer.services.constants.DeployerConstants;
 import io.hyscale.deployer.services.factory.PodParentFactory;
 import io.hyscale.deployer.services.handler.PodParentHandler;
+import io.hyscale.deployer.services.model.PartialObjectMetadata;
+import io.hyscale.deployer.services.model.PartialObjectMetadataList;
 import io.hyscale.deployer.services.model.PodParent;
 import io.kubernetes.client.openapi.ApiClient;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
 
 @Component
 public class PodParentProvider {
@@ -113,4 +121,33 @@ public class PodParentProvider {
         }
         return podParentList;
     }
+
+    /**
+     * Pages through metadata of all {@link PodParent} in the cluster matching selector,
+     * each page is handed to the consumer before the next one is fetched
+     * 
+     * @param apiClient
+     * @param labelSelector
+     * @param consumer of pod parent metadata
+     * @throws HyscaleException
+     */
+    public void forEachPodParentMetadata(ApiClient apiClient, String labelSelector, Consumer<V1ObjectMeta> consumer)
+            throws HyscaleException {
+        List<PodParentHandler> podParentHandlerList = PodParentFactory.getAllHandlers();
+        for (PodParentHandler podParentHandler : podParentHandlerList) {
+            String continueToken = null;
+            do {
+                PartialObjectMetadataList metadataList = podParentHandler.listMetadataForAllNamespaces(apiClient,
+                        labelSelector, continueToken, DeployerConstants.LIST_PAGE_LIMIT);
+                if (metadataList == null) {
+                    break;
+                }
+                if (metadataList.getItems() != null) {
+                    metadataList.getItems().stream().map(PartialObjectMetadata::getMetadata)
+                            .filter(Objects::nonNull).forEach(consumer);
+                }
+                continueToken = metadataList.getMetadata() != null ? metadataList.getMetadata().getContinue() : null;
+            } while (StringUtils.isNotBlank(continueToken));
+        }
+    }
 }
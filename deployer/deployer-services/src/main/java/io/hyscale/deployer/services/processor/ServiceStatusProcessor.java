@@ -15,8 +15,10 @@
  */
 package io.hyscale.deployer.services.processor;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
@@ -28,21 +30,30 @@ import io.hyscale.commons.exception.HyscaleException;
 import io.hyscale.commons.models.AuthConfig;
 import io.hyscale.commons.models.DeploymentContext;
 import io.hyscale.commons.models.K8sAuthorisation;
+import io.hyscale.commons.utils.ResourceLabelUtil;
+import io.hyscale.commons.utils.ResourceSelectorUtil;
 import io.hyscale.deployer.core.model.DeploymentStatus;
+import io.hyscale.deployer.core.model.ResourceKind;
 import io.hyscale.deployer.services.deployer.Deployer;
 import io.hyscale.deployer.services.exception.DeployerErrorCodes;
 import io.hyscale.deployer.services.factory.PodParentFactory;
 import io.hyscale.deployer.services.handler.PodParentHandler;
+import io.hyscale.deployer.services.handler.ResourceHandlers;
+import io.hyscale.deployer.services.handler.impl.V1ServiceHandler;
 import io.hyscale.deployer.services.model.PodParent;
 import io.hyscale.deployer.services.model.ServiceAddress;
 import io.hyscale.deployer.services.provider.K8sClientProvider;
 import io.hyscale.deployer.services.util.DeploymentStatusUtil;
+import io.hyscale.deployer.services.util.K8sServiceUtil;
 import io.kubernetes.client.openapi.ApiClient;
+import io.kubernetes.client.openapi.models.V1Service;
 
 @Component
 public class ServiceStatusProcessor {
     private static final Logger logger = LoggerFactory.getLogger(ServiceStatusProcessor.class);
 
+    private static final String SERVICE_ADDRESS_FAILURE = "Failed to get service address, try again";
+
     @Autowired
     private K8sClientProvider clientProvider;
 
@@ -77,8 +88,9 @@ public class ServiceStatusProcessor {
     public List<DeploymentStatus> getDeploymentStatus(AuthConfig authConfig, String appname, String namespace)
             throws HyscaleException {
         List<PodParent> podParentList = null;
+        ApiClient apiClient = null;
         try {
-            ApiClient apiClient = clientProvider.get((K8sAuthorisation) authConfig);
+            apiClient = clientProvider.get((K8sAuthorisation) authConfig);
             podParentList = podParentProvider.getPodParents(apiClient, appname, namespace);
         } catch (HyscaleException e) {
             logger.error("Error while fetching status {} ", e);
@@ -88,12 +100,64 @@ public class ServiceStatusProcessor {
         if (podParentList == null || podParentList.isEmpty()) {
             return null;
         }
-        List<DeploymentStatus> deploymentStatusList = podParentList.stream().map(each -> {
-            PodParentHandler podParentHandler = PodParentFactory.getHandler(each.getKind());
-            return podParentHandler.buildStatus(each.getParent());
-        }).collect(Collectors.toList());
-        return deploymentStatusList.stream().map(each -> updateServiceAddress(each, authConfig, appname, namespace))
-                .collect(Collectors.toList());
+        // Services are listed once for the app, statuses are built from the fetched resources
+        Map<String, V1Service> serviceMap = getServiceMap(apiClient, appname, namespace);
+        List<DeploymentStatus> deploymentStatusList = new ArrayList<>();
+        for (PodParent podParent : podParentList) {
+            DeploymentStatus deploymentStatus = buildStatus(podParent, serviceMap);
+            if (deploymentStatus != null) {
+                deploymentStatusList.add(deploymentStatus);
+            }
+        }
+        return deploymentStatusList;
+    }
+
+    /**
+     * Lists all services of the app at once
+     * @param apiClient
+     * @param appName
+     * @param namespace
+     * @return service name to {@link V1Service}, null if services could not be fetched
+     */
+    private Map<String, V1Service> getServiceMap(ApiClient apiClient, String appName, String namespace) {
+        V1ServiceHandler v1ServiceHandler = (V1ServiceHandler) ResourceHandlers
+                .getHandlerOf(ResourceKind.SERVICE.getKind());
+        List<V1Service> serviceList = null;
+        try {
+            serviceList = v1ServiceHandler.getBySelector(apiClient, ResourceSelectorUtil.getSelector(appName), true,
+                    namespace);
+        } catch (HyscaleException e) {
+            logger.debug("Failed to get services of app {}, error {} ", appName, e.getHyscaleError());
+            return null;
+        }
+        Map<String, V1Service> serviceMap = new HashMap<>();
+        if (serviceList == null) {
+            return serviceMap;
+        }
+        serviceList.stream().filter(each -> each.getMetadata() != null).forEach(each -> {
+            String serviceName = ResourceLabelUtil.getServiceName(each.getMetadata().getLabels());
+            if (StringUtils.isNotBlank(serviceName)) {
+                serviceMap.putIfAbsent(serviceName, each);
+            }
+        });
+        return serviceMap;
+    }
+
+    private DeploymentStatus buildStatus(PodParent podParent, Map<String, V1Service> serviceMap) {
+        PodParentHandler podParentHandler = PodParentFactory.getHandler(podParent.getKind());
+        DeploymentStatus deploymentStatus = podParentHandler.buildStatus(podParent.getParent());
+        if (deploymentStatus == null) {
+            return null;
+        }
+        if (serviceMap == null) {
+            deploymentStatus.setServiceAddress(SERVICE_ADDRESS_FAILURE);
+            return deploymentStatus;
+        }
+        ServiceAddress serviceAddress = K8sServiceUtil.getServiceAddress(serviceMap.get(deploymentStatus.getServiceName()));
+        if (serviceAddress != null) {
+            deploymentStatus.setServiceAddress(serviceAddress.toString());
+        }
+        return deploymentStatus;
     }
 
     private DeploymentStatus updateServiceAddress(DeploymentStatus deploymentStatus, AuthConfig authConfig,
@@ -111,7 +175,7 @@ public class ServiceStatusProcessor {
             }
         } catch (HyscaleException e) {
             logger.debug("Failed to get service address {} ", e.getHyscaleError());
-            deploymentStatus.setServiceAddress("Failed to get service address, try again");
+            deploymentStatus.setServiceAddress(SERVICE_ADDRESS_FAILURE);
         }
         return deploymentStatus;
     }
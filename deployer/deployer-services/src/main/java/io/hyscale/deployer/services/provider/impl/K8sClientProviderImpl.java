@@ -21,10 +21,12 @@ import java.io.IOException;
 
 import io.hyscale.commons.config.SetupConfig;
 import io.hyscale.commons.constants.ToolConstants;
+import io.hyscale.deployer.services.client.K8sClientRegistry;
 import io.hyscale.deployer.services.model.K8sKubeConfigAuth;
 import io.hyscale.deployer.services.exception.DeployerErrorCodes;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import io.hyscale.commons.exception.HyscaleException;
@@ -40,6 +42,9 @@ import io.kubernetes.client.util.Config;
 public class K8sClientProviderImpl implements K8sClientProvider {
 
     private static final Logger logger = LoggerFactory.getLogger(K8sClientProviderImpl.class);
+
+    @Autowired
+    private K8sClientRegistry clientRegistry;
     
     /*
      * Get client from K8s config file
@@ -105,8 +110,16 @@ public class K8sClientProviderImpl implements K8sClientProvider {
 		}
 	}
 
+	/**
+	 * Clients are served from {@link K8sClientRegistry}, a new client is
+	 * created only for an unseen auth config or a modified kubeconfig file
+	 */
 	@Override
 	public ApiClient get(K8sAuthorisation authConfig) throws HyscaleException {
+		return clientRegistry.get(authConfig, this::create);
+	}
+
+	private ApiClient create(K8sAuthorisation authConfig) throws HyscaleException {
 		ApiClient apiClient = null;
 		switch (authConfig.getK8sAuthType()) {
 		case KUBE_CONFIG_FILE:
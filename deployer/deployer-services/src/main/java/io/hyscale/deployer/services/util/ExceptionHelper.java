@@ -32,6 +32,9 @@ public class ExceptionHelper {
     private static final String FAILED_WITH_MESSAGE = "failed with status: ";
     private static final String CAUSE_MESSAGE = ", cause: ";
     private static final String UNAUTHORIZED_MESSAGE = "Unauthorized access";
+    private static final String UNSUPPORTED_MEDIA_TYPE_MESSAGE = "unsupported media type";
+    private static final int UNSUPPORTED_MEDIA_TYPE_CODE = 415;
+    private static final int NOT_FOUND_CODE = 404;
 
     /**
      * @param resourceKind
@@ -88,6 +91,27 @@ public class ExceptionHelper {
         return ex;
     }
 
+    /**
+     * Server side apply creates the resource when not found, so a not found response
+     * as well as an unsupported media type response means the cluster cannot serve apply patches
+     * @param e - exception from server side apply
+     * @return true if the cluster or the handler does not support server side apply,
+     * false if the cluster rejected the resource
+     */
+    public static boolean isApplyNotSupported(HyscaleException e) {
+        if (e.getHyscaleError() == DeployerErrorCodes.OPERATION_NOT_SUPPORTED) {
+            return true;
+        }
+        if (!(e.getCause() instanceof ApiException)) {
+            return false;
+        }
+        ApiException apiException = (ApiException) e.getCause();
+        int code = apiException.getCode();
+        return code == UNSUPPORTED_MEDIA_TYPE_CODE || code == NOT_FOUND_CODE
+                || StringUtils.containsIgnoreCase(apiException.getResponseBody(), UNSUPPORTED_MEDIA_TYPE_MESSAGE)
+                || StringUtils.containsIgnoreCase(apiException.getMessage(), UNSUPPORTED_MEDIA_TYPE_MESSAGE);
+    }
+
     private static String getCode(ApiException e) {
         return Integer.toString(e.getCode());
     }
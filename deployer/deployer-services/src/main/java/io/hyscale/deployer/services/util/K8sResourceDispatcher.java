@@ -16,23 +16,37 @@
 package io.hyscale.deployer.services.util;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import io.hyscale.commons.models.AnnotationKey;
 import io.hyscale.deployer.services.broker.K8sResourceBroker;
 import io.hyscale.deployer.services.builder.NamespaceBuilder;
+import io.hyscale.deployer.services.constants.DeployerConstants;
 import io.hyscale.deployer.services.exception.DeployerErrorCodes;
 import io.hyscale.deployer.services.handler.ResourceHandlers;
 import io.hyscale.deployer.services.handler.ResourceLifeCycleHandler;
 import io.hyscale.deployer.services.manager.AnnotationsUpdateManager;
 import io.hyscale.deployer.services.model.DeployerActivity;
+import io.hyscale.deployer.services.model.ResourceUpdatePolicy;
 import org.apache.commons.lang3.StringUtils;
 import org.joda.time.DateTime;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import io.hyscale.commons.constants.K8SRuntimeConstants;
+import io.hyscale.commons.constants.ToolConstants;
 import io.hyscale.commons.exception.HyscaleException;
 import io.hyscale.commons.logger.WorkflowLogger;
 import io.hyscale.commons.models.KubernetesResource;
@@ -54,11 +68,17 @@ public class K8sResourceDispatcher {
     private ApiClient apiClient;
     private String namespace;
     private boolean waitForReadiness;
+    private int parallelism;
+    private boolean skipUnchanged;
+    private final AtomicInteger appliedResources = new AtomicInteger();
+    private final AtomicInteger skippedResources = new AtomicInteger();
 
     public K8sResourceDispatcher(ApiClient apiClient) {
         this.apiClient = apiClient;
         this.namespace = K8SRuntimeConstants.DEFAULT_NAMESPACE;
         this.waitForReadiness = true;
+        this.parallelism = DeployerConstants.DEFAULT_APPLY_PARALLELISM;
+        this.skipUnchanged = true;
         this.resourceBroker = new K8sResourceBroker(apiClient);
     }
 
@@ -68,6 +88,37 @@ public class K8sResourceDispatcher {
         return this;
     }
 
+    /**
+     * @param parallelism maximum number of resources of a tier applied at once
+     */
+    public K8sResourceDispatcher withParallelism(int parallelism) {
+        this.parallelism = parallelism > 0 ? parallelism : 1;
+        return this;
+    }
+
+    /**
+     * @param skipUnchanged if true resources unchanged on cluster since
+     *                      they were last applied are not written
+     */
+    public K8sResourceDispatcher skipUnchanged(boolean skipUnchanged) {
+        this.skipUnchanged = skipUnchanged;
+        return this;
+    }
+
+    /**
+     * @return number of resources written to cluster in last apply
+     */
+    public int getAppliedResourceCount() {
+        return appliedResources.get();
+    }
+
+    /**
+     * @return number of unchanged resources skipped in last apply
+     */
+    public int getSkippedResourceCount() {
+        return skippedResources.get();
+    }
+
     public void create(List<Manifest> manifests) throws HyscaleException {
         apply(manifests);
     }
@@ -83,9 +134,16 @@ public class K8sResourceDispatcher {
     /**
      * Applies manifest to cluster
      * Use update policy if resource found on cluster otherwise create
+     * <p>
+     * Resources are grouped into tiers by {@link ResourceLifeCycleHandler#getWeight()},
+     * tiers are applied in increasing order of weight while resources within a tier
+     * are applied concurrently with at most {@link #withParallelism(int)} in flight.
+     * Failures are collected across tiers and reported together.
+     * Resources unchanged since the last apply are skipped, see {@link #skipUnchanged(boolean)}
+     * </p>
      *
      * @param manifests
-     * @throws HyscaleException
+     * @throws HyscaleException if any resource failed to apply
      */
     public void apply(List<Manifest> manifests) throws HyscaleException {
         if (manifests == null || manifests.isEmpty()) {
@@ -93,39 +151,131 @@ public class K8sResourceDispatcher {
             throw new HyscaleException(DeployerErrorCodes.MANIFEST_REQUIRED);
         }
         createNamespaceIfNotExists();
+        appliedResources.set(0);
+        skippedResources.set(0);
         
-        List<KubernetesResource> k8sResources = new ArrayList<KubernetesResource>();
+        // Group resources to deploy secrets and configmaps before Pod Controller
+        SortedMap<Integer, List<KubernetesResource>> weightVsResources = new TreeMap<>();
         
         for (Manifest manifest : manifests) {
+            KubernetesResource k8sResource = null;
             try {
-                k8sResources.add(KubernetesResourceUtil.getKubernetesResource(manifest, namespace));
+                k8sResource = KubernetesResourceUtil.getKubernetesResource(manifest, namespace);
             } catch (Exception e) {
                 HyscaleException ex = new HyscaleException(e, DeployerErrorCodes.FAILED_TO_APPLY_MANIFEST);
                 logger.error("Error while applying manifests to kubernetes", ex);
                 throw ex;
             }
+            ResourceLifeCycleHandler lifeCycleHandler = ResourceHandlers.getHandlerOf(k8sResource.getKind());
+            if (lifeCycleHandler == null || k8sResource.getResource() == null || k8sResource.getV1ObjectMeta() == null) {
+                continue;
+            }
+            weightVsResources.computeIfAbsent(lifeCycleHandler.getWeight(), weight -> new ArrayList<>()).add(k8sResource);
         }
-        // Sort resources to deploy secrets and configmaps before Pod Controller
-        k8sResources.sort((resource1, resource2) -> ResourceKind.fromString(resource1.getKind()).getWeight()
-                - ResourceKind.fromString(resource2.getKind()).getWeight());
-        
+
+        List<String> failedResources = new ArrayList<>();
+        ExecutorService executorService = Executors.newFixedThreadPool(parallelism);
+        try {
+            for (Map.Entry<Integer, List<KubernetesResource>> tier : weightVsResources.entrySet()) {
+                logger.debug("Applying {} resources of weight {}", tier.getValue().size(), tier.getKey());
+                failedResources.addAll(applyTier(executorService, tier.getValue()));
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+        if (!failedResources.isEmpty()) {
+            logger.error("Failed to apply resources {}", failedResources);
+            throw new HyscaleException(DeployerErrorCodes.FAILED_TO_APPLY_RESOURCES, failedResources.toString());
+        }
+    }
+
+    /**
+     * Applies all resources of a tier concurrently and waits for them to complete
+     *
+     * @param executorService
+     * @param k8sResources    resources of same weight
+     * @return resources failed to apply as kind:name
+     */
+    private List<String> applyTier(ExecutorService executorService, List<KubernetesResource> k8sResources) {
+        List<String> failedResources = new ArrayList<>();
+        Map<String, Future<?>> resourceVsFuture = new LinkedHashMap<>();
+        Map<String, List<String>> resourceVsPersistedActivities = new ConcurrentHashMap<>();
         for (KubernetesResource k8sResource : k8sResources) {
-            AnnotationsUpdateManager.update(k8sResource, AnnotationKey.LAST_UPDATED_AT,
-                    DateTime.now().toString("yyyy-MM-dd HH:mm:ss"));
-            ResourceLifeCycleHandler lifeCycleHandler = ResourceHandlers.getHandlerOf(k8sResource.getKind());
-            if (lifeCycleHandler != null && k8sResource != null && k8sResource.getResource() != null && k8sResource.getV1ObjectMeta() != null) {
+            String resourceKey = getResourceKey(k8sResource);
+            resourceVsFuture.put(resourceKey, executorService.submit(() -> {
+                // Handler activities are logged as a block once the resource is applied to avoid interleaving
+                WorkflowLogger.bufferActivities();
+                WorkflowLogger.bufferPersistedActivities();
                 try {
-                    String name = k8sResource.getV1ObjectMeta().getName();
-                    if (resourceBroker.get(lifeCycleHandler, name) != null) {
-                        resourceBroker.update(lifeCycleHandler, k8sResource, lifeCycleHandler.getUpdatePolicy());
-                    } else {
-                        resourceBroker.create(lifeCycleHandler, k8sResource.getResource());
-                    }
-                } catch (HyscaleException ex) {
-                    logger.error("Failed to apply resource :{} Reason :: {}", k8sResource.getKind(), ex.getMessage(), ex);
+                    applyResource(k8sResource);
+                } finally {
+                    WorkflowLogger.logBuffered(WorkflowLogger.releaseBuffer());
+                    resourceVsPersistedActivities.put(resourceKey, WorkflowLogger.releasePersistBuffer());
                 }
+                return null;
+            }));
+        }
+        for (Map.Entry<String, Future<?>> each : resourceVsFuture.entrySet()) {
+            try {
+                each.getValue().get();
+            } catch (ExecutionException e) {
+                logger.error("Failed to apply resource :{} Reason :: {}", each.getKey(), e.getCause().getMessage(),
+                        e.getCause());
+                failedResources.add(each.getKey());
+            } catch (InterruptedException e) {
+                logger.error("Interrupted while applying resource :{}", each.getKey());
+                Thread.currentThread().interrupt();
+                failedResources.add(each.getKey());
             }
+            // Persisted activities follow resource order irrespective of completion order
+            WorkflowLogger.persistBuffered(resourceVsPersistedActivities.get(each.getKey()));
+        }
+        return failedResources;
+    }
+
+    /**
+     * Applies resource unless it is unchanged on cluster since it was last applied,
+     * see {@link KubernetesResourceUtil#isUnchanged(Object, String)}.
+     * Server side apply is repeated for resources which do not track generation,
+     * such an apply leaves the resource as is unless it was modified on cluster
+     */
+    private void applyResource(KubernetesResource k8sResource) throws HyscaleException {
+        String specDigest = KubernetesResourceUtil.getSpecDigest(k8sResource.getResource());
+        ResourceLifeCycleHandler lifeCycleHandler = ResourceHandlers.getHandlerOf(k8sResource.getKind());
+        String name = k8sResource.getV1ObjectMeta().getName();
+        ResourceUpdatePolicy updatePolicy = lifeCycleHandler.getUpdatePolicy();
+        Object liveResource = resourceBroker.get(lifeCycleHandler, name);
+        if (skipUnchanged && KubernetesResourceUtil.isUnchanged(liveResource, specDigest)) {
+            logger.debug("Resource {} is unchanged, skipping apply", getResourceKey(k8sResource));
+            skippedResources.incrementAndGet();
+            return;
+        }
+        boolean sameDigest = specDigest != null
+                && specDigest.equals(KubernetesResourceUtil.getAnnotation(liveResource, AnnotationKey.HYSCALE_SPEC_DIGEST));
+        // Update time is retained when spec is unchanged so that apply does not modify an unchanged resource
+        String lastUpdatedAt = sameDigest ? KubernetesResourceUtil.getAnnotation(liveResource, AnnotationKey.LAST_UPDATED_AT)
+                : null;
+        AnnotationsUpdateManager.update(k8sResource, AnnotationKey.HYSCALE_SPEC_DIGEST, specDigest);
+        AnnotationsUpdateManager.update(k8sResource, AnnotationKey.LAST_UPDATED_AT,
+                lastUpdatedAt != null ? lastUpdatedAt : DateTime.now().toString("yyyy-MM-dd HH:mm:ss"));
+        // Server side apply creates the resource if not found
+        if (liveResource == null && updatePolicy != ResourceUpdatePolicy.SERVER_SIDE_APPLY) {
+            resourceBroker.create(lifeCycleHandler, k8sResource.getResource());
+        } else {
+            resourceBroker.update(lifeCycleHandler, k8sResource, updatePolicy, liveResource);
+        }
+        Object appliedResource = resourceBroker.recordAppliedGeneration(lifeCycleHandler, name);
+        if (sameDigest && Objects.equals(KubernetesResourceUtil.getResourceVersion(liveResource),
+                KubernetesResourceUtil.getResourceVersion(appliedResource))) {
+            logger.debug("Resource {} is unchanged after apply", getResourceKey(k8sResource));
+            skippedResources.incrementAndGet();
+            return;
         }
+        appliedResources.incrementAndGet();
+    }
+
+    private String getResourceKey(KubernetesResource k8sResource) {
+        return k8sResource.getKind() + ToolConstants.COLON + k8sResource.getV1ObjectMeta().getName();
     }
 
     /**
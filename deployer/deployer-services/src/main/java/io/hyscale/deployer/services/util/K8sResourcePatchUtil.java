@@ -16,6 +16,13 @@
 package io.hyscale.deployer.services.util;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -24,8 +31,14 @@ import com.google.gson.Gson;
 import com.google.gson.JsonElement;
 
 import io.hyscale.commons.exception.HyscaleException;
+import io.hyscale.commons.models.AnnotationKey;
 import io.hyscale.commons.utils.ObjectMapperFactory;
+import io.hyscale.deployer.services.constants.DeployerConstants;
 import io.hyscale.deployer.services.exception.DeployerErrorCodes;
+import io.kubernetes.client.custom.V1Patch;
+import io.kubernetes.client.openapi.ApiClient;
+import io.kubernetes.client.openapi.models.V1ManagedFieldsEntry;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
 
 /**
  * Utility for resource path operations
@@ -33,6 +46,18 @@ import io.hyscale.deployer.services.exception.DeployerErrorCodes;
  */
 public class K8sResourcePatchUtil {
 
+	private static final String APPLY_OPERATION = "Apply";
+	private static final String UPDATE_OPERATION = "Update";
+	private static final String OP = "op";
+	private static final String PATH = "path";
+	private static final String VALUE = "value";
+	private static final String TEST_OP = "test";
+	private static final String REPLACE_OP = "replace";
+	private static final String RESOURCE_VERSION_PATH = "/metadata/resourceVersion";
+	private static final String MANAGED_FIELDS_PATH = "/metadata/managedFields";
+	private static final String ANNOTATIONS_PATH = "/metadata/annotations/";
+	private static final String ADD_OP = "add";
+
 	/**
 	 * Creates Json diff for patch based on source and target
 	 * @param <T> 
@@ -63,6 +88,96 @@ public class K8sResourcePatchUtil {
 		}
 	}
 
+	/**
+	 * Creates apply patch for server side apply, the complete target serialized
+	 * with the client's serializer so that kubernetes types such as quantities are retained
+	 * @param apiClient
+	 * @param target
+	 * @return apply patch
+	 */
+	public static V1Patch getApplyPatch(ApiClient apiClient, Object target) {
+		return new V1Patch(apiClient.getJSON().serialize(target));
+	}
+
+	/**
+	 * Creates json patch moving ownership of fields set through create and patch calls
+	 * to the hyscale apply manager, so that fields dropped from the applied resource are removed.
+	 * Fields of the legacy manager are merged into the Apply entry of hyscale field manager,
+	 * patch is applied only if the resource version is unchanged
+	 * @param apiClient
+	 * @param liveMetadata metadata of the resource on cluster
+	 * @return json patch, null if legacy manager does not own any field
+	 */
+	public static V1Patch getFieldOwnershipPatch(ApiClient apiClient, V1ObjectMeta liveMetadata) {
+		if (liveMetadata == null || liveMetadata.getManagedFields() == null
+				|| liveMetadata.getManagedFields().stream().noneMatch(K8sResourcePatchUtil::isLegacyEntry)) {
+			return null;
+		}
+		V1ManagedFieldsEntry applyEntry = liveMetadata.getManagedFields().stream()
+				.filter(entry -> DeployerConstants.FIELD_MANAGER.equals(entry.getManager())
+						&& APPLY_OPERATION.equals(entry.getOperation()))
+				.findFirst().orElse(null);
+		List<V1ManagedFieldsEntry> managedFields = new ArrayList<>();
+		for (V1ManagedFieldsEntry entry : liveMetadata.getManagedFields()) {
+			if (entry == applyEntry) {
+				continue;
+			}
+			if (!isLegacyEntry(entry)
+					|| (applyEntry != null && !Objects.equals(applyEntry.getApiVersion(), entry.getApiVersion()))) {
+				managedFields.add(entry);
+			} else if (applyEntry == null) {
+				applyEntry = entry.manager(DeployerConstants.FIELD_MANAGER).operation(APPLY_OPERATION);
+			} else {
+				applyEntry.setFieldsV1(mergeFields(applyEntry.getFieldsV1(), entry.getFieldsV1()));
+			}
+		}
+		managedFields.add(applyEntry);
+		Map<String, Object> versionTest = new LinkedHashMap<>();
+		versionTest.put(OP, TEST_OP);
+		versionTest.put(PATH, RESOURCE_VERSION_PATH);
+		versionTest.put(VALUE, liveMetadata.getResourceVersion());
+		Map<String, Object> managedFieldsReplace = new LinkedHashMap<>();
+		managedFieldsReplace.put(OP, REPLACE_OP);
+		managedFieldsReplace.put(PATH, MANAGED_FIELDS_PATH);
+		managedFieldsReplace.put(VALUE, managedFields);
+		return new V1Patch(apiClient.getJSON().serialize(Arrays.asList(versionTest, managedFieldsReplace)));
+	}
+
+	/**
+	 * Creates json patch setting the annotation, resource is expected to have annotations
+	 * @param apiClient
+	 * @param annotationKey
+	 * @param value
+	 * @return json patch
+	 */
+	public static V1Patch getAnnotationPatch(ApiClient apiClient, AnnotationKey annotationKey, String value) {
+		Map<String, Object> annotationAdd = new LinkedHashMap<>();
+		annotationAdd.put(OP, ADD_OP);
+		// Json pointer escaping of annotation key
+		annotationAdd.put(PATH, ANNOTATIONS_PATH + annotationKey.getAnnotation().replace("~", "~0").replace("/", "~1"));
+		annotationAdd.put(VALUE, value);
+		return new V1Patch(apiClient.getJSON().serialize(Collections.singletonList(annotationAdd)));
+	}
+
+	private static boolean isLegacyEntry(V1ManagedFieldsEntry entry) {
+		return DeployerConstants.LEGACY_FIELD_MANAGER.equals(entry.getManager())
+				&& UPDATE_OPERATION.equals(entry.getOperation());
+	}
+
+	/**
+	 * Union of field sets, field sets are nested maps keyed by field
+	 */
+	@SuppressWarnings("unchecked")
+	private static Object mergeFields(Object fields, Object otherFields) {
+		if (!(fields instanceof Map) || !(otherFields instanceof Map)) {
+			return fields != null ? fields : otherFields;
+		}
+		Map<String, Object> mergedFields = new LinkedHashMap<>((Map<String, Object>) fields);
+		((Map<String, Object>) otherFields)
+				.forEach((field, value) -> mergedFields.put(field, mergeFields(mergedFields.get(field), value)));
+		return mergedFields;
+	}
+
 	public static Object deserialize(String jsonStr, Class<?> targetClass) {
 		Gson gson = new Gson();
 		Object obj = gson.fromJson(jsonStr, targetClass);
@@ -0,0 +1,174 @@
+/**
+ * Copyright 2019 Pramati Prism, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.hyscale.deployer.services.util;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.hyscale.commons.constants.ToolConstants;
+import io.hyscale.commons.exception.HyscaleException;
+import io.hyscale.commons.logger.ActivityContext;
+import io.hyscale.commons.logger.WorkflowLogger;
+import io.hyscale.commons.models.MetadataFieldSelector;
+import io.hyscale.commons.utils.ThreadPoolUtil;
+import io.hyscale.deployer.core.model.ResourceOperation;
+import io.hyscale.deployer.services.cache.ResourceCacheSource;
+import io.hyscale.deployer.services.exception.DeployerErrorCodes;
+import io.hyscale.deployer.services.handler.ResourceHandlers;
+import io.hyscale.deployer.services.handler.ResourceLifeCycleHandler;
+import io.kubernetes.client.openapi.ApiClient;
+import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.models.V1ListMeta;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.util.Watch;
+import okhttp3.Call;
+import okhttp3.OkHttpClient;
+
+/**
+ * Waits on resource conditions through watch instead of polling
+ */
+public class K8sResourceWatchUtil {
+
+    private static final Logger logger = LoggerFactory.getLogger(K8sResourceWatchUtil.class);
+
+    private static final String DELETED = "DELETED";
+    private static final String BOOKMARK = "BOOKMARK";
+    private static final int WATCH_TIMEOUT_IN_SEC = 10;
+    private static final long RETRY_INTERVAL_IN_MILLIS = 1000;
+
+    private K8sResourceWatchUtil() {
+    }
+
+    /**
+     * Http client for long running watch calls, shares connection pool with the api client
+     *
+     * @param apiClient
+     * @return http client without read timeout
+     */
+    public static OkHttpClient getWatchHttpClient(ApiClient apiClient) {
+        return apiClient.getHttpClient().newBuilder().readTimeout(0, TimeUnit.SECONDS).build();
+    }
+
+    /**
+     * Wait until resource of the kind satisfies the condition or timeout
+     *
+     * @see #waitFor(ApiClient, ResourceCacheSource, String, String, Predicate, long, ActivityContext)
+     */
+    public static <T> boolean waitFor(ApiClient apiClient, String kind, String name, String namespace,
+            Predicate<T> condition, long timeoutInMillis, ActivityContext activityContext) throws HyscaleException {
+        ResourceLifeCycleHandler<T> handler = ResourceHandlers.getHandlerOf(kind);
+        if (handler == null) {
+            throw new HyscaleException(DeployerErrorCodes.OPERATION_NOT_SUPPORTED,
+                    ResourceOperation.WATCH.getOperation(), kind);
+        }
+        return handler.waitFor(apiClient, name, namespace, condition, timeoutInMillis, activityContext);
+    }
+
+    /**
+     * Wait until resource satisfies the condition or timeout
+     * Lists the resource once and watches from the listed resource version,
+     * watch is resumed from the last seen resource version when it ends.
+     * Resource is listed again only when the resource version is no longer available
+     *
+     * @param apiClient
+     * @param source          list and watch calls of the resource kind
+     * @param name
+     * @param namespace
+     * @param condition       tested with the resource, null when resource does not exist
+     * @param timeoutInMillis
+     * @param activityContext for displaying continuation
+     * @return true if condition is satisfied, false on timeout
+     * @throws HyscaleException if list or watch fails
+     */
+    public static <T, L> boolean waitFor(ApiClient apiClient, ResourceCacheSource<T, L> source, String name,
+            String namespace, Predicate<T> condition, long timeoutInMillis, ActivityContext activityContext)
+            throws HyscaleException {
+        long deadline = System.currentTimeMillis() + timeoutInMillis;
+        String fieldSelector = MetadataFieldSelector.METADATA_NAME.getFieldName() + ToolConstants.EQUALS + name;
+        OkHttpClient watchHttpClient = getWatchHttpClient(apiClient);
+        String resourceVersion = null;
+        while (System.currentTimeMillis() < deadline) {
+            if (resourceVersion == null) {
+                L list = list(apiClient, source, namespace, fieldSelector);
+                List<T> items = source.getItems(list);
+                if (condition.test(items == null || items.isEmpty() ? null : items.get(0))) {
+                    return true;
+                }
+                V1ListMeta listMeta = source.getListMetadata(list);
+                resourceVersion = listMeta != null ? listMeta.getResourceVersion() : null;
+            }
+            WorkflowLogger.continueActivity(activityContext);
+            long remaining = deadline - System.currentTimeMillis();
+            int timeoutSeconds = (int) Math.max(1, Math.min(WATCH_TIMEOUT_IN_SEC, remaining / 1000));
+            try {
+                Call call = source.getListCall().build(apiClient, namespace, fieldSelector, resourceVersion,
+                        timeoutSeconds, true);
+                try (Watch<T> watch = Watch.createWatch(apiClient, watchHttpClient.newCall(call.request()),
+                        source.getWatchType())) {
+                    for (Watch.Response<T> item : watch) {
+                        if (item.object == null) {
+                            // Resource version no longer available, list again
+                            logger.debug("Watch on {} {} returned {}, status {}", source.getKind(), name, item.type,
+                                    item.status);
+                            resourceVersion = null;
+                            break;
+                        }
+                        V1ObjectMeta metadata = source.getMetadata(item.object);
+                        if (metadata != null && metadata.getResourceVersion() != null) {
+                            resourceVersion = metadata.getResourceVersion();
+                        }
+                        if (BOOKMARK.equals(item.type)) {
+                            continue;
+                        }
+                        if (condition.test(DELETED.equals(item.type) ? null : item.object)) {
+                            return true;
+                        }
+                        WorkflowLogger.continueActivity(activityContext);
+                    }
+                }
+            } catch (ApiException e) {
+                HyscaleException ex = ExceptionHelper.buildGetException(source.getKind(), e, ResourceOperation.WATCH);
+                logger.error("Error while watching {} {} in namespace {}, error {}", source.getKind(), name,
+                        namespace, ex.toString());
+                throw ex;
+            } catch (Exception e) {
+                logger.debug("Watch on {} {} in namespace {} interrupted, listing again", source.getKind(), name,
+                        namespace, e);
+                resourceVersion = null;
+                ThreadPoolUtil.sleepSilently(RETRY_INTERVAL_IN_MILLIS);
+            }
+        }
+        return false;
+    }
+
+    private static <T, L> L list(ApiClient apiClient, ResourceCacheSource<T, L> source, String namespace,
+            String fieldSelector) throws HyscaleException {
+        try {
+            Call call = source.getListCall().build(apiClient, namespace, fieldSelector, null, null, false);
+            return apiClient.<L>execute(call, source.getListType()).getData();
+        } catch (ApiException e) {
+            HyscaleException ex = ExceptionHelper.buildGetException(source.getKind(), e,
+                    ResourceOperation.GET_BY_SELECTOR);
+            logger.error("Error while listing {} in namespace {} with selector {}, error {}", source.getKind(),
+                    namespace, fieldSelector, ex.toString());
+            throw ex;
+        }
+    }
+}
@@ -18,10 +18,30 @@ package io.hyscale.deployer.services.util;
 import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+
+import io.hyscale.commons.models.AnnotationKey;
 import io.hyscale.commons.models.KubernetesResource;
 import io.hyscale.commons.models.Manifest;
+import io.hyscale.commons.models.ObjectManifest;
 import io.hyscale.commons.models.YAMLManifest;
+import io.hyscale.commons.utils.ObjectMapperFactory;
+import io.kubernetes.client.openapi.JSON;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.util.Yaml;
 
@@ -33,7 +53,22 @@ public class KubernetesResourceUtil {
 
     private static final String GET_KIND = "getKind";
     private static final String GET_METADATA = "getMetadata";
+    private static final Logger logger = LoggerFactory.getLogger(KubernetesResourceUtil.class);
+    private static final String MODEL_PACKAGE = "io.kubernetes.client.openapi.models.";
+    private static final String API_GROUP_SEPARATOR = "/";
+    private static final Gson gson = new Gson();
+    private static final Gson modelGson = new JSON().getGson();
+    private static final Map<String, Optional<Class<?>>> modelClasses = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, Method> metadataMethods = new ConcurrentHashMap<>();
 
+    /**
+     * Binds manifest to kubernetes model,
+     * {@link ObjectManifest} is bound from its object model without reading the yaml file
+     *
+     * @param manifest
+     * @param namespace
+     * @return kubernetes resource, null if manifest is null
+     */
     public static KubernetesResource getKubernetesResource(Manifest manifest, String namespace)
             throws NoSuchMethodException, SecurityException, IOException, IllegalAccessException,
             IllegalArgumentException, InvocationTargetException {
@@ -41,10 +76,18 @@ public class KubernetesResourceUtil {
             return null;
         }
         KubernetesResource resource = new KubernetesResource();
-        YAMLManifest yamlManifest = (YAMLManifest) manifest;
-        Object obj = Yaml.load(yamlManifest.getYamlManifest());
-        Method kindMethod = obj.getClass().getMethod(GET_KIND);
-        String kind = (String) kindMethod.invoke(obj);
+        Object obj;
+        String kind;
+        if (manifest instanceof ObjectManifest) {
+            ObjectManifest objectManifest = (ObjectManifest) manifest;
+            kind = objectManifest.getKind();
+            obj = load(objectManifest);
+        } else {
+            YAMLManifest yamlManifest = (YAMLManifest) manifest;
+            obj = Yaml.load(yamlManifest.getYamlManifest());
+            Method kindMethod = obj.getClass().getMethod(GET_KIND);
+            kind = (String) kindMethod.invoke(obj);
+        }
 
         V1ObjectMeta v1ObjectMeta = getObjectMeta(obj);
         if (v1ObjectMeta != null) {
@@ -56,12 +99,154 @@ public class KubernetesResourceUtil {
         return resource;
     }
 
+    private static Object load(ObjectManifest objectManifest) throws IOException {
+        Class<?> modelClass = getModelClass(objectManifest.getApiVersion(), objectManifest.getKind());
+        if (modelClass == null) {
+            // Model not following the naming convention, json being yaml let the client resolve it
+            return Yaml.load(ObjectMapperFactory.jsonMapper().writeValueAsString(objectManifest.getManifestNode()));
+        }
+        return modelGson.fromJson(toJsonElement(objectManifest.getManifestNode()), modelClass);
+    }
+
+    /**
+     * Converts manifest tree to the tree read by the client models
+     * without serializing it to json
+     */
+    private static JsonElement toJsonElement(JsonNode node) {
+        if (node == null || node.isNull() || node.isMissingNode()) {
+            return JsonNull.INSTANCE;
+        }
+        if (node.isObject()) {
+            JsonObject jsonObject = new JsonObject();
+            node.fields().forEachRemaining(each -> jsonObject.add(each.getKey(), toJsonElement(each.getValue())));
+            return jsonObject;
+        }
+        if (node.isArray()) {
+            JsonArray jsonArray = new JsonArray();
+            node.forEach(each -> jsonArray.add(toJsonElement(each)));
+            return jsonArray;
+        }
+        if (node.isBoolean()) {
+            return new JsonPrimitive(node.booleanValue());
+        }
+        if (node.isNumber()) {
+            return new JsonPrimitive(node.numberValue());
+        }
+        return new JsonPrimitive(node.asText());
+    }
+
+    /**
+     * Resolves model class as per the client naming convention,
+     * apps/v1 Deployment to V1Deployment
+     *
+     * @param apiVersion
+     * @param kind
+     * @return model class, null if not found
+     */
+    private static Class<?> getModelClass(String apiVersion, String kind) {
+        if (StringUtils.isBlank(apiVersion) || StringUtils.isBlank(kind)) {
+            return null;
+        }
+        String version = StringUtils.substringAfterLast(API_GROUP_SEPARATOR + apiVersion, API_GROUP_SEPARATOR);
+        String className = MODEL_PACKAGE + StringUtils.capitalize(version) + kind;
+        return modelClasses.computeIfAbsent(className, key -> {
+            try {
+                return Optional.of(Class.forName(key));
+            } catch (ClassNotFoundException e) {
+                logger.debug("Model class not found for {}", key);
+                return Optional.empty();
+            }
+        }).orElse(null);
+    }
+
+    /**
+     * Digest of the resource as generated, computed before any
+     * deploy time annotations are added to it
+     *
+     * @param resource
+     * @return sha256 hex digest of resource
+     */
+    public static String getSpecDigest(Object resource) {
+        if (resource == null) {
+            return null;
+        }
+        return DigestUtils.sha256Hex(gson.toJson(resource));
+    }
+
+    /**
+     * @param resource cluster or generated resource
+     * @param annotationKey
+     * @return annotation value, null if resource or annotation not found
+     */
+    public static String getAnnotation(Object resource, AnnotationKey annotationKey) {
+        V1ObjectMeta v1ObjectMeta = null;
+        try {
+            v1ObjectMeta = getObjectMeta(resource);
+        } catch (ReflectiveOperationException | IllegalArgumentException | SecurityException e) {
+            logger.debug("Unable to get metadata of resource", e);
+        }
+        if (v1ObjectMeta == null || v1ObjectMeta.getAnnotations() == null) {
+            return null;
+        }
+        return v1ObjectMeta.getAnnotations().get(annotationKey.getAnnotation());
+    }
+
+    /**
+     * Resource on cluster is unchanged if it carries the spec digest and its generation
+     * is the one recorded when hyscale last applied it. Generation changes when the resource spec
+     * is modified on cluster, for instance through scale or edit
+     *
+     * @param liveResource resource on cluster
+     * @param specDigest   digest of the generated resource
+     * @return true if resource on cluster matches generated resource, false if resource does not track generation
+     */
+    public static boolean isUnchanged(Object liveResource, String specDigest) {
+        if (specDigest == null || !specDigest.equals(getAnnotation(liveResource, AnnotationKey.HYSCALE_SPEC_DIGEST))) {
+            return false;
+        }
+        Long generation = getGeneration(liveResource);
+        return generation != null
+                && generation.toString().equals(getAnnotation(liveResource, AnnotationKey.HYSCALE_APPLIED_GENERATION));
+    }
+
+    /**
+     * @param resource
+     * @return generation of resource, null if resource does not track generation
+     */
+    public static Long getGeneration(Object resource) {
+        try {
+            V1ObjectMeta v1ObjectMeta = getObjectMeta(resource);
+            return v1ObjectMeta != null ? v1ObjectMeta.getGeneration() : null;
+        } catch (ReflectiveOperationException | IllegalArgumentException | SecurityException e) {
+            logger.debug("Unable to get metadata of resource", e);
+            return null;
+        }
+    }
+
+    /**
+     * @param resource
+     * @return resource version, null if not available
+     */
+    public static String getResourceVersion(Object resource) {
+        try {
+            V1ObjectMeta v1ObjectMeta = getObjectMeta(resource);
+            return v1ObjectMeta != null ? v1ObjectMeta.getResourceVersion() : null;
+        } catch (ReflectiveOperationException | IllegalArgumentException | SecurityException e) {
+            logger.debug("Unable to get metadata of resource", e);
+            return null;
+        }
+    }
+
     public static V1ObjectMeta getObjectMeta(Object object) throws NoSuchMethodException, SecurityException,
             IllegalAccessException, IllegalArgumentException, InvocationTargetException {
         if (object == null) {
             return null;
         }
-        Method metadataMethod = object.getClass().getMethod(GET_METADATA);
+        Method metadataMethod = metadataMethods.get(object.getClass());
+        if (metadataMethod == null) {
+            metadataMethod = object.getClass().getMethod(GET_METADATA);
+            metadataMethods.put(object.getClass(), metadataMethod);
+        }
 
         V1ObjectMeta v1ObjectMeta = (V1ObjectMeta) metadataMethod.invoke(object);
 
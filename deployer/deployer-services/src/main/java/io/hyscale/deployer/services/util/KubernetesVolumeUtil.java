@@ -25,9 +25,6 @@ import org.apache.commons.lang3.StringUtils;
 
 import io.hyscale.commons.exception.HyscaleException;
 import io.hyscale.commons.utils.ResourceLabelUtil;
-import io.hyscale.deployer.core.model.ResourceKind;
-import io.hyscale.deployer.services.handler.ResourceHandlers;
-import io.hyscale.deployer.services.handler.impl.V1PodHandler;
 import io.kubernetes.client.openapi.ApiClient;
 import io.kubernetes.client.openapi.models.V1PersistentVolumeClaim;
 import io.kubernetes.client.openapi.models.V1PersistentVolumeClaimVolumeSource;
@@ -110,14 +107,12 @@ public class KubernetesVolumeUtil {
 		return pvcName;
 	}
 
+	/**
+	 * @see PodVolumeResolver#getPodClaimNames()
+	 */
 	public static Set<String> getPodVolumes(ApiClient apiClient, String selector, String namespace)
 			throws HyscaleException {
-		V1PodHandler podHandler = (V1PodHandler) ResourceHandlers.getHandlerOf(ResourceKind.POD.getKind());
-
-		List<V1Pod> podsList = podHandler.getBySelector(apiClient, selector, true, namespace);
-
-		return getPodsVolumes(podsList);
-
+		return new PodVolumeResolver(apiClient, selector, namespace).getPodClaimNames();
 	}
 
 	public static Set<String> getPodsVolumes(List<V1Pod> podsList) {
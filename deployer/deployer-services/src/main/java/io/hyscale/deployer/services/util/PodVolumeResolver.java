@@ -0,0 +1,149 @@
+/**
+ * Copyright 2019 Pramati Prism, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.hyscale.deployer.services.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.hyscale.commons.exception.HyscaleException;
+import io.hyscale.deployer.core.model.ResourceKind;
+import io.hyscale.deployer.services.handler.ResourceHandlers;
+import io.hyscale.deployer.services.handler.impl.V1PersistentVolumeClaimHandler;
+import io.hyscale.deployer.services.handler.impl.V1PodHandler;
+import io.hyscale.deployer.services.model.Volume;
+import io.kubernetes.client.openapi.ApiClient;
+import io.kubernetes.client.openapi.models.V1PersistentVolumeClaim;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1Volume;
+
+/**
+ * Resolves pods and their persistent volume claims for a selector
+ * Pods and claims are each fetched once through a selector list call
+ * and joined in memory, instead of fetching a claim for every pod volume.
+ * Claims which are not part of the selector list are fetched individually.
+ */
+public class PodVolumeResolver {
+
+    private static final Logger logger = LoggerFactory.getLogger(PodVolumeResolver.class);
+
+    private static final String STORAGE = "storage";
+
+    private final ApiClient apiClient;
+    private final String selector;
+    private final String namespace;
+
+    private List<V1Pod> pods;
+    private List<V1PersistentVolumeClaim> claims;
+    private Map<String, V1PersistentVolumeClaim> claimsByName;
+
+    public PodVolumeResolver(ApiClient apiClient, String selector, String namespace) {
+        this.apiClient = apiClient;
+        this.selector = selector;
+        this.namespace = namespace;
+    }
+
+    /**
+     * @return pods matching the selector
+     * @throws HyscaleException
+     */
+    public List<V1Pod> getPods() throws HyscaleException {
+        if (pods == null) {
+            V1PodHandler podHandler = (V1PodHandler) ResourceHandlers.getHandlerOf(ResourceKind.POD.getKind());
+            List<V1Pod> podList = podHandler.getBySelector(apiClient, selector, true, namespace);
+            pods = podList != null ? podList : new ArrayList<>();
+        }
+        return pods;
+    }
+
+    /**
+     * @return persistent volume claims matching the selector
+     * @throws HyscaleException
+     */
+    public List<V1PersistentVolumeClaim> getClaims() throws HyscaleException {
+        if (claims == null) {
+            List<V1PersistentVolumeClaim> claimList = getClaimHandler().getBySelector(apiClient, selector, true,
+                    namespace);
+            claims = claimList != null ? claimList : new ArrayList<>();
+            claimsByName = new HashMap<>();
+            claims.forEach(each -> claimsByName.put(each.getMetadata().getName(), each));
+        }
+        return claims;
+    }
+
+    /**
+     * @return claim names used by volumes of the selected pods
+     * @throws HyscaleException
+     */
+    public Set<String> getPodClaimNames() throws HyscaleException {
+        return KubernetesVolumeUtil.getPodsVolumes(getPods());
+    }
+
+    /**
+     * @param claimName
+     * @return claim from the selector list, fetched from cluster if not part of it
+     * @throws HyscaleException
+     */
+    public V1PersistentVolumeClaim getClaim(String claimName) throws HyscaleException {
+        getClaims();
+        V1PersistentVolumeClaim claim = claimsByName.get(claimName);
+        if (claim == null) {
+            logger.debug("Claim {} not found with selector {}, fetching", claimName, selector);
+            claim = getClaimHandler().get(apiClient, claimName, namespace);
+            claimsByName.put(claimName, claim);
+        }
+        return claim;
+    }
+
+    /**
+     * @param pod
+     * @return persistent volumes of the pod with claim and size
+     * @throws HyscaleException
+     */
+    public List<Volume> getVolumes(V1Pod pod) throws HyscaleException {
+        List<Volume> volumes = new ArrayList<>();
+        if (pod == null || pod.getSpec() == null || pod.getSpec().getVolumes() == null) {
+            return volumes;
+        }
+        for (V1Volume v1Volume : pod.getSpec().getVolumes()) {
+            if (v1Volume.getPersistentVolumeClaim() == null
+                    || v1Volume.getPersistentVolumeClaim().getClaimName() == null) {
+                continue;
+            }
+            String claimName = v1Volume.getPersistentVolumeClaim().getClaimName();
+            Volume volume = new Volume();
+            volume.setName(v1Volume.getName());
+            volume.setClaimName(claimName);
+            V1PersistentVolumeClaim pvc = getClaim(claimName);
+            if (pvc != null && pvc.getStatus() != null && pvc.getStatus().getCapacity() != null
+                    && pvc.getStatus().getCapacity().get(STORAGE) != null) {
+                volume.setSize(pvc.getStatus().getCapacity().get(STORAGE).toSuffixedString());
+            }
+            volumes.add(volume);
+        }
+        return volumes;
+    }
+
+    private V1PersistentVolumeClaimHandler getClaimHandler() {
+        return (V1PersistentVolumeClaimHandler) ResourceHandlers
+                .getHandlerOf(ResourceKind.PERSISTENT_VOLUME_CLAIM.getKind());
+    }
+}
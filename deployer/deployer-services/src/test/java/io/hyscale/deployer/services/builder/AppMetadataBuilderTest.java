@@ -0,0 +1,77 @@
+/**
+ * Copyright 2019 Pramati Prism, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.hyscale.deployer.services.builder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import io.hyscale.commons.models.ResourceLabelKey;
+import io.hyscale.deployer.core.model.AppMetadata;
+import io.hyscale.deployer.services.model.PartialObjectMetadataList;
+import io.kubernetes.client.openapi.ApiClient;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+
+public class AppMetadataBuilderTest {
+
+    private static final String METADATA_LIST = "{\"kind\":\"PartialObjectMetadataList\",\"apiVersion\":\"meta.k8s.io/v1\","
+            + "\"metadata\":{\"resourceVersion\":\"100\",\"continue\":\"next\"},\"items\":[{\"kind\":\"PartialObjectMetadata\","
+            + "\"apiVersion\":\"meta.k8s.io/v1\",\"metadata\":{\"name\":\"web\",\"namespace\":\"dev\","
+            + "\"labels\":{\"hyscale.io/app-name\":\"shop\",\"hyscale.io/service-name\":\"web\"}}}]}";
+
+    private AppMetadataBuilder appMetadataBuilder = new AppMetadataBuilder();
+
+    @Test
+    public void testIncrementalUpdate() {
+        Map<String, AppMetadata> mapping = new HashMap<>();
+        appMetadataBuilder.update(mapping, getMetadata("dev", "shop", "web"));
+        appMetadataBuilder.update(mapping, getMetadata("dev", "shop", "db"));
+        appMetadataBuilder.update(mapping, getMetadata("dev", "shop", "web"));
+        appMetadataBuilder.update(mapping, getMetadata("qa", "shop", "web"));
+        appMetadataBuilder.update(mapping, null);
+
+        assertEquals(2, mapping.size());
+        assertEquals("shop", mapping.get("dev").getAppName());
+        assertEquals(2, mapping.get("dev").getServices().size());
+        assertEquals(1, mapping.get("qa").getServices().size());
+    }
+
+    @Test
+    public void testMetadataListDeserialization() {
+        PartialObjectMetadataList metadataList = new ApiClient().getJSON().deserialize(METADATA_LIST,
+                PartialObjectMetadataList.class);
+        assertNotNull(metadataList);
+        assertEquals("next", metadataList.getMetadata().getContinue());
+        assertEquals(1, metadataList.getItems().size());
+
+        Map<String, AppMetadata> mapping = new HashMap<>();
+        appMetadataBuilder.update(mapping, metadataList.getItems().get(0).getMetadata());
+        assertEquals("shop", mapping.get("dev").getAppName());
+        assertEquals("web", mapping.get("dev").getServices().get(0));
+    }
+
+    private V1ObjectMeta getMetadata(String namespace, String appName, String serviceName) {
+        V1ObjectMeta metadata = new V1ObjectMeta();
+        metadata.setNamespace(namespace);
+        metadata.putLabelsItem(ResourceLabelKey.APP_NAME.getLabel(), appName);
+        metadata.putLabelsItem(ResourceLabelKey.SERVICE_NAME.getLabel(), serviceName);
+        return metadata;
+    }
+}
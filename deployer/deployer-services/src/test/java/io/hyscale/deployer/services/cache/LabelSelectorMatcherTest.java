@@ -0,0 +1,69 @@
+/**
+ * Copyright 2019 Pramati Prism, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.hyscale.deployer.services.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import io.hyscale.commons.exception.HyscaleException;
+import io.kubernetes.client.openapi.ApiClient;
+
+public class LabelSelectorMatcherTest {
+
+    @Test
+    public void testEqualitySelector() {
+        Map<String, String> labels = new HashMap<>();
+        labels.put("hyscale.io/app-name", "myapp");
+        labels.put("hyscale.io/service-name", "web");
+
+        LabelSelectorMatcher matcher = LabelSelectorMatcher.parse("hyscale.io/app-name=myapp,hyscale.io/service-name==web");
+        assertNotNull(matcher);
+        assertTrue(matcher.matches(labels));
+        assertEquals(Arrays.asList("hyscale.io/app-name=myapp", "hyscale.io/service-name=web"),
+                matcher.getIndexTerms());
+
+        assertFalse(LabelSelectorMatcher.parse("hyscale.io/service-name=db").matches(labels));
+        assertTrue(LabelSelectorMatcher.parse("hyscale.io/service-name!=db").matches(labels));
+        assertTrue(LabelSelectorMatcher.parse("hyscale.io/app-name,!hyscale.io/env-name").matches(labels));
+        assertFalse(LabelSelectorMatcher.parse("hyscale.io/env-name").matches(labels));
+        assertTrue(LabelSelectorMatcher.parse(null).matches(labels));
+    }
+
+    @Test
+    public void testSetBasedSelectorNotSupported() {
+        assertNull(LabelSelectorMatcher.parse("hyscale.io/service-name in (web,db)"));
+        assertNull(LabelSelectorMatcher.parse("hyscale.io/service-name=web=db"));
+    }
+
+    @Test
+    public void testCacheInactiveOutsideSession() throws HyscaleException {
+        assertFalse(ClusterStateCache.isActive());
+        assertNull(ClusterStateCache.getBySelector(new ApiClient(), null, "app=myapp", "dev"));
+        try (ClusterStateCache.Session session = ClusterStateCache.open()) {
+            assertTrue(ClusterStateCache.isActive());
+        }
+        assertFalse(ClusterStateCache.isActive());
+    }
+}
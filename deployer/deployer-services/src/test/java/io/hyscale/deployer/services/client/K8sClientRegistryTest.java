@@ -0,0 +1,83 @@
+/**
+ * Copyright 2019 Pramati Prism, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.hyscale.deployer.services.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import org.junit.jupiter.api.Test;
+
+import io.hyscale.commons.exception.HyscaleException;
+import io.hyscale.commons.models.K8sBasicAuth;
+import io.hyscale.commons.models.K8sConfigFileAuth;
+import io.hyscale.deployer.services.model.ClientRegistryStats;
+import io.kubernetes.client.openapi.ApiClient;
+
+public class K8sClientRegistryTest {
+
+    @Test
+    public void testClientReuse() throws HyscaleException {
+        K8sClientRegistry clientRegistry = new K8sClientRegistry();
+        K8sBasicAuth authConfig = getBasicAuth();
+        ApiClient apiClient = clientRegistry.get(authConfig, auth -> new ApiClient());
+
+        assertSame(apiClient, clientRegistry.get(getBasicAuth(), auth -> new ApiClient()));
+        ClientRegistryStats stats = clientRegistry.getStats();
+        assertEquals(1, stats.getRegisteredClients());
+        assertEquals(1, stats.getHits());
+        assertEquals(1, stats.getMisses());
+    }
+
+    @Test
+    public void testSharedConnectionPool() throws HyscaleException {
+        K8sClientRegistry clientRegistry = new K8sClientRegistry();
+        K8sBasicAuth anotherAuthConfig = getBasicAuth();
+        anotherAuthConfig.setToken("another-token");
+        ApiClient apiClient = clientRegistry.get(getBasicAuth(), auth -> new ApiClient());
+        ApiClient anotherApiClient = clientRegistry.get(anotherAuthConfig, auth -> new ApiClient());
+
+        assertNotSame(apiClient, anotherApiClient);
+        assertSame(apiClient.getHttpClient().connectionPool(), anotherApiClient.getHttpClient().connectionPool());
+    }
+
+    @Test
+    public void testInvalidateOnKubeConfigChange() throws HyscaleException, IOException {
+        K8sClientRegistry clientRegistry = new K8sClientRegistry();
+        File kubeConfig = File.createTempFile("kubeconfig", null);
+        kubeConfig.deleteOnExit();
+        K8sConfigFileAuth authConfig = new K8sConfigFileAuth();
+        authConfig.setK8sConfigFile(kubeConfig);
+
+        ApiClient apiClient = clientRegistry.get(authConfig, auth -> new ApiClient());
+        assertSame(apiClient, clientRegistry.get(authConfig, auth -> new ApiClient()));
+
+        Files.write(kubeConfig.toPath(), "apiVersion: v1".getBytes());
+        assertNotSame(apiClient, clientRegistry.get(authConfig, auth -> new ApiClient()));
+        assertEquals(1, clientRegistry.getStats().getInvalidations());
+    }
+
+    private K8sBasicAuth getBasicAuth() {
+        K8sBasicAuth authConfig = new K8sBasicAuth();
+        authConfig.setMasterURL("https://localhost:6443");
+        authConfig.setToken("token");
+        return authConfig;
+    }
+}
@@ -0,0 +1,126 @@
+/**
+ * Copyright 2019 Pramati Prism, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.hyscale.deployer.services.processor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.MockitoAnnotations;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import io.hyscale.commons.exception.HyscaleException;
+import io.hyscale.commons.models.ResourceLabelKey;
+import io.hyscale.commons.utils.ObjectMapperFactory;
+import io.hyscale.deployer.core.model.DeploymentStatus;
+import io.hyscale.deployer.core.model.ResourceKind;
+import io.hyscale.deployer.services.deployer.Deployer;
+import io.hyscale.deployer.services.factory.PodParentFactory;
+import io.hyscale.deployer.services.handler.ResourceHandlers;
+import io.hyscale.deployer.services.model.PodParent;
+import io.hyscale.deployer.services.provider.K8sClientProvider;
+import io.kubernetes.client.openapi.ApiClient;
+import io.kubernetes.client.openapi.models.V1Deployment;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import okhttp3.MediaType;
+import okhttp3.Protocol;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+public class ServiceStatusProcessorTest {
+
+    private static final String APP_NAME = "test";
+    private static final String NAMESPACE = "test";
+    private static final String SERVICES_PATH = "/api/v1/namespaces/" + NAMESPACE + "/services";
+
+    private static String serviceList;
+
+    @Mock
+    private K8sClientProvider clientProvider;
+
+    @Mock
+    private PodParentProvider podParentProvider;
+
+    @Mock
+    private Deployer deployer;
+
+    @InjectMocks
+    private ServiceStatusProcessor serviceStatusProcessor;
+
+    private final AtomicInteger serviceListCalls = new AtomicInteger();
+
+    @BeforeAll
+    public static void init() throws IOException {
+        ResourceHandlers.registerHandlers();
+        PodParentFactory.registerHandlers();
+        try (InputStream is = ServiceStatusProcessorTest.class.getResourceAsStream("/test-data/test-service.yaml")) {
+            ObjectNode list = ObjectMapperFactory.jsonMapper().createObjectNode();
+            list.put("apiVersion", "v1").put("kind", "ServiceList");
+            list.putArray("items").add(ObjectMapperFactory.yamlMapper().readTree(is));
+            serviceList = ObjectMapperFactory.jsonMapper().writeValueAsString(list);
+        }
+    }
+
+    @BeforeEach
+    public void initMocks() throws HyscaleException {
+        MockitoAnnotations.initMocks(this);
+        ApiClient apiClient = new ApiClient();
+        apiClient.setHttpClient(apiClient.getHttpClient().newBuilder().addInterceptor(chain -> {
+            if (chain.request().url().encodedPath().equals(SERVICES_PATH)) {
+                serviceListCalls.incrementAndGet();
+            }
+            return new Response.Builder().request(chain.request()).protocol(Protocol.HTTP_1_1).code(200)
+                    .message("OK").body(ResponseBody.create(MediaType.get("application/json"), serviceList)).build();
+        }).build());
+        Mockito.when(clientProvider.get(Mockito.any())).thenReturn(apiClient);
+        Mockito.when(podParentProvider.getPodParents(apiClient, APP_NAME, NAMESPACE)).thenReturn(Arrays.asList(
+                getDeployment("test-frontend"), getDeployment("test-backend"), getDeployment("test-worker")));
+    }
+
+    @Test
+    public void testServicesListedOncePerApp() throws HyscaleException {
+        List<DeploymentStatus> statuses = serviceStatusProcessor.getDeploymentStatus(null, APP_NAME, NAMESPACE);
+
+        assertEquals(1, serviceListCalls.get());
+        assertEquals(3, statuses.size());
+        assertEquals("test-frontend", statuses.get(0).getServiceName());
+        assertNotNull(statuses.get(0).getServiceAddress());
+        assertEquals("test-backend", statuses.get(1).getServiceName());
+        assertNull(statuses.get(1).getServiceAddress());
+        assertEquals("test-worker", statuses.get(2).getServiceName());
+        Mockito.verifyNoInteractions(deployer);
+    }
+
+    private PodParent getDeployment(String serviceName) {
+        V1Deployment deployment = new V1Deployment().metadata(new V1ObjectMeta().name(serviceName)
+                .labels(Collections.singletonMap(ResourceLabelKey.SERVICE_NAME.getLabel(), serviceName)));
+        return new PodParent(ResourceKind.DEPLOYMENT.getKind(), deployment);
+    }
+}
@@ -0,0 +1,91 @@
+/**
+ * Copyright 2019 Pramati Prism, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.hyscale.deployer.services.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import io.hyscale.commons.utils.ObjectMapperFactory;
+import io.hyscale.deployer.services.constants.DeployerConstants;
+import io.kubernetes.client.custom.V1Patch;
+import io.kubernetes.client.openapi.ApiClient;
+import io.kubernetes.client.openapi.models.V1ManagedFieldsEntry;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+
+public class K8sResourcePatchUtilTest {
+
+    private ApiClient apiClient = new ApiClient();
+
+    @Test
+    public void testFieldOwnershipMovedToApplyManager() throws Exception {
+        V1ObjectMeta metadata = new V1ObjectMeta().resourceVersion("42").managedFields(Arrays.asList(
+                getEntry(DeployerConstants.LEGACY_FIELD_MANAGER, "Update",
+                        getFields("f:spec", "f:replicas")),
+                getEntry("kube-controller-manager", "Update",
+                        getFields("f:status")),
+                getEntry(DeployerConstants.FIELD_MANAGER, "Apply",
+                        getFields("f:spec", "f:template"))));
+
+        V1Patch patch = K8sResourcePatchUtil.getFieldOwnershipPatch(apiClient, metadata);
+
+        assertNotNull(patch);
+        JsonNode operations = ObjectMapperFactory.jsonMapper().readTree(patch.getValue());
+        assertEquals("test", operations.get(0).get("op").asText());
+        assertEquals("42", operations.get(0).get("value").asText());
+        JsonNode managedFields = operations.get(1).get("value");
+        assertEquals(2, managedFields.size());
+        assertEquals("kube-controller-manager", managedFields.get(0).get("manager").asText());
+        JsonNode applyEntry = managedFields.get(1);
+        assertEquals(DeployerConstants.FIELD_MANAGER, applyEntry.get("manager").asText());
+        assertEquals("Apply", applyEntry.get("operation").asText());
+        assertTrue(applyEntry.at("/fieldsV1/f:spec/f:replicas").isObject());
+        assertTrue(applyEntry.at("/fieldsV1/f:spec/f:template").isObject());
+    }
+
+    @Test
+    public void testNoPatchWithoutLegacyManager() {
+        V1ObjectMeta metadata = new V1ObjectMeta().resourceVersion("42").managedFields(Collections.singletonList(
+                getEntry(DeployerConstants.FIELD_MANAGER, "Apply", getFields("f:metadata"))));
+        assertNull(K8sResourcePatchUtil.getFieldOwnershipPatch(apiClient, metadata));
+    }
+
+    private Map<String, Object> getFields(String... path) {
+        Map<String, Object> fields = new LinkedHashMap<>();
+        Map<String, Object> current = fields;
+        for (String field : path) {
+            Map<String, Object> child = new LinkedHashMap<>();
+            current.put(field, child);
+            current = child;
+        }
+        return fields;
+    }
+
+    private V1ManagedFieldsEntry getEntry(String manager, String operation, Map<String, Object> fields) {
+        return new V1ManagedFieldsEntry().manager(manager).operation(operation).apiVersion("apps/v1")
+                .fieldsType("FieldsV1").fieldsV1(fields);
+    }
+}
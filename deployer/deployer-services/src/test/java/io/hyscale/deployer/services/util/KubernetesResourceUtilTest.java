@@ -0,0 +1,122 @@
+/**
+ * Copyright 2019 Pramati Prism, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.hyscale.deployer.services.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.gson.Gson;
+
+import io.hyscale.commons.models.AnnotationKey;
+import io.hyscale.commons.models.KubernetesResource;
+import io.hyscale.commons.models.ObjectManifest;
+import io.hyscale.commons.utils.ObjectMapperFactory;
+import io.kubernetes.client.openapi.JSON;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1Secret;
+import io.kubernetes.client.util.Yaml;
+
+public class KubernetesResourceUtilTest {
+
+    @Test
+    public void testSpecDigest() throws IOException {
+        V1Pod pod = getPod();
+        assertEquals(KubernetesResourceUtil.getSpecDigest(pod), KubernetesResourceUtil.getSpecDigest(getPod()));
+
+        V1Pod updatedPod = getPod();
+        updatedPod.getSpec().getContainers().get(0).setImage("nginx:latest");
+        assertNotEquals(KubernetesResourceUtil.getSpecDigest(pod), KubernetesResourceUtil.getSpecDigest(updatedPod));
+        assertNull(KubernetesResourceUtil.getSpecDigest(null));
+    }
+
+    @Test
+    public void testGetAnnotation() throws IOException {
+        V1Pod pod = getPod();
+        assertNull(KubernetesResourceUtil.getAnnotation(pod, AnnotationKey.HYSCALE_SPEC_DIGEST));
+        pod.getMetadata().putAnnotationsItem(AnnotationKey.HYSCALE_SPEC_DIGEST.getAnnotation(), "digest");
+        assertEquals("digest", KubernetesResourceUtil.getAnnotation(pod, AnnotationKey.HYSCALE_SPEC_DIGEST));
+        assertNull(KubernetesResourceUtil.getAnnotation(null, AnnotationKey.HYSCALE_SPEC_DIGEST));
+    }
+
+    @Test
+    public void testIsUnchanged() throws IOException {
+        V1Pod pod = getPod();
+        pod.getMetadata().putAnnotationsItem(AnnotationKey.HYSCALE_SPEC_DIGEST.getAnnotation(), "digest");
+        // Resource without generation cannot be verified as unchanged
+        assertFalse(KubernetesResourceUtil.isUnchanged(pod, "digest"));
+
+        pod.getMetadata().setGeneration(2L);
+        pod.getMetadata().putAnnotationsItem(AnnotationKey.HYSCALE_APPLIED_GENERATION.getAnnotation(), "2");
+        assertTrue(KubernetesResourceUtil.isUnchanged(pod, "digest"));
+        assertFalse(KubernetesResourceUtil.isUnchanged(pod, "updated-digest"));
+
+        // Modified on cluster after apply
+        pod.getMetadata().setGeneration(3L);
+        assertFalse(KubernetesResourceUtil.isUnchanged(pod, "digest"));
+        assertFalse(KubernetesResourceUtil.isUnchanged(null, "digest"));
+    }
+
+    @Test
+    public void testObjectManifestBinding() throws Exception {
+        Gson gson = new JSON().getGson();
+        for (String resourcePath : new String[] { "/test-data/test-pod.yaml", "/test-data/test-service.yaml" }) {
+            Object expected;
+            try (InputStream resourceAsStream = KubernetesResourceUtilTest.class.getResourceAsStream(resourcePath)) {
+                expected = Yaml.load(new InputStreamReader(resourceAsStream));
+            }
+            ObjectNode manifestNode;
+            try (InputStream resourceAsStream = KubernetesResourceUtilTest.class.getResourceAsStream(resourcePath)) {
+                manifestNode = (ObjectNode) ObjectMapperFactory.yamlMapper().readTree(resourceAsStream);
+            }
+            KubernetesResource resource = KubernetesResourceUtil
+                    .getKubernetesResource(new ObjectManifest(manifestNode, null), "test-ns");
+            assertEquals(expected.getClass(), resource.getResource().getClass());
+            assertEquals(manifestNode.get("kind").asText(), resource.getKind());
+            assertEquals("test-ns", resource.getV1ObjectMeta().getNamespace());
+            KubernetesResourceUtil.getObjectMeta(expected).setNamespace("test-ns");
+            assertEquals(gson.toJson(expected), gson.toJson(resource.getResource()));
+        }
+    }
+
+    @Test
+    public void testObjectManifestSecretData() throws Exception {
+        String secretYaml = "apiVersion: v1\nkind: Secret\nmetadata:\n  name: test-secret\ndata:\n  key: dmFsdWU=\n";
+        ObjectNode manifestNode = (ObjectNode) ObjectMapperFactory.yamlMapper().readTree(secretYaml);
+        V1Secret secret = (V1Secret) KubernetesResourceUtil
+                .getKubernetesResource(new ObjectManifest(manifestNode, null), null).getResource();
+        assertEquals("value", new String(secret.getData().get("key")));
+        assertEquals("value", new String(((V1Secret) Yaml.load(secretYaml)).getData().get("key")));
+    }
+
+    private V1Pod getPod() throws IOException {
+        try (InputStream resourceAsStream = KubernetesResourceUtilTest.class
+                .getResourceAsStream("/test-data/test-pod.yaml")) {
+            ObjectMapper mapper = ObjectMapperFactory.yamlMapper();
+            return mapper.readValue(resourceAsStream, V1Pod.class);
+        }
+    }
+}
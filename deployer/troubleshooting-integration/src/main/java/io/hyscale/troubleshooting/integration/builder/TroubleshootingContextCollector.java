@@ -16,12 +16,12 @@
 package io.hyscale.troubleshooting.integration.builder;
 
 import io.hyscale.commons.constants.K8SRuntimeConstants;
+import io.hyscale.commons.constants.ToolConstants;
 import io.hyscale.commons.exception.HyscaleException;
 import io.hyscale.commons.models.AnnotationKey;
 import io.hyscale.commons.models.K8sAuthorisation;
-import io.hyscale.commons.models.ResourceFieldSelectorKey;
-import io.hyscale.commons.utils.FieldSelectorUtil;
 import io.hyscale.commons.utils.ResourceSelectorUtil;
+import io.hyscale.commons.utils.ThreadPoolUtil;
 import io.hyscale.deployer.core.model.ResourceKind;
 import io.hyscale.deployer.services.handler.ResourceHandlers;
 import io.hyscale.deployer.services.handler.ResourceLifeCycleHandler;
@@ -45,6 +45,10 @@ import org.springframework.stereotype.Component;
 
 import java.lang.reflect.InvocationTargetException;
 import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
 
@@ -162,34 +166,40 @@ public class TroubleshootingContextCollector {
 
         V1EventHandler eventHandler = (V1EventHandler) ResourceHandlers.getHandlerOf(ResourceKind.EVENT.getKind());
         Map<String, List<TroubleshootingContext.ResourceInfo>> resourceMap = new HashMap<>();
-        handlerList.stream().forEach(each -> {
-            List resourceList = null;
-            try {
-                resourceList = each.getBySelector(apiClient, selector, true, namespace);
-            } catch (HyscaleException e) {
-                logger.debug("Error while fetching resource {} in namespace {} of selector {}", each.getKind(), namespace, selector, e);
-            }
 
+        // Events of the namespace are fetched once along with resources of each kind
+        Future<List<V1Event>> eventsFuture = submit(() -> eventHandler.getBySelector(apiClient, null, false, namespace));
+        Map<ResourceLifeCycleHandler, Future<List<?>>> kindFutures = new LinkedHashMap<>();
+        handlerList.stream().forEach(each -> kindFutures.put(each, submit(() -> getResources(each, apiClient, selector, namespace))));
+
+        Map<String, List<?>> kindVsResources = new HashMap<>();
+        for (Map.Entry<ResourceLifeCycleHandler, Future<List<?>>> entry : kindFutures.entrySet()) {
+            kindVsResources.put(entry.getKey().getKind(), getResult(entry.getValue(), namespace, selector));
+        }
+        Map<String, List<V1Event>> eventIndex = getEventIndex(getResult(eventsFuture, namespace, selector));
+
+        for (ResourceLifeCycleHandler each : handlerList) {
+            List<?> resourceList = kindVsResources.get(each.getKind());
             // Construct resourceInfo for each resource of this kind
             if (resourceList != null && !resourceList.isEmpty()) {
                 List<TroubleshootingContext.ResourceInfo> resourceInfoList = new ArrayList<>();
-                resourceList.stream().forEach(eachResource -> {
+                for (Object eachResource : resourceList) {
                     TroubleshootingContext.ResourceInfo resourceInfo = new TroubleshootingContext.ResourceInfo();
                     try {
                         V1ObjectMeta v1ObjectMeta = KubernetesResourceUtil.getObjectMeta(eachResource);
                         resourceInfo.setResource(eachResource);
-                        resourceInfo.setEvents(eventHandler.getBySelector(apiClient, getFieldSelector(v1ObjectMeta.getName(), namespace), false, namespace));
-                    } catch (HyscaleException | NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+                        resourceInfo.setEvents(getEvents(eventIndex, each.getKind(), v1ObjectMeta));
+                    } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
                         logger.debug("Error while fetching resource {} logs in namespace {}", eachResource.getClass(), namespace);
                     }
                     resourceInfoList.add(resourceInfo);
-                });
+                }
 
                 if (!resourceInfoList.isEmpty()) {
                     resourceMap.put(each.getKind(), resourceInfoList);
                 }
             }
-        });
+        }
 
         // Adding storage class to the context
         V1StorageClassHandler storageClassHandler = (V1StorageClassHandler) ResourceHandlers.getHandlerOf(ResourceKind.STORAGE_CLASS.getKind());
@@ -209,15 +219,85 @@ public class TroubleshootingContextCollector {
         return resourceMap;
     }
     
+    /**
+     * Submits the task to the shared thread pool, runs it on the calling thread
+     * if the pool rejects it
+     */
+    private <T> Future<T> submit(Callable<T> task) {
+        Future<T> future = ThreadPoolUtil.getInstance().execute(task);
+        if (future != null) {
+            return future;
+        }
+        CompletableFuture<T> result = new CompletableFuture<>();
+        try {
+            result.complete(task.call());
+        } catch (Exception e) {
+            result.completeExceptionally(e);
+        }
+        return result;
+    }
+
+    private <T> T getResult(Future<T> future, String namespace, String selector) throws HyscaleException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.error("Interrupted while fetching resources in namespace {} of selector {}", namespace, selector);
+            throw new HyscaleException(e, TroubleshootErrorCodes.ERROR_WHILE_BUILDING_RESOURCES);
+        } catch (ExecutionException e) {
+            logger.warn("Error while fetching resources in namespace {} of selector {}", namespace, selector, e.getCause());
+        }
+        return null;
+    }
+
+    private List<?> getResources(ResourceLifeCycleHandler handler, ApiClient apiClient, String selector, String namespace) {
+        try {
+            return handler.getBySelector(apiClient, selector, true, namespace);
+        } catch (HyscaleException e) {
+            logger.debug("Error while fetching resource {} in namespace {} of selector {}", handler.getKind(), namespace, selector, e);
+        }
+        return null;
+    }
+
+    /**
+     * Indexes events by involved object uid,
+     * events without uid are indexed by involved object kind and name
+     */
+    private Map<String, List<V1Event>> getEventIndex(List<V1Event> events) {
+        Map<String, List<V1Event>> eventIndex = new HashMap<>();
+        if (events == null) {
+            return eventIndex;
+        }
+        events.stream().filter(each -> each.getInvolvedObject() != null).forEach(each -> {
+            V1ObjectReference involvedObject = each.getInvolvedObject();
+            String key = StringUtils.isNotBlank(involvedObject.getUid()) ? involvedObject.getUid()
+                    : getEventKey(involvedObject.getKind(), involvedObject.getName());
+            eventIndex.computeIfAbsent(key, k -> new ArrayList<>()).add(each);
+        });
+        return eventIndex;
+    }
+
+    private List<V1Event> getEvents(Map<String, List<V1Event>> eventIndex, String kind, V1ObjectMeta v1ObjectMeta) {
+        List<V1Event> events = new ArrayList<>();
+        if (v1ObjectMeta == null) {
+            return events;
+        }
+        if (v1ObjectMeta.getUid() != null && eventIndex.containsKey(v1ObjectMeta.getUid())) {
+            events.addAll(eventIndex.get(v1ObjectMeta.getUid()));
+        }
+        List<V1Event> eventsWithoutUid = eventIndex.get(getEventKey(kind, v1ObjectMeta.getName()));
+        if (eventsWithoutUid != null) {
+            events.addAll(eventsWithoutUid);
+        }
+        return events;
+    }
+
+    private String getEventKey(String kind, String name) {
+        return kind + ToolConstants.COLON + name;
+    }
+
     private List<ResourceLifeCycleHandler> getResourceHandlers() {
         return ResourceHandlers.getAllHandlers().stream()
                 .filter(each -> troubleshootResources.contains(each.getKind())).collect(Collectors.toList());
     }
-
-    private String getFieldSelector(String name, String namespace) {
-        Map<ResourceFieldSelectorKey, String> fieldMap = new HashMap<>();
-        fieldMap.put(V1EventHandler.EventFieldKey.INVOLVED_OBJECT_NAME, name);
-        fieldMap.put(V1EventHandler.EventFieldKey.INVOLVED_OBJECT_NAMESPACE, namespace);
-        return FieldSelectorUtil.getSelectorFromFieldMap(fieldMap);
-    }
 }
@@ -40,7 +40,16 @@ public class BuildContext {
 	private boolean verbose;
 	private boolean tail;
 	private boolean stackAsServiceImage;
+	/**
+	 * Manifest digest of the image in push registry,
+	 * set when image is pushed or found identical in the registry
+	 */
 	private String imageShaSum;
+	/**
+	 * Size of local image pushed to and skipped for push registry
+	 */
+	private long pushedBytes;
+	private long pushSkippedBytes;
 	private String buildLogs;
 	private String pushLogs;
 
@@ -140,6 +149,22 @@ public class BuildContext {
 		this.imageShaSum = imageShaSum;
 	}
 
+	public long getPushedBytes() {
+		return pushedBytes;
+	}
+
+	public void setPushedBytes(long pushedBytes) {
+		this.pushedBytes = pushedBytes;
+	}
+
+	public long getPushSkippedBytes() {
+		return pushSkippedBytes;
+	}
+
+	public void setPushSkippedBytes(long pushSkippedBytes) {
+		this.pushSkippedBytes = pushSkippedBytes;
+	}
+
 	public String getBuildLogs() {
 		return buildLogs;
 	}
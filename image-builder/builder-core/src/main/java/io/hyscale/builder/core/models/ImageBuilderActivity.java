@@ -26,6 +26,7 @@ public enum ImageBuilderActivity implements Activity {
 	IMAGE_PULL("Pulling image "),
 	IMAGE_PUSH("Pushing image "),
 	IMAGE_PUSH_LOG("Push logs "),
+	IMAGE_PUSH_SUMMARY("Image {} pushed, {} skipped as registry has identical image"),
 	FAILED_TO_PUSH_IMAGE("Failed to push {} {}"),
 	DOCKER_NOT_INSTALLED("Docker not installed. Install docker to continue"),
 	DOCKER_DAEMON_NOT_RUNNING("Docker daemon not running. Start Docker to continue");
@@ -0,0 +1,57 @@
+/**
+ * Copyright 2019 Pramati Prism, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.hyscale.builder.core.models;
+
+import java.util.List;
+
+/**
+ * Details of an image available with the docker daemon
+ *
+ */
+public class ImageDetails {
+
+	private String id;
+	private Long size;
+	/**
+	 * Manifest digests of the image in registries,
+	 * each of the form repository@digest
+	 */
+	private List<String> repoDigests;
+
+	public String getId() {
+		return id;
+	}
+
+	public void setId(String id) {
+		this.id = id;
+	}
+
+	public Long getSize() {
+		return size;
+	}
+
+	public void setSize(Long size) {
+		this.size = size;
+	}
+
+	public List<String> getRepoDigests() {
+		return repoDigests;
+	}
+
+	public void setRepoDigests(List<String> repoDigests) {
+		this.repoDigests = repoDigests;
+	}
+}
@@ -20,6 +20,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.PropertySource;
+import org.springframework.core.env.Environment;
 import org.springframework.stereotype.Component;
 
 import io.hyscale.commons.config.SetupConfig;
@@ -30,6 +31,8 @@ public class ImageBuilderConfig {
 
     public static final String IMAGE_BUILDER_PROP = "hyscale.image.builder";
     public static final String DOCKER_HOST = "DOCKER_HOST";
+    public static final String DAEMONLESS_BUILDER_PROP = "hyscale.ctl.image.builder.daemonless";
+    private static final String OCI_LAYOUT_DIR = "oci";
     private static final String PUSH_LOG = "push.log";
     private static final String BUILD_LOG = "build.log";
     private static final String IMAGE_CLEAN_UP_POLICY_PROPERTY = "IMAGE_CLEANUP_POLICY";
@@ -42,6 +45,32 @@ public class ImageBuilderConfig {
     @Value("${HYS.PRESERVE_N_RECENTLY_USED:3}")
     private Integer noOfPreservedImages;
 
+    @Value("${hyscale.ctl.docker.client.max.connections:10}")
+    private Integer dockerClientMaxConnections;
+
+    @Value("${hyscale.ctl.image.build.cache.enabled:#{null}}")
+    private Boolean buildCacheEnabled;
+
+    @Value("${hyscale.ctl.image.build.pull:#{null}}")
+    private Boolean buildPull;
+
+    @Value("${hyscale.ctl.image.build.skip.enabled:false}")
+    private boolean buildSkipEnabled;
+
+    @Value("${hyscale.ctl.image.platform.architecture:amd64}")
+    private String imageArchitecture;
+
+    /**
+     * Daemonless builder assembles images without the docker daemon,
+     * enabled through {@value #DAEMONLESS_BUILDER_PROP} property
+     *
+     * @param environment
+     * @return true if daemonless image builder is enabled
+     */
+    public static boolean isDaemonlessBuilder(Environment environment) {
+        return Boolean.parseBoolean(environment.getProperty(DAEMONLESS_BUILDER_PROP));
+    }
+
     public String getImageCleanUpPolicy() {
         return System.getenv(IMAGE_CLEAN_UP_POLICY_PROPERTY);
     }
@@ -50,6 +79,55 @@ public class ImageBuilderConfig {
         return noOfPreservedImages;
     }
 
+    /**
+     * @return maximum connections pooled by the docker client to the docker daemon
+     */
+    public Integer getDockerClientMaxConnections() {
+        return dockerClientMaxConnections;
+    }
+
+    /**
+     * @param clientDefault used when not configured
+     * @return true if image build may use daemon layer cache
+     */
+    public boolean isBuildCacheEnabled(boolean clientDefault) {
+        return buildCacheEnabled != null ? buildCacheEnabled : clientDefault;
+    }
+
+    /**
+     * @param clientDefault used when not configured
+     * @return true if image build should always pull newer base images
+     */
+    public boolean isBuildPull(boolean clientDefault) {
+        return buildPull != null ? buildPull : clientDefault;
+    }
+
+    /**
+     * Build digest does not cover base images, a reused image may be built
+     * from an older base image than the one available locally
+     *
+     * @return true if build of unchanged inputs may be skipped
+     */
+    public boolean isBuildSkipEnabled() {
+        return buildSkipEnabled;
+    }
+
+    /**
+     * @return architecture of the base image used by daemonless builder
+     * when base image supports multiple platforms
+     */
+    public String getImageArchitecture() {
+        return imageArchitecture;
+    }
+
+    /**
+     * OCI image layout shared by all services, retained across commands
+     * as its blobs are content addressed
+     */
+    public String getOciLayoutDir() {
+        return setupConfig.getCacheDir() + OCI_LAYOUT_DIR + SetupConfig.FILE_SEPARATOR;
+    }
+
     public String getDockerBuildlog(String appName, String serviceName) {
         StringBuilder sb = new StringBuilder(setupConfig.getLogsDir(appName, serviceName));
         sb.append(BUILD_LOG);
@@ -21,4 +21,6 @@ public class DockerImageConstants {
 	
 	public static final String DOCKERFILE_NAME = "Dockerfile";
 
+	public static final String BUILD_DIGEST_LABEL = "hyscale.io/build-digest";
+
 }
@@ -0,0 +1,36 @@
+/**
+ * Copyright 2019 Pramati Prism, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.hyscale.builder.services.constants;
+
+public class OciImageConstants {
+
+	public static final String OCI_MANIFEST = "application/vnd.oci.image.manifest.v1+json";
+	public static final String OCI_INDEX = "application/vnd.oci.image.index.v1+json";
+	public static final String OCI_CONFIG = "application/vnd.oci.image.config.v1+json";
+	public static final String OCI_LAYER = "application/vnd.oci.image.layer.v1.tar+gzip";
+
+	public static final String DOCKER_MANIFEST = "application/vnd.docker.distribution.manifest.v2+json";
+	public static final String DOCKER_MANIFEST_LIST = "application/vnd.docker.distribution.manifest.list.v2+json";
+	public static final String DOCKER_CONFIG = "application/vnd.docker.container.image.v1+json";
+	public static final String DOCKER_LAYER = "application/vnd.docker.image.rootfs.diff.tar.gzip";
+
+	public static final String REF_NAME_ANNOTATION = "org.opencontainers.image.ref.name";
+	public static final String BASE_NAME_ANNOTATION = "org.opencontainers.image.base.name";
+
+	public static final String SHA256_PREFIX = "sha256:";
+	public static final String LINUX_OS = "linux";
+
+}
@@ -20,6 +20,7 @@ import java.util.Map;
 
 import io.hyscale.builder.core.models.BuildContext;
 import io.hyscale.builder.core.models.DockerImage;
+import io.hyscale.builder.core.models.ImageDetails;
 import io.hyscale.commons.exception.HyscaleException;
 import io.hyscale.servicespec.commons.model.service.Dockerfile;
 import io.hyscale.servicespec.commons.model.service.Image;
@@ -51,6 +52,14 @@ public interface HyscaleDockerClient {
      * @throws HyscaleException
      */
     List<String> getImageIds(String imageName, Map<String, String> label) throws HyscaleException;
+
+    /**
+     * Inspect local image
+     * @param image full image name with tag
+     * @return {@link ImageDetails} of the image, null if image is not available locally
+     * @throws HyscaleException
+     */
+    ImageDetails getImageDetails(String image) throws HyscaleException;
     
     /**
      * Delete passed image Ids
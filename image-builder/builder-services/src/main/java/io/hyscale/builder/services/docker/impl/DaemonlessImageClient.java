@@ -0,0 +1,467 @@
+/**
+ * Copyright 2019 Pramati Prism, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.hyscale.builder.services.docker.impl;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import javax.annotation.PostConstruct;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import io.hyscale.builder.core.models.BuildContext;
+import io.hyscale.builder.core.models.DockerImage;
+import io.hyscale.builder.core.models.ImageBuilderActivity;
+import io.hyscale.builder.core.models.ImageDetails;
+import io.hyscale.builder.services.config.ImageBuilderConfig;
+import io.hyscale.builder.services.constants.DockerImageConstants;
+import io.hyscale.builder.services.constants.OciImageConstants;
+import io.hyscale.builder.services.docker.HyscaleDockerClient;
+import io.hyscale.builder.services.exception.ImageBuilderErrorCodes;
+import io.hyscale.builder.services.oci.DockerfileInstructions;
+import io.hyscale.builder.services.oci.ImageReference;
+import io.hyscale.builder.services.oci.OciImageAssembler;
+import io.hyscale.builder.services.oci.OciLayout;
+import io.hyscale.builder.services.oci.RegistryApiClient;
+import io.hyscale.builder.services.oci.RegistryRepository;
+import io.hyscale.builder.services.spring.DaemonlessBuilderCondition;
+import io.hyscale.builder.services.util.ImageLogUtil;
+import io.hyscale.commons.constants.ToolConstants;
+import io.hyscale.commons.exception.HyscaleException;
+import io.hyscale.commons.io.LogSink;
+import io.hyscale.commons.logger.ActivityContext;
+import io.hyscale.commons.logger.WorkflowLogger;
+import io.hyscale.commons.models.ImageRegistry;
+import io.hyscale.commons.models.Status;
+import io.hyscale.commons.utils.ImageMetadataProvider;
+import io.hyscale.commons.utils.ObjectMapperFactory;
+import io.hyscale.servicespec.commons.model.service.Dockerfile;
+import io.hyscale.servicespec.commons.model.service.Image;
+import io.hyscale.servicespec.commons.util.ImageUtil;
+
+/**
+ * Image builder which does not require the docker daemon.
+ * Images are assembled in an OCI layout from the Dockerfile generated for build spec,
+ * reusing base image layers and adding each artifact as a layer of its own.
+ * Push uploads only the blobs missing in the registry, so a change in one artifact
+ * uploads a single layer along with config and manifest.
+ * Dockerfile instructions requiring a container to run are not supported,
+ * services with config commands are to be built with the docker builder.
+ * Image id is the config digest as with docker, images built by the tool carry
+ * owner labels as annotations in the layout index so that only those are cleaned up.
+ */
+@Component
+@Conditional(DaemonlessBuilderCondition.class)
+public class DaemonlessImageClient implements HyscaleDockerClient {
+
+    private static final Logger logger = LoggerFactory.getLogger(DaemonlessImageClient.class);
+
+    // blobs used within this period can belong to an image being assembled
+    private static final long UNREFERENCED_BLOB_GRACE_PERIOD = TimeUnit.HOURS.toMillis(1);
+
+    @Autowired
+    private ImageBuilderConfig imageBuilderConfig;
+
+    @Autowired
+    private ImageMetadataProvider imageMetadataProvider;
+
+    @Autowired
+    private OciImageAssembler ociImageAssembler;
+
+    @Autowired
+    private RegistryApiClient registryApiClient;
+
+    @Autowired
+    private ImageLogUtil imageLogUtil;
+
+    private final ObjectMapper mapper = ObjectMapperFactory.jsonMapper();
+
+    private volatile OciLayout ociLayout;
+
+    @PostConstruct
+    public void init() {
+        logger.debug("Using daemonless image builder with layout at {}", imageBuilderConfig.getOciLayoutDir());
+    }
+
+    private OciLayout getOciLayout() throws HyscaleException {
+        OciLayout layout = ociLayout;
+        if (layout == null) {
+            synchronized (this) {
+                layout = ociLayout;
+                if (layout == null) {
+                    try {
+                        layout = new OciLayout(Paths.get(imageBuilderConfig.getOciLayoutDir()));
+                    } catch (IOException e) {
+                        logger.error("Failed to create image layout at {}", imageBuilderConfig.getOciLayoutDir(), e);
+                        throw new HyscaleException(e, ImageBuilderErrorCodes.FAILED_TO_BUILD_IMAGE);
+                    }
+                    ociLayout = layout;
+                }
+            }
+        }
+        return layout;
+    }
+
+    /**
+     * Docker daemon is not required
+     */
+    @Override
+    public boolean isDockerRunning() {
+        return true;
+    }
+
+    /**
+     * Docker is not required
+     */
+    @Override
+    public boolean checkForDocker() {
+        return true;
+    }
+
+    /**
+     * Image ids of the layout, most recently tagged first
+     */
+    @Override
+    public List<String> getImageIds(String imageName, Map<String, String> label) throws HyscaleException {
+        Set<String> imageIds = new LinkedHashSet<>();
+        try {
+            OciLayout layout = getOciLayout();
+            List<ObjectNode> descriptors = layout.getManifestDescriptors();
+            Collections.reverse(descriptors);
+            for (ObjectNode descriptor : descriptors) {
+                JsonNode annotations = descriptor.path("annotations");
+                String reference = annotations.path(OciImageConstants.REF_NAME_ANNOTATION).asText();
+                if ((imageName == null || imageName.equals(reference) || imageName.equals(getImageWithoutTag(reference)))
+                        && hasLabels(annotations, label)) {
+                    String imageId = getImageId(layout, descriptor);
+                    if (imageId != null) {
+                        imageIds.add(imageId);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            logger.debug("Error while reading images from layout", e);
+            return null;
+        }
+        if (imageIds.isEmpty()) {
+            logger.debug("No images found to clean from the layout");
+            return null;
+        }
+        return new ArrayList<>(imageIds);
+    }
+
+    /**
+     * Removes all references of each image followed by blobs no longer referenced
+     */
+    @Override
+    public void deleteImages(List<String> imageIds, boolean force) throws HyscaleException {
+        if (imageIds == null || imageIds.isEmpty()) {
+            return;
+        }
+        imageIds.forEach(this::untag);
+        deleteUnreferencedBlobs();
+    }
+
+    /**
+     * Removes the image reference or all references of the image id,
+     * followed by blobs no longer referenced
+     */
+    @Override
+    public void deleteImage(String imageId, boolean force) throws HyscaleException {
+        if (StringUtils.isBlank(imageId)) {
+            return;
+        }
+        untag(imageId);
+        deleteUnreferencedBlobs();
+    }
+
+    private void untag(String imageIdOrReference) {
+        try {
+            OciLayout layout = getOciLayout();
+            if (layout.untag(imageIdOrReference)) {
+                return;
+            }
+            for (ObjectNode descriptor : layout.getManifestDescriptors()) {
+                if (imageIdOrReference.equals(getImageId(layout, descriptor))) {
+                    layout.untag(descriptor.path("annotations").path(OciImageConstants.REF_NAME_ANNOTATION).asText());
+                }
+            }
+        } catch (IOException | HyscaleException e) {
+            logger.debug("Ignoring image {} which cannot be deleted", imageIdOrReference, e);
+        }
+    }
+
+    private void deleteUnreferencedBlobs() {
+        try {
+            long deletedBytes = getOciLayout().deleteUnreferencedBlobs(UNREFERENCED_BLOB_GRACE_PERIOD);
+            logger.debug("Deleted {} of unreferenced blobs", FileUtils.byteCountToDisplaySize(deletedBytes));
+        } catch (IOException | HyscaleException e) {
+            logger.debug("Error while deleting unreferenced blobs", e);
+        }
+    }
+
+    /**
+     * @return config digest of the image, null if manifest is not available
+     */
+    private String getImageId(OciLayout layout, ObjectNode descriptor) throws IOException {
+        String manifestDigest = descriptor.path("digest").asText();
+        if (!layout.hasBlob(manifestDigest)) {
+            return null;
+        }
+        return mapper.readTree(layout.readBlob(manifestDigest)).path("config").path("digest").asText(null);
+    }
+
+    private boolean hasLabels(JsonNode annotations, Map<String, String> labels) {
+        if (labels == null) {
+            return true;
+        }
+        return labels.entrySet().stream()
+                .allMatch(each -> each.getValue().equals(annotations.path(each.getKey()).asText(null)));
+    }
+
+    /**
+     * Image id is the config digest, repo digest is the manifest digest
+     * which is pushed for the image
+     */
+    @Override
+    public ImageDetails getImageDetails(String image) throws HyscaleException {
+        try {
+            ObjectNode descriptor = getOciLayout().getManifestDescriptor(image);
+            if (descriptor == null) {
+                return null;
+            }
+            JsonNode manifest = mapper.readTree(getOciLayout().readBlob(descriptor.get("digest").asText()));
+            ImageDetails imageDetails = new ImageDetails();
+            imageDetails.setId(manifest.path("config").path("digest").asText());
+            long size = manifest.path("config").path("size").asLong();
+            for (JsonNode layer : manifest.path("layers")) {
+                size += layer.path("size").asLong();
+            }
+            imageDetails.setSize(size);
+            imageDetails.setRepoDigests(Arrays.asList(
+                    getImageWithoutTag(image) + ToolConstants.AT_SIGN + descriptor.get("digest").asText()));
+            return imageDetails;
+        } catch (IOException e) {
+            logger.debug("Error while reading image {} from layout", image, e);
+            return null;
+        }
+    }
+
+    @Override
+    public DockerImage build(Dockerfile dockerfile, String tag, BuildContext context) throws HyscaleException {
+        ActivityContext buildActivity = new ActivityContext(ImageBuilderActivity.IMAGE_BUILD);
+        WorkflowLogger.startActivity(buildActivity);
+        String appName = context.getAppName();
+        String serviceName = context.getServiceName();
+        String logFilePath = imageBuilderConfig.getDockerBuildlog(appName, serviceName);
+        context.setBuildLogs(logFilePath);
+        DockerImage dockerImage = new DockerImage();
+        dockerImage.setName(imageMetadataProvider.getBuildImageName(appName, serviceName));
+        dockerImage.setTag(tag);
+        ObjectNode manifestDescriptor;
+        try (LogSink buildLogSink = LogSink.open(logFilePath)) {
+            File contextDir = new File(dockerfile.getDockerfilePath());
+            DockerfileInstructions instructions = DockerfileInstructions
+                    .parse(new File(contextDir, DockerImageConstants.DOCKERFILE_NAME));
+            ImageRegistry credentials = getCredentials(ImageReference.parse(instructions.getBaseImage()).getRegistry(),
+                    context);
+            manifestDescriptor = ociImageAssembler.assemble(getOciLayout(), instructions, contextDir, credentials,
+                    progress(buildLogSink, buildActivity));
+            buildLogSink.writeLine("Assembled image " + manifestDescriptor.get("digest").asText());
+            imageMetadataProvider.getImageOwnerLabel().forEach(manifestDescriptor.with("annotations")::put);
+            getOciLayout().tag(StringUtils.isNotBlank(tag) ? dockerImage.getName() + ToolConstants.COLON + tag
+                    : dockerImage.getName(), manifestDescriptor);
+        } catch (HyscaleException e) {
+            WorkflowLogger.endActivity(buildActivity, Status.FAILED);
+            logger.error("Failed to assemble image", e);
+            throw e;
+        } catch (IOException e) {
+            WorkflowLogger.endActivity(buildActivity, Status.FAILED);
+            logger.error("Failed to tag assembled image", e);
+            throw new HyscaleException(e, ImageBuilderErrorCodes.FAILED_TO_BUILD_IMAGE);
+        }
+        WorkflowLogger.endActivity(buildActivity, Status.DONE);
+        if (context.isVerbose()) {
+            imageLogUtil.readBuildLogs(appName, serviceName);
+        }
+        return dockerImage;
+    }
+
+    /**
+     * Uploads blobs missing in the registry followed by the manifest.
+     * Blobs of base image in the same registry are mounted instead of uploaded.
+     */
+    @Override
+    public void push(Image image, BuildContext buildContext) throws HyscaleException {
+        ActivityContext pushActivity = new ActivityContext(ImageBuilderActivity.IMAGE_PUSH);
+        WorkflowLogger.startActivity(pushActivity);
+        String imageFullPath = ImageUtil.getImage(image);
+        String logFilePath = imageBuilderConfig.getDockerPushLogDir(buildContext.getAppName(),
+                buildContext.getServiceName());
+        buildContext.setPushLogs(logFilePath);
+        String registryUrl = StringUtils.isNotBlank(image.getRegistry()) ? image.getRegistry()
+                : buildContext.getPushRegistry().getUrl();
+        RegistryRepository repository = new RegistryRepository(registryUrl, image.getName(),
+                buildContext.getPushRegistry());
+        try (LogSink pushLogSink = LogSink.open(logFilePath)) {
+            OciLayout layout = getOciLayout();
+            ObjectNode descriptor = layout.getManifestDescriptor(imageFullPath);
+            if (descriptor == null) {
+                throw new HyscaleException(ImageBuilderErrorCodes.IMAGE_NOT_FOUND_IN_LAYOUT, imageFullPath);
+            }
+            String baseImage = descriptor.path("annotations").path(OciImageConstants.BASE_NAME_ANNOTATION)
+                    .asText(null);
+            ImageReference baseReference = baseImage != null ? ImageReference.parse(baseImage) : null;
+            boolean mountBase = baseReference != null
+                    && registryApiClient.isSameRegistry(baseReference.getRegistry(), registryUrl);
+            byte[] manifest = layout.readBlob(descriptor.get("digest").asText());
+            JsonNode manifestNode = mapper.readTree(manifest);
+            List<JsonNode> blobs = new ArrayList<>();
+            blobs.add(manifestNode.path("config"));
+            manifestNode.path("layers").forEach(blobs::add);
+            Consumer<String> progress = progress(pushLogSink, pushActivity);
+            long pushedBytes = 0;
+            long skippedBytes = 0;
+            for (JsonNode blob : blobs) {
+                String digest = blob.path("digest").asText();
+                long size = blob.path("size").asLong();
+                if (registryApiClient.hasBlob(repository, digest) || (mountBase
+                        && registryApiClient.mountBlob(repository, digest, baseReference.getRepository()))) {
+                    progress.accept(digest + ": Layer already exists");
+                    skippedBytes += size;
+                    continue;
+                }
+                registryApiClient.uploadBlob(repository, digest, layout.getBlobPath(digest));
+                progress.accept(digest + ": Pushed " + FileUtils.byteCountToDisplaySize(size));
+                pushedBytes += size;
+            }
+            String digest = registryApiClient.putManifest(repository, image.getTag(),
+                    descriptor.get("mediaType").asText(), manifest);
+            digest = digest != null ? digest : descriptor.get("digest").asText();
+            progress.accept(image.getTag() + ": digest: " + digest + " size: " + manifest.length);
+            buildContext.setImageShaSum(digest);
+            buildContext.setPushedBytes(pushedBytes);
+            buildContext.setPushSkippedBytes(skippedBytes);
+        } catch (HyscaleException e) {
+            WorkflowLogger.endActivity(pushActivity, Status.FAILED);
+            throw e;
+        } catch (IOException e) {
+            WorkflowLogger.endActivity(pushActivity, Status.FAILED);
+            logger.error("Failed to push image {}", imageFullPath, e);
+            throw new HyscaleException(e, ImageBuilderErrorCodes.FAILED_TO_PUSH_IMAGE);
+        }
+        WorkflowLogger.endActivity(pushActivity, Status.DONE);
+        if (buildContext.isVerbose()) {
+            imageLogUtil.readPushLogs(buildContext.getAppName(), buildContext.getServiceName());
+        }
+    }
+
+    /**
+     * Fetches image to layout so that it can be tagged
+     */
+    @Override
+    public void pull(String image, BuildContext context) throws HyscaleException {
+        ActivityContext pullActivity = new ActivityContext(ImageBuilderActivity.IMAGE_PULL);
+        WorkflowLogger.startActivity(pullActivity);
+        if (StringUtils.isBlank(image)) {
+            WorkflowLogger.endActivity(pullActivity, Status.SKIPPING);
+            return;
+        }
+        try {
+            ObjectNode descriptor = ociImageAssembler.fetch(getOciLayout(), image,
+                    getCredentials(ImageReference.parse(image).getRegistry(), context),
+                    message -> WorkflowLogger.continueActivity(pullActivity));
+            descriptor.with("annotations").put(OciImageConstants.BASE_NAME_ANNOTATION, image);
+            getOciLayout().tag(image, descriptor);
+        } catch (HyscaleException e) {
+            WorkflowLogger.endActivity(pullActivity, Status.FAILED);
+            throw e;
+        } catch (IOException e) {
+            WorkflowLogger.endActivity(pullActivity, Status.FAILED);
+            throw new HyscaleException(e, ImageBuilderErrorCodes.FAILED_TO_PULL_IMAGE, image);
+        }
+        WorkflowLogger.endActivity(pullActivity, Status.DONE);
+    }
+
+    @Override
+    public void tag(String source, Image dest) throws HyscaleException {
+        WorkflowLogger.startActivity(ImageBuilderActivity.IMAGE_TAG);
+        if (StringUtils.isBlank(source)) {
+            WorkflowLogger.endActivity(Status.SKIPPING);
+            return;
+        }
+        try {
+            ObjectNode descriptor = getOciLayout().getManifestDescriptor(source);
+            if (descriptor == null) {
+                throw new HyscaleException(ImageBuilderErrorCodes.IMAGE_NOT_FOUND_IN_LAYOUT, source);
+            }
+            getOciLayout().tag(ImageUtil.getImage(dest), descriptor);
+        } catch (HyscaleException e) {
+            WorkflowLogger.endActivity(Status.FAILED);
+            logger.error(e.toString());
+            throw e;
+        } catch (IOException e) {
+            WorkflowLogger.endActivity(Status.FAILED);
+            logger.error("Failed to tag image {}", source, e);
+            throw new HyscaleException(e, ImageBuilderErrorCodes.FAILED_TO_TAG_IMAGE);
+        }
+        WorkflowLogger.endActivity(Status.DONE);
+    }
+
+    private Consumer<String> progress(LogSink logSink, ActivityContext activityContext) {
+        return message -> {
+            logSink.writeLine(message);
+            WorkflowLogger.continueActivity(activityContext);
+        };
+    }
+
+    /**
+     * @return pull or push registry credentials matching the registry, null otherwise
+     */
+    private ImageRegistry getCredentials(String registry, BuildContext context) {
+        for (ImageRegistry imageRegistry : Arrays.asList(context.getPullRegistry(), context.getPushRegistry())) {
+            if (imageRegistry != null && registryApiClient.isSameRegistry(registry, imageRegistry.getUrl())) {
+                return imageRegistry;
+            }
+        }
+        return null;
+    }
+
+    private String getImageWithoutTag(String image) {
+        int tagIndex = image.lastIndexOf(ToolConstants.COLON);
+        return tagIndex > image.lastIndexOf(ToolConstants.LINUX_FILE_SEPARATOR) ? image.substring(0, tagIndex) : image;
+    }
+}
@@ -28,6 +28,7 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import io.hyscale.commons.commands.provider.ImageCommandProvider;
+import io.hyscale.builder.services.util.BuildDigestProvider;
 import io.hyscale.builder.services.util.DockerImageUtil;
 import io.hyscale.builder.services.util.ImageLogUtil;
 import io.hyscale.builder.services.spring.DockerBinaryCondition;
@@ -50,6 +51,7 @@ import io.hyscale.builder.services.docker.HyscaleDockerClient;
 import io.hyscale.builder.services.exception.ImageBuilderErrorCodes;
 import io.hyscale.builder.core.models.BuildContext;
 import io.hyscale.builder.core.models.DockerImage;
+import io.hyscale.builder.core.models.ImageDetails;
 import io.hyscale.builder.core.models.ImageBuilderActivity;
 import io.hyscale.commons.commands.CommandExecutor;
 import io.hyscale.commons.exception.HyscaleException;
@@ -65,6 +67,11 @@ public class DockerBinaryClient implements HyscaleDockerClient {
 
     private static final Logger logger = LoggerFactory.getLogger(DockerBinaryClient.class);
 
+    // Build with layer cache and local base image unless configured otherwise
+    private static final boolean DEFAULT_BUILD_CACHE = true;
+
+    private static final boolean DEFAULT_BUILD_PULL = false;
+
     @Autowired
     private ImageCommandProvider imageCommandProvider;
 
@@ -80,6 +87,9 @@ public class DockerBinaryClient implements HyscaleDockerClient {
     @Autowired
     private ImageBuilderConfig imageBuilderConfig;
 
+    @Autowired
+    private BuildDigestProvider buildDigestProvider;
+
     @PostConstruct
     public void init() {
         logger.debug("Using Docker Binary for Image Building");
@@ -125,9 +135,23 @@ public class DockerBinaryClient implements HyscaleDockerClient {
         String serviceName = context.getServiceName();
         boolean verbose = context.isVerbose();
 
+        DockerImage dockerImage = new DockerImage();
+        dockerImage.setName(imageMetadataProvider.getBuildImageName(appName, serviceName));
+        dockerImage.setTag(tag);
+
+        boolean useCache = imageBuilderConfig.isBuildCacheEnabled(DEFAULT_BUILD_CACHE);
+        boolean pull = imageBuilderConfig.isBuildPull(DEFAULT_BUILD_PULL);
+        String buildDigest = buildDigestProvider.isBuildSkipAllowed(useCache, pull)
+                ? buildDigestProvider.getDigest(dockerfile) : null;
+        if (buildDigest != null && tagBuiltImage(dockerImage,
+                imageMetadataProvider.getBuildImageNameWithTag(appName, serviceName, tag), buildDigest)) {
+            WorkflowLogger.endActivity(Status.SKIPPING);
+            return dockerImage;
+        }
+
         String dockerBuildCommand = imageCommandProvider.dockerBuildCommand(appName, serviceName, tag, dockerfile.getDockerfilePath(),
-                dockerfile.getTarget(),
-                dockerfile.getArgs());
+                dockerfile.getTarget(), dockerfile.getArgs(),
+                buildDigest != null ? buildDigestProvider.getDigestLabel(buildDigest) : null, !useCache, pull);
 
         logger.debug("Docker build command {}", dockerBuildCommand);
 
@@ -153,13 +177,29 @@ public class DockerBinaryClient implements HyscaleDockerClient {
             throw new HyscaleException(ImageBuilderErrorCodes.FAILED_TO_BUILD_IMAGE);
         }
 
-        DockerImage dockerImage = new DockerImage();
-        dockerImage.setName(imageMetadataProvider.getBuildImageName(appName, serviceName));
-        dockerImage.setTag(tag);
-
         return dockerImage;
     }
 
+    /**
+     * Tags the local image labelled with build digest as the build image
+     *
+     * @return true if image with the build digest exists locally
+     */
+    private boolean tagBuiltImage(DockerImage dockerImage, String buildImageName, String buildDigest) {
+        try {
+            List<String> imageIds = getImageIds(dockerImage.getName(), buildDigestProvider.getDigestLabel(buildDigest));
+            if (imageIds == null || imageIds.isEmpty()) {
+                return false;
+            }
+            dockerImageUtil.tagImage(imageIds.get(0), buildImageName);
+            logger.debug("Image {} found for build digest {}, skipping build", imageIds.get(0), buildDigest);
+            return true;
+        } catch (HyscaleException e) {
+            logger.debug("Unable to reuse image with build digest {}", buildDigest, e);
+            return false;
+        }
+    }
+
     /**
      * Check docker exists, If stack image as service image pull, tag
      * Push image if required else return
@@ -284,4 +324,35 @@ public class DockerBinaryClient implements HyscaleDockerClient {
         // Need to preserve the order of output, hence a LinkedHashset
         return new LinkedList<>(Arrays.asList(imageIds));
     }
+
+    @Override
+    public ImageDetails getImageDetails(String image) throws HyscaleException {
+        CommandResult result = CommandExecutor.executeAndGetResults(imageCommandProvider.dockerInspect(image));
+        if (result == null || result.getExitCode() > 0 || StringUtils.isBlank(result.getCommandOutput())) {
+            logger.debug("Image {} not found locally", image);
+            return null;
+        }
+        ObjectMapper mapper = ObjectMapperFactory.jsonMapper();
+        try {
+            JsonNode node = mapper.readTree(result.getCommandOutput());
+            if (node.isArray()) {
+                node = node.get(0);
+            }
+            if (node == null) {
+                return null;
+            }
+            ImageDetails imageDetails = new ImageDetails();
+            imageDetails.setId(node.path("Id").asText(null));
+            imageDetails.setSize(node.has("Size") ? node.get("Size").asLong() : null);
+            JsonNode digestNode = node.get("RepoDigests");
+            if (digestNode != null) {
+                imageDetails.setRepoDigests(mapper.convertValue(digestNode, new TypeReference<List<String>>() {
+                }));
+            }
+            return imageDetails;
+        } catch (IOException e) {
+            logger.debug("Error while processing image inspect results ", e);
+        }
+        return null;
+    }
 }
@@ -16,6 +16,7 @@
 package io.hyscale.builder.services.docker.impl;
 
 import java.io.File;
+import java.io.IOException;
 import java.util.Arrays;
 import java.util.Base64;
 import java.util.HashSet;
@@ -24,9 +25,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 import javax.ws.rs.ProcessingException;
 
 import org.apache.commons.lang3.StringUtils;
@@ -40,6 +43,7 @@ import com.github.dockerjava.api.DockerClient;
 import com.github.dockerjava.api.command.*;
 import com.github.dockerjava.api.exception.DockerClientException;
 import com.github.dockerjava.api.exception.DockerException;
+import com.github.dockerjava.api.exception.NotFoundException;
 import com.github.dockerjava.api.model.AuthConfig;
 import com.github.dockerjava.api.model.BuildResponseItem;
 import com.github.dockerjava.api.model.PullResponseItem;
@@ -49,18 +53,21 @@ import com.github.dockerjava.core.DockerClientBuilder;
 import com.github.dockerjava.core.command.BuildImageResultCallback;
 import com.github.dockerjava.core.command.PullImageResultCallback;
 import com.github.dockerjava.core.command.PushImageResultCallback;
+import com.github.dockerjava.jaxrs.JerseyDockerCmdExecFactory;
 
 import io.hyscale.builder.core.models.BuildContext;
 import io.hyscale.builder.core.models.DockerImage;
+import io.hyscale.builder.core.models.ImageDetails;
 import io.hyscale.builder.core.models.ImageBuilderActivity;
 import io.hyscale.builder.services.config.ImageBuilderConfig;
 import io.hyscale.builder.services.constants.DockerImageConstants;
 import io.hyscale.builder.services.docker.HyscaleDockerClient;
 import io.hyscale.builder.services.exception.ImageBuilderErrorCodes;
 import io.hyscale.builder.services.spring.DockerClientCondition;
+import io.hyscale.builder.services.util.BuildDigestProvider;
 import io.hyscale.commons.constants.ToolConstants;
 import io.hyscale.commons.exception.HyscaleException;
-import io.hyscale.commons.io.HyscaleFilesUtil;
+import io.hyscale.commons.io.LogSink;
 import io.hyscale.commons.logger.ActivityContext;
 import io.hyscale.commons.logger.WorkflowLogger;
 import io.hyscale.commons.models.ImageRegistry;
@@ -76,6 +83,8 @@ import io.hyscale.servicespec.commons.util.ImageUtil;
  * It connects to the docker daemon through an environment
  * variable @see ImageBuilderConfig.getDockerHost() or through to
  * the default host based on the operating system.
+ * A single client with a pooled transport is created lazily
+ * and shared by all operations till the application shuts down.
  */
 
 @Component
@@ -86,14 +95,27 @@ public class DockerRESTClient implements HyscaleDockerClient {
 
     private static final String SHA256 = "sha256";
 
+    // Build without layer cache and pull base image unless configured otherwise
+    private static final boolean DEFAULT_BUILD_CACHE = false;
+
+    private static final boolean DEFAULT_BUILD_PULL = true;
+
     @Autowired
     private ImageBuilderConfig imageBuilderConfig;
 
     @Autowired
     private ImageMetadataProvider imageMetadataProvider;
 
+    @Autowired
+    private BuildDigestProvider buildDigestProvider;
+
     private DefaultDockerClientConfig clientConfig;
 
+    private volatile DockerClient dockerClient;
+
+    // registry url and token to decoded credentials
+    private final Map<String, AuthConfig> authConfigCache = new ConcurrentHashMap<>();
+
     @PostConstruct
     public void init() {
         clientConfig
@@ -103,7 +125,38 @@ public class DockerRESTClient implements HyscaleDockerClient {
     }
 
     public DockerClient getDockerClient() {
-        return DockerClientBuilder.getInstance(clientConfig).build();
+        DockerClient client = dockerClient;
+        if (client == null) {
+            synchronized (this) {
+                client = dockerClient;
+                if (client == null) {
+                    Integer maxConnections = imageBuilderConfig.getDockerClientMaxConnections();
+                    JerseyDockerCmdExecFactory cmdExecFactory = new JerseyDockerCmdExecFactory()
+                            .withMaxTotalConnections(maxConnections)
+                            .withMaxPerRouteConnections(maxConnections);
+                    client = DockerClientBuilder.getInstance(clientConfig)
+                            .withDockerCmdExecFactory(cmdExecFactory).build();
+                    logger.debug("Created docker client with {} pooled connections", maxConnections);
+                    dockerClient = client;
+                }
+            }
+        }
+        return client;
+    }
+
+    @PreDestroy
+    public void close() {
+        DockerClient client = dockerClient;
+        dockerClient = null;
+        authConfigCache.clear();
+        if (client == null) {
+            return;
+        }
+        try {
+            client.close();
+        } catch (IOException e) {
+            logger.error("Error while closing docker client", e);
+        }
     }
 
     @Override
@@ -171,29 +224,45 @@ public class DockerRESTClient implements HyscaleDockerClient {
         String appName = buildContext.getAppName();
         String serviceName = buildContext.getServiceName();
 
+        DockerImage dockerImage = new DockerImage();
+        dockerImage.setName(imageMetadataProvider.getBuildImageName(appName, serviceName));
+        dockerImage.setTag(tag);
+
+        boolean useCache = imageBuilderConfig.isBuildCacheEnabled(DEFAULT_BUILD_CACHE);
+        boolean pull = imageBuilderConfig.isBuildPull(DEFAULT_BUILD_PULL);
+        String buildDigest = buildDigestProvider.isBuildSkipAllowed(useCache, pull)
+                ? buildDigestProvider.getDigest(dockerfile) : null;
+        if (buildDigest != null && tagBuiltImage(dockerImage, buildDigest)) {
+            WorkflowLogger.endActivity(buildActivity, Status.SKIPPING);
+            return dockerImage;
+        }
+
         String buildImageName = imageMetadataProvider.getBuildImageNameWithTag(appName, serviceName, tag);
-        BuildImageCmd buildImageCmd = getBuildCommand(dockerfile, buildImageName);
+        BuildImageCmd buildImageCmd = getBuildCommand(dockerfile, buildImageName, buildDigest, useCache, pull);
 
         String logFilePath = imageBuilderConfig.getDockerBuildlog(appName, serviceName);
         buildContext.setBuildLogs(logFilePath);
+        LogSink buildLogSink;
+        try {
+            buildLogSink = LogSink.open(logFilePath);
+        } catch (HyscaleException e) {
+            WorkflowLogger.endActivity(buildActivity, Status.FAILED);
+            throw e;
+        }
         if (buildContext.isVerbose()) {
             WorkflowLogger.header(ImageBuilderActivity.BUILD_LOGS);
         }
         BuildImageResultCallback callback = new BuildImageResultCallback() {
             @Override
             public void onNext(BuildResponseItem item) {
-                try {
-                    String stream = item.getStream();
-                    if (stream != null) {
-                        HyscaleFilesUtil.updateFile(logFilePath, stream.concat(ToolConstants.NEW_LINE));
-                        if (buildContext.isVerbose()) {
-                            WorkflowLogger.log(stream);
-                        } else {
-                            WorkflowLogger.continueActivity(buildActivity);
-                        }
+                String stream = item.getStream();
+                if (stream != null) {
+                    buildLogSink.writeLine(stream);
+                    if (buildContext.isVerbose()) {
+                        WorkflowLogger.log(stream);
+                    } else {
+                        WorkflowLogger.continueActivity(buildActivity);
                     }
-                } catch (HyscaleException e) {
-                    logger.error("Error while writing build progress to build logs", e);
                 }
                 super.onNext(item);
             }
@@ -209,6 +278,8 @@ public class DockerRESTClient implements HyscaleDockerClient {
         } catch (DockerClientException | InterruptedException e) {
             logger.error("Failed to build image", e);
             throw new HyscaleException(ImageBuilderErrorCodes.FAILED_TO_PUSH_IMAGE);
+        } finally {
+            closeLogSink(buildLogSink);
         }
 
         if (buildContext.isVerbose()) {
@@ -217,12 +288,30 @@ public class DockerRESTClient implements HyscaleDockerClient {
         } else {
             WorkflowLogger.endActivity(buildActivity, Status.DONE);
         }
-        DockerImage dockerImage = new DockerImage();
-        dockerImage.setName(imageMetadataProvider.getBuildImageName(appName, serviceName));
-        dockerImage.setTag(tag);
         return dockerImage;
     }
 
+    /**
+     * Tags the local image labelled with build digest as the build image
+     *
+     * @return true if image with the build digest exists locally
+     */
+    private boolean tagBuiltImage(DockerImage dockerImage, String buildDigest) {
+        try {
+            List<String> imageIds = getImageIds(dockerImage.getName(),
+                    buildDigestProvider.getDigestLabel(buildDigest));
+            if (imageIds == null || imageIds.isEmpty()) {
+                return false;
+            }
+            getDockerClient().tagImageCmd(imageIds.get(0), dockerImage.getName(), dockerImage.getTag()).exec();
+            logger.debug("Image {} found for build digest {}, skipping build", imageIds.get(0), buildDigest);
+            return true;
+        } catch (HyscaleException | ProcessingException | DockerException e) {
+            logger.debug("Unable to reuse image with build digest {}", buildDigest, e);
+            return false;
+        }
+    }
+
     private void validate(Dockerfile dockerfileModel) throws HyscaleException {
         if (dockerfileModel == null) {
             throw new HyscaleException(ImageBuilderErrorCodes.DOCKERFILE_REQUIRED);
@@ -233,16 +322,20 @@ public class DockerRESTClient implements HyscaleDockerClient {
         }
     }
 
-    private BuildImageCmd getBuildCommand(Dockerfile dockerfile, String tag) {
+    private BuildImageCmd getBuildCommand(Dockerfile dockerfile, String tag, String buildDigest, boolean useCache,
+            boolean pull) {
         Set<String> tags = new HashSet<>();
         tags.add(tag);
         Map<String, String> labels = imageMetadataProvider.getImageOwnerLabel();
+        if (buildDigest != null) {
+            labels.putAll(buildDigestProvider.getDigestLabel(buildDigest));
+        }
 
         DockerClient dockerClient = getDockerClient();
         BuildImageCmd buildImageCmd = dockerClient.buildImageCmd()
                 .withDockerfile(getDockerFile(dockerfile.getDockerfilePath()))
-                .withPull(true)
-                .withNoCache(true)
+                .withPull(pull)
+                .withNoCache(!useCache)
                 .withLabels(labels)
                 .withTags(tags)
                 .withTarget(dockerfile.getTarget());
@@ -322,6 +415,7 @@ public class DockerRESTClient implements HyscaleDockerClient {
         // Push image
         String logFilePath = imageBuilderConfig.getDockerPushLogDir(buildContext.getAppName(), buildContext.getServiceName());
         buildContext.setPushLogs(logFilePath);
+        LogSink pushLogSink = LogSink.open(logFilePath);
         PushImageCmd pushImageCmd = dockerClient.pushImageCmd(ImageUtil.getImageWithoutTag(image)).withTag(image.getTag())
                 .withAuthConfig(authConfig);
         ActivityContext pushActivity = new ActivityContext(ImageBuilderActivity.IMAGE_PUSH);
@@ -332,22 +426,18 @@ public class DockerRESTClient implements HyscaleDockerClient {
         PushImageResultCallback callback = new PushImageResultCallback() {
             @Override
             public void onNext(PushResponseItem item) {
-                try {
-                    String status = item.getStatus();
-                    if (status != null) {
-                        HyscaleFilesUtil.updateFile(logFilePath, status.concat(ToolConstants.NEW_LINE));
-                        if (buildContext.isVerbose()) {
-                            WorkflowLogger.log(status);
-                        } else {
-                            WorkflowLogger.continueActivity(pushActivity);
-                        }
-                        // From the push item we should be able to get SHAID?
-                        if (status.contains(SHA256)) {
-                            buildContext.setImageShaSum(getImageDigest(status));
-                        }
+                String status = item.getStatus();
+                if (status != null) {
+                    pushLogSink.writeLine(status);
+                    if (buildContext.isVerbose()) {
+                        WorkflowLogger.log(status);
+                    } else {
+                        WorkflowLogger.continueActivity(pushActivity);
+                    }
+                    // From the push item we should be able to get SHAID?
+                    if (status.contains(SHA256)) {
+                        buildContext.setImageShaSum(getImageDigest(status));
                     }
-                } catch (HyscaleException e) {
-                    logger.error("Error while writing push progress to push logs", e);
                 }
                 super.onNext(item);
             }
@@ -365,6 +455,8 @@ public class DockerRESTClient implements HyscaleDockerClient {
         } catch (DockerClientException | InterruptedException e) {
             logger.error("Failed to push image {}", image.getName(), e);
             throw new HyscaleException(ImageBuilderErrorCodes.FAILED_TO_PUSH_IMAGE);
+        } finally {
+            closeLogSink(pushLogSink);
         }
         if (buildContext.isVerbose()) {
             WorkflowLogger.endActivity(Status.DONE);
@@ -374,10 +466,23 @@ public class DockerRESTClient implements HyscaleDockerClient {
         }
     }
 
+    private void closeLogSink(LogSink logSink) {
+        try {
+            logSink.close();
+        } catch (HyscaleException e) {
+            logger.error("Error while writing logs to {}", logSink.getLogFile(), e);
+        }
+    }
+
     private AuthConfig getAuthConfig(ImageRegistry imageRegistry) {
         if (imageRegistry == null) {
             return null;
         }
+        String authKey = imageRegistry.getUrl() + ToolConstants.SPACE + imageRegistry.getToken();
+        return authConfigCache.computeIfAbsent(authKey, key -> decodeAuthConfig(imageRegistry));
+    }
+
+    private AuthConfig decodeAuthConfig(ImageRegistry imageRegistry) {
         AuthConfig authConfig = new AuthConfig();
         authConfig.withRegistryAddress(imageRegistry.getUrl());
 
@@ -420,4 +525,24 @@ public class DockerRESTClient implements HyscaleDockerClient {
         }).collect(Collectors.toCollection(LinkedList::new));
     }
 
+
+    @Override
+    public ImageDetails getImageDetails(String image) throws HyscaleException {
+        InspectImageResponse inspectImageResponse;
+        try {
+            inspectImageResponse = getDockerClient().inspectImageCmd(image).exec();
+        } catch (NotFoundException e) {
+            logger.debug("Image {} not found locally", image);
+            return null;
+        } catch (ProcessingException | DockerException e) {
+            logger.error("Error while inspecting image {}", image, e);
+            return null;
+        }
+        ImageDetails imageDetails = new ImageDetails();
+        imageDetails.setId(inspectImageResponse.getId());
+        imageDetails.setSize(inspectImageResponse.getSize());
+        imageDetails.setRepoDigests(inspectImageResponse.getRepoDigests());
+        return imageDetails;
+    }
+
 }
@@ -31,7 +31,11 @@ public enum ImageBuilderErrorCodes implements HyscaleError {
     FAILED_TO_BUILD_AND_PUSH_IMAGE("Failed to build & push image",HyscaleErrorGroup.IMAGE_BUILD),
     MISSING_DOCKER_REGISTRY_CREDENTIALS("Cannot find {} credentials . Do 'docker login {}' to continue with the deployment",HyscaleErrorGroup.IMAGE_PUSH),
     DOCKERFILE_REQUIRED("Dockerfile required", HyscaleErrorGroup.IMAGE_BUILD),
-    DOCKERFILE_NOT_FOUND("Dockerfile not found at {}", HyscaleErrorGroup.IMAGE_BUILD);
+    DOCKERFILE_NOT_FOUND("Dockerfile not found at {}", HyscaleErrorGroup.IMAGE_BUILD),
+    UNSUPPORTED_DOCKERFILE_INSTRUCTION("Dockerfile instruction '{}' is not supported without docker daemon, use the docker builder for services with configCommands", HyscaleErrorGroup.IMAGE_BUILD),
+    BUILD_CONTEXT_FILE_NOT_FOUND("File {} not found in build context", HyscaleErrorGroup.IMAGE_BUILD),
+    FAILED_TO_FETCH_IMAGE("Failed to fetch image {} from registry", HyscaleErrorGroup.IMAGE_BUILD),
+    IMAGE_NOT_FOUND_IN_LAYOUT("Image {} not found in local image layout", HyscaleErrorGroup.IMAGE_PUSH);
 
     private String message;
     private int code;
@@ -17,6 +17,7 @@ package io.hyscale.builder.services.impl;
 
 import java.io.File;
 
+import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -32,6 +33,7 @@ import io.hyscale.builder.services.constants.DockerImageConstants;
 import io.hyscale.builder.services.docker.HyscaleDockerClient;
 import io.hyscale.builder.services.exception.ImageBuilderErrorCodes;
 import io.hyscale.builder.services.service.ImageBuildPushService;
+import io.hyscale.builder.services.util.ImagePushPlanner;
 import io.hyscale.commons.config.SetupConfig;
 import io.hyscale.commons.constants.ToolConstants;
 import io.hyscale.commons.exception.HyscaleException;
@@ -53,6 +55,9 @@ public class LocalImageBuildPushServiceImpl implements ImageBuildPushService {
     @Autowired
     private ImageCleanUpProcessor imageCleanUp;
 
+    @Autowired
+    private ImagePushPlanner imagePushPlanner;
+
     @Override
     public void buildAndPush(ServiceSpec serviceSpec, BuildContext context) throws HyscaleException {
         validate(serviceSpec, context);
@@ -108,8 +113,20 @@ public class LocalImageBuildPushServiceImpl implements ImageBuildPushService {
             WorkflowLogger.endActivity(Status.SKIPPING);
             return;
         }
-        hyscaleDockerClient.push(image, context);
-        
+        if (imagePushPlanner.isPushRequired(image, context)) {
+            hyscaleDockerClient.push(image, context);
+        } else {
+            WorkflowLogger.startActivity(ImageBuilderActivity.IMAGE_PUSH);
+            WorkflowLogger.endActivity(Status.SKIPPING);
+        }
+        logger.debug("Image {} pushed bytes: {}, skipped bytes: {}", image.getName(), context.getPushedBytes(),
+                context.getPushSkippedBytes());
+        if (context.getPushSkippedBytes() > 0) {
+            WorkflowLogger.info(ImageBuilderActivity.IMAGE_PUSH_SUMMARY,
+                    FileUtils.byteCountToDisplaySize(context.getPushedBytes()),
+                    FileUtils.byteCountToDisplaySize(context.getPushSkippedBytes()));
+        }
+
         // Clean up images based on clean up policy
         imageCleanUp.cleanUp(serviceSpec, context);
     }
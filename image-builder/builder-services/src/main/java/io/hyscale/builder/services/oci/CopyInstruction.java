@@ -0,0 +1,142 @@
+/**
+ * Copyright 2019 Pramati Prism, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.hyscale.builder.services.oci;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.apache.commons.lang3.StringUtils;
+
+import io.hyscale.builder.services.exception.ImageBuilderErrorCodes;
+import io.hyscale.commons.constants.ToolConstants;
+import io.hyscale.commons.exception.HyscaleException;
+
+/**
+ * COPY or ADD of files from build context, each applied as a layer of its own
+ *
+ */
+public class CopyInstruction {
+
+    private static final int DIRECTORY_MODE = 0755;
+    private static final int EXECUTABLE_MODE = 0755;
+    private static final int FILE_MODE = 0644;
+
+    private final String instruction;
+    private final List<String> sources;
+    private final String destination;
+    // path in image to permission applied recursively after copy
+    private final Map<String, Integer> permissions = new LinkedHashMap<>();
+
+    public CopyInstruction(String instruction, List<String> sources, String destination) {
+        this.instruction = instruction;
+        this.sources = sources;
+        this.destination = destination;
+    }
+
+    public String getInstruction() {
+        return instruction;
+    }
+
+    void addPermission(String path, int mode) {
+        permissions.put(getImagePath(path), mode);
+    }
+
+    /**
+     * Resolves sources in the build context to layer entries,
+     * as with docker, destination ending with '/' or multiple sources
+     * copy into the destination directory and directories are copied by content
+     *
+     * @param contextDir build context directory
+     * @return layer entries
+     * @throws HyscaleException if source is not available in build context
+     */
+    public List<LayerEntry> getEntries(File contextDir) throws HyscaleException {
+        String destinationPath = getImagePath(destination);
+        boolean intoDirectory = destination.endsWith(ToolConstants.LINUX_FILE_SEPARATOR) || sources.size() > 1;
+        List<LayerEntry> entries = new ArrayList<>();
+        for (String source : sources) {
+            File sourceFile = getSourceFile(contextDir, source);
+            if (sourceFile.isDirectory()) {
+                entries.addAll(getDirectoryEntries(sourceFile.toPath(), destinationPath));
+            } else {
+                String path = intoDirectory ? join(destinationPath, sourceFile.getName()) : destinationPath;
+                entries.add(entry(path, sourceFile, Files.isExecutable(sourceFile.toPath()) ? EXECUTABLE_MODE : FILE_MODE));
+            }
+        }
+        return entries;
+    }
+
+    private List<LayerEntry> getDirectoryEntries(Path sourceDir, String destinationPath) throws HyscaleException {
+        try (Stream<Path> paths = Files.walk(sourceDir)) {
+            return paths.filter(each -> !each.equals(sourceDir)).map(each -> {
+                String relativePath = sourceDir.relativize(each).toString()
+                        .replace(File.separator, ToolConstants.LINUX_FILE_SEPARATOR);
+                String path = join(destinationPath, relativePath);
+                if (Files.isDirectory(each)) {
+                    return entry(path, null, DIRECTORY_MODE);
+                }
+                return entry(path, each.toFile(), Files.isExecutable(each) ? EXECUTABLE_MODE : FILE_MODE);
+            }).collect(Collectors.toList());
+        } catch (IOException e) {
+            throw new HyscaleException(e, ImageBuilderErrorCodes.BUILD_CONTEXT_FILE_NOT_FOUND, sourceDir.toString());
+        }
+    }
+
+    private File getSourceFile(File contextDir, String source) throws HyscaleException {
+        File sourceFile = new File(contextDir, source);
+        try {
+            String contextPath = contextDir.getCanonicalPath();
+            String sourcePath = sourceFile.getCanonicalPath();
+            if (!sourceFile.exists() || !(sourcePath.equals(contextPath)
+                    || sourcePath.startsWith(contextPath + File.separator))) {
+                throw new HyscaleException(ImageBuilderErrorCodes.BUILD_CONTEXT_FILE_NOT_FOUND, source);
+            }
+        } catch (IOException e) {
+            throw new HyscaleException(e, ImageBuilderErrorCodes.BUILD_CONTEXT_FILE_NOT_FOUND, source);
+        }
+        return sourceFile;
+    }
+
+    private LayerEntry entry(String path, File source, int mode) {
+        for (Map.Entry<String, Integer> permission : permissions.entrySet()) {
+            String permissionPath = permission.getKey();
+            if (permissionPath.isEmpty() || path.equals(permissionPath)
+                    || path.startsWith(permissionPath + ToolConstants.LINUX_FILE_SEPARATOR)) {
+                mode = permission.getValue();
+            }
+        }
+        return new LayerEntry(path, source, mode);
+    }
+
+    private static String join(String parent, String child) {
+        return parent.isEmpty() ? child : parent + ToolConstants.LINUX_FILE_SEPARATOR + child;
+    }
+
+    /**
+     * @return path relative to image root without trailing separator
+     */
+    private static String getImagePath(String path) {
+        return StringUtils.strip(path, ToolConstants.LINUX_FILE_SEPARATOR);
+    }
+}
@@ -0,0 +1,181 @@
+/**
+ * Copyright 2019 Pramati Prism, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.hyscale.builder.services.oci;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.commons.lang3.StringUtils;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+
+import io.hyscale.builder.services.exception.ImageBuilderErrorCodes;
+import io.hyscale.commons.exception.HyscaleException;
+import io.hyscale.commons.utils.ObjectMapperFactory;
+
+/**
+ * Instructions of a Dockerfile which can be applied without running a container,
+ * as generated for services with build spec.
+ * Supports FROM, COPY and ADD of local files, ENTRYPOINT, CMD and
+ * RUN of the permission command for copied scripts, which is applied to the copied files.
+ * Any other RUN, such as that of the configure script, requires the docker builder.
+ */
+public class DockerfileInstructions {
+
+    private static final String COMMENT = "#";
+    private static final String LINE_CONTINUATION = "\\";
+    private static final String FROM = "FROM";
+    private static final String COPY = "COPY";
+    private static final String ADD = "ADD";
+    private static final String RUN = "RUN";
+    private static final String ENTRYPOINT = "ENTRYPOINT";
+    private static final String CMD = "CMD";
+    private static final String EXEC_FORM_START = "[";
+    private static final String OPTION_START = "--";
+    private static final String URL_SEPARATOR = "://";
+    private static final List<String> SHELL = Arrays.asList("/bin/sh", "-c");
+    private static final Pattern PERMISSION_COMMAND = Pattern.compile("chmod\\s+-R\\s+([0-7]{3,4})\\s+(\\S+)");
+
+    private String baseImage;
+    private final List<CopyInstruction> copyInstructions = new ArrayList<>();
+    private List<String> entrypoint;
+    private List<String> cmd;
+
+    private DockerfileInstructions() {
+    }
+
+    public static DockerfileInstructions parse(File dockerfile) throws HyscaleException {
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(dockerfile.toPath());
+        } catch (IOException e) {
+            throw new HyscaleException(e, ImageBuilderErrorCodes.DOCKERFILE_NOT_FOUND, dockerfile.getAbsolutePath());
+        }
+        DockerfileInstructions instructions = new DockerfileInstructions();
+        StringBuilder instruction = new StringBuilder();
+        for (String line : lines) {
+            String trimmedLine = line.trim();
+            if (trimmedLine.isEmpty() || trimmedLine.startsWith(COMMENT)) {
+                continue;
+            }
+            if (trimmedLine.endsWith(LINE_CONTINUATION)) {
+                instruction.append(StringUtils.removeEnd(trimmedLine, LINE_CONTINUATION)).append(' ');
+                continue;
+            }
+            instruction.append(trimmedLine);
+            instructions.apply(instruction.toString());
+            instruction.setLength(0);
+        }
+        if (instruction.length() > 0) {
+            instructions.apply(instruction.toString().trim());
+        }
+        if (instructions.baseImage == null) {
+            throw new HyscaleException(ImageBuilderErrorCodes.UNSUPPORTED_DOCKERFILE_INSTRUCTION, "no FROM");
+        }
+        return instructions;
+    }
+
+    private void apply(String instruction) throws HyscaleException {
+        String keyword = StringUtils.substringBefore(instruction, " ").toUpperCase();
+        String arguments = StringUtils.substringAfter(instruction, " ").trim();
+        if (baseImage == null && !FROM.equals(keyword)) {
+            throw new HyscaleException(ImageBuilderErrorCodes.UNSUPPORTED_DOCKERFILE_INSTRUCTION, instruction);
+        }
+        switch (keyword) {
+            case FROM:
+                if (baseImage != null || arguments.isEmpty() || arguments.contains(" ")) {
+                    throw new HyscaleException(ImageBuilderErrorCodes.UNSUPPORTED_DOCKERFILE_INSTRUCTION, instruction);
+                }
+                baseImage = arguments;
+                break;
+            case COPY:
+            case ADD:
+                List<String> paths = Arrays.asList(arguments.split("\\s+"));
+                if (paths.size() < 2 || paths.stream().anyMatch(
+                        each -> each.startsWith(OPTION_START) || each.startsWith(EXEC_FORM_START)
+                                || each.contains(URL_SEPARATOR))) {
+                    throw new HyscaleException(ImageBuilderErrorCodes.UNSUPPORTED_DOCKERFILE_INSTRUCTION, instruction);
+                }
+                copyInstructions.add(new CopyInstruction(instruction, paths.subList(0, paths.size() - 1),
+                        paths.get(paths.size() - 1)));
+                break;
+            case RUN:
+                Matcher matcher = PERMISSION_COMMAND.matcher(arguments);
+                if (!matcher.matches()) {
+                    throw new HyscaleException(ImageBuilderErrorCodes.UNSUPPORTED_DOCKERFILE_INSTRUCTION, instruction);
+                }
+                int mode = Integer.parseInt(matcher.group(1), 8);
+                copyInstructions.forEach(each -> each.addPermission(matcher.group(2), mode));
+                break;
+            case ENTRYPOINT:
+                entrypoint = getCommand(arguments, instruction);
+                // as with docker, entrypoint resets the command inherited from base image
+                cmd = null;
+                break;
+            case CMD:
+                cmd = getCommand(arguments, instruction);
+                break;
+            default:
+                throw new HyscaleException(ImageBuilderErrorCodes.UNSUPPORTED_DOCKERFILE_INSTRUCTION, instruction);
+        }
+    }
+
+    private List<String> getCommand(String arguments, String instruction) throws HyscaleException {
+        if (!arguments.startsWith(EXEC_FORM_START)) {
+            List<String> command = new ArrayList<>(SHELL);
+            command.add(arguments);
+            return command;
+        }
+        try {
+            return ObjectMapperFactory.jsonMapper().readValue(arguments, new TypeReference<List<String>>() {
+            });
+        } catch (IOException e) {
+            throw new HyscaleException(e, ImageBuilderErrorCodes.UNSUPPORTED_DOCKERFILE_INSTRUCTION, instruction);
+        }
+    }
+
+    public String getBaseImage() {
+        return baseImage;
+    }
+
+    public List<CopyInstruction> getCopyInstructions() {
+        return copyInstructions;
+    }
+
+    /**
+     * @return entrypoint, null if inherited from base image
+     */
+    public List<String> getEntrypoint() {
+        return entrypoint;
+    }
+
+    /**
+     * @return command, null if inherited from base image or reset by entrypoint
+     */
+    public List<String> getCmd() {
+        return cmd;
+    }
+
+    public boolean isEntrypointSet() {
+        return entrypoint != null;
+    }
+}
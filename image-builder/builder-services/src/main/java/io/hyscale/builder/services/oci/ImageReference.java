@@ -0,0 +1,80 @@
+/**
+ * Copyright 2019 Pramati Prism, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.hyscale.builder.services.oci;
+
+import io.hyscale.commons.constants.ToolConstants;
+
+/**
+ * Image reference split into registry, repository and tag or digest.
+ * Reference without registry refers to docker hub.
+ */
+public class ImageReference {
+
+    private static final String DOCKER_HUB = "docker.io";
+    private static final String LOCALHOST = "localhost";
+    private static final String LATEST_TAG = "latest";
+
+    private final String registry;
+    private final String repository;
+    private final String reference;
+
+    private ImageReference(String registry, String repository, String reference) {
+        this.registry = registry;
+        this.repository = repository;
+        this.reference = reference;
+    }
+
+    public static ImageReference parse(String image) {
+        String name = image;
+        String reference = LATEST_TAG;
+        int digestIndex = name.indexOf(ToolConstants.AT_SIGN);
+        if (digestIndex > 0) {
+            reference = name.substring(digestIndex + 1);
+            name = name.substring(0, digestIndex);
+        } else {
+            int tagIndex = name.lastIndexOf(ToolConstants.COLON);
+            if (tagIndex > name.lastIndexOf(ToolConstants.LINUX_FILE_SEPARATOR)) {
+                reference = name.substring(tagIndex + 1);
+                name = name.substring(0, tagIndex);
+            }
+        }
+        String registry = DOCKER_HUB;
+        int separatorIndex = name.indexOf(ToolConstants.LINUX_FILE_SEPARATOR);
+        if (separatorIndex > 0) {
+            String host = name.substring(0, separatorIndex);
+            if (host.contains(".") || host.contains(ToolConstants.COLON) || host.equals(LOCALHOST)) {
+                registry = host;
+                name = name.substring(separatorIndex + 1);
+            }
+        }
+        return new ImageReference(registry, name, reference);
+    }
+
+    public String getRegistry() {
+        return registry;
+    }
+
+    public String getRepository() {
+        return repository;
+    }
+
+    /**
+     * @return tag or digest
+     */
+    public String getReference() {
+        return reference;
+    }
+}
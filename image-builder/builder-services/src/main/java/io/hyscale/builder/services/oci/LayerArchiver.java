@@ -0,0 +1,188 @@
+/**
+ * Copyright 2019 Pramati Prism, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.hyscale.builder.services.oci;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
+
+import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.codec.digest.DigestUtils;
+
+import io.hyscale.builder.services.constants.OciImageConstants;
+
+/**
+ * Writes image layers as gzip compressed tar archives.
+ * Layers are reproducible, entries are sorted by path and carry
+ * zero timestamps and root ownership so that the same content
+ * always results in the same layer digest.
+ */
+public class LayerArchiver {
+
+    private static final int BLOCK_SIZE = 512;
+    private static final int NAME_LENGTH = 100;
+    private static final int PREFIX_LENGTH = 155;
+    private static final byte FILE_TYPE = '0';
+    private static final byte DIRECTORY_TYPE = '5';
+    private static final byte PAX_HEADER_TYPE = 'x';
+    private static final String PAX_HEADER_DIR = "PaxHeaders/";
+    private static final String PAX_PATH = "path";
+
+    private LayerArchiver() {
+    }
+
+    /**
+     * @param entries layer content
+     * @param target  file to write the compressed layer to
+     * @return descriptor of the written layer
+     * @throws IOException
+     */
+    public static LayerDescriptor archive(List<LayerEntry> entries, Path target) throws IOException {
+        MessageDigest compressedDigest = DigestUtils.getSha256Digest();
+        MessageDigest uncompressedDigest = DigestUtils.getSha256Digest();
+        List<LayerEntry> sortedEntries = entries.stream().sorted(Comparator.comparing(LayerEntry::getPath))
+                .collect(Collectors.toList());
+        try (OutputStream fileStream = new DigestOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(target)), compressedDigest);
+                GZIPOutputStream gzipStream = new GZIPOutputStream(fileStream);
+                OutputStream tarStream = new DigestOutputStream(gzipStream, uncompressedDigest)) {
+            for (LayerEntry entry : sortedEntries) {
+                writeEntry(tarStream, entry);
+            }
+            tarStream.write(new byte[2 * BLOCK_SIZE]);
+        }
+        return new LayerDescriptor(
+                OciImageConstants.SHA256_PREFIX + Hex.encodeHexString(compressedDigest.digest()),
+                OciImageConstants.SHA256_PREFIX + Hex.encodeHexString(uncompressedDigest.digest()),
+                Files.size(target));
+    }
+
+    private static void writeEntry(OutputStream tarStream, LayerEntry entry) throws IOException {
+        String path = entry.isDirectory() ? entry.getPath() + "/" : entry.getPath();
+        long size = entry.isDirectory() ? 0 : Files.size(entry.getSource().toPath());
+        byte[] pathBytes = path.getBytes(StandardCharsets.UTF_8);
+        int prefixEnd = getPrefixEnd(pathBytes);
+        String name;
+        String prefix = "";
+        if (pathBytes.length <= NAME_LENGTH) {
+            name = path;
+        } else if (prefixEnd > 0) {
+            prefix = path.substring(0, prefixEnd);
+            name = path.substring(prefixEnd + 1);
+        } else {
+            writePaxPath(tarStream, path);
+            name = truncate(path);
+        }
+        tarStream.write(header(name, prefix, entry.getMode(), size,
+                entry.isDirectory() ? DIRECTORY_TYPE : FILE_TYPE));
+        if (!entry.isDirectory()) {
+            Files.copy(entry.getSource().toPath(), tarStream);
+            pad(tarStream, size);
+        }
+    }
+
+    /**
+     * @return index of the separator splitting path into ustar prefix and name, -1 if path cannot be split
+     */
+    private static int getPrefixEnd(byte[] pathBytes) {
+        for (int i = Math.min(PREFIX_LENGTH, pathBytes.length - 1); i > 0; i--) {
+            if (pathBytes[i] == '/' && pathBytes.length - i - 1 <= NAME_LENGTH && pathBytes.length - i - 1 > 0) {
+                return isAscii(pathBytes) ? i : -1;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isAscii(byte[] bytes) {
+        for (byte each : bytes) {
+            if (each < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String truncate(String path) {
+        byte[] pathBytes = path.getBytes(StandardCharsets.US_ASCII);
+        return new String(pathBytes, 0, Math.min(pathBytes.length, NAME_LENGTH), StandardCharsets.US_ASCII);
+    }
+
+    private static void writePaxPath(OutputStream tarStream, String path) throws IOException {
+        String record = " " + PAX_PATH + "=" + path + "\n";
+        int recordLength = record.getBytes(StandardCharsets.UTF_8).length;
+        int length = recordLength + String.valueOf(recordLength).length();
+        if (String.valueOf(length).length() != String.valueOf(recordLength).length()) {
+            length++;
+        }
+        byte[] content = (length + record).getBytes(StandardCharsets.UTF_8);
+        tarStream.write(header(truncate(PAX_HEADER_DIR + path), "", 0644, content.length, PAX_HEADER_TYPE));
+        tarStream.write(content);
+        pad(tarStream, content.length);
+    }
+
+    private static byte[] header(String name, String prefix, int mode, long size, byte type) {
+        byte[] header = new byte[BLOCK_SIZE];
+        put(header, 0, NAME_LENGTH, name.getBytes(StandardCharsets.UTF_8));
+        putOctal(header, 100, 8, mode);
+        putOctal(header, 108, 8, 0);
+        putOctal(header, 116, 8, 0);
+        putOctal(header, 124, 12, size);
+        putOctal(header, 136, 12, 0);
+        header[156] = type;
+        put(header, 257, 6, "ustar\0".getBytes(StandardCharsets.US_ASCII));
+        put(header, 263, 2, "00".getBytes(StandardCharsets.US_ASCII));
+        put(header, 345, PREFIX_LENGTH, prefix.getBytes(StandardCharsets.UTF_8));
+        for (int i = 148; i < 156; i++) {
+            header[i] = ' ';
+        }
+        long checksum = 0;
+        for (byte each : header) {
+            checksum += each & 0xff;
+        }
+        putOctal(header, 148, 7, checksum);
+        return header;
+    }
+
+    private static void put(byte[] header, int offset, int length, byte[] value) {
+        System.arraycopy(value, 0, header, offset, Math.min(length, value.length));
+    }
+
+    /**
+     * Zero padded octal number terminated by NUL
+     */
+    private static void putOctal(byte[] header, int offset, int length, long value) {
+        String octal = Long.toOctalString(value);
+        String padded = "0".repeat(Math.max(0, length - 1 - octal.length())) + octal;
+        put(header, offset, length - 1, padded.getBytes(StandardCharsets.US_ASCII));
+        header[offset + length - 1] = 0;
+    }
+
+    private static void pad(OutputStream tarStream, long size) throws IOException {
+        int remainder = (int) (size % BLOCK_SIZE);
+        if (remainder > 0) {
+            tarStream.write(new byte[BLOCK_SIZE - remainder]);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+/**
+ * Copyright 2019 Pramati Prism, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.hyscale.builder.services.oci;
+
+/**
+ * Digests and size of a compressed layer
+ *
+ */
+public class LayerDescriptor {
+
+    private final String digest;
+    private final String diffId;
+    private final long size;
+
+    /**
+     * @param digest digest of the compressed layer
+     * @param diffId digest of the uncompressed layer
+     * @param size   size of the compressed layer
+     */
+    public LayerDescriptor(String digest, String diffId, long size) {
+        this.digest = digest;
+        this.diffId = diffId;
+        this.size = size;
+    }
+
+    public String getDigest() {
+        return digest;
+    }
+
+    public String getDiffId() {
+        return diffId;
+    }
+
+    public long getSize() {
+        return size;
+    }
+}
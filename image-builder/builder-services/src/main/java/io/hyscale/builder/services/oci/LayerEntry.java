@@ -0,0 +1,56 @@
+/**
+ * Copyright 2019 Pramati Prism, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.hyscale.builder.services.oci;
+
+import java.io.File;
+
+/**
+ * File or directory to be added to an image layer
+ *
+ */
+public class LayerEntry {
+
+    private final String path;
+    private final File source;
+    private final int mode;
+
+    /**
+     * @param path   path in the image, relative to root
+     * @param source file to add, null for a directory
+     * @param mode   permission bits of the entry
+     */
+    public LayerEntry(String path, File source, int mode) {
+        this.path = path;
+        this.source = source;
+        this.mode = mode;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public File getSource() {
+        return source;
+    }
+
+    public int getMode() {
+        return mode;
+    }
+
+    public boolean isDirectory() {
+        return source == null;
+    }
+}
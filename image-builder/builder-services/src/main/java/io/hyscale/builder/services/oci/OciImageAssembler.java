@@ -0,0 +1,212 @@
+/**
+ * Copyright 2019 Pramati Prism, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.hyscale.builder.services.oci;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.apache.commons.io.FileUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import io.hyscale.builder.services.config.ImageBuilderConfig;
+import io.hyscale.builder.services.constants.OciImageConstants;
+import io.hyscale.builder.services.exception.ImageBuilderErrorCodes;
+import io.hyscale.commons.exception.HyscaleException;
+import io.hyscale.commons.models.ImageRegistry;
+import io.hyscale.commons.utils.ObjectMapperFactory;
+
+/**
+ * Assembles images in an {@link OciLayout} without the docker daemon.
+ * Base image is fetched from its registry, blobs already in the layout are reused.
+ * Each COPY or ADD instruction is added as a reproducible layer on top of base image layers,
+ * so an unchanged artifact always results in the same layer.
+ */
+@Component
+public class OciImageAssembler {
+
+    private static final Logger logger = LoggerFactory.getLogger(OciImageAssembler.class);
+
+    // Fixed creation time keeps config and manifest digests reproducible
+    private static final String CREATED = "1970-01-01T00:00:00Z";
+
+    @Autowired
+    private RegistryApiClient registryApiClient;
+
+    @Autowired
+    private ImageBuilderConfig imageBuilderConfig;
+
+    private final ObjectMapper mapper = ObjectMapperFactory.jsonMapper();
+
+    /**
+     * Fetches image manifest, config and layers to layout
+     *
+     * @param layout      target layout
+     * @param image       image reference
+     * @param credentials for image registry, can be null
+     * @param progress    consumer of progress messages
+     * @return descriptor of image manifest in layout
+     * @throws HyscaleException if image cannot be fetched
+     */
+    public ObjectNode fetch(OciLayout layout, String image, ImageRegistry credentials, Consumer<String> progress)
+            throws HyscaleException {
+        ImageReference reference = ImageReference.parse(image);
+        RegistryRepository repository = new RegistryRepository(reference.getRegistry(), reference.getRepository(),
+                credentials);
+        try {
+            RegistryManifest manifest = registryApiClient.getManifest(repository, reference.getReference());
+            JsonNode manifestNode = manifest != null ? mapper.readTree(manifest.getContent()) : null;
+            if (manifestNode != null && isIndex(getMediaType(manifestNode, manifest))) {
+                String platformDigest = getPlatformManifestDigest(manifestNode);
+                manifest = platformDigest != null ? registryApiClient.getManifest(repository, platformDigest) : null;
+                manifestNode = manifest != null ? mapper.readTree(manifest.getContent()) : null;
+            }
+            if (manifestNode == null) {
+                throw new HyscaleException(ImageBuilderErrorCodes.FAILED_TO_FETCH_IMAGE, image);
+            }
+            String mediaType = getMediaType(manifestNode, manifest);
+            if (!OciImageConstants.OCI_MANIFEST.equals(mediaType)
+                    && !OciImageConstants.DOCKER_MANIFEST.equals(mediaType)) {
+                logger.error("Unsupported manifest type {} of image {}", mediaType, image);
+                throw new HyscaleException(ImageBuilderErrorCodes.FAILED_TO_FETCH_IMAGE, image);
+            }
+            fetchBlob(layout, repository, manifestNode.path("config"), progress);
+            for (JsonNode layer : manifestNode.path("layers")) {
+                fetchBlob(layout, repository, layer, progress);
+            }
+            return layout.writeBlob(mediaType, manifest.getContent());
+        } catch (IOException e) {
+            logger.error("Error while fetching image {}", image, e);
+            throw new HyscaleException(e, ImageBuilderErrorCodes.FAILED_TO_FETCH_IMAGE, image);
+        }
+    }
+
+    /**
+     * Assembles image from Dockerfile instructions on top of base image
+     *
+     * @param layout      target layout
+     * @param instructions Dockerfile instructions
+     * @param contextDir  build context directory
+     * @param credentials for base image registry, can be null
+     * @param progress    consumer of progress messages
+     * @return descriptor of image manifest in layout, annotated with the base image
+     * @throws HyscaleException if base image cannot be fetched or build context cannot be read
+     */
+    public ObjectNode assemble(OciLayout layout, DockerfileInstructions instructions, File contextDir,
+            ImageRegistry credentials, Consumer<String> progress) throws HyscaleException {
+        ObjectNode baseDescriptor = fetch(layout, instructions.getBaseImage(), credentials, progress);
+        String mediaType = baseDescriptor.get("mediaType").asText();
+        boolean oci = OciImageConstants.OCI_MANIFEST.equals(mediaType);
+        try {
+            ObjectNode manifest = (ObjectNode) mapper.readTree(layout.readBlob(baseDescriptor.get("digest").asText()));
+            ObjectNode config = (ObjectNode) mapper.readTree(layout.readBlob(manifest.path("config").path("digest").asText()));
+            ArrayNode layers = manifest.withArray("layers");
+            ArrayNode diffIds = config.with("rootfs").withArray("diff_ids");
+            ArrayNode history = config.withArray("history");
+            for (CopyInstruction copyInstruction : instructions.getCopyInstructions()) {
+                List<LayerEntry> entries = copyInstruction.getEntries(contextDir);
+                LayerDescriptor layer = addLayer(layout, entries);
+                progress.accept(copyInstruction.getInstruction() + " -> " + layer.getDigest() + " ("
+                        + FileUtils.byteCountToDisplaySize(layer.getSize()) + ")");
+                layers.add(layout.descriptor(oci ? OciImageConstants.OCI_LAYER : OciImageConstants.DOCKER_LAYER,
+                        layer.getDigest(), layer.getSize()));
+                diffIds.add(layer.getDiffId());
+                history.addObject().put("created", CREATED).put("created_by", copyInstruction.getInstruction());
+            }
+            ObjectNode containerConfig = config.with("config");
+            if (instructions.isEntrypointSet()) {
+                containerConfig.set("Entrypoint", mapper.valueToTree(instructions.getEntrypoint()));
+                containerConfig.set("Cmd", mapper.valueToTree(instructions.getCmd()));
+            } else if (instructions.getCmd() != null) {
+                containerConfig.set("Cmd", mapper.valueToTree(instructions.getCmd()));
+            }
+            config.put("created", CREATED);
+            ObjectNode configDescriptor = layout.writeBlob(
+                    oci ? OciImageConstants.OCI_CONFIG : OciImageConstants.DOCKER_CONFIG, mapper.writeValueAsBytes(config));
+            manifest.set("config", configDescriptor);
+            manifest.remove("annotations");
+            ObjectNode manifestDescriptor = layout.writeBlob(mediaType, mapper.writeValueAsBytes(manifest));
+            manifestDescriptor.with("annotations").put(OciImageConstants.BASE_NAME_ANNOTATION,
+                    instructions.getBaseImage());
+            return manifestDescriptor;
+        } catch (IOException e) {
+            logger.error("Error while assembling image on {}", instructions.getBaseImage(), e);
+            throw new HyscaleException(e, ImageBuilderErrorCodes.FAILED_TO_BUILD_IMAGE);
+        }
+    }
+
+    private LayerDescriptor addLayer(OciLayout layout, List<LayerEntry> entries) throws IOException {
+        Path tempFile = layout.createTempFile();
+        try {
+            LayerDescriptor layer = LayerArchiver.archive(entries, tempFile);
+            layout.putBlob(tempFile, layer.getDigest());
+            return layer;
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    private void fetchBlob(OciLayout layout, RegistryRepository repository, JsonNode descriptor,
+            Consumer<String> progress) throws IOException {
+        String digest = descriptor.path("digest").asText();
+        if (layout.reuseBlob(digest)) {
+            return;
+        }
+        progress.accept("Downloading " + digest + " ("
+                + FileUtils.byteCountToDisplaySize(descriptor.path("size").asLong()) + ")");
+        Path tempFile = layout.createTempFile();
+        try {
+            registryApiClient.downloadBlob(repository, digest, tempFile);
+            layout.putVerifiedBlob(tempFile, digest);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    private String getPlatformManifestDigest(JsonNode index) {
+        for (JsonNode manifest : index.path("manifests")) {
+            JsonNode platform = manifest.path("platform");
+            if (OciImageConstants.LINUX_OS.equals(platform.path("os").asText())
+                    && imageBuilderConfig.getImageArchitecture().equals(platform.path("architecture").asText())) {
+                return manifest.path("digest").asText();
+            }
+        }
+        return null;
+    }
+
+    private String getMediaType(JsonNode manifestNode, RegistryManifest manifest) {
+        String mediaType = manifestNode.path("mediaType").asText(null);
+        if (mediaType == null && manifest.getMediaType() != null) {
+            mediaType = manifest.getMediaType().split(";")[0].trim();
+        }
+        return mediaType;
+    }
+
+    private boolean isIndex(String mediaType) {
+        return OciImageConstants.OCI_INDEX.equals(mediaType) || OciImageConstants.DOCKER_MANIFEST_LIST.equals(mediaType);
+    }
+}
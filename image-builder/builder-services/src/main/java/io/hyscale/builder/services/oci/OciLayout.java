@@ -0,0 +1,270 @@
+/**
+ * Copyright 2019 Pramati Prism, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.hyscale.builder.services.oci;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.commons.codec.digest.DigestUtils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import io.hyscale.builder.services.constants.OciImageConstants;
+import io.hyscale.commons.utils.ObjectMapperFactory;
+
+/**
+ * OCI image layout on the local file system.
+ * Blobs are stored by digest and shared by all images in the layout,
+ * the index maps image references to manifests.
+ * Blobs no longer referenced through the index are deleted on clean up.
+ */
+public class OciLayout {
+
+    private static final String BLOBS_DIR = "blobs";
+    private static final String SHA256 = "sha256";
+    private static final String INDEX_FILE = "index.json";
+    private static final String LAYOUT_FILE = "oci-layout";
+    private static final String LAYOUT_VERSION = "{\"imageLayoutVersion\":\"1.0.0\"}";
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    private final Path root;
+
+    private final ObjectMapper mapper = ObjectMapperFactory.jsonMapper();
+
+    public OciLayout(Path root) throws IOException {
+        this.root = root;
+        Files.createDirectories(root.resolve(BLOBS_DIR).resolve(SHA256));
+        Path layoutFile = root.resolve(LAYOUT_FILE);
+        if (!Files.exists(layoutFile)) {
+            Files.write(layoutFile, LAYOUT_VERSION.getBytes());
+        }
+    }
+
+    public Path getBlobPath(String digest) {
+        return root.resolve(BLOBS_DIR).resolve(SHA256).resolve(digest.substring(OciImageConstants.SHA256_PREFIX.length()));
+    }
+
+    public boolean hasBlob(String digest) {
+        return Files.exists(getBlobPath(digest));
+    }
+
+    /**
+     * Marks existing blob as recently used so that clean up running alongside
+     * does not delete it before the image using it is tagged
+     *
+     * @return true if blob exists
+     */
+    public boolean reuseBlob(String digest) throws IOException {
+        Path blobPath = getBlobPath(digest);
+        if (!Files.exists(blobPath)) {
+            return false;
+        }
+        Files.setLastModifiedTime(blobPath, FileTime.fromMillis(System.currentTimeMillis()));
+        return true;
+    }
+
+    /**
+     * @return temporary file in the layout to be added as blob
+     */
+    public Path createTempFile() throws IOException {
+        return Files.createTempFile(root, BLOBS_DIR, TEMP_SUFFIX);
+    }
+
+    /**
+     * Moves temporary file to blob of the given digest,
+     * file is discarded if the blob already exists
+     */
+    public void putBlob(Path tempFile, String digest) throws IOException {
+        if (reuseBlob(digest)) {
+            Files.delete(tempFile);
+            return;
+        }
+        Files.move(tempFile, getBlobPath(digest), StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Verifies content of temporary file before adding it as blob
+     *
+     * @throws IOException if file does not match digest
+     */
+    public void putVerifiedBlob(Path tempFile, String digest) throws IOException {
+        String actualDigest;
+        try (InputStream is = Files.newInputStream(tempFile)) {
+            actualDigest = OciImageConstants.SHA256_PREFIX + DigestUtils.sha256Hex(is);
+        }
+        if (!actualDigest.equals(digest)) {
+            Files.delete(tempFile);
+            throw new IOException("Digest mismatch, expected " + digest + " found " + actualDigest);
+        }
+        putBlob(tempFile, digest);
+    }
+
+    /**
+     * @return descriptor of the written blob
+     */
+    public ObjectNode writeBlob(String mediaType, byte[] content) throws IOException {
+        String digest = OciImageConstants.SHA256_PREFIX + DigestUtils.sha256Hex(content);
+        if (!reuseBlob(digest)) {
+            Path tempFile = createTempFile();
+            Files.write(tempFile, content);
+            putBlob(tempFile, digest);
+        }
+        return descriptor(mediaType, digest, content.length);
+    }
+
+    public byte[] readBlob(String digest) throws IOException {
+        return Files.readAllBytes(getBlobPath(digest));
+    }
+
+    public ObjectNode descriptor(String mediaType, String digest, long size) {
+        ObjectNode descriptor = mapper.createObjectNode();
+        descriptor.put("mediaType", mediaType);
+        descriptor.put("digest", digest);
+        descriptor.put("size", size);
+        return descriptor;
+    }
+
+    /**
+     * Adds manifest descriptor to index under the image reference,
+     * replacing the manifest referenced earlier
+     */
+    public synchronized void tag(String reference, ObjectNode manifestDescriptor) throws IOException {
+        ObjectNode index = readIndex();
+        ArrayNode manifests = index.withArray("manifests");
+        removeReference(manifests, reference);
+        ObjectNode descriptor = manifestDescriptor.deepCopy();
+        descriptor.with("annotations").put(OciImageConstants.REF_NAME_ANNOTATION, reference);
+        manifests.add(descriptor);
+        writeIndex(index);
+    }
+
+    /**
+     * Removes the image reference from index, blobs of the image are left
+     * for {@link #deleteUnreferencedBlobs(long)}
+     *
+     * @return true if the reference was in index
+     */
+    public synchronized boolean untag(String reference) throws IOException {
+        ObjectNode index = readIndex();
+        ArrayNode manifests = index.withArray("manifests");
+        int size = manifests.size();
+        removeReference(manifests, reference);
+        if (manifests.size() == size) {
+            return false;
+        }
+        writeIndex(index);
+        return true;
+    }
+
+    /**
+     * @return manifest descriptors of index in the order images were tagged
+     */
+    public synchronized List<ObjectNode> getManifestDescriptors() throws IOException {
+        List<ObjectNode> descriptors = new ArrayList<>();
+        readIndex().withArray("manifests").forEach(each -> descriptors.add((ObjectNode) each));
+        return descriptors;
+    }
+
+    /**
+     * Deletes blobs which are not manifest, config or layer of any image in index.
+     * Blobs used within the grace period are kept as they can belong to an image being assembled
+     *
+     * @param gracePeriodMillis
+     * @return size of deleted blobs in bytes
+     */
+    public synchronized long deleteUnreferencedBlobs(long gracePeriodMillis) throws IOException {
+        Set<String> referencedBlobs = new HashSet<>();
+        for (JsonNode descriptor : readIndex().withArray("manifests")) {
+            String manifestDigest = descriptor.path("digest").asText();
+            referencedBlobs.add(manifestDigest);
+            if (!hasBlob(manifestDigest)) {
+                continue;
+            }
+            JsonNode manifest = mapper.readTree(readBlob(manifestDigest));
+            referencedBlobs.add(manifest.path("config").path("digest").asText());
+            manifest.path("layers").forEach(each -> referencedBlobs.add(each.path("digest").asText()));
+        }
+        long usedAfter = System.currentTimeMillis() - gracePeriodMillis;
+        long deletedBytes = 0;
+        try (DirectoryStream<Path> blobs = Files.newDirectoryStream(root.resolve(BLOBS_DIR).resolve(SHA256))) {
+            for (Path blob : blobs) {
+                if (referencedBlobs.contains(OciImageConstants.SHA256_PREFIX + blob.getFileName())
+                        || Files.getLastModifiedTime(blob).toMillis() > usedAfter) {
+                    continue;
+                }
+                long size = Files.size(blob);
+                if (Files.deleteIfExists(blob)) {
+                    deletedBytes += size;
+                }
+            }
+        }
+        return deletedBytes;
+    }
+
+    /**
+     * @return manifest descriptor of the image reference, null if not available
+     */
+    public synchronized ObjectNode getManifestDescriptor(String reference) throws IOException {
+        for (JsonNode descriptor : readIndex().withArray("manifests")) {
+            if (reference.equals(descriptor.path("annotations").path(OciImageConstants.REF_NAME_ANNOTATION).asText())) {
+                return (ObjectNode) descriptor;
+            }
+        }
+        return null;
+    }
+
+    private void removeReference(ArrayNode manifests, String reference) {
+        Iterator<JsonNode> iterator = manifests.elements();
+        while (iterator.hasNext()) {
+            JsonNode descriptor = iterator.next();
+            if (reference.equals(descriptor.path("annotations").path(OciImageConstants.REF_NAME_ANNOTATION).asText())) {
+                iterator.remove();
+            }
+        }
+    }
+
+    private void writeIndex(ObjectNode index) throws IOException {
+        Path tempFile = createTempFile();
+        Files.write(tempFile, mapper.writerWithDefaultPrettyPrinter().writeValueAsBytes(index));
+        Files.move(tempFile, root.resolve(INDEX_FILE), StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private ObjectNode readIndex() throws IOException {
+        Path indexFile = root.resolve(INDEX_FILE);
+        if (Files.exists(indexFile)) {
+            return (ObjectNode) mapper.readTree(indexFile.toFile());
+        }
+        ObjectNode index = mapper.createObjectNode();
+        index.put("schemaVersion", 2);
+        index.put("mediaType", OciImageConstants.OCI_INDEX);
+        index.putArray("manifests");
+        return index;
+    }
+}
@@ -0,0 +1,416 @@
+/**
+ * Copyright 2019 Pramati Prism, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.hyscale.builder.services.oci;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UnsupportedEncodingException;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import io.hyscale.builder.services.constants.OciImageConstants;
+import io.hyscale.commons.constants.ToolConstants;
+import io.hyscale.commons.utils.ObjectMapperFactory;
+
+/**
+ * Client for the Docker Registry HTTP API v2 to read and write
+ * manifests and blobs of a repository.
+ * Supports anonymous, basic and bearer token authentication,
+ * credentials are taken from the registry token (base64 of user:password).
+ * Authorization obtained for a repository is reused till the registry rejects it.
+ * Registry url without scheme is accessed over https.
+ */
+@Component
+public class RegistryApiClient {
+
+    private static final Logger logger = LoggerFactory.getLogger(RegistryApiClient.class);
+
+    private static final String HTTPS_SCHEME = "https://";
+    private static final String SCHEME_SEPARATOR = "://";
+    private static final String MANIFEST_PATH = "/v2/%s/manifests/%s";
+    private static final String BLOB_PATH = "/v2/%s/blobs/%s";
+    private static final String UPLOAD_PATH = "/v2/%s/blobs/uploads/";
+    private static final String MANIFEST_MEDIA_TYPES = String.join(",", OciImageConstants.DOCKER_MANIFEST,
+            OciImageConstants.DOCKER_MANIFEST_LIST, OciImageConstants.OCI_MANIFEST, OciImageConstants.OCI_INDEX);
+    private static final String CONTENT_DIGEST_HEADER = "Docker-Content-Digest";
+    private static final String AUTHENTICATE_HEADER = "WWW-Authenticate";
+    private static final String AUTHORIZATION_HEADER = "Authorization";
+    private static final String ACCEPT_HEADER = "Accept";
+    private static final String CONTENT_TYPE_HEADER = "Content-Type";
+    private static final String LOCATION_HEADER = "Location";
+    private static final String OCTET_STREAM = "application/octet-stream";
+    private static final String HEAD_METHOD = "HEAD";
+    private static final String GET_METHOD = "GET";
+    private static final String POST_METHOD = "POST";
+    private static final String PUT_METHOD = "PUT";
+    private static final String BASIC = "Basic";
+    private static final String BEARER = "Bearer";
+    private static final String REALM = "realm";
+    private static final Pattern AUTH_PARAM_PATTERN = Pattern.compile("(\\w+)=\"([^\"]*)\"");
+    private static final String[] DOCKER_HUB_HOSTS = {"docker.io", "index.docker.io", "registry-1.docker.io"};
+    private static final String DOCKER_HUB_REGISTRY = "registry-1.docker.io";
+    private static final String DOCKER_HUB_OFFICIAL_REPO = "library/";
+    private static final int MAX_REDIRECTS = 5;
+    private static final int TIMEOUT_MILLIS = 10000;
+
+    // registry repository to authorization accepted by the registry
+    private final Map<String, String> authorizations = new ConcurrentHashMap<>();
+
+    /**
+     * @param repository registry repository
+     * @param reference  image tag or digest
+     * @return manifest digest of the reference in registry, null if reference does not exist
+     * or registry cannot be reached
+     */
+    public String getManifestDigest(RegistryRepository repository, String reference) {
+        if (repository == null || StringUtils.isAnyBlank(repository.getRegistryUrl(), repository.getName(), reference)) {
+            return null;
+        }
+        try {
+            HttpURLConnection connection = execute(repository, HEAD_METHOD,
+                    getUrl(repository, MANIFEST_PATH, reference), MANIFEST_MEDIA_TYPES, null, null);
+            int responseCode = connection.getResponseCode();
+            String digest = connection.getHeaderField(CONTENT_DIGEST_HEADER);
+            connection.disconnect();
+            if (responseCode != HttpURLConnection.HTTP_OK) {
+                logger.debug("Manifest of {}:{} not available, response code {}", repository, reference, responseCode);
+                return null;
+            }
+            return digest;
+        } catch (IOException e) {
+            logger.debug("Error while fetching manifest of {}:{}", repository, reference, e);
+            return null;
+        }
+    }
+
+    /**
+     * @param repository registry repository
+     * @param reference  image tag or digest
+     * @return manifest, null if reference does not exist
+     * @throws IOException if registry cannot be reached or rejects the request
+     */
+    public RegistryManifest getManifest(RegistryRepository repository, String reference) throws IOException {
+        HttpURLConnection connection = execute(repository, GET_METHOD, getUrl(repository, MANIFEST_PATH, reference),
+                MANIFEST_MEDIA_TYPES, null, null);
+        try {
+            int responseCode = connection.getResponseCode();
+            if (responseCode == HttpURLConnection.HTTP_NOT_FOUND) {
+                return null;
+            }
+            verifyResponse(connection, HttpURLConnection.HTTP_OK);
+            try (InputStream is = connection.getInputStream()) {
+                return new RegistryManifest(connection.getContentType(),
+                        connection.getHeaderField(CONTENT_DIGEST_HEADER), is.readAllBytes());
+            }
+        } finally {
+            connection.disconnect();
+        }
+    }
+
+    /**
+     * Downloads blob to target, following redirects to blob storage without registry authorization
+     *
+     * @throws IOException if blob cannot be downloaded
+     */
+    public void downloadBlob(RegistryRepository repository, String digest, Path target) throws IOException {
+        HttpURLConnection connection = execute(repository, GET_METHOD, getUrl(repository, BLOB_PATH, digest), null,
+                null, null);
+        for (int redirects = 0; isRedirect(connection.getResponseCode()); redirects++) {
+            String location = connection.getHeaderField(LOCATION_HEADER);
+            URL redirectUrl = new URL(connection.getURL(), location);
+            connection.disconnect();
+            if (redirects == MAX_REDIRECTS) {
+                throw new IOException("Too many redirects while downloading blob " + digest);
+            }
+            connection = openConnection(redirectUrl, GET_METHOD, null);
+        }
+        try {
+            verifyResponse(connection, HttpURLConnection.HTTP_OK);
+            try (InputStream is = connection.getInputStream()) {
+                Files.copy(is, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            connection.disconnect();
+        }
+    }
+
+    /**
+     * @return true if repository has the blob
+     * @throws IOException if registry cannot be reached or rejects the request
+     */
+    public boolean hasBlob(RegistryRepository repository, String digest) throws IOException {
+        HttpURLConnection connection = execute(repository, HEAD_METHOD, getUrl(repository, BLOB_PATH, digest), null,
+                null, null);
+        int responseCode = connection.getResponseCode();
+        connection.disconnect();
+        if (responseCode == HttpURLConnection.HTTP_NOT_FOUND) {
+            return false;
+        }
+        verifyResponse(connection, HttpURLConnection.HTTP_OK);
+        return true;
+    }
+
+    /**
+     * Mounts blob from another repository in the same registry
+     *
+     * @return true if blob is mounted, false if registry started a regular upload instead
+     * @throws IOException if registry cannot be reached or rejects the request
+     */
+    public boolean mountBlob(RegistryRepository repository, String digest, String fromRepository) throws IOException {
+        String uploadUrl = getUrl(repository, UPLOAD_PATH, null) + "?mount=" + encode(digest) + "&from="
+                + encode(getRepositoryName(getBaseUrl(repository.getRegistryUrl()), fromRepository));
+        HttpURLConnection connection = execute(repository, POST_METHOD, uploadUrl, null, null, new byte[0]);
+        int responseCode = connection.getResponseCode();
+        connection.disconnect();
+        if (responseCode == HttpURLConnection.HTTP_CREATED) {
+            return true;
+        }
+        verifyResponse(connection, HttpURLConnection.HTTP_ACCEPTED);
+        return false;
+    }
+
+    /**
+     * Uploads blob in a single request
+     *
+     * @throws IOException if blob cannot be uploaded
+     */
+    public void uploadBlob(RegistryRepository repository, String digest, Path blob) throws IOException {
+        HttpURLConnection connection = execute(repository, POST_METHOD, getUrl(repository, UPLOAD_PATH, null), null,
+                null, new byte[0]);
+        String location = connection.getHeaderField(LOCATION_HEADER);
+        connection.disconnect();
+        verifyResponse(connection, HttpURLConnection.HTTP_ACCEPTED);
+        if (StringUtils.isBlank(location)) {
+            throw new IOException("Registry did not provide upload location for blob " + digest);
+        }
+        String uploadUrl = new URL(connection.getURL(), location).toString();
+        uploadUrl = uploadUrl + (uploadUrl.contains("?") ? "&" : "?") + "digest=" + encode(digest);
+        connection = execute(repository, PUT_METHOD, uploadUrl, null, OCTET_STREAM, blob);
+        connection.disconnect();
+        verifyResponse(connection, HttpURLConnection.HTTP_CREATED);
+    }
+
+    /**
+     * @return digest of the manifest as computed by registry
+     * @throws IOException if manifest cannot be uploaded
+     */
+    public String putManifest(RegistryRepository repository, String reference, String mediaType, byte[] content)
+            throws IOException {
+        HttpURLConnection connection = execute(repository, PUT_METHOD,
+                getUrl(repository, MANIFEST_PATH, reference), null, mediaType, content);
+        String digest = connection.getHeaderField(CONTENT_DIGEST_HEADER);
+        connection.disconnect();
+        verifyResponse(connection, HttpURLConnection.HTTP_CREATED);
+        return digest;
+    }
+
+    /**
+     * @return true if both urls refer to the same registry
+     */
+    public boolean isSameRegistry(String registryUrl, String anotherRegistryUrl) {
+        if (StringUtils.isAnyBlank(registryUrl, anotherRegistryUrl)) {
+            return false;
+        }
+        return getBaseUrl(registryUrl).equals(getBaseUrl(anotherRegistryUrl));
+    }
+
+    /**
+     * Executes request with authorization known for the repository,
+     * on authentication challenge the request is retried with authorization answering it
+     *
+     * @param body byte[] or Path of the content, null if request has no body
+     */
+    private HttpURLConnection execute(RegistryRepository repository, String method, String url, String accept,
+            String contentType, Object body) throws IOException {
+        String authKey = repository.toString();
+        String authorization = authorizations.get(authKey);
+        HttpURLConnection connection = send(method, new URL(url), authorization, accept, contentType, body);
+        if (connection.getResponseCode() != HttpURLConnection.HTTP_UNAUTHORIZED) {
+            return connection;
+        }
+        String challengeAuthorization = getAuthorization(connection.getHeaderField(AUTHENTICATE_HEADER),
+                getBasicAuth(repository));
+        if (challengeAuthorization == null || challengeAuthorization.equals(authorization)) {
+            logger.debug("Unable to authenticate with {}", repository);
+            return connection;
+        }
+        connection.disconnect();
+        connection = send(method, new URL(url), challengeAuthorization, accept, contentType, body);
+        if (connection.getResponseCode() != HttpURLConnection.HTTP_UNAUTHORIZED) {
+            authorizations.put(authKey, challengeAuthorization);
+        }
+        return connection;
+    }
+
+    private HttpURLConnection send(String method, URL url, String authorization, String accept, String contentType,
+            Object body) throws IOException {
+        HttpURLConnection connection = openConnection(url, method, authorization);
+        if (accept != null) {
+            connection.setRequestProperty(ACCEPT_HEADER, accept);
+        }
+        if (body == null) {
+            return connection;
+        }
+        if (contentType != null) {
+            connection.setRequestProperty(CONTENT_TYPE_HEADER, contentType);
+        }
+        connection.setDoOutput(true);
+        if (body instanceof Path) {
+            Path file = (Path) body;
+            connection.setFixedLengthStreamingMode(Files.size(file));
+            try (OutputStream os = connection.getOutputStream()) {
+                Files.copy(file, os);
+            }
+        } else {
+            byte[] content = (byte[]) body;
+            connection.setFixedLengthStreamingMode(content.length);
+            try (OutputStream os = connection.getOutputStream()) {
+                os.write(content);
+            }
+        }
+        return connection;
+    }
+
+    private HttpURLConnection openConnection(URL url, String method, String authorization) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+        connection.setRequestMethod(method);
+        connection.setConnectTimeout(TIMEOUT_MILLIS);
+        connection.setReadTimeout(TIMEOUT_MILLIS);
+        connection.setInstanceFollowRedirects(false);
+        if (authorization != null) {
+            connection.setRequestProperty(AUTHORIZATION_HEADER, authorization);
+        }
+        return connection;
+    }
+
+    private void verifyResponse(HttpURLConnection connection, int expectedCode) throws IOException {
+        int responseCode = connection.getResponseCode();
+        if (responseCode != expectedCode) {
+            throw new IOException(connection.getRequestMethod() + " " + connection.getURL()
+                    + " failed with response code " + responseCode);
+        }
+    }
+
+    private boolean isRedirect(int responseCode) {
+        return responseCode == HttpURLConnection.HTTP_MOVED_PERM || responseCode == HttpURLConnection.HTTP_MOVED_TEMP
+                || responseCode == HttpURLConnection.HTTP_SEE_OTHER || responseCode == 307 || responseCode == 308;
+    }
+
+    private String getBasicAuth(RegistryRepository repository) {
+        return repository.getCredentials() != null && StringUtils.isNotBlank(repository.getCredentials().getToken())
+                ? BASIC + ToolConstants.SPACE + repository.getCredentials().getToken() : null;
+    }
+
+    /**
+     * Basic challenge is answered with credentials,
+     * Bearer challenge with a token from the realm of the challenge
+     */
+    private String getAuthorization(String challenge, String basicAuth) throws IOException {
+        if (StringUtils.isBlank(challenge)) {
+            return null;
+        }
+        if (StringUtils.startsWithIgnoreCase(challenge, BASIC)) {
+            return basicAuth;
+        }
+        if (!StringUtils.startsWithIgnoreCase(challenge, BEARER)) {
+            return null;
+        }
+        Map<String, String> params = new HashMap<>();
+        Matcher matcher = AUTH_PARAM_PATTERN.matcher(challenge);
+        while (matcher.find()) {
+            params.put(matcher.group(1), matcher.group(2));
+        }
+        String realm = params.remove(REALM);
+        if (realm == null) {
+            return null;
+        }
+        String token = getBearerToken(realm, params, basicAuth);
+        return token != null ? BEARER + ToolConstants.SPACE + token : null;
+    }
+
+    private String getBearerToken(String realm, Map<String, String> params, String basicAuth) throws IOException {
+        StringBuilder tokenUrl = new StringBuilder(realm);
+        char separator = realm.contains("?") ? '&' : '?';
+        for (Map.Entry<String, String> param : params.entrySet()) {
+            tokenUrl.append(separator).append(encode(param.getKey())).append('=').append(encode(param.getValue()));
+            separator = '&';
+        }
+        HttpURLConnection connection = openConnection(new URL(tokenUrl.toString()), GET_METHOD, basicAuth);
+        try {
+            if (connection.getResponseCode() != HttpURLConnection.HTTP_OK) {
+                logger.debug("Failed to get token from {}, response code {}", realm, connection.getResponseCode());
+                return null;
+            }
+            try (InputStream is = connection.getInputStream()) {
+                JsonNode tokenNode = ObjectMapperFactory.jsonMapper().readTree(is);
+                String token = tokenNode.path("token").asText(null);
+                return token != null ? token : tokenNode.path("access_token").asText(null);
+            }
+        } finally {
+            connection.disconnect();
+        }
+    }
+
+    private String encode(String value) throws UnsupportedEncodingException {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8.name());
+    }
+
+    private String getUrl(RegistryRepository repository, String pathFormat, String reference) {
+        String baseUrl = getBaseUrl(repository.getRegistryUrl());
+        return baseUrl + String.format(pathFormat, getRepositoryName(baseUrl, repository.getName()), reference);
+    }
+
+    private String getRepositoryName(String baseUrl, String name) {
+        if (isDockerHub(baseUrl) && !name.contains(ToolConstants.LINUX_FILE_SEPARATOR)) {
+            return DOCKER_HUB_OFFICIAL_REPO + name;
+        }
+        return name;
+    }
+
+    private String getBaseUrl(String registryUrl) {
+        String baseUrl = registryUrl.contains(SCHEME_SEPARATOR) ? registryUrl : HTTPS_SCHEME + registryUrl;
+        baseUrl = StringUtils.removeEnd(baseUrl, ToolConstants.LINUX_FILE_SEPARATOR);
+        String host = StringUtils.substringAfter(baseUrl, SCHEME_SEPARATOR);
+        for (String dockerHubHost : DOCKER_HUB_HOSTS) {
+            if (host.equals(dockerHubHost) || host.startsWith(dockerHubHost + ToolConstants.LINUX_FILE_SEPARATOR)) {
+                return HTTPS_SCHEME + DOCKER_HUB_REGISTRY;
+            }
+        }
+        return baseUrl;
+    }
+
+    private boolean isDockerHub(String baseUrl) {
+        return baseUrl.equals(HTTPS_SCHEME + DOCKER_HUB_REGISTRY);
+    }
+}
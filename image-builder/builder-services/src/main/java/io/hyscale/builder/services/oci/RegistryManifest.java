@@ -0,0 +1,45 @@
+/**
+ * Copyright 2019 Pramati Prism, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.hyscale.builder.services.oci;
+
+/**
+ * Manifest content as served by the registry
+ *
+ */
+public class RegistryManifest {
+
+    private final String mediaType;
+    private final String digest;
+    private final byte[] content;
+
+    public RegistryManifest(String mediaType, String digest, byte[] content) {
+        this.mediaType = mediaType;
+        this.digest = digest;
+        this.content = content;
+    }
+
+    public String getMediaType() {
+        return mediaType;
+    }
+
+    public String getDigest() {
+        return digest;
+    }
+
+    public byte[] getContent() {
+        return content;
+    }
+}
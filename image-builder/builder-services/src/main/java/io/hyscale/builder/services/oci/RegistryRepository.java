@@ -0,0 +1,57 @@
+/**
+ * Copyright 2019 Pramati Prism, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.hyscale.builder.services.oci;
+
+import io.hyscale.commons.models.ImageRegistry;
+
+/**
+ * Repository in a registry along with credentials to access it
+ *
+ */
+public class RegistryRepository {
+
+    private final String registryUrl;
+    private final String name;
+    private final ImageRegistry credentials;
+
+    /**
+     * @param registryUrl registry host with optional scheme
+     * @param name        repository name in the registry
+     * @param credentials can be null for anonymous access
+     */
+    public RegistryRepository(String registryUrl, String name, ImageRegistry credentials) {
+        this.registryUrl = registryUrl;
+        this.name = name;
+        this.credentials = credentials;
+    }
+
+    public String getRegistryUrl() {
+        return registryUrl;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public ImageRegistry getCredentials() {
+        return credentials;
+    }
+
+    @Override
+    public String toString() {
+        return registryUrl + "/" + name;
+    }
+}
@@ -26,6 +26,7 @@ public class DockerBinaryCondition implements Condition {
     @Override
     public boolean matches(ConditionContext conditionContext, AnnotatedTypeMetadata annotatedTypeMetadata) {
         String dockerhost = System.getenv(ImageBuilderConfig.DOCKER_HOST);
-        return StringUtils.isEmpty(dockerhost);
+        return StringUtils.isEmpty(dockerhost)
+                && !ImageBuilderConfig.isDaemonlessBuilder(conditionContext.getEnvironment());
     }
 }
@@ -26,6 +26,7 @@ public class DockerClientCondition implements Condition {
     @Override
     public boolean matches(ConditionContext conditionContext, AnnotatedTypeMetadata annotatedTypeMetadata) {
         String dockerhost = System.getenv(ImageBuilderConfig.DOCKER_HOST);
-        return StringUtils.isNotEmpty(dockerhost);
+        return StringUtils.isNotEmpty(dockerhost)
+                && !ImageBuilderConfig.isDaemonlessBuilder(conditionContext.getEnvironment());
     }
 }
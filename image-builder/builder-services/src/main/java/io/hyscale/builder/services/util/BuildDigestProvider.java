@@ -0,0 +1,121 @@
+/**
+ * Copyright 2019 Pramati Prism, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.hyscale.builder.services.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import io.hyscale.builder.services.config.ImageBuilderConfig;
+import io.hyscale.builder.services.constants.DockerImageConstants;
+import io.hyscale.commons.constants.ToolConstants;
+import io.hyscale.servicespec.commons.model.service.Dockerfile;
+
+/**
+ * Computes digest of image build inputs, the Dockerfile along with
+ * the scripts and artifacts in its build context directory, build args and target.
+ * Images are labelled with the digest so that a build with unchanged inputs can be skipped
+ * when enabled through {@link ImageBuilderConfig#isBuildSkipEnabled()}.
+ *
+ */
+@Component
+public class BuildDigestProvider {
+
+    private static final Logger logger = LoggerFactory.getLogger(BuildDigestProvider.class);
+
+    private static final byte SEPARATOR = 0;
+
+    @Autowired
+    private ImageBuilderConfig imageBuilderConfig;
+
+    /**
+     * An image found by digest is reused only when build skip is enabled, build could have used
+     * layer cache and was not asked to pull newer base images, which a digest cannot account for
+     *
+     * @param useCache build may use daemon layer cache
+     * @param pull     build pulls newer base images
+     * @return true if build can be skipped for an image with matching digest
+     */
+    public boolean isBuildSkipAllowed(boolean useCache, boolean pull) {
+        return imageBuilderConfig.isBuildSkipEnabled() && useCache && !pull;
+    }
+
+    public Map<String, String> getDigestLabel(String digest) {
+        Map<String, String> labels = new HashMap<>();
+        labels.put(DockerImageConstants.BUILD_DIGEST_LABEL, digest);
+        return labels;
+    }
+
+    /**
+     * @param dockerfile with build context directory as dockerfile path
+     * @return sha256 hex digest of build inputs, null if inputs cannot be read
+     */
+    public String getDigest(Dockerfile dockerfile) {
+        if (dockerfile == null || dockerfile.getDockerfilePath() == null) {
+            return null;
+        }
+        Path contextDir = new File(dockerfile.getDockerfilePath()).toPath();
+        if (!Files.isDirectory(contextDir)) {
+            return null;
+        }
+        MessageDigest messageDigest = DigestUtils.getSha256Digest();
+        try (Stream<Path> paths = Files.walk(contextDir)) {
+            List<Path> files = paths.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+            for (Path file : files) {
+                String relativePath = contextDir.relativize(file).toString()
+                        .replace(File.separator, ToolConstants.LINUX_FILE_SEPARATOR);
+                update(messageDigest, relativePath);
+                try (InputStream is = Files.newInputStream(file)) {
+                    DigestUtils.updateDigest(messageDigest, is);
+                }
+                messageDigest.update(SEPARATOR);
+            }
+        } catch (IOException e) {
+            logger.debug("Unable to compute build digest of {}", contextDir, e);
+            return null;
+        }
+        update(messageDigest, dockerfile.getTarget() != null ? dockerfile.getTarget() : ToolConstants.EMPTY_STRING);
+        if (dockerfile.getArgs() != null) {
+            for (Map.Entry<String, String> arg : new TreeMap<>(dockerfile.getArgs()).entrySet()) {
+                update(messageDigest, arg.getKey());
+                update(messageDigest, arg.getValue() != null ? arg.getValue() : ToolConstants.EMPTY_STRING);
+            }
+        }
+        return Hex.encodeHexString(messageDigest.digest());
+    }
+
+    private void update(MessageDigest messageDigest, String value) {
+        messageDigest.update(value.getBytes(StandardCharsets.UTF_8));
+        messageDigest.update(SEPARATOR);
+    }
+}
@@ -0,0 +1,102 @@
+/**
+ * Copyright 2019 Pramati Prism, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.hyscale.builder.services.util;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import io.hyscale.builder.core.models.BuildContext;
+import io.hyscale.builder.core.models.ImageDetails;
+import io.hyscale.builder.services.docker.HyscaleDockerClient;
+import io.hyscale.builder.services.oci.RegistryApiClient;
+import io.hyscale.builder.services.oci.RegistryRepository;
+import io.hyscale.commons.constants.ToolConstants;
+import io.hyscale.commons.exception.HyscaleException;
+import io.hyscale.servicespec.commons.model.service.Image;
+import io.hyscale.servicespec.commons.util.ImageUtil;
+
+/**
+ * Decides whether an image needs to be pushed to the registry.
+ * Push is not required when a manifest digest recorded for the local image
+ * in the target repository matches the digest the registry serves for the tag.
+ * Local image without digests for the target repository is always pushed.
+ */
+@Component
+public class ImagePushPlanner {
+
+    private static final Logger logger = LoggerFactory.getLogger(ImagePushPlanner.class);
+
+    @Autowired
+    private HyscaleDockerClient hyscaleDockerClient;
+
+    @Autowired
+    private RegistryApiClient registryApiClient;
+
+    /**
+     * Records the local image size as pushed bytes in build context.
+     * When push is not required, records the registry digest as image sha sum
+     * and the image size as skipped bytes instead
+     *
+     * @param image   target image
+     * @param context build context with push registry
+     * @return true if image has to be pushed
+     * @throws HyscaleException
+     */
+    public boolean isPushRequired(Image image, BuildContext context) throws HyscaleException {
+        String imageFullPath = ImageUtil.getImage(image);
+        ImageDetails imageDetails = hyscaleDockerClient.getImageDetails(imageFullPath);
+        if (imageDetails == null) {
+            return true;
+        }
+        if (imageDetails.getSize() != null) {
+            context.setPushedBytes(imageDetails.getSize());
+        }
+        List<String> localDigests = getRepoDigests(imageDetails, ImageUtil.getImageWithoutTag(image));
+        if (localDigests.isEmpty() || StringUtils.isBlank(image.getRegistry())) {
+            logger.debug("No registry digest available for image {}", imageFullPath);
+            return true;
+        }
+        String registryDigest = registryApiClient.getManifestDigest(
+                new RegistryRepository(image.getRegistry(), image.getName(), context.getPushRegistry()), image.getTag());
+        if (registryDigest == null || !localDigests.contains(registryDigest)) {
+            logger.debug("Registry digest {} does not match local digests {} of {}", registryDigest, localDigests,
+                    imageFullPath);
+            return true;
+        }
+        logger.debug("Registry has identical image {} with digest {}", imageFullPath, registryDigest);
+        context.setImageShaSum(registryDigest);
+        context.setPushSkippedBytes(context.getPushedBytes());
+        context.setPushedBytes(0);
+        return false;
+    }
+
+    private List<String> getRepoDigests(ImageDetails imageDetails, String repository) {
+        if (imageDetails.getRepoDigests() == null) {
+            return List.of();
+        }
+        String repositoryPrefix = repository + ToolConstants.AT_SIGN;
+        return imageDetails.getRepoDigests().stream().filter(Objects::nonNull)
+                .filter(each -> each.startsWith(repositoryPrefix))
+                .map(each -> each.substring(repositoryPrefix.length())).collect(Collectors.toList());
+    }
+}
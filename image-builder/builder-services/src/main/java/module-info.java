@@ -35,5 +35,6 @@ module builderservices {
 	requires com.fasterxml.jackson.core;
     requires docker.java;
     requires org.apache.commons.io;
+    requires org.apache.commons.codec;
     requires java.ws.rs;
 }
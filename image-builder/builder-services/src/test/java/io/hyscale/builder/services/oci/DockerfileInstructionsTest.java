@@ -0,0 +1,71 @@
+/**
+ * Copyright 2019 Pramati Prism, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.hyscale.builder.services.oci;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.hyscale.builder.services.exception.ImageBuilderErrorCodes;
+import io.hyscale.commons.exception.HyscaleException;
+
+public class DockerfileInstructionsTest {
+
+    @Test
+    public void testPermissionCommandIsApplied(@TempDir Path tempDir) throws IOException, HyscaleException {
+        DockerfileInstructions instructions = DockerfileInstructions.parse(getDockerfile(tempDir,
+                "FROM tomcat:8.5", "COPY app.war /usr/local/tomcat/webapps/",
+                "ADD run-script.sh /hyscale/app/", "RUN chmod -R 755 /hyscale/app/",
+                "ENTRYPOINT [\"/bin/sh\",\"/hyscale/app/run-script.sh\"]"));
+
+        assertEquals("tomcat:8.5", instructions.getBaseImage());
+        assertEquals(2, instructions.getCopyInstructions().size());
+        assertEquals(Arrays.asList("/bin/sh", "/hyscale/app/run-script.sh"), instructions.getEntrypoint());
+    }
+
+    @Test
+    public void testConfigureScriptIsNotSupported(@TempDir Path tempDir) throws IOException {
+        File dockerfile = getDockerfile(tempDir, "FROM tomcat:8.5", "ADD configure-script.sh /hyscale/app/",
+                "RUN chmod -R 755 /hyscale/app/", "RUN /hyscale/app/configure-script.sh");
+
+        HyscaleException exception = assertThrows(HyscaleException.class,
+                () -> DockerfileInstructions.parse(dockerfile));
+        assertEquals(ImageBuilderErrorCodes.UNSUPPORTED_DOCKERFILE_INSTRUCTION, exception.getHyscaleError());
+        assertTrue(exception.getMessage().contains("RUN /hyscale/app/configure-script.sh"), exception.getMessage());
+        assertTrue(exception.getMessage().contains("docker builder"), exception.getMessage());
+    }
+
+    @Test
+    public void testRunOfCommandIsNotSupported(@TempDir Path tempDir) throws IOException {
+        File dockerfile = getDockerfile(tempDir, "FROM tomcat:8.5", "RUN apt-get update");
+
+        assertThrows(HyscaleException.class, () -> DockerfileInstructions.parse(dockerfile));
+    }
+
+    private File getDockerfile(Path tempDir, String... lines) throws IOException {
+        return Files.write(tempDir.resolve("Dockerfile"), Arrays.asList(lines), StandardCharsets.UTF_8).toFile();
+    }
+}
@@ -0,0 +1,61 @@
+/**
+ * Copyright 2019 Pramati Prism, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.hyscale.builder.services.oci;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class LayerArchiverTest {
+
+    @Test
+    public void testArchiveIsReproducible(@TempDir Path tempDir) throws IOException {
+        File artifact = Files.write(tempDir.resolve("app.jar"), "artifact".getBytes(StandardCharsets.UTF_8)).toFile();
+        List<LayerEntry> entries = Arrays.asList(new LayerEntry("opt/app.jar", artifact, 0644),
+                new LayerEntry("opt", null, 0755));
+        LayerDescriptor first = LayerArchiver.archive(entries, tempDir.resolve("first.tar.gz"));
+
+        artifact.setLastModified(artifact.lastModified() - 60000);
+        LayerDescriptor second = LayerArchiver.archive(entries, tempDir.resolve("second.tar.gz"));
+
+        assertEquals(first.getDigest(), second.getDigest());
+        assertEquals(first.getDiffId(), second.getDiffId());
+        assertEquals(first.getSize(), second.getSize());
+    }
+
+    @Test
+    public void testArchiveChangesWithContent(@TempDir Path tempDir) throws IOException {
+        Path artifact = tempDir.resolve("app.jar");
+        List<LayerEntry> entries = Arrays.asList(new LayerEntry("opt/app.jar", artifact.toFile(), 0644));
+        Files.write(artifact, "artifact".getBytes(StandardCharsets.UTF_8));
+        LayerDescriptor first = LayerArchiver.archive(entries, tempDir.resolve("first.tar.gz"));
+
+        Files.write(artifact, "changed artifact".getBytes(StandardCharsets.UTF_8));
+        LayerDescriptor second = LayerArchiver.archive(entries, tempDir.resolve("second.tar.gz"));
+
+        assertNotEquals(first.getDiffId(), second.getDiffId());
+    }
+}
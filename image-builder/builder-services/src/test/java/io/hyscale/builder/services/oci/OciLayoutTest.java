@@ -0,0 +1,70 @@
+/**
+ * Copyright 2019 Pramati Prism, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.hyscale.builder.services.oci;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import io.hyscale.builder.services.constants.OciImageConstants;
+import io.hyscale.commons.utils.ObjectMapperFactory;
+
+public class OciLayoutTest {
+
+    @Test
+    public void testUntaggedImageBlobsAreDeleted(@TempDir Path tempDir) throws IOException {
+        OciLayout layout = new OciLayout(tempDir);
+        ObjectNode baseLayer = writeBlob(layout, OciImageConstants.OCI_LAYER, "base layer");
+        ObjectNode oldManifest = writeImage(layout, baseLayer, "old artifact");
+        ObjectNode newManifest = writeImage(layout, baseLayer, "new artifact");
+        layout.tag("myservice:1", oldManifest);
+        layout.tag("myservice:2", newManifest);
+
+        assertTrue(layout.untag("myservice:1"));
+        assertFalse(layout.untag("myservice:1"));
+        assertEquals(0, layout.deleteUnreferencedBlobs(TimeUnit.HOURS.toMillis(1)));
+        assertTrue(layout.deleteUnreferencedBlobs(0) > 0);
+
+        assertNull(layout.getManifestDescriptor("myservice:1"));
+        assertFalse(layout.hasBlob(oldManifest.get("digest").asText()));
+        assertTrue(layout.hasBlob(newManifest.get("digest").asText()));
+        assertTrue(layout.hasBlob(baseLayer.get("digest").asText()));
+        assertEquals(1, layout.getManifestDescriptors().size());
+    }
+
+    private ObjectNode writeImage(OciLayout layout, ObjectNode baseLayer, String artifact) throws IOException {
+        ObjectNode manifest = ObjectMapperFactory.jsonMapper().createObjectNode();
+        manifest.set("config", writeBlob(layout, OciImageConstants.OCI_CONFIG, "{\"artifact\":\"" + artifact + "\"}"));
+        manifest.putArray("layers").add(baseLayer).add(writeBlob(layout, OciImageConstants.OCI_LAYER, artifact));
+        return layout.writeBlob(OciImageConstants.OCI_MANIFEST,
+                ObjectMapperFactory.jsonMapper().writeValueAsBytes(manifest));
+    }
+
+    private ObjectNode writeBlob(OciLayout layout, String mediaType, String content) throws IOException {
+        return layout.writeBlob(mediaType, content.getBytes(StandardCharsets.UTF_8));
+    }
+}
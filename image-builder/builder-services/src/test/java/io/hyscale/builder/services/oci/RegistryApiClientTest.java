@@ -0,0 +1,246 @@
+/**
+ * Copyright 2019 Pramati Prism, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.hyscale.builder.services.oci;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.commons.codec.digest.DigestUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.hyscale.builder.services.constants.OciImageConstants;
+import io.hyscale.commons.models.ImageRegistry;
+
+/**
+ * Runs against an in-process registry stand-in holding
+ * blobs and manifests of a single repository, which
+ * requires bearer token authentication
+ */
+public class RegistryApiClientTest {
+
+    private static final String REPOSITORY = "hyscale/myservice";
+    private static final String TAG = "1.0";
+    private static final byte[] MANIFEST = "{\"schemaVersion\":2}".getBytes(StandardCharsets.UTF_8);
+    private static final String DIGEST = OciImageConstants.SHA256_PREFIX + DigestUtils.sha256Hex(MANIFEST);
+    private static final String CREDENTIALS = Base64.getEncoder()
+            .encodeToString("user:password".getBytes(StandardCharsets.UTF_8));
+    private static final String TOKEN = "registry-token";
+    private static final String SCOPE = "repository:" + REPOSITORY + ":pull,push";
+    private static final String REPOSITORY_PATH = "/v2/" + REPOSITORY;
+
+    private final Map<String, byte[]> blobs = new ConcurrentHashMap<>();
+
+    private final Map<String, byte[]> manifests = new ConcurrentHashMap<>();
+
+    private ServerSocket registry;
+
+    private String registryUrl;
+
+    private RegistryApiClient registryApiClient = new RegistryApiClient();
+
+    @BeforeEach
+    public void startRegistry() throws IOException {
+        manifests.put(TAG, MANIFEST);
+        registry = new ServerSocket(0, 0, InetAddress.getLoopbackAddress());
+        registryUrl = "http://localhost:" + registry.getLocalPort();
+        Thread registryThread = new Thread(this::serve);
+        registryThread.setDaemon(true);
+        registryThread.start();
+    }
+
+    @AfterEach
+    public void stopRegistry() throws IOException {
+        registry.close();
+    }
+
+    @Test
+    public void testManifestDigestWithToken() {
+        assertEquals(DIGEST, registryApiClient.getManifestDigest(getRepository(CREDENTIALS), TAG));
+    }
+
+    @Test
+    public void testInvalidCredentials() {
+        String invalidCredentials = Base64.getEncoder().encodeToString("user:invalid".getBytes(StandardCharsets.UTF_8));
+        assertNull(registryApiClient.getManifestDigest(getRepository(invalidCredentials), TAG));
+    }
+
+    @Test
+    public void testMissingTag() {
+        assertNull(registryApiClient.getManifestDigest(getRepository(CREDENTIALS), "2.0"));
+    }
+
+    @Test
+    public void testUnreachableRegistry() throws IOException {
+        registry.close();
+        assertNull(registryApiClient.getManifestDigest(getRepository(CREDENTIALS), TAG));
+    }
+
+    @Test
+    public void testPushAndPull(@TempDir Path tempDir) throws IOException {
+        RegistryRepository repository = getRepository(CREDENTIALS);
+        byte[] layer = "layer content".getBytes(StandardCharsets.UTF_8);
+        String layerDigest = OciImageConstants.SHA256_PREFIX + DigestUtils.sha256Hex(layer);
+        Path layerFile = Files.write(tempDir.resolve("layer"), layer);
+
+        assertFalse(registryApiClient.hasBlob(repository, layerDigest));
+        registryApiClient.uploadBlob(repository, layerDigest, layerFile);
+        assertTrue(registryApiClient.hasBlob(repository, layerDigest));
+
+        Path downloaded = tempDir.resolve("downloaded");
+        registryApiClient.downloadBlob(repository, layerDigest, downloaded);
+        assertArrayEquals(layer, Files.readAllBytes(downloaded));
+
+        byte[] manifest = ("{\"schemaVersion\":2,\"layers\":[\"" + layerDigest + "\"]}")
+                .getBytes(StandardCharsets.UTF_8);
+        String manifestDigest = registryApiClient.putManifest(repository, "2.0", OciImageConstants.OCI_MANIFEST,
+                manifest);
+        assertEquals(OciImageConstants.SHA256_PREFIX + DigestUtils.sha256Hex(manifest), manifestDigest);
+        assertEquals(manifestDigest, registryApiClient.getManifestDigest(repository, "2.0"));
+        assertArrayEquals(manifest, registryApiClient.getManifest(repository, "2.0").getContent());
+    }
+
+    private RegistryRepository getRepository(String credentials) {
+        return new RegistryRepository(registryUrl, REPOSITORY, new ImageRegistry(registryUrl, credentials));
+    }
+
+    private void serve() {
+        while (!registry.isClosed()) {
+            try (Socket socket = registry.accept()) {
+                handle(socket);
+            } catch (IOException e) {
+                // registry stopped
+            }
+        }
+    }
+
+    private void handle(Socket socket) throws IOException {
+        InputStream is = socket.getInputStream();
+        String[] requestLine = readLine(is).split(" ");
+        String method = requestLine[0];
+        String target = requestLine[1];
+        String path = target.contains("?") ? target.substring(0, target.indexOf('?')) : target;
+        String query = target.contains("?") ? target.substring(target.indexOf('?') + 1) : "";
+        Map<String, String> headers = new HashMap<>();
+        for (String header = readLine(is); !header.isEmpty(); header = readLine(is)) {
+            int separator = header.indexOf(':');
+            headers.put(header.substring(0, separator).trim().toLowerCase(), header.substring(separator + 1).trim());
+        }
+        byte[] body = is.readNBytes(Integer.parseInt(headers.getOrDefault("content-length", "0")));
+        String authorization = headers.get("authorization");
+        Map<String, String> responseHeaders = new HashMap<>();
+        if (path.equals("/token")) {
+            String expectedQuery = "scope=" + SCOPE.replace(":", "%3A").replace("/", "%2F").replace(",", "%2C");
+            if (!("Basic " + CREDENTIALS).equals(authorization) || !query.contains(expectedQuery)) {
+                respond(socket, 401, responseHeaders, null);
+                return;
+            }
+            respond(socket, 200, responseHeaders, ("{\"token\":\"" + TOKEN + "\"}").getBytes(StandardCharsets.UTF_8));
+            return;
+        }
+        if (!("Bearer " + TOKEN).equals(authorization)) {
+            responseHeaders.put("WWW-Authenticate",
+                    "Bearer realm=\"" + registryUrl + "/token\",service=\"registry\",scope=\"" + SCOPE + "\"");
+            respond(socket, 401, responseHeaders, null);
+            return;
+        }
+        if (path.startsWith(REPOSITORY_PATH + "/manifests/")) {
+            String reference = path.substring((REPOSITORY_PATH + "/manifests/").length());
+            if (method.equals("PUT")) {
+                manifests.put(reference, body);
+                responseHeaders.put("Docker-Content-Digest", OciImageConstants.SHA256_PREFIX + DigestUtils.sha256Hex(body));
+                respond(socket, 201, responseHeaders, null);
+                return;
+            }
+            byte[] manifest = manifests.get(reference);
+            if (manifest == null) {
+                respond(socket, 404, responseHeaders, null);
+                return;
+            }
+            responseHeaders.put("Docker-Content-Digest", OciImageConstants.SHA256_PREFIX + DigestUtils.sha256Hex(manifest));
+            responseHeaders.put("Content-Type", OciImageConstants.OCI_MANIFEST);
+            respond(socket, 200, responseHeaders, method.equals("HEAD") ? null : manifest);
+            return;
+        }
+        if (path.equals(REPOSITORY_PATH + "/blobs/uploads/") && method.equals("POST")) {
+            responseHeaders.put("Location", REPOSITORY_PATH + "/blobs/uploads/upload-id?state=0");
+            respond(socket, 202, responseHeaders, null);
+            return;
+        }
+        if (path.equals(REPOSITORY_PATH + "/blobs/uploads/upload-id") && method.equals("PUT")) {
+            String digest = query.substring(query.indexOf("digest=") + "digest=".length()).replace("%3A", ":");
+            if (!digest.equals(OciImageConstants.SHA256_PREFIX + DigestUtils.sha256Hex(body))) {
+                respond(socket, 400, responseHeaders, null);
+                return;
+            }
+            blobs.put(digest, body);
+            respond(socket, 201, responseHeaders, null);
+            return;
+        }
+        if (path.startsWith(REPOSITORY_PATH + "/blobs/")) {
+            byte[] blob = blobs.get(path.substring((REPOSITORY_PATH + "/blobs/").length()));
+            if (blob == null) {
+                respond(socket, 404, responseHeaders, null);
+                return;
+            }
+            respond(socket, 200, responseHeaders, method.equals("HEAD") ? null : blob);
+            return;
+        }
+        respond(socket, 404, responseHeaders, null);
+    }
+
+    private String readLine(InputStream is) throws IOException {
+        ByteArrayOutputStream line = new ByteArrayOutputStream();
+        for (int each = is.read(); each != -1 && each != '\n'; each = is.read()) {
+            if (each != '\r') {
+                line.write(each);
+            }
+        }
+        return line.toString(StandardCharsets.UTF_8.name());
+    }
+
+    private void respond(Socket socket, int code, Map<String, String> headers, byte[] body) throws IOException {
+        byte[] bytes = body != null ? body : new byte[0];
+        StringBuilder response = new StringBuilder("HTTP/1.1 ").append(code).append(" Status\r\n");
+        headers.forEach((name, value) -> response.append(name).append(": ").append(value).append("\r\n"));
+        response.append("Content-Length: ").append(bytes.length).append("\r\n");
+        response.append("Connection: close\r\n\r\n");
+        OutputStream os = socket.getOutputStream();
+        os.write(response.toString().getBytes(StandardCharsets.UTF_8));
+        os.write(bytes);
+        os.flush();
+    }
+}
@@ -0,0 +1,131 @@
+/**
+ * Copyright 2019 Pramati Prism, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.hyscale.builder.services.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.hyscale.builder.services.config.ImageBuilderConfig;
+import io.hyscale.servicespec.commons.model.service.Dockerfile;
+
+public class BuildDigestProviderTest {
+
+    private static final String DOCKERFILE = "FROM alpine:3.11\nCOPY app /app\n";
+
+    @Test
+    public void testDigestIsFileOrderIndependent(@TempDir Path tempDir) throws IOException {
+        Path firstContext = Files.createDirectory(tempDir.resolve("first"));
+        writeFile(firstContext, "Dockerfile", DOCKERFILE);
+        writeFile(firstContext, "app/config.yaml", "key: value");
+        writeFile(firstContext, "app/run.sh", "echo run");
+
+        Path secondContext = Files.createDirectory(tempDir.resolve("second"));
+        writeFile(secondContext, "app/run.sh", "echo run");
+        writeFile(secondContext, "app/config.yaml", "key: value");
+        writeFile(secondContext, "Dockerfile", DOCKERFILE);
+
+        Map<String, String> args = new LinkedHashMap<>();
+        args.put("VERSION", "1.0");
+        args.put("PROFILE", "dev");
+        Map<String, String> reorderedArgs = new LinkedHashMap<>();
+        reorderedArgs.put("PROFILE", "dev");
+        reorderedArgs.put("VERSION", "1.0");
+
+        BuildDigestProvider buildDigestProvider = new BuildDigestProvider();
+        String digest = buildDigestProvider.getDigest(getDockerfile(firstContext, "release", args));
+        assertNotNull(digest);
+        assertEquals(digest, buildDigestProvider.getDigest(getDockerfile(secondContext, "release", reorderedArgs)));
+    }
+
+    @Test
+    public void testDigestChangesWithInputs(@TempDir Path contextDir) throws IOException {
+        writeFile(contextDir, "Dockerfile", DOCKERFILE);
+        writeFile(contextDir, "app/run.sh", "echo run");
+        Map<String, String> args = new LinkedHashMap<>();
+        args.put("VERSION", "1.0");
+
+        BuildDigestProvider buildDigestProvider = new BuildDigestProvider();
+        String digest = buildDigestProvider.getDigest(getDockerfile(contextDir, "release", args));
+
+        Map<String, String> changedArgs = new LinkedHashMap<>();
+        changedArgs.put("VERSION", "1.1");
+        assertNotEquals(digest, buildDigestProvider.getDigest(getDockerfile(contextDir, "release", changedArgs)));
+        assertNotEquals(digest, buildDigestProvider.getDigest(getDockerfile(contextDir, "release", null)));
+        assertNotEquals(digest, buildDigestProvider.getDigest(getDockerfile(contextDir, "debug", args)));
+        assertNotEquals(digest, buildDigestProvider.getDigest(getDockerfile(contextDir, null, args)));
+
+        writeFile(contextDir, "app/run.sh", "echo run again");
+        String changedContent = buildDigestProvider.getDigest(getDockerfile(contextDir, "release", args));
+        assertNotEquals(digest, changedContent);
+
+        Files.move(contextDir.resolve("app/run.sh"), contextDir.resolve("app/start.sh"));
+        assertNotEquals(changedContent, buildDigestProvider.getDigest(getDockerfile(contextDir, "release", args)));
+    }
+
+    @Test
+    public void testDigestOfMissingContext(@TempDir Path tempDir) {
+        BuildDigestProvider buildDigestProvider = new BuildDigestProvider();
+        assertNull(buildDigestProvider.getDigest(null));
+        assertNull(buildDigestProvider.getDigest(getDockerfile(tempDir.resolve("missing"), null, null)));
+    }
+
+    @Test
+    public void testBuildSkipIsOptIn() throws ReflectiveOperationException {
+        ImageBuilderConfig imageBuilderConfig = new ImageBuilderConfig();
+        BuildDigestProvider buildDigestProvider = new BuildDigestProvider();
+        setField(buildDigestProvider, "imageBuilderConfig", imageBuilderConfig);
+        assertFalse(buildDigestProvider.isBuildSkipAllowed(true, false));
+
+        setField(imageBuilderConfig, "buildSkipEnabled", true);
+        assertTrue(buildDigestProvider.isBuildSkipAllowed(true, false));
+        assertFalse(buildDigestProvider.isBuildSkipAllowed(false, false));
+        assertFalse(buildDigestProvider.isBuildSkipAllowed(true, true));
+    }
+
+    private Dockerfile getDockerfile(Path contextDir, String target, Map<String, String> args) {
+        Dockerfile dockerfile = new Dockerfile();
+        dockerfile.setDockerfilePath(contextDir.toString());
+        dockerfile.setTarget(target);
+        dockerfile.setArgs(args);
+        return dockerfile;
+    }
+
+    private void writeFile(Path contextDir, String relativePath, String content) throws IOException {
+        Path file = contextDir.resolve(relativePath);
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, content);
+    }
+
+    private void setField(Object target, String name, Object value) throws ReflectiveOperationException {
+        Field field = target.getClass().getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(target, value);
+    }
+}
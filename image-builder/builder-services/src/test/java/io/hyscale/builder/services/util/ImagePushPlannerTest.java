@@ -0,0 +1,234 @@
+/**
+ * Copyright 2019 Pramati Prism, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.hyscale.builder.services.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Field;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import io.hyscale.builder.core.models.BuildContext;
+import io.hyscale.builder.core.models.DockerImage;
+import io.hyscale.builder.core.models.ImageDetails;
+import io.hyscale.builder.services.docker.HyscaleDockerClient;
+import io.hyscale.builder.services.oci.RegistryApiClient;
+import io.hyscale.builder.services.oci.RegistryRepository;
+import io.hyscale.servicespec.commons.model.service.Dockerfile;
+import io.hyscale.servicespec.commons.model.service.Image;
+
+public class ImagePushPlannerTest {
+
+    private static final String REGISTRY = "registry.example.com";
+    private static final String IMAGE_NAME = "hyscale/myservice";
+    private static final String TAG = "1.0";
+    private static final String DIGEST = "sha256:1111";
+    private static final String OTHER_DIGEST = "sha256:2222";
+    private static final long IMAGE_SIZE = 1024L;
+
+    @Test
+    public void testPushSkippedOnMatchingDigest() throws Exception {
+        ImageDetails imageDetails = getImageDetails(REGISTRY + "/" + IMAGE_NAME + "@" + OTHER_DIGEST,
+                "other.registry.com/" + IMAGE_NAME + "@" + DIGEST, REGISTRY + "/" + IMAGE_NAME + "@" + DIGEST);
+        StubRegistryApiClient registryApiClient = new StubRegistryApiClient(DIGEST);
+        BuildContext context = new BuildContext();
+
+        assertFalse(getPlanner(imageDetails, registryApiClient).isPushRequired(getImage(REGISTRY), context));
+
+        assertEquals(DIGEST, context.getImageShaSum());
+        assertEquals(0, context.getPushedBytes());
+        assertEquals(IMAGE_SIZE, context.getPushSkippedBytes());
+        assertEquals(REGISTRY, registryApiClient.repository.getRegistryUrl());
+        assertEquals(IMAGE_NAME, registryApiClient.repository.getName());
+        assertEquals(TAG, registryApiClient.reference);
+    }
+
+    @Test
+    public void testPushOnDifferentDigest() throws Exception {
+        ImageDetails imageDetails = getImageDetails(REGISTRY + "/" + IMAGE_NAME + "@" + DIGEST);
+        BuildContext context = new BuildContext();
+
+        assertTrue(getPlanner(imageDetails, new StubRegistryApiClient(OTHER_DIGEST))
+                .isPushRequired(getImage(REGISTRY), context));
+
+        assertPushed(context);
+    }
+
+    @Test
+    public void testPushWithoutRepositoryDigest() throws Exception {
+        ImageDetails imageDetails = getImageDetails("other.registry.com/" + IMAGE_NAME + "@" + DIGEST,
+                REGISTRY + "/" + IMAGE_NAME + "-other@" + DIGEST);
+        StubRegistryApiClient registryApiClient = new StubRegistryApiClient(DIGEST);
+        BuildContext context = new BuildContext();
+
+        assertTrue(getPlanner(imageDetails, registryApiClient).isPushRequired(getImage(REGISTRY), context));
+
+        assertPushed(context);
+        // registry is not queried without a local digest to compare
+        assertNull(registryApiClient.reference);
+
+        BuildContext noDigestsContext = new BuildContext();
+        assertTrue(getPlanner(getImageDetails(), registryApiClient).isPushRequired(getImage(REGISTRY),
+                noDigestsContext));
+        assertPushed(noDigestsContext);
+    }
+
+    @Test
+    public void testPushOnUnreachableRegistry() throws Exception {
+        String registry;
+        try (ServerSocket serverSocket = new ServerSocket(0, 0, InetAddress.getLoopbackAddress())) {
+            registry = "localhost:" + serverSocket.getLocalPort();
+        }
+        ImageDetails imageDetails = getImageDetails(registry + "/" + IMAGE_NAME + "@" + DIGEST);
+        BuildContext context = new BuildContext();
+
+        assertTrue(getPlanner(imageDetails, new RegistryApiClient()).isPushRequired(getImage(registry), context));
+
+        assertPushed(context);
+    }
+
+    @Test
+    public void testPushWithoutLocalImageDetails() throws Exception {
+        BuildContext context = new BuildContext();
+
+        assertTrue(getPlanner(null, new StubRegistryApiClient(DIGEST)).isPushRequired(getImage(REGISTRY), context));
+
+        assertNull(context.getImageShaSum());
+    }
+
+    private void assertPushed(BuildContext context) {
+        assertNull(context.getImageShaSum());
+        assertEquals(IMAGE_SIZE, context.getPushedBytes());
+        assertEquals(0, context.getPushSkippedBytes());
+    }
+
+    private ImagePushPlanner getPlanner(ImageDetails imageDetails, RegistryApiClient registryApiClient)
+            throws ReflectiveOperationException {
+        ImagePushPlanner imagePushPlanner = new ImagePushPlanner();
+        setField(imagePushPlanner, "hyscaleDockerClient", new StubDockerClient(imageDetails));
+        setField(imagePushPlanner, "registryApiClient", registryApiClient);
+        return imagePushPlanner;
+    }
+
+    private ImageDetails getImageDetails(String... repoDigests) {
+        ImageDetails imageDetails = new ImageDetails();
+        imageDetails.setId("sha256:abcd");
+        imageDetails.setSize(IMAGE_SIZE);
+        imageDetails.setRepoDigests(Arrays.asList(repoDigests));
+        return imageDetails;
+    }
+
+    private Image getImage(String registry) {
+        Image image = new Image();
+        image.setRegistry(registry);
+        image.setName(IMAGE_NAME);
+        image.setTag(TAG);
+        return image;
+    }
+
+    private void setField(Object target, String name, Object value) throws ReflectiveOperationException {
+        Field field = target.getClass().getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(target, value);
+    }
+
+    private static class StubRegistryApiClient extends RegistryApiClient {
+
+        private final String digest;
+
+        private RegistryRepository repository;
+
+        private String reference;
+
+        StubRegistryApiClient(String digest) {
+            this.digest = digest;
+        }
+
+        @Override
+        public String getManifestDigest(RegistryRepository repository, String reference) {
+            this.repository = repository;
+            this.reference = reference;
+            return digest;
+        }
+    }
+
+    private static class StubDockerClient implements HyscaleDockerClient {
+
+        private final ImageDetails imageDetails;
+
+        StubDockerClient(ImageDetails imageDetails) {
+            this.imageDetails = imageDetails;
+        }
+
+        @Override
+        public ImageDetails getImageDetails(String image) {
+            return imageDetails;
+        }
+
+        @Override
+        public boolean isDockerRunning() {
+            return true;
+        }
+
+        @Override
+        public boolean checkForDocker() {
+            return true;
+        }
+
+        @Override
+        public List<String> getImageIds(String imageName, Map<String, String> label) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void deleteImages(List<String> imageIds, boolean force) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void deleteImage(String imageId, boolean force) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public DockerImage build(Dockerfile dockerfile, String tag, BuildContext context) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void push(Image image, BuildContext buildContext) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void pull(String image, BuildContext context) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void tag(String source, Image dest) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
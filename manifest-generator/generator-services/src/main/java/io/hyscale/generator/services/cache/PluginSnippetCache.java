@@ -0,0 +1,227 @@
+/**
+ * Copyright 2019 Pramati Prism, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.hyscale.generator.services.cache;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import org.apache.commons.codec.digest.DigestUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.info.BuildProperties;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import io.hyscale.commons.config.SetupConfig;
+import io.hyscale.commons.exception.HyscaleException;
+import io.hyscale.commons.io.HyscaleFilesUtil;
+import io.hyscale.commons.models.ManifestContext;
+import io.hyscale.commons.utils.ObjectMapperFactory;
+import io.hyscale.generator.services.model.PluginCacheEntry;
+import io.hyscale.plugin.framework.annotation.ManifestPlugin;
+import io.hyscale.plugin.framework.handler.ManifestHandler;
+import io.hyscale.plugin.framework.models.ManifestSnippet;
+import io.hyscale.servicespec.commons.fields.HyscaleSpecFields;
+import io.hyscale.servicespec.commons.model.PropType;
+import io.hyscale.servicespec.commons.model.service.ServiceSpec;
+
+/**
+ * On disk cache of manifest plugin snippets.
+ * A plugin entry is keyed by digest of everything the plugin read:
+ * <ul>
+ * <li>Service spec paths read along with their values</li>
+ * <li>Content of prop files when props are read</li>
+ * <li>Manifest context and generation attributes consumed by the plugin</li>
+ * </ul>
+ * along with version and time of the hyscale build, plugins are not cached when build info is unavailable.
+ * Activities persisted by the plugin are cached with its snippets to be replayed.
+ * Plugins producing generation attributes are not cached as replaying snippets
+ * would skip updating the manifest context
+ */
+@Component
+public class PluginSnippetCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(PluginSnippetCache.class);
+
+    private static final String CACHE_FORMAT_VERSION = "2";
+
+    private static final String CACHE_FILE_EXTENSION = ".json";
+
+    private static final String MISSING_FILE = "<missing>";
+
+    @Autowired(required = false)
+    private BuildProperties buildProperties;
+
+    private final ObjectMapper objectMapper = ObjectMapperFactory.jsonMapper().copy()
+            .configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true);
+
+    /**
+     * @param handler
+     * @return true if snippets of handler can be replayed
+     */
+    public boolean isCacheable(ManifestHandler handler) {
+        ManifestPlugin plugin = handler.getClass().getAnnotation(ManifestPlugin.class);
+        return plugin != null && plugin.produces().length == 0;
+    }
+
+    /**
+     * @param cacheDir
+     * @param handler
+     * @param serviceSpec
+     * @param manifestContext
+     * @return cache entry if inputs of the handler are unchanged, null otherwise
+     */
+    public PluginCacheEntry get(String cacheDir, ManifestHandler handler, ServiceSpec serviceSpec,
+            ManifestContext manifestContext) {
+        File cacheFile = getCacheFile(cacheDir, handler);
+        if (!cacheFile.exists()) {
+            return null;
+        }
+        PluginCacheEntry cacheEntry = null;
+        try {
+            cacheEntry = objectMapper.readValue(cacheFile, PluginCacheEntry.class);
+        } catch (IOException e) {
+            logger.debug("Ignoring unreadable cache of plugin {}", handler.getClass().getName(), e);
+            return null;
+        }
+        if (cacheEntry.getDigest() == null || cacheEntry.getReadPaths() == null) {
+            return null;
+        }
+        String digest = getDigest(handler, cacheEntry.getReadPaths(), serviceSpec, manifestContext);
+        if (!cacheEntry.getDigest().equals(digest)) {
+            logger.debug("Inputs of plugin {} changed", handler.getClass().getName());
+            return null;
+        }
+        logger.debug("Replaying cached snippets of plugin {}", handler.getClass().getName());
+        if (cacheEntry.getSnippets() == null) {
+            cacheEntry.setSnippets(new ArrayList<>());
+        }
+        if (cacheEntry.getPersistedActivities() == null) {
+            cacheEntry.setPersistedActivities(new ArrayList<>());
+        }
+        return cacheEntry;
+    }
+
+    /**
+     * Records snippets generated by handler against digest of its inputs
+     * @param cacheDir
+     * @param handler
+     * @param readPaths spec paths read by the handler
+     * @param serviceSpec
+     * @param manifestContext
+     * @param snippets generated by the handler
+     * @param persistedActivities activities persisted by the handler
+     */
+    public void put(String cacheDir, ManifestHandler handler, Collection<String> readPaths, ServiceSpec serviceSpec,
+            ManifestContext manifestContext, List<ManifestSnippet> snippets, List<String> persistedActivities) {
+        List<String> sortedPaths = new ArrayList<>(new TreeSet<>(readPaths));
+        String digest = getDigest(handler, sortedPaths, serviceSpec, manifestContext);
+        if (digest == null) {
+            return;
+        }
+        PluginCacheEntry cacheEntry = new PluginCacheEntry();
+        cacheEntry.setDigest(digest);
+        cacheEntry.setReadPaths(sortedPaths);
+        cacheEntry.setSnippets(snippets);
+        cacheEntry.setPersistedActivities(persistedActivities);
+        try {
+            HyscaleFilesUtil.createFile(getCacheFile(cacheDir, handler).getPath(),
+                    objectMapper.writeValueAsString(cacheEntry));
+        } catch (JsonProcessingException | HyscaleException e) {
+            logger.debug("Failed to cache snippets of plugin {}", handler.getClass().getName(), e);
+        }
+    }
+
+    private File getCacheFile(String cacheDir, ManifestHandler handler) {
+        return new File(cacheDir, handler.getClass().getName() + CACHE_FILE_EXTENSION);
+    }
+
+    /**
+     * @return digest of the handler inputs, null if inputs cannot be determined
+     */
+    private String getDigest(ManifestHandler handler, List<String> readPaths, ServiceSpec serviceSpec,
+            ManifestContext manifestContext) {
+        if (buildProperties == null) {
+            return null;
+        }
+        Map<String, Object> inputs = new TreeMap<>();
+        inputs.put("cacheFormat", CACHE_FORMAT_VERSION);
+        inputs.put("handler", handler.getClass().getName());
+        inputs.put("buildVersion", buildProperties.getVersion());
+        inputs.put("buildTime", String.valueOf(buildProperties.getTime()));
+        inputs.put("appName", manifestContext.getAppName());
+        inputs.put("envName", manifestContext.getEnvName());
+        inputs.put("namespace", manifestContext.getNamespace());
+        inputs.put("customLabels", manifestContext.getCustomLabels());
+        inputs.put("imageRegistry", manifestContext.getImageRegistry());
+        Map<String, Object> generationAttributes = new TreeMap<>();
+        for (String attribute : handler.getClass().getAnnotation(ManifestPlugin.class).consumes()) {
+            generationAttributes.put(attribute, manifestContext.getGenerationAttribute(attribute));
+        }
+        inputs.put("generationAttributes", generationAttributes);
+        Map<String, Object> specValues = new TreeMap<>();
+        for (String path : readPaths) {
+            specValues.put(path, serviceSpec.get(path));
+        }
+        inputs.put("spec", specValues);
+        try {
+            if (readPaths.contains(HyscaleSpecFields.props)) {
+                inputs.put("propFiles", getPropFileDigests(serviceSpec));
+            }
+            return DigestUtils.sha256Hex(objectMapper.writeValueAsString(inputs));
+        } catch (IOException | HyscaleException e) {
+            logger.debug("Cannot determine inputs of plugin {}", handler.getClass().getName(), e);
+            return null;
+        }
+    }
+
+    private Map<String, String> getPropFileDigests(ServiceSpec serviceSpec) throws IOException, HyscaleException {
+        Map<String, String> fileDigests = new TreeMap<>();
+        Map<String, String> props = serviceSpec.get(HyscaleSpecFields.props,
+                new TypeReference<Map<String, String>>() {
+                });
+        if (props == null) {
+            return fileDigests;
+        }
+        for (String value : props.values()) {
+            if (value == null || !PropType.FILE.getPatternMatcher().matcher(value).matches()) {
+                continue;
+            }
+            File propFile = new File(SetupConfig.getAbsolutePath(PropType.FILE.extractPropValue(value)));
+            if (!propFile.isFile()) {
+                fileDigests.put(value, MISSING_FILE);
+                continue;
+            }
+            try (InputStream is = new FileInputStream(propFile)) {
+                fileDigests.put(value, DigestUtils.sha256Hex(is));
+            }
+        }
+        return fileDigests;
+    }
+}
@@ -16,6 +16,7 @@
 package io.hyscale.generator.services.config;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import io.hyscale.commons.config.SetupConfig;
@@ -28,6 +29,14 @@ public class ManifestConfig {
 
 	private static final String manifestDir = "manifests";
 
+	private static final String pluginCacheDir = "manifest-plugins";
+
+	@Value("${hyscale.ctl.manifest.plugin.parallelism:4}")
+	private int pluginParallelism;
+
+	@Value("${hyscale.ctl.manifest.plugin.cache.enabled:true}")
+	private boolean pluginCacheEnabled;
+
 	public String getManifestDir(String appName, String serviceName) {
 		StringBuilder sb = new StringBuilder();
 		sb.append(setupConfig.getGeneratedFilesDir(appName, serviceName)).append(manifestDir)
@@ -35,4 +44,26 @@ public class ManifestConfig {
 		return sb.toString();
 	}
 
+	/**
+	 * Plugin outputs are cached outside the service directory as it is cleaned up on deploy
+	 */
+	public String getPluginCacheDir(String appName, String serviceName) {
+		StringBuilder sb = new StringBuilder();
+		sb.append(setupConfig.getCacheDir()).append(pluginCacheDir).append(SetupConfig.FILE_SEPARATOR)
+				.append(appName).append(SetupConfig.FILE_SEPARATOR).append(serviceName)
+				.append(SetupConfig.FILE_SEPARATOR);
+		return sb.toString();
+	}
+
+	public boolean isPluginCacheEnabled() {
+		return pluginCacheEnabled;
+	}
+
+	/**
+	 * @return number of manifest plugins run at once, 1 runs plugins sequentially
+	 */
+	public int getPluginParallelism() {
+		return pluginParallelism;
+	}
+
 }
@@ -16,18 +16,27 @@
 package io.hyscale.generator.services.generator;
 
 import java.io.File;
+import java.util.concurrent.CompletableFuture;
 
+import io.hyscale.commons.io.WriteBehindFileWriter;
+import io.hyscale.commons.models.ObjectManifest;
 import io.hyscale.commons.models.YAMLManifest;
+import io.hyscale.commons.utils.ObjectMapperFactory;
 import io.hyscale.commons.utils.NormalizationUtil;
 import io.hyscale.generator.services.constants.ManifestGenConstants;
 import io.hyscale.generator.services.exception.ManifestErrorCodes;
 import io.hyscale.plugin.framework.models.ManifestMeta;
 import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
 import io.hyscale.commons.exception.HyscaleException;
 import io.hyscale.commons.io.HyscaleFilesUtil;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
 /**
  * Generate Manifest File with yaml
  *
@@ -36,20 +45,55 @@ import io.hyscale.commons.io.HyscaleFilesUtil;
 @Component
 public class ManifestFileGenerator {
 
+	private static final Logger logger = LoggerFactory.getLogger(ManifestFileGenerator.class);
+
 	public YAMLManifest getYamlManifest(String manifestDir, String yaml, ManifestMeta manifestMeta)
 			throws HyscaleException {
 		if (StringUtils.isBlank(yaml) || StringUtils.isBlank(manifestDir)) {
 			throw new HyscaleException(ManifestErrorCodes.ERROR_WHILE_WRITING_MANIFEST_TO_FILE, manifestDir);
 		}
-		StringBuilder sb = new StringBuilder(manifestDir);
-		sb.append(getManifestFileName(manifestMeta));
-		sb.append(ManifestGenConstants.YAML_EXTENSION);
-		File manifestFile = HyscaleFilesUtil.createFile(sb.toString(), yaml);
+		File manifestFile = HyscaleFilesUtil.createFile(getManifestFilePath(manifestDir, manifestMeta), yaml);
 		YAMLManifest yamlManifest = new YAMLManifest();
 		yamlManifest.setYamlManifest(manifestFile);
 		return yamlManifest;
 	}
 
+	/**
+	 * Creates manifest backed by the generated object model,
+	 * yaml conversion and file write happen in the background
+	 *
+	 * @param manifestDir
+	 * @param manifestNode not to be modified once handed over
+	 * @param manifestMeta
+	 * @return manifest with in memory object model
+	 * @throws HyscaleException
+	 */
+	public ObjectManifest getObjectManifest(String manifestDir, ObjectNode manifestNode, ManifestMeta manifestMeta)
+			throws HyscaleException {
+		if (manifestNode == null || StringUtils.isBlank(manifestDir)) {
+			throw new HyscaleException(ManifestErrorCodes.ERROR_WHILE_WRITING_MANIFEST_TO_FILE, manifestDir);
+		}
+		CompletableFuture<File> manifestFile = WriteBehindFileWriter.getInstance()
+				.write(getManifestFilePath(manifestDir, manifestMeta), () -> toYaml(manifestNode, manifestMeta));
+		return new ObjectManifest(manifestNode, manifestFile);
+	}
+
+	private String toYaml(ObjectNode manifestNode, ManifestMeta manifestMeta) {
+		try {
+			return ObjectMapperFactory.yamlMapper().writeValueAsString(manifestNode);
+		} catch (JsonProcessingException e) {
+			logger.error("Failed to process manifest during yaml conversion {}", manifestMeta, e);
+			return null;
+		}
+	}
+
+	private String getManifestFilePath(String manifestDir, ManifestMeta manifestMeta) {
+		StringBuilder sb = new StringBuilder(manifestDir);
+		sb.append(getManifestFileName(manifestMeta));
+		sb.append(ManifestGenConstants.YAML_EXTENSION);
+		return sb.toString();
+	}
+
 	private String getManifestFileName(ManifestMeta manifestMeta) {
 		StringBuilder sb = new StringBuilder();
 		if (!StringUtils.isBlank(manifestMeta.getIdentifier())) {
@@ -15,7 +15,6 @@
  */
 package io.hyscale.generator.services.generator;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import io.hyscale.generator.services.builder.DefaultLabelBuilder;
 import io.hyscale.generator.services.model.ManifestResource;
 import io.hyscale.generator.services.model.ServiceMetadata;
@@ -25,14 +24,13 @@ import io.kubernetes.client.openapi.models.V1ObjectMeta;
 
 public class MetadataManifestSnippetGenerator {
 
-	public static ManifestSnippet getMetaData(ManifestResource manifestResource, ServiceMetadata serviceMetadata)
-			throws JsonProcessingException {
+	public static ManifestSnippet getMetaData(ManifestResource manifestResource, ServiceMetadata serviceMetadata) {
 		V1ObjectMeta v1ObjectMeta = new V1ObjectMeta();
 		v1ObjectMeta.setLabels(DefaultLabelBuilder.build(serviceMetadata));
 		v1ObjectMeta.setName(manifestResource.getName(serviceMetadata));
 
 		ManifestSnippet snippet = new ManifestSnippet();
-		snippet.setSnippet(JsonSnippetConvertor.serialize(v1ObjectMeta));
+		snippet.setSnippetNode(JsonSnippetConvertor.toJsonNode(v1ObjectMeta));
 		snippet.setPath("metadata");
 		snippet.setKind(manifestResource.getKind());
 		return snippet;
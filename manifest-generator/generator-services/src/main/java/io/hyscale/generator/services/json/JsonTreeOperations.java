@@ -16,44 +16,85 @@
 package io.hyscale.generator.services.json;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.fasterxml.jackson.databind.node.ObjectNode;
-import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
-import com.jayway.jsonpath.DocumentContext;
-import com.jayway.jsonpath.JsonPath;
-import io.hyscale.servicespec.commons.json.config.JsonPathConfiguration;
+import io.hyscale.commons.exception.HyscaleException;
+import io.hyscale.generator.services.exception.ManifestErrorCodes;
+import org.apache.commons.lang3.StringUtils;
 import org.springframework.stereotype.Component;
 
-import javax.annotation.PostConstruct;
-import java.io.IOException;
-
+/**
+ * Operates on a live manifest tree, paths are resolved node by node
+ * and the tree is modified in place without serialization
+ */
 @Component
 public class JsonTreeOperations {
 
-	private ObjectMapper objectMapper;
-
-	@PostConstruct
-	public void init() {
-		this.objectMapper = new ObjectMapper(new YAMLFactory());
-	}
+	private static final String PATH_SEPARATOR_REGEX = "\\.";
 
+	/**
+	 * Reads the node at path
+	 * @param node root of the tree
+	 * @param path dot separated path, array elements as key[index]
+	 * @return node at path, null if path does not exist
+	 */
 	public JsonNode read(JsonNode node, String path) {
-		return JsonPath.using(JsonPathConfiguration.getConfiguration()).parse(node.toString()).read(path,
-				JsonNode.class);
-	}
-
-	public JsonNode add(JsonNode node, String path, JsonNode elementNode) throws IOException {
-		DocumentContext documentContext = JsonPath.using(JsonPathConfiguration.getConfiguration())
-				.parse(node.toString()).add(path, elementNode);
-		return objectMapper.readTree(documentContext.jsonString());
+		if (node == null || StringUtils.isBlank(path)) {
+			return node;
+		}
+		JsonNode current = node;
+		for (String segment : path.split(PATH_SEPARATOR_REGEX)) {
+			current = current.get(getFieldName(segment));
+			if (current == null) {
+				return null;
+			}
+			if (JsonTreeUtil.isArrayPath(segment)) {
+				current = current.get(JsonTreeUtil.getArrayIndex(segment));
+				if (current == null) {
+					return null;
+				}
+			}
+		}
+		return current;
 	}
 
-	public ObjectNode put(JsonNode node, String parentPath, String key, JsonNode leafNode) throws IOException {
-		DocumentContext doccumentContext = JsonPath.using(JsonPathConfiguration.getConfiguration())
-				.parse(node.toString()).put(parentPath, key, leafNode);
-		return (ObjectNode) objectMapper.readTree(doccumentContext.jsonString());
+	/**
+	 * Injects the element at path, parents missing in the tree are created.
+	 * Element is appended when the existing nested leaf is an array,
+	 * array elements are appended individually. Any other leaf is replaced.
+	 *
+	 * @param rootNode root of the tree, modified in place
+	 * @param path dot separated path, array elements as key[index]
+	 * @param elementNode
+	 * @throws HyscaleException when path conflicts with the existing tree
+	 */
+	public void inject(ObjectNode rootNode, String path, JsonNode elementNode) throws HyscaleException {
+		String[] segments = path.split(PATH_SEPARATOR_REGEX);
+		JsonNode parent = rootNode;
+		for (int i = 0; i < segments.length - 1; i++) {
+			parent = getOrCreateChild(parent, segments[i]);
+		}
+		String leafSegment = segments[segments.length - 1];
+		if (JsonTreeUtil.isArrayPath(leafSegment)) {
+			parent = getOrCreateArray((ObjectNode) parent, leafSegment);
+			int index = JsonTreeUtil.getArrayIndex(leafSegment);
+			ArrayNode arrayNode = (ArrayNode) parent;
+			if (arrayNode.get(index).isArray()) {
+				append((ArrayNode) arrayNode.get(index), elementNode);
+			} else {
+				arrayNode.set(index, elementNode);
+			}
+			return;
+		}
+		ObjectNode parentNode = (ObjectNode) parent;
+		JsonNode leafNode = parentNode.get(leafSegment);
+		// Top level fields are always replaced
+		if (segments.length > 1 && leafNode != null && leafNode.isArray()) {
+			append((ArrayNode) leafNode, elementNode);
+		} else {
+			parentNode.set(leafSegment, elementNode);
+		}
 	}
 
 	public ArrayNode arrayNode() {
@@ -64,4 +105,61 @@ public class JsonTreeOperations {
 		return JsonNodeFactory.instance.objectNode();
 	}
 
+	/**
+	 * Returns the object at segment under parent, creating it when missing.
+	 * For indexed segments the array is padded with objects up to the index
+	 */
+	private JsonNode getOrCreateChild(JsonNode parent, String segment) throws HyscaleException {
+		if (!parent.isObject()) {
+			throw new HyscaleException(ManifestErrorCodes.ERROR_WHILE_INJECTING_MANIFEST_SNIPPET);
+		}
+		ObjectNode parentNode = (ObjectNode) parent;
+		JsonNode child = null;
+		if (JsonTreeUtil.isArrayPath(segment)) {
+			child = getOrCreateArray(parentNode, segment).get(JsonTreeUtil.getArrayIndex(segment));
+		} else {
+			child = parentNode.get(segment);
+			if (child == null) {
+				child = parentNode.putObject(segment);
+			}
+		}
+		if (!child.isObject()) {
+			throw new HyscaleException(ManifestErrorCodes.ERROR_WHILE_INJECTING_MANIFEST_SNIPPET);
+		}
+		return child;
+	}
+
+	private ArrayNode getOrCreateArray(ObjectNode parentNode, String segment) throws HyscaleException {
+		int index = JsonTreeUtil.getArrayIndex(segment);
+		if (index < 0) {
+			// Unindexed array paths cannot be resolved to a single element
+			throw new HyscaleException(ManifestErrorCodes.ERROR_WHILE_INJECTING_MANIFEST_SNIPPET);
+		}
+		String fieldName = getFieldName(segment);
+		JsonNode child = parentNode.get(fieldName);
+		if (child == null) {
+			child = parentNode.putArray(fieldName);
+		}
+		if (!child.isArray()) {
+			throw new HyscaleException(ManifestErrorCodes.ERROR_WHILE_INJECTING_MANIFEST_SNIPPET);
+		}
+		ArrayNode arrayNode = (ArrayNode) child;
+		while (arrayNode.size() <= index) {
+			arrayNode.addObject();
+		}
+		return arrayNode;
+	}
+
+	private void append(ArrayNode arrayNode, JsonNode elementNode) {
+		if (elementNode.isArray()) {
+			arrayNode.addAll((ArrayNode) elementNode);
+		} else {
+			arrayNode.add(elementNode);
+		}
+	}
+
+	private String getFieldName(String segment) {
+		return JsonTreeUtil.isArrayPath(segment) ? JsonTreeUtil.getSanitizedArrayPath(segment) : segment;
+	}
+
 }
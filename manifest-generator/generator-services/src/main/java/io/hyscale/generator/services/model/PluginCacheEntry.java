@@ -0,0 +1,64 @@
+/**
+ * Copyright 2019 Pramati Prism, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.hyscale.generator.services.model;
+
+import java.util.List;
+
+import io.hyscale.plugin.framework.models.ManifestSnippet;
+
+/**
+ * Snippets and persisted activities of a manifest plugin along with
+ * the spec paths it read and digest of its inputs
+ */
+public class PluginCacheEntry {
+
+	private String digest;
+	private List<String> readPaths;
+	private List<ManifestSnippet> snippets;
+	private List<String> persistedActivities;
+
+	public String getDigest() {
+		return digest;
+	}
+
+	public void setDigest(String digest) {
+		this.digest = digest;
+	}
+
+	public List<String> getReadPaths() {
+		return readPaths;
+	}
+
+	public void setReadPaths(List<String> readPaths) {
+		this.readPaths = readPaths;
+	}
+
+	public List<ManifestSnippet> getSnippets() {
+		return snippets;
+	}
+
+	public void setSnippets(List<ManifestSnippet> snippets) {
+		this.snippets = snippets;
+	}
+
+	public List<String> getPersistedActivities() {
+		return persistedActivities;
+	}
+
+	public void setPersistedActivities(List<String> persistedActivities) {
+		this.persistedActivities = persistedActivities;
+	}
+}
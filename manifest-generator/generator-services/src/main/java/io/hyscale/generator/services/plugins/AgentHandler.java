@@ -20,6 +20,7 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import io.hyscale.commons.exception.HyscaleException;
 import io.hyscale.commons.models.ManifestContext;
+import io.hyscale.generator.services.constants.ManifestGenConstants;
 import io.hyscale.generator.services.predicates.ManifestPredicates;
 import io.hyscale.generator.services.utils.AgentBuilder;
 import io.hyscale.plugin.framework.annotation.ManifestPlugin;
@@ -46,7 +47,8 @@ import java.util.List;
  * @author Nishanth Panthangi
  */
 @Component
-@ManifestPlugin(name = "AgentHandler")
+@ManifestPlugin(name = "AgentHandler", consumes = { ManifestGenConstants.POD_SPEC_OWNER,
+        ManifestGenConstants.POD_CHECKSUM }, produces = ManifestGenConstants.POD_CHECKSUM)
 public class AgentHandler implements ManifestHandler {
 
     private static final Logger logger = LoggerFactory.getLogger(AgentHandler.class);
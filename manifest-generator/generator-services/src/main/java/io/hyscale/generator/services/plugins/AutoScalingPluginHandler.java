@@ -49,7 +49,7 @@ import java.util.*;
  */
 
 @Component
-@ManifestPlugin(name = "AutoScalingPluginHandler")
+@ManifestPlugin(name = "AutoScalingPluginHandler", consumes = ManifestGenConstants.POD_SPEC_OWNER)
 public class AutoScalingPluginHandler implements ManifestHandler {
 
     private static final Logger logger = LoggerFactory.getLogger(AutoScalingPluginHandler.class);
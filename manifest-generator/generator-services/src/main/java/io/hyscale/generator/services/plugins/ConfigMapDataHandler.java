@@ -16,6 +16,7 @@
 package io.hyscale.generator.services.plugins;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import io.hyscale.generator.services.constants.ManifestGenConstants;
 import io.hyscale.generator.services.utils.ConfigMapDataUtil;
 import io.hyscale.plugin.framework.annotation.ManifestPlugin;
 import io.hyscale.commons.exception.HyscaleException;
@@ -35,7 +36,8 @@ import org.springframework.stereotype.Component;
 import java.util.*;
 
 @Component
-@ManifestPlugin(name = "ConfigMapDataHandler")
+@ManifestPlugin(name = "ConfigMapDataHandler", consumes = ManifestGenConstants.POD_CHECKSUM,
+        produces = ManifestGenConstants.POD_CHECKSUM)
 public class ConfigMapDataHandler implements ManifestHandler {
 
     private static final Logger logger = LoggerFactory.getLogger(ConfigMapDataHandler.class);
@@ -31,7 +31,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Component
-@ManifestPlugin(name = "ContainerNameHandler")
+@ManifestPlugin(name = "ContainerNameHandler", consumes = ManifestGenConstants.POD_SPEC_OWNER)
 public class ContainerNameHandler implements ManifestHandler {
 
     private static final Logger logger = LoggerFactory.getLogger(ContainerNameHandler.class);
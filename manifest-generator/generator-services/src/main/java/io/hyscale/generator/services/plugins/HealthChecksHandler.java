@@ -15,7 +15,6 @@
  */
 package io.hyscale.generator.services.plugins;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import io.hyscale.commons.models.ManifestContext;
 import io.hyscale.generator.services.constants.ManifestGenConstants;
@@ -41,7 +40,7 @@ import java.util.List;
 import java.util.Optional;
 
 @Component
-@ManifestPlugin(name = "HealthChecksHandler")
+@ManifestPlugin(name = "HealthChecksHandler", consumes = ManifestGenConstants.POD_SPEC_OWNER)
 public class HealthChecksHandler implements ManifestHandler {
 
     private static final Logger logger = LoggerFactory.getLogger(HealthChecksHandler.class);
@@ -110,35 +109,31 @@ public class HealthChecksHandler implements ManifestHandler {
             v1Probe.setPeriodSeconds(DEFAULT_PERIOD_IN_SECONDS);
             v1Probe.setTimeoutSeconds(DEFAULT_TIMEOUT_IN_SECONDS);
             v1Probe.setFailureThreshold(DEFAULT_FAILURE_THRESHOLD_IN_SECONDS);
-            try {
-                String podSpecOwner = ((String) context.getGenerationAttribute(ManifestGenConstants.POD_SPEC_OWNER));
-                manifestSnippetList.add(buildReadinessProbe(v1Probe, podSpecOwner));
-                manifestSnippetList.add(buildLiveinessProbe(v1Probe, podSpecOwner));
-                logger.debug("Processing HealthChecks done.");
-            } catch (JsonProcessingException e) {
-                logger.error("Error while serializing health checks ", e);
-            }
+            String podSpecOwner = ((String) context.getGenerationAttribute(ManifestGenConstants.POD_SPEC_OWNER));
+            manifestSnippetList.add(buildReadinessProbe(v1Probe, podSpecOwner));
+            manifestSnippetList.add(buildLiveinessProbe(v1Probe, podSpecOwner));
+            logger.debug("Processing HealthChecks done.");
         }
         return manifestSnippetList;
     }
 
-    private ManifestSnippet buildReadinessProbe(V1Probe v1Probe, String podSpecOwner) throws JsonProcessingException {
+    private ManifestSnippet buildReadinessProbe(V1Probe v1Probe, String podSpecOwner) {
         if (v1Probe == null) {
             return null;
         }
         ManifestSnippet manifestSnippet = new ManifestSnippet();
-        manifestSnippet.setSnippet(GsonSnippetConvertor.serialize(v1Probe));
+        manifestSnippet.setSnippetNode(GsonSnippetConvertor.toJsonNode(v1Probe));
         manifestSnippet.setKind(podSpecOwner);
         manifestSnippet.setPath("spec.template.spec.containers[0].readinessProbe");
         return manifestSnippet;
     }
 
-    private ManifestSnippet buildLiveinessProbe(V1Probe v1Probe, String podSpecOwner) throws JsonProcessingException {
+    private ManifestSnippet buildLiveinessProbe(V1Probe v1Probe, String podSpecOwner) {
         if (v1Probe == null) {
             return null;
         }
         ManifestSnippet manifestSnippet = new ManifestSnippet();
-        manifestSnippet.setSnippet(GsonSnippetConvertor.serialize(v1Probe));
+        manifestSnippet.setSnippetNode(GsonSnippetConvertor.toJsonNode(v1Probe));
         manifestSnippet.setKind(podSpecOwner);
         manifestSnippet.setPath("spec.template.spec.containers[0].livenessProbe");
         return manifestSnippet;
@@ -37,7 +37,8 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Component
-@ManifestPlugin(name = "ImageHandler")
+@ManifestPlugin(name = "ImageHandler", consumes = { ManifestGenConstants.POD_SPEC_OWNER,
+        ManifestGenConstants.IMAGE_PULL_SECRET_NAME, ManifestGenConstants.IMAGE_SHA_SUM })
 public class ImageHandler implements ManifestHandler {
 
     private static final Logger logger = LoggerFactory.getLogger(ImageHandler.class);
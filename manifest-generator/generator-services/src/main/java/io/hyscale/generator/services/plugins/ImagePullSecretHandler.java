@@ -51,7 +51,7 @@ import io.hyscale.plugin.framework.util.JsonSnippetConvertor;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 
 @Component
-@ManifestPlugin(name = "ImagePullSecretHandler")
+@ManifestPlugin(name = "ImagePullSecretHandler", produces = ManifestGenConstants.IMAGE_PULL_SECRET_NAME)
 public class ImagePullSecretHandler implements ManifestHandler {
 
     private static final Logger logger = LoggerFactory.getLogger(ImagePullSecretHandler.class);
@@ -15,7 +15,6 @@
  */
 package io.hyscale.generator.services.plugins;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import io.hyscale.generator.services.constants.ManifestGenConstants;
 import io.hyscale.generator.services.predicates.ManifestPredicates;
 import io.hyscale.plugin.framework.annotation.ManifestPlugin;
@@ -36,7 +35,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Component
-@ManifestPlugin(name = "MetaDataHandler")
+@ManifestPlugin(name = "MetaDataHandler", produces = ManifestGenConstants.POD_SPEC_OWNER)
 public class MetaDataHandler implements ManifestHandler {
 
     private static final Logger logger = LoggerFactory.getLogger(MetaDataHandler.class);
@@ -48,28 +47,24 @@ public class MetaDataHandler implements ManifestHandler {
         serviceMetadata.setEnvName(context.getEnvName());
         serviceMetadata.setServiceName(serviceSpec.get(HyscaleSpecFields.name, String.class));
         List<ManifestSnippet> snippetList = new ArrayList<>();
-        try {
-            for (ManifestResource manifestResource : ManifestResource.values()) {
+        for (ManifestResource manifestResource : ManifestResource.values()) {
 
-                if (manifestResource.getPredicate().test(serviceSpec)) {
-                    logger.debug("Creating metadata for resource {}.",manifestResource.getKind());
-                    /* Snippet for kind for each manifest */
-                    snippetList.add(MetadataManifestSnippetGenerator.getKind(manifestResource));
+            if (manifestResource.getPredicate().test(serviceSpec)) {
+                logger.debug("Creating metadata for resource {}.",manifestResource.getKind());
+                /* Snippet for kind for each manifest */
+                snippetList.add(MetadataManifestSnippetGenerator.getKind(manifestResource));
 
-                    /* Snippet for apiVersion for each manifest */
-                    snippetList.add(MetadataManifestSnippetGenerator.getApiVersion(manifestResource, serviceMetadata));
+                /* Snippet for apiVersion for each manifest */
+                snippetList.add(MetadataManifestSnippetGenerator.getApiVersion(manifestResource, serviceMetadata));
 
-                    /* Snippet for metadata for each manifest */
-                    snippetList.add(MetadataManifestSnippetGenerator.getMetaData(manifestResource, serviceMetadata));
-
-                }
+                /* Snippet for metadata for each manifest */
+                snippetList.add(MetadataManifestSnippetGenerator.getMetaData(manifestResource, serviceMetadata));
 
             }
-            context.addGenerationAttribute(ManifestGenConstants.POD_SPEC_OWNER, ManifestPredicates.getVolumesPredicate().test(serviceSpec) ? ManifestResource.STATEFUL_SET.getKind() :
-                    ManifestResource.DEPLOYMENT.getKind());
-        } catch (JsonProcessingException e) {
-            logger.error("Error while serializing metadata snippet.", e);
+
         }
+        context.addGenerationAttribute(ManifestGenConstants.POD_SPEC_OWNER, ManifestPredicates.getVolumesPredicate().test(serviceSpec) ? ManifestResource.STATEFUL_SET.getKind() :
+                ManifestResource.DEPLOYMENT.getKind());
         return snippetList;
     }
 
@@ -39,7 +39,8 @@ import io.hyscale.plugin.framework.util.JsonSnippetConvertor;
 import io.hyscale.servicespec.commons.model.service.ServiceSpec;
 
 @Component
-@ManifestPlugin(name = "PodAnnotationHandler")
+@ManifestPlugin(name = "PodAnnotationHandler", consumes = { ManifestGenConstants.POD_SPEC_OWNER,
+        ManifestGenConstants.POD_CHECKSUM })
 public class PodAnnotationHandler implements ManifestHandler {
 
     private static final Logger logger = LoggerFactory.getLogger(PodAnnotationHandler.class);
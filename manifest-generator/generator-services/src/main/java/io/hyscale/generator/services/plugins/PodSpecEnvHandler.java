@@ -42,7 +42,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Component
-@ManifestPlugin(name = "PodSpecEnvHandler")
+@ManifestPlugin(name = "PodSpecEnvHandler", consumes = ManifestGenConstants.POD_SPEC_OWNER)
 public class PodSpecEnvHandler implements ManifestHandler {
 
     private static final Logger logger = LoggerFactory.getLogger(PodSpecEnvHandler.class);
@@ -37,7 +37,7 @@ import java.util.List;
 import java.util.Map;
 
 @Component
-@ManifestPlugin(name = "PodSpecLabels")
+@ManifestPlugin(name = "PodSpecLabels", consumes = ManifestGenConstants.POD_SPEC_OWNER)
 public class PodSpecLabels implements ManifestHandler {
 
     private static final Logger logger = LoggerFactory.getLogger(PodSpecLabels.class);
@@ -15,7 +15,6 @@
  */
 package io.hyscale.generator.services.plugins;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
@@ -44,7 +43,7 @@ import java.util.List;
 import java.util.Set;
 
 @Component
-@ManifestPlugin(name = "PortsHandler")
+@ManifestPlugin(name = "PortsHandler", consumes = ManifestGenConstants.POD_SPEC_OWNER)
 public class PortsHandler implements ManifestHandler {
 
     private static final Logger logger = LoggerFactory.getLogger(PortsHandler.class);
@@ -96,32 +95,26 @@ public class PortsHandler implements ManifestHandler {
                 logger.debug("Fetched container and service port.");
             });
 
-            try {
-                manifestSnippetList.add(buildServicePortsSnippet(v1ServicePorts, podSpecOwner));
-                manifestSnippetList.add(buildContainerPortsSnippet(v1ContainerPorts, podSpecOwner));
-            } catch (JsonProcessingException e) {
-                logger.error("Error while building ports snippet {}", e);
-            }
+            manifestSnippetList.add(buildServicePortsSnippet(v1ServicePorts, podSpecOwner));
+            manifestSnippetList.add(buildContainerPortsSnippet(v1ContainerPorts, podSpecOwner));
         }
         return manifestSnippetList;
     }
 
-    private ManifestSnippet buildContainerPortsSnippet(Set<V1ContainerPort> containerPorts, String podSpecOwner)
-            throws JsonProcessingException {
+    private ManifestSnippet buildContainerPortsSnippet(Set<V1ContainerPort> containerPorts, String podSpecOwner) {
         ManifestSnippet manifestSnippet = new ManifestSnippet();
         manifestSnippet.setKind(podSpecOwner);
         manifestSnippet.setPath("spec.template.spec.containers[0].ports");
-        manifestSnippet.setSnippet(GsonSnippetConvertor.serialize(containerPorts));
+        manifestSnippet.setSnippetNode(GsonSnippetConvertor.toJsonNode(containerPorts));
         return manifestSnippet;
     }
 
 
-    private ManifestSnippet buildServicePortsSnippet(Set<V1ServicePort> servicePorts, String podSpecOwner)
-            throws JsonProcessingException {
+    private ManifestSnippet buildServicePortsSnippet(Set<V1ServicePort> servicePorts, String podSpecOwner) {
         ManifestSnippet manifestSnippet = new ManifestSnippet();
         manifestSnippet.setKind(ManifestResource.SERVICE.getKind());
         manifestSnippet.setPath("spec.ports");
-        manifestSnippet.setSnippet(GsonSnippetConvertor.serialize(servicePorts));
+        manifestSnippet.setSnippetNode(GsonSnippetConvertor.toJsonNode(servicePorts));
         return manifestSnippet;
     }
 
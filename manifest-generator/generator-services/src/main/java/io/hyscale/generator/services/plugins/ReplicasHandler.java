@@ -33,7 +33,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Component
-@ManifestPlugin(name = "ReplicasHandler")
+@ManifestPlugin(name = "ReplicasHandler", consumes = ManifestGenConstants.POD_SPEC_OWNER)
 public class ReplicasHandler implements ManifestHandler {
     private static final Logger logger = LoggerFactory.getLogger(ReplicasHandler.class);
     private static final String DEFAULT_UPDATE_STRATEGY = "RollingUpdate";
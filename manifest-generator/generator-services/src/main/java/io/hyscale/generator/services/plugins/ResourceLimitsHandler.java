@@ -26,7 +26,6 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 
 import io.hyscale.commons.exception.HyscaleException;
 import io.hyscale.commons.logger.WorkflowLogger;
@@ -44,7 +43,7 @@ import io.kubernetes.client.custom.QuantityFormatException;
 import io.kubernetes.client.openapi.models.V1ResourceRequirements;
 
 @Component
-@ManifestPlugin(name = "ResourceLimitsHandler")
+@ManifestPlugin(name = "ResourceLimitsHandler", consumes = ManifestGenConstants.POD_SPEC_OWNER)
 public class ResourceLimitsHandler implements ManifestHandler {
 
     private static final Logger logger = LoggerFactory.getLogger(ResourceLimitsHandler.class);
@@ -72,11 +71,7 @@ public class ResourceLimitsHandler implements ManifestHandler {
         }
         String podSpecOwner = ((String) manifestContext.getGenerationAttribute(ManifestGenConstants.POD_SPEC_OWNER));
         List<ManifestSnippet> manifestSnippetList = new ArrayList<>();
-        try {
-            manifestSnippetList.add(getResourceRequirements(memoryRange, cpuRange, podSpecOwner));
-        } catch (JsonProcessingException e) {
-            logger.error("Error while building manifest snippet for resource limits {}", e);
-        }
+        manifestSnippetList.add(getResourceRequirements(memoryRange, cpuRange, podSpecOwner));
         return manifestSnippetList;
     }
 
@@ -94,7 +89,7 @@ public class ResourceLimitsHandler implements ManifestHandler {
         };
     }
 
-    private ManifestSnippet getResourceRequirements(ValueRange memoryRange, ValueRange cpuRange, String podSpecOwner) throws JsonProcessingException {
+    private ManifestSnippet getResourceRequirements(ValueRange memoryRange, ValueRange cpuRange, String podSpecOwner) {
         V1ResourceRequirements resourceRequirements = new V1ResourceRequirements();
 
         validateAndInsert(cpuRange, resourceRequirements, ResourceRequirementType.CPU);
@@ -102,7 +97,7 @@ public class ResourceLimitsHandler implements ManifestHandler {
 
         ManifestSnippet manifestSnippet = new ManifestSnippet();
         manifestSnippet.setPath("spec.template.spec.containers[0].resources");
-        manifestSnippet.setSnippet(GsonSnippetConvertor.serialize(resourceRequirements));
+        manifestSnippet.setSnippetNode(GsonSnippetConvertor.toJsonNode(resourceRequirements));
         manifestSnippet.setKind(podSpecOwner);
         return manifestSnippet;
     }
@@ -36,7 +36,8 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Component
-@ManifestPlugin(name = "SecretsDataHandler")
+@ManifestPlugin(name = "SecretsDataHandler", consumes = ManifestGenConstants.POD_CHECKSUM,
+        produces = ManifestGenConstants.POD_CHECKSUM)
 public class SecretsDataHandler implements ManifestHandler {
 
     private static final Logger logger = LoggerFactory.getLogger(SecretsDataHandler.class);
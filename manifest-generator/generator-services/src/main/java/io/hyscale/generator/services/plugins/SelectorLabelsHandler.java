@@ -37,7 +37,7 @@ import java.util.List;
 import java.util.Map;
 
 @Component
-@ManifestPlugin(name = "SelectorLabelsHandler")
+@ManifestPlugin(name = "SelectorLabelsHandler", consumes = ManifestGenConstants.POD_SPEC_OWNER)
 public class SelectorLabelsHandler implements ManifestHandler {
 
     private static final Logger logger = LoggerFactory.getLogger(SelectorLabelsHandler.class);
@@ -41,7 +41,7 @@ import io.hyscale.plugin.framework.util.JsonSnippetConvertor;
 import io.hyscale.servicespec.commons.model.service.ServiceSpec;
 
 @Component
-@ManifestPlugin(name = "ServiceSpecAnnotationHandler")
+@ManifestPlugin(name = "ServiceSpecAnnotationHandler", consumes = ManifestGenConstants.POD_SPEC_OWNER)
 public class ServiceSpecAnnotationHandler implements ManifestHandler {
 
     private static final Logger logger = LoggerFactory.getLogger(ServiceSpecAnnotationHandler.class);
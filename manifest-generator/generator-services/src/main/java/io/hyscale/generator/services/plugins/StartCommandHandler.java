@@ -35,7 +35,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Component
-@ManifestPlugin(name = "StartCommandHandler")
+@ManifestPlugin(name = "StartCommandHandler", consumes = ManifestGenConstants.POD_SPEC_OWNER)
 public class StartCommandHandler implements ManifestHandler {
 
     private static final Logger logger = LoggerFactory.getLogger(StartCommandHandler.class);
@@ -41,7 +41,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Component
-@ManifestPlugin(name = "VolumeMountsHandler")
+@ManifestPlugin(name = "VolumeMountsHandler", consumes = ManifestGenConstants.POD_SPEC_OWNER)
 public class VolumeMountsHandler implements ManifestHandler {
 
     private static final Logger logger = LoggerFactory.getLogger(VolumeMountsHandler.class);
@@ -30,7 +30,6 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 
 import io.hyscale.plugin.framework.annotation.ManifestPlugin;
@@ -56,7 +55,7 @@ import io.kubernetes.client.openapi.models.V1PersistentVolumeClaimSpec;
 import io.kubernetes.client.openapi.models.V1ResourceRequirements;
 
 @Component
-@ManifestPlugin(name = "VolumeTemplatesHandler")
+@ManifestPlugin(name = "VolumeTemplatesHandler", consumes = ManifestGenConstants.POD_SPEC_OWNER)
 public class VolumeTemplatesHandler implements ManifestHandler {
 
     private static final Logger logger = LoggerFactory.getLogger(VolumeTemplatesHandler.class);
@@ -83,20 +82,16 @@ public class VolumeTemplatesHandler implements ManifestHandler {
         List<ManifestSnippet> snippetList = new ArrayList<>();
         Map<String, String> customLabels = manifestContext.getCustomLabels();
 
-        try {
-            // Creating a manifest snippet for volumeClaimTemplates
-            snippetList.add(buildVolumeClaimSnippet(volumes, serviceMetadata, customLabels));
-            snippetList.add(getServiceNameSnippet(serviceMetadata.getServiceName()));
-        } catch (JsonProcessingException e) {
-            logger.error("Error while serializing volumes snippet ", e);
-        }
+        // Creating a manifest snippet for volumeClaimTemplates
+        snippetList.add(buildVolumeClaimSnippet(volumes, serviceMetadata, customLabels));
+        snippetList.add(getServiceNameSnippet(serviceMetadata.getServiceName()));
         return snippetList.isEmpty() ? null : snippetList;
     }
 
     private ManifestSnippet buildVolumeClaimSnippet(List<Volume> volumes, ServiceMetadata serviceMetadata,
-            Map<String, String> customLabels) throws JsonProcessingException, HyscaleException {
+            Map<String, String> customLabels) throws HyscaleException {
         ManifestSnippet snippet = new ManifestSnippet();
-        snippet.setSnippet(GsonSnippetConvertor.serialize(getVolumeClaims(volumes, serviceMetadata, customLabels)));
+        snippet.setSnippetNode(GsonSnippetConvertor.toJsonNode(getVolumeClaims(volumes, serviceMetadata, customLabels)));
         snippet.setKind(ManifestResource.STATEFUL_SET.getKind());
         snippet.setPath("spec.volumeClaimTemplates");
         return snippet;
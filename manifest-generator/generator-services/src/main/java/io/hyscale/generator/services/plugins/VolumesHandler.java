@@ -40,7 +40,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Component
-@ManifestPlugin(name = "VolumesHandler")
+@ManifestPlugin(name = "VolumesHandler", consumes = ManifestGenConstants.POD_SPEC_OWNER)
 public class VolumesHandler implements ManifestHandler {
 
     private static final Logger logger = LoggerFactory.getLogger(VolumesHandler.class);
@@ -17,6 +17,9 @@ package io.hyscale.generator.services.processor;
 
 import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
@@ -24,22 +27,25 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.fasterxml.jackson.databind.node.ObjectNode;
-import com.fasterxml.jackson.dataformat.yaml.YAMLMapper;
 
+import io.hyscale.commons.config.SetupConfig;
 import io.hyscale.commons.exception.HyscaleException;
 import io.hyscale.commons.logger.WorkflowLogger;
 import io.hyscale.commons.models.Manifest;
 import io.hyscale.commons.models.ManifestContext;
+import io.hyscale.commons.models.ObjectManifest;
 import io.hyscale.commons.models.Status;
-import io.hyscale.commons.models.YAMLManifest;
+import io.hyscale.commons.utils.ThreadPoolUtil;
+import io.hyscale.generator.services.cache.PluginSnippetCache;
 import io.hyscale.generator.services.config.ManifestConfig;
 import io.hyscale.generator.services.generator.ManifestFileGenerator;
 import io.hyscale.generator.services.model.ManifestGeneratorActivity;
 import io.hyscale.generator.services.model.ManifestNode;
+import io.hyscale.generator.services.model.PluginCacheEntry;
 import io.hyscale.generator.services.utils.ManifestTreeUtils;
+import io.hyscale.generator.services.utils.PluginDependencyGraph;
 import io.hyscale.generator.services.utils.PluginHandlers;
 import io.hyscale.plugin.framework.handler.ManifestHandler;
 import io.hyscale.plugin.framework.models.ManifestMeta;
@@ -64,9 +70,19 @@ public class PluginProcessor {
     @Autowired
     private ManifestConfig manifestConfig;
 
+    @Autowired
+    private PluginSnippetCache pluginSnippetCache;
+
+    /**
+     * Manifests carry the generated object model, yaml files are written behind
+     *
+     * @param serviceSpec
+     * @param manifestContext
+     * @return manifests
+     * @throws HyscaleException
+     */
     public List<Manifest> getManifests(ServiceSpec serviceSpec, ManifestContext manifestContext)
             throws HyscaleException {
-        YAMLMapper yamlMapper = new YAMLMapper();
         String serviceName = serviceSpec.get(HyscaleSpecFields.name, String.class);
         List<Manifest> manifestList = new ArrayList<>();
         Map<ManifestMeta, ManifestNode> manifestMetavsNodeMap = process(serviceSpec, manifestContext);
@@ -79,51 +95,149 @@ public class PluginProcessor {
         manifestMetavsNodeMap.entrySet().stream().forEach(each -> {
             ManifestNode manifestNode = each.getValue();
             try {
-                String yamString = null;
-                if (manifestNode != null && manifestNode.getObjectNode() != null) {
-                    yamString = yamlMapper.writeValueAsString(manifestNode.getObjectNode());
-                }
                 WorkflowLogger.startActivity(ManifestGeneratorActivity.GENERATING_MANIFEST, each.getKey().getKind());
-                YAMLManifest yamlManifest = manifestFileGenerator.getYamlManifest(manifestDir, yamString,
-                        each.getKey());
-                manifestList.add(yamlManifest);
+                ObjectManifest objectManifest = manifestFileGenerator.getObjectManifest(manifestDir,
+                        manifestNode != null ? manifestNode.getObjectNode() : null, each.getKey());
+                manifestList.add(objectManifest);
                 WorkflowLogger.endActivity(Status.DONE);
             } catch (HyscaleException e) {
                 logger.error("Failed to process manifest {}", each.getKey(), e);
                 WorkflowLogger.endActivity(Status.FAILED);
-            } catch (JsonProcessingException e) {
-                logger.error("Failed to process manifest during yaml conversion {}", each.getKey(), e);
-                WorkflowLogger.endActivity(Status.FAILED);
             }
         });
         return manifestList;
     }
 
+    /**
+     * Runs manifest plugins and injects their snippets into manifests.
+     * Plugins independent of each other as per {@link PluginDependencyGraph} run concurrently,
+     * snippets are always injected in plugin order so manifests do not depend on parallelism
+     *
+     * @param serviceSpec
+     * @param manifestContext
+     * @return manifest meta to manifest node
+     */
     public Map<ManifestMeta, ManifestNode> process(ServiceSpec serviceSpec, ManifestContext manifestContext) {
         List<ManifestHandler> manifestHandlerList = pluginHandlers.getAllPlugins();
         if (manifestHandlerList == null || manifestHandlerList.isEmpty()) {
             return null;
         }
         Map<ManifestMeta, ManifestNode> manifestMetavsNodeMap = new LinkedHashMap();
-        manifestHandlerList.stream().filter(each -> {
-            return each != null;
-        }).forEach(each -> {
-            List<ManifestSnippet> manifestSnippetList = null;
-            try {
-                logger.debug("Executing plugin handler of : {}", each.getClass().getCanonicalName());
-                manifestSnippetList = each.handle(serviceSpec, manifestContext);
-                if (validateSnippets(manifestSnippetList)) {
-                    logger.debug("Updating plugins snippets of {} plugin handler ", each.getClass().getCanonicalName());
-                    updateManifests(manifestSnippetList, manifestMetavsNodeMap);
-                }
-                logger.debug("Completed execution of {} plugin handler ", each.getClass().getCanonicalName());
-            } catch (HyscaleException e) {
-                logger.error("Error while executing manifest plugin {} ", each.getClass().getName(), e);
+        String cacheDir = getPluginCacheDir(serviceSpec, manifestContext);
+        PluginDependencyGraph dependencyGraph = pluginHandlers.getPluginDependencyGraph();
+        List<ManifestHandler> handlers = dependencyGraph.getHandlers();
+        int parallelism = Math.min(manifestConfig.getPluginParallelism(), handlers.size());
+        if (parallelism <= 1) {
+            handlers.forEach(each -> {
+                PluginResult pluginResult = executeHandler(each, serviceSpec, manifestContext, cacheDir, false);
+                WorkflowLogger.persistBuffered(pluginResult.getPersistedActivities());
+                updateManifests(each, pluginResult, manifestMetavsNodeMap);
+            });
+            return manifestMetavsNodeMap;
+        }
+        Executor executor = new SharedPoolExecutor(parallelism);
+        // Plugins resolve files relative to the service spec directory of the calling thread
+        String specDirectory = SetupConfig.getSpecDirectory();
+        try {
+            List<CompletableFuture<PluginResult>> resultFutures = new ArrayList<>();
+            for (int i = 0; i < handlers.size(); i++) {
+                ManifestHandler handler = handlers.get(i);
+                CompletableFuture<?>[] dependencies = dependencyGraph.getDependencies(i).stream()
+                        .map(resultFutures::get).toArray(CompletableFuture[]::new);
+                resultFutures.add(CompletableFuture.allOf(dependencies).thenApplyAsync(
+                        dependenciesResult -> {
+                            SetupConfig.setAbsolutePath(specDirectory);
+                            try {
+                                return executeHandler(handler, serviceSpec, manifestContext, cacheDir, true);
+                            } finally {
+                                SetupConfig.clearAbsolutePath();
+                            }
+                        }, executor));
             }
-        });
+            for (int i = 0; i < handlers.size(); i++) {
+                PluginResult pluginResult = resultFutures.get(i).join();
+                WorkflowLogger.logBuffered(pluginResult.getBufferedOutput());
+                WorkflowLogger.persistBuffered(pluginResult.getPersistedActivities());
+                updateManifests(handlers.get(i), pluginResult, manifestMetavsNodeMap);
+            }
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
         return manifestMetavsNodeMap;
     }
 
+    private PluginResult executeHandler(ManifestHandler handler, ServiceSpec serviceSpec,
+            ManifestContext manifestContext, String cacheDir, boolean buffered) {
+        if (buffered) {
+            // Plugin output is logged in plugin order once the plugin is merged
+            WorkflowLogger.bufferActivities();
+        }
+        // Persisted activities are cached along with snippets and persisted in plugin order
+        WorkflowLogger.bufferPersistedActivities();
+        boolean cacheable = cacheDir != null && pluginSnippetCache.isCacheable(handler);
+        List<ManifestSnippet> manifestSnippetList = null;
+        List<String> replayedActivities = null;
+        Set<String> readPaths = null;
+        String bufferedOutput = null;
+        List<String> persistedActivities = null;
+        try {
+            PluginCacheEntry cacheEntry = cacheable
+                    ? pluginSnippetCache.get(cacheDir, handler, serviceSpec, manifestContext)
+                    : null;
+            if (cacheEntry != null) {
+                manifestSnippetList = cacheEntry.getSnippets();
+                replayedActivities = cacheEntry.getPersistedActivities();
+            } else {
+                logger.debug("Executing plugin handler of : {}", handler.getClass().getCanonicalName());
+                readPaths = cacheable ? Collections.synchronizedSet(new HashSet<>()) : null;
+                manifestSnippetList = handler.handle(
+                        readPaths != null ? serviceSpec.withReadListener(readPaths::add) : serviceSpec, manifestContext);
+                logger.debug("Completed execution of {} plugin handler ", handler.getClass().getCanonicalName());
+            }
+        } catch (HyscaleException e) {
+            // Failed plugins are not cached
+            readPaths = null;
+            logger.error("Error while executing manifest plugin {} ", handler.getClass().getName(), e);
+        } finally {
+            if (buffered) {
+                bufferedOutput = WorkflowLogger.releaseBuffer();
+            }
+            persistedActivities = WorkflowLogger.releasePersistBuffer();
+        }
+        if (replayedActivities != null) {
+            persistedActivities = replayedActivities;
+        }
+        if (readPaths != null) {
+            pluginSnippetCache.put(cacheDir, handler, readPaths, serviceSpec, manifestContext, manifestSnippetList,
+                    persistedActivities);
+        }
+        return new PluginResult(manifestSnippetList, bufferedOutput, persistedActivities);
+    }
+
+    private String getPluginCacheDir(ServiceSpec serviceSpec, ManifestContext manifestContext) {
+        if (!manifestConfig.isPluginCacheEnabled()) {
+            return null;
+        }
+        try {
+            return manifestConfig.getPluginCacheDir(manifestContext.getAppName(),
+                    serviceSpec.get(HyscaleSpecFields.name, String.class));
+        } catch (HyscaleException e) {
+            logger.debug("Executing plugins without cache, failed to get service name", e);
+            return null;
+        }
+    }
+
+    private void updateManifests(ManifestHandler handler, PluginResult pluginResult,
+            Map<ManifestMeta, ManifestNode> manifestMetavsNodeMap) {
+        if (validateSnippets(pluginResult.getSnippets())) {
+            logger.debug("Updating plugins snippets of {} plugin handler ", handler.getClass().getCanonicalName());
+            updateManifests(pluginResult.getSnippets(), manifestMetavsNodeMap);
+        }
+    }
+
     private void updateManifests(List<ManifestSnippet> manifestSnippetList,
                                  Map<ManifestMeta, ManifestNode> manifestMetavsNodeMap) {
         if (manifestSnippetList == null || manifestSnippetList.isEmpty()) {
@@ -132,7 +246,7 @@ public class PluginProcessor {
 
         List<String> failedSnippets = new ArrayList<>();
         manifestSnippetList.stream().filter(each -> {
-            return each != null && StringUtils.isNotBlank(each.getSnippet());
+            return each != null && (each.getSnippetNode() != null || StringUtils.isNotBlank(each.getSnippet()));
         }).forEach(each -> {
             logger.debug("Processing Snippet Kind{} :: Path at {} ", each.getKind(), each.getPath());
             ManifestMeta manifestMeta = new ManifestMeta(each.getKind());
@@ -148,7 +262,7 @@ public class PluginProcessor {
                 rootNode = manifestNode.getObjectNode();
             }
             try {
-                rootNode = (ObjectNode) manifestTreeUtils.injectSnippet(each.getSnippet(), each.getPath(), rootNode);
+                rootNode = (ObjectNode) manifestTreeUtils.injectSnippet(each, rootNode);
                 // updating the root node back in the manifests
                 manifestNode.setObjectNode(rootNode);
                 manifestMetavsNodeMap.put(manifestMeta, manifestNode);
@@ -175,4 +289,82 @@ public class PluginProcessor {
         }
     }
 
+    /**
+     * Runs plugins on the shared thread pool with at most parallelism plugins running at once,
+     * plugins rejected by the pool run on the submitting thread
+     */
+    private static class SharedPoolExecutor implements Executor {
+
+        private final int parallelism;
+
+        private final Deque<Runnable> pending = new ArrayDeque<>();
+
+        private int running;
+
+        SharedPoolExecutor(int parallelism) {
+            this.parallelism = parallelism;
+        }
+
+        @Override
+        public void execute(Runnable task) {
+            synchronized (this) {
+                pending.add(task);
+            }
+            dispatch();
+        }
+
+        private void dispatch() {
+            while (true) {
+                Runnable next;
+                synchronized (this) {
+                    if (running >= parallelism || pending.isEmpty()) {
+                        return;
+                    }
+                    next = pending.poll();
+                    running++;
+                }
+                Runnable task = () -> {
+                    try {
+                        next.run();
+                    } finally {
+                        synchronized (this) {
+                            running--;
+                        }
+                        dispatch();
+                    }
+                };
+                if (!ThreadPoolUtil.getInstance().execute(task)) {
+                    task.run();
+                }
+            }
+        }
+    }
+
+    private static class PluginResult {
+
+        private final List<ManifestSnippet> snippets;
+
+        private final String bufferedOutput;
+
+        private final List<String> persistedActivities;
+
+        PluginResult(List<ManifestSnippet> snippets, String bufferedOutput, List<String> persistedActivities) {
+            this.snippets = snippets;
+            this.bufferedOutput = bufferedOutput;
+            this.persistedActivities = persistedActivities;
+        }
+
+        List<ManifestSnippet> getSnippets() {
+            return snippets;
+        }
+
+        String getBufferedOutput() {
+            return bufferedOutput;
+        }
+
+        List<String> getPersistedActivities() {
+            return persistedActivities;
+        }
+    }
+
 }
@@ -19,7 +19,6 @@ import java.io.IOException;
 
 import javax.annotation.PostConstruct;
 
-import com.fasterxml.jackson.databind.node.ArrayNode;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
@@ -32,7 +31,7 @@ import io.hyscale.commons.exception.HyscaleException;
 import io.hyscale.commons.utils.ObjectMapperFactory;
 import io.hyscale.generator.services.exception.ManifestErrorCodes;
 import io.hyscale.generator.services.json.JsonTreeOperations;
-import io.hyscale.generator.services.json.JsonTreeUtil;
+import io.hyscale.plugin.framework.models.ManifestSnippet;
 
 @Component
 public class ManifestTreeUtils {
@@ -48,147 +47,49 @@ public class ManifestTreeUtils {
     }
 
     //TODO regex for path validation
+    /**
+     * Injects the snippet at path of the manifest tree, root node is updated in place
+     * @param snippet
+     * @param path
+     * @param rootNode
+     * @return root node
+     * @throws IOException if snippet cannot be parsed
+     * @throws HyscaleException if path conflicts with the manifest tree
+     */
     public JsonNode injectSnippet(String snippet, String path, ObjectNode rootNode)
             throws IOException, HyscaleException {
         if (StringUtils.isBlank(snippet)) {
             return rootNode;
         }
-        String parentKey = JsonTreeUtil.getParentKey(path);
-        JsonNode elementNode = objectMapper.readTree(snippet);
-        if (parentKey == null) {
-            parentKey = "$";
-            return jsonTreeOperations.put(rootNode, parentKey, JsonTreeUtil.getKey(path), elementNode);
-        }
-        createParentsIfNotExists(rootNode,
-                JsonTreeUtil.getParentKey(path).split("\\."), 0);
-        rootNode = (ObjectNode) createLeafNodeIfNotExists(rootNode, elementNode, path);
-        return insertSnippet(rootNode, path, elementNode);
-    }
-
-    private JsonNode insertSnippet(ObjectNode rootNode, String path, JsonNode elementNode) throws HyscaleException, IOException {
-        JsonNode leafNode = jsonTreeOperations.read(rootNode, path);
-        if (leafNode == null) {
+        if (StringUtils.isBlank(path)) {
             throw new HyscaleException(ManifestErrorCodes.ERROR_WHILE_INJECTING_MANIFEST_SNIPPET);
         }
-        if (leafNode.isArray()) {
-            if (elementNode.isArray()) {
-                ArrayNode arrayNode = (ArrayNode) elementNode;
-                for (int i = 0; i < arrayNode.size(); i++) {
-                    rootNode = (ObjectNode) jsonTreeOperations.add(rootNode, path, arrayNode.get(i));
-                }
-            } else {
-                rootNode = (ObjectNode) jsonTreeOperations.add(rootNode, path, elementNode);
-            }
-        } else {
-            rootNode = jsonTreeOperations.put(rootNode, JsonTreeUtil.getParentKey(path), JsonTreeUtil.getKey(path), elementNode);
-        }
+        JsonNode elementNode = objectMapper.readTree(snippet);
+        jsonTreeOperations.inject(rootNode, path, elementNode);
         return rootNode;
     }
 
     /**
-     * Prepares the parent node of the path if array => prepare the array node of
-     * the path and => if indexed , prepares the respective index element => prepare
-     * the object node of the path
-     *
-     * @param root
-     * @param paths
-     * @param index
-     * @return
-     * @throws IOException
+     * Injects the manifest snippet into the manifest tree,
+     * json tree snippets are injected without parsing
+     * @param manifestSnippet
+     * @param rootNode
+     * @return root node
+     * @throws IOException if string snippet cannot be parsed
+     * @throws HyscaleException if path conflicts with the manifest tree
      */
-
-    private JsonNode createParentsIfNotExists(JsonNode root, String[] paths, int index) throws IOException {
-        if (root == null) {
-            return root;
-        }
-
-        if (paths == null) {
-            return root;
-        }
-        if (index >= paths.length) {
-            return root;
-        }
-
-        int arrayIndex = JsonTreeUtil.getArrayIndex(paths[index]);
-        JsonNode parent = root.get(normalize(paths[index]));
-        if (parent == null) {
-            if (JsonTreeUtil.isArrayPath(paths[index])) {
-                ArrayNode arrayNode = jsonTreeOperations.arrayNode();
-                if (arrayIndex >= 0) {
-                    for (int j = 0; j <= arrayIndex; j++) {
-                        arrayNode.add(jsonTreeOperations.objectNode());
-                    }
-                }
-                parent = arrayNode;
-            } else {
-                parent = jsonTreeOperations.objectNode();
-            }
-            root = root.isArray() ? ((ArrayNode) root).add(parent) : ((ObjectNode) root).put(normalize(paths[index]), parent);
-        } else {
-            if (arrayIndex >= 0) {
-                if (!parent.isArray()) {
-                    throw new IOException("Parent found to be non-array node while the path claims to be an array " + paths[index]);
-                }
-                ArrayNode arrayNode = (ArrayNode) parent;
-                for (int j = 0; j <= arrayIndex; j++) {
-                    if (arrayNode.get(j) == null) {
-                        arrayNode.add(jsonTreeOperations.objectNode());
-                    }
-                }
-            }
-        }
-        return createParentsIfNotExists(parent, paths, index + 1);
-    }
-
-        /*
-        if (parent == null) {
-            if (JsonTreeUtil.isArrayPath(paths[index])) {
-                parent = jsonTreeOperations.arrayNode();
-                root = jsonTreeOperations.put(root, JsonTreeUtil.getParentKey(effectivePath),
-                        JsonTreeUtil.getSanitizedArrayPath(paths[index]), parent);
-                int arrayIndex = JsonTreeUtil.getArrayIndex(paths[index]);
-                if (arrayIndex >= 0) {
-                    for (int j = 0; j <= arrayIndex; j++) {
-                        root = jsonTreeOperations.add(root,
-                                JsonTreeUtil.getSanitizedArrayPath(effectivePath), jsonTreeOperations.objectNode());
-                    }
-                }
-            } else {
-                parent = jsonTreeOperations.objectNode();
-                root = jsonTreeOperations.put(root, JsonTreeUtil.getParentKey(effectivePath), paths[index],
-                        parent);
-            }
-        }
-        return createParentsIfNotExists(root, paths, index + 1);
-
-        
-    }*/
-
-    /*
-     * Prepares the leaf node to inject the snippet Checks if the leaf node to be
-     * inserted in an array, => if yes inserts arraynode => else inserts objectnode
-     */
-    private JsonNode createLeafNodeIfNotExists(JsonNode root, JsonNode elementNode, String path) throws IOException {
-        if (path == null || path.isBlank()) {
-            return root;
-        }
-        JsonNode leafNode = jsonTreeOperations.read(root, path);
-        if (leafNode == null) {
-            leafNode = elementNode.isArray() ? jsonTreeOperations.arrayNode() : jsonTreeOperations.objectNode();
-            root = jsonTreeOperations.put(root, JsonTreeUtil.getParentKey(path), JsonTreeUtil.getKey(path), leafNode);
-        }
-        return root;
-    }
-
-    private String normalize(String path) {
-        if (StringUtils.isBlank(path)) {
-            return path;
+    public JsonNode injectSnippet(ManifestSnippet manifestSnippet, ObjectNode rootNode)
+            throws IOException, HyscaleException {
+        JsonNode snippetNode = manifestSnippet.getSnippetNode();
+        if (snippetNode == null) {
+            return injectSnippet(manifestSnippet.getSnippet(), manifestSnippet.getPath(), rootNode);
         }
-
-        if (JsonTreeUtil.isArrayPath(path)) {
-            return JsonTreeUtil.getSanitizedArrayPath(path);
+        if (StringUtils.isBlank(manifestSnippet.getPath())) {
+            throw new HyscaleException(ManifestErrorCodes.ERROR_WHILE_INJECTING_MANIFEST_SNIPPET);
         }
-        return path;
+        // Snippet node may be shared by plugins, tree is updated in place by later snippets
+        jsonTreeOperations.inject(rootNode, manifestSnippet.getPath(), snippetNode.deepCopy());
+        return rootNode;
     }
 
 }
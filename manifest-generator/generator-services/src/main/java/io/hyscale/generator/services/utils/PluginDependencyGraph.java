@@ -0,0 +1,95 @@
+/**
+ * Copyright 2019 Pramati Prism, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.hyscale.generator.services.utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import io.hyscale.plugin.framework.annotation.ManifestPlugin;
+import io.hyscale.plugin.framework.handler.ManifestHandler;
+
+/**
+ * Dependencies between manifest handlers derived from the generation attributes
+ * they consume and produce as declared through {@link ManifestPlugin}.
+ * A handler depends on an earlier handler when
+ * <ul>
+ * <li>it consumes or produces an attribute the earlier one produces</li>
+ * <li>it produces an attribute the earlier one consumes</li>
+ * </ul>
+ * Handlers without {@link ManifestPlugin} depend on and are depended upon by all others
+ */
+public class PluginDependencyGraph {
+
+    private final List<ManifestHandler> handlers;
+
+    private final List<List<Integer>> dependencies;
+
+    /**
+     * @param handlers in execution order
+     */
+    public PluginDependencyGraph(List<ManifestHandler> handlers) {
+        this.handlers = Collections.unmodifiableList(new ArrayList<>(handlers));
+        this.dependencies = new ArrayList<>();
+        for (int i = 0; i < handlers.size(); i++) {
+            ManifestPlugin plugin = getPlugin(handlers.get(i));
+            List<Integer> handlerDependencies = new ArrayList<>();
+            for (int j = 0; j < i; j++) {
+                if (isDependent(plugin, getPlugin(handlers.get(j)))) {
+                    handlerDependencies.add(j);
+                }
+            }
+            dependencies.add(Collections.unmodifiableList(handlerDependencies));
+        }
+    }
+
+    public List<ManifestHandler> getHandlers() {
+        return handlers;
+    }
+
+    /**
+     * @param index of handler
+     * @return indexes of earlier handlers that must complete before the handler runs
+     */
+    public List<Integer> getDependencies(int index) {
+        return dependencies.get(index);
+    }
+
+    private boolean isDependent(ManifestPlugin plugin, ManifestPlugin earlierPlugin) {
+        if (plugin == null || earlierPlugin == null) {
+            return true;
+        }
+        Set<String> earlierProduces = toSet(earlierPlugin.produces());
+        Set<String> produces = toSet(plugin.produces());
+        return intersects(earlierProduces, toSet(plugin.consumes())) || intersects(earlierProduces, produces)
+                || intersects(toSet(earlierPlugin.consumes()), produces);
+    }
+
+    private ManifestPlugin getPlugin(ManifestHandler handler) {
+        return handler.getClass().getAnnotation(ManifestPlugin.class);
+    }
+
+    private static Set<String> toSet(String[] attributes) {
+        return new HashSet<>(Arrays.asList(attributes));
+    }
+
+    private static boolean intersects(Set<String> first, Set<String> second) {
+        return !Collections.disjoint(first, second);
+    }
+}
@@ -21,6 +21,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 import org.apache.commons.io.IOUtils;
@@ -43,6 +44,8 @@ public class PluginHandlers {
 	private List<ManifestHandler> manifestHandlerBeans;
 
 	private List<ManifestHandler> manifestHandlers;
+
+	private PluginDependencyGraph pluginDependencyGraph;
 	
 	private static final String PLUGINS_LIST = "config/plugins.txt";
 
@@ -59,6 +62,8 @@ public class PluginHandlers {
 				pluginsList.stream().forEach(each -> {
 					manifestHandlers.add(classVsHandlerMap.get(each));
 				});
+				pluginDependencyGraph = new PluginDependencyGraph(
+						manifestHandlers.stream().filter(Objects::nonNull).collect(Collectors.toList()));
 
 			} catch (IOException e) {
 				HyscaleException ex = new HyscaleException(ManifestErrorCodes.ERROR_WHILE_CREATING_MANIFEST);
@@ -70,4 +75,11 @@ public class PluginHandlers {
 	public List<ManifestHandler> getAllPlugins() {
 		return Collections.unmodifiableList(manifestHandlers);
 	}
+
+	/**
+	 * @return dependencies between registered plugins, in plugin order
+	 */
+	public PluginDependencyGraph getPluginDependencyGraph() {
+		return pluginDependencyGraph;
+	}
 }
@@ -0,0 +1,176 @@
+/**
+ * Copyright 2019 Pramati Prism, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.hyscale.generator.services.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Field;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.info.BuildProperties;
+
+import io.hyscale.commons.exception.HyscaleException;
+import io.hyscale.commons.models.ManifestContext;
+import io.hyscale.generator.services.model.PluginCacheEntry;
+import io.hyscale.plugin.framework.annotation.ManifestPlugin;
+import io.hyscale.plugin.framework.handler.ManifestHandler;
+import io.hyscale.plugin.framework.models.ManifestSnippet;
+import io.hyscale.servicespec.commons.model.service.ServiceSpec;
+
+public class PluginSnippetCacheTest {
+
+    private static final String SERVICE_SPEC = "name: myservice\nimage:\n  name: myimage\nreplicas: 1\n";
+
+    private static final String BUILD_VERSION = "0.9.8";
+
+    private static final String BUILD_TIME = "2020-06-01T10:00:00Z";
+
+    private static final String ACTIVITY = "Generated image snippet";
+
+    private final ImageHandler handler = new ImageHandler();
+
+    @Test
+    public void testHit(@TempDir Path cacheDir) throws Exception {
+        PluginSnippetCache pluginSnippetCache = getCache(BUILD_VERSION, BUILD_TIME);
+        cacheSnippets(pluginSnippetCache, cacheDir, getContext("dev"));
+
+        // spec paths not read by the plugin do not invalidate the cache
+        PluginCacheEntry cacheEntry = pluginSnippetCache.get(cacheDir.toString(), handler,
+                new ServiceSpec(SERVICE_SPEC.replace("replicas: 1", "replicas: 2")), getContext("dev"));
+
+        assertNotNull(cacheEntry);
+        assertEquals(Arrays.asList("image.name"), cacheEntry.getReadPaths());
+        assertEquals(1, cacheEntry.getSnippets().size());
+        assertEquals("myimage", cacheEntry.getSnippets().get(0).getSnippet());
+        assertEquals("spec.template.spec.containers[0].image", cacheEntry.getSnippets().get(0).getPath());
+        assertEquals(Arrays.asList(ACTIVITY), cacheEntry.getPersistedActivities());
+    }
+
+    @Test
+    public void testMissOnInputChange(@TempDir Path cacheDir) throws Exception {
+        PluginSnippetCache pluginSnippetCache = getCache(BUILD_VERSION, BUILD_TIME);
+        cacheSnippets(pluginSnippetCache, cacheDir, getContext("dev"));
+
+        assertNull(pluginSnippetCache.get(cacheDir.toString(), handler,
+                new ServiceSpec(SERVICE_SPEC.replace("myimage", "otherimage")), getContext("dev")));
+        assertNull(pluginSnippetCache.get(cacheDir.toString(), handler, new ServiceSpec(SERVICE_SPEC),
+                getContext("stage")));
+        ManifestContext manifestContext = getContext("dev");
+        manifestContext.addGenerationAttribute(ImageHandler.ATTRIBUTE, "updated");
+        assertNull(pluginSnippetCache.get(cacheDir.toString(), handler, new ServiceSpec(SERVICE_SPEC),
+                manifestContext));
+    }
+
+    @Test
+    public void testMissOnBuildChange(@TempDir Path cacheDir) throws Exception {
+        cacheSnippets(getCache(BUILD_VERSION, BUILD_TIME), cacheDir, getContext("dev"));
+
+        assertNull(getCache("0.9.9", BUILD_TIME).get(cacheDir.toString(), handler, new ServiceSpec(SERVICE_SPEC),
+                getContext("dev")));
+        assertNull(getCache(BUILD_VERSION, "2020-06-02T10:00:00Z").get(cacheDir.toString(), handler,
+                new ServiceSpec(SERVICE_SPEC), getContext("dev")));
+        assertNull(new PluginSnippetCache().get(cacheDir.toString(), handler, new ServiceSpec(SERVICE_SPEC),
+                getContext("dev")));
+    }
+
+    @Test
+    public void testMissOnHandlerChange(@TempDir Path cacheDir) throws Exception {
+        PluginSnippetCache pluginSnippetCache = getCache(BUILD_VERSION, BUILD_TIME);
+        cacheSnippets(pluginSnippetCache, cacheDir, getContext("dev"));
+
+        assertNull(pluginSnippetCache.get(cacheDir.toString(), new OtherImageHandler(),
+                new ServiceSpec(SERVICE_SPEC), getContext("dev")));
+    }
+
+    @Test
+    public void testNotCachedWithoutBuildInfo(@TempDir Path cacheDir) throws Exception {
+        cacheSnippets(new PluginSnippetCache(), cacheDir, getContext("dev"));
+
+        assertNull(getCache(BUILD_VERSION, BUILD_TIME).get(cacheDir.toString(), handler,
+                new ServiceSpec(SERVICE_SPEC), getContext("dev")));
+    }
+
+    @Test
+    public void testCacheable() {
+        PluginSnippetCache pluginSnippetCache = new PluginSnippetCache();
+        assertTrue(pluginSnippetCache.isCacheable(handler));
+        assertFalse(pluginSnippetCache.isCacheable(new ProducerHandler()));
+        assertFalse(pluginSnippetCache.isCacheable((serviceSpec, manifestContext) -> null));
+    }
+
+    private void cacheSnippets(PluginSnippetCache pluginSnippetCache, Path cacheDir, ManifestContext manifestContext)
+            throws HyscaleException {
+        ServiceSpec serviceSpec = new ServiceSpec(SERVICE_SPEC);
+        Set<String> readPaths = new TreeSet<>();
+        List<ManifestSnippet> snippets = handler.handle(serviceSpec.withReadListener(readPaths::add),
+                manifestContext);
+        pluginSnippetCache.put(cacheDir.toString(), handler, readPaths, serviceSpec, manifestContext, snippets,
+                Arrays.asList(ACTIVITY));
+    }
+
+    private PluginSnippetCache getCache(String version, String time) throws ReflectiveOperationException {
+        Properties properties = new Properties();
+        properties.setProperty("version", version);
+        properties.setProperty("time", time);
+        PluginSnippetCache pluginSnippetCache = new PluginSnippetCache();
+        Field field = PluginSnippetCache.class.getDeclaredField("buildProperties");
+        field.setAccessible(true);
+        field.set(pluginSnippetCache, new BuildProperties(properties));
+        return pluginSnippetCache;
+    }
+
+    private ManifestContext getContext(String envName) {
+        ManifestContext manifestContext = new ManifestContext();
+        manifestContext.setAppName("myapp");
+        manifestContext.setEnvName(envName);
+        return manifestContext;
+    }
+
+    @ManifestPlugin(name = "image", consumes = ImageHandler.ATTRIBUTE)
+    private static class ImageHandler implements ManifestHandler {
+
+        static final String ATTRIBUTE = "imageAttribute";
+
+        @Override
+        public List<ManifestSnippet> handle(ServiceSpec serviceSpec, ManifestContext manifestContext)
+                throws HyscaleException {
+            ManifestSnippet snippet = new ManifestSnippet();
+            snippet.setKind("Deployment");
+            snippet.setPath("spec.template.spec.containers[0].image");
+            snippet.setSnippet(serviceSpec.get("image.name", String.class));
+            return Arrays.asList(snippet);
+        }
+    }
+
+    @ManifestPlugin(name = "otherImage", consumes = ImageHandler.ATTRIBUTE)
+    private static class OtherImageHandler extends ImageHandler {
+    }
+
+    @ManifestPlugin(name = "producer", produces = ImageHandler.ATTRIBUTE)
+    private static class ProducerHandler extends ImageHandler {
+    }
+}
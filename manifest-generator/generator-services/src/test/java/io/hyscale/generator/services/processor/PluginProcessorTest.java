@@ -0,0 +1,253 @@
+/**
+ * Copyright 2019 Pramati Prism, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.hyscale.generator.services.processor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import io.hyscale.commons.exception.HyscaleException;
+import io.hyscale.commons.models.ManifestContext;
+import io.hyscale.generator.services.cache.PluginSnippetCache;
+import io.hyscale.generator.services.config.ManifestConfig;
+import io.hyscale.generator.services.json.JsonTreeOperations;
+import io.hyscale.generator.services.model.ManifestNode;
+import io.hyscale.generator.services.utils.ManifestTreeUtils;
+import io.hyscale.generator.services.utils.PluginDependencyGraph;
+import io.hyscale.generator.services.utils.PluginHandlers;
+import io.hyscale.plugin.framework.annotation.ManifestPlugin;
+import io.hyscale.plugin.framework.handler.ManifestHandler;
+import io.hyscale.plugin.framework.models.ManifestMeta;
+import io.hyscale.plugin.framework.models.ManifestSnippet;
+import io.hyscale.servicespec.commons.model.service.ServiceSpec;
+
+public class PluginProcessorTest {
+
+    private static final String SERVICE_SPEC = "name: myservice\nimage:\n  name: myimage\n";
+
+    private static final String REPLICAS_ATTRIBUTE = "replicas";
+
+    private static final AtomicInteger running = new AtomicInteger();
+
+    private static final AtomicInteger maxRunning = new AtomicInteger();
+
+    private static final List<ManifestHandler> HANDLERS = Arrays.asList(new ReplicasHandler(),
+            new FirstContainerHandler(), new SecondContainerHandler(), new ServiceHandler(), new LabelsHandler(),
+            new ConfigMapHandler(), new ReplicasConsumerHandler());
+
+    @Test
+    public void testParallelOutputMatchesSequential() throws Exception {
+        Map<ManifestMeta, ManifestNode> sequential = process(1);
+        assertEquals(1, maxRunning.get());
+
+        Map<ManifestMeta, ManifestNode> parallel = process(4);
+        assertTrue(maxRunning.get() > 1, "Independent plugins should run concurrently");
+
+        assertEquals(new ArrayList<>(sequential.keySet()), new ArrayList<>(parallel.keySet()));
+        assertEquals(toString(sequential), toString(parallel));
+
+        // snippets are injected in plugin order irrespective of completion order
+        ManifestNode deployment = parallel.get(new ManifestMeta("Deployment"));
+        assertEquals("first", deployment.getObjectNode().at("/spec/template/spec/containers/0/name").asText());
+        assertEquals("second", deployment.getObjectNode().at("/spec/template/spec/containers/1/name").asText());
+        // consumer runs after the producer of the attribute
+        assertEquals(3, deployment.getObjectNode().at("/spec/replicas").asInt());
+        assertEquals(3, parallel.get(new ManifestMeta("Service")).getObjectNode().at("/metadata/annotations/replicas")
+                .asInt());
+    }
+
+    private Map<ManifestMeta, ManifestNode> process(int parallelism) throws Exception {
+        running.set(0);
+        maxRunning.set(0);
+        ManifestConfig manifestConfig = new ManifestConfig();
+        setField(manifestConfig, "pluginParallelism", parallelism);
+
+        PluginHandlers pluginHandlers = new PluginHandlers();
+        setField(pluginHandlers, "manifestHandlers", HANDLERS);
+        setField(pluginHandlers, "pluginDependencyGraph", new PluginDependencyGraph(HANDLERS));
+
+        ManifestTreeUtils manifestTreeUtils = new ManifestTreeUtils();
+        setField(manifestTreeUtils, "jsonTreeOperations", new JsonTreeOperations());
+        manifestTreeUtils.init();
+
+        PluginProcessor pluginProcessor = new PluginProcessor();
+        setField(pluginProcessor, "manifestConfig", manifestConfig);
+        setField(pluginProcessor, "pluginHandlers", pluginHandlers);
+        setField(pluginProcessor, "manifestTreeUtils", manifestTreeUtils);
+        setField(pluginProcessor, "pluginSnippetCache", new PluginSnippetCache());
+
+        ManifestContext manifestContext = new ManifestContext();
+        manifestContext.setAppName("myapp");
+        manifestContext.setEnvName("dev");
+        return pluginProcessor.process(new ServiceSpec(SERVICE_SPEC), manifestContext);
+    }
+
+    private static String toString(Map<ManifestMeta, ManifestNode> manifests) {
+        StringBuilder manifestString = new StringBuilder();
+        manifests.forEach((meta, node) -> manifestString.append(meta).append(node.getObjectNode()).append("\n"));
+        return manifestString.toString();
+    }
+
+    private static void setField(Object target, String name, Object value) throws ReflectiveOperationException {
+        Field field = target.getClass().getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(target, value);
+    }
+
+    private static ManifestSnippet snippet(String kind, String path, String snippet) {
+        ManifestSnippet manifestSnippet = new ManifestSnippet();
+        manifestSnippet.setKind(kind);
+        manifestSnippet.setPath(path);
+        manifestSnippet.setSnippet(snippet);
+        return manifestSnippet;
+    }
+
+    private abstract static class TestHandler implements ManifestHandler {
+
+        private final long delay;
+
+        TestHandler(long delay) {
+            this.delay = delay;
+        }
+
+        @Override
+        public List<ManifestSnippet> handle(ServiceSpec serviceSpec, ManifestContext manifestContext)
+                throws HyscaleException {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(delay);
+                return getSnippets(serviceSpec, manifestContext);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return Collections.emptyList();
+            } finally {
+                running.decrementAndGet();
+            }
+        }
+
+        abstract List<ManifestSnippet> getSnippets(ServiceSpec serviceSpec, ManifestContext manifestContext)
+                throws HyscaleException;
+    }
+
+    @ManifestPlugin(name = "replicas", produces = REPLICAS_ATTRIBUTE)
+    private static class ReplicasHandler extends TestHandler {
+
+        ReplicasHandler() {
+            super(100);
+        }
+
+        @Override
+        List<ManifestSnippet> getSnippets(ServiceSpec serviceSpec, ManifestContext manifestContext) {
+            manifestContext.addGenerationAttribute(REPLICAS_ATTRIBUTE, 3);
+            return Arrays.asList(snippet("Deployment", "spec.replicas", "3"),
+                    snippet("Deployment", "metadata.name", "myservice"));
+        }
+    }
+
+    @ManifestPlugin(name = "firstContainer")
+    private static class FirstContainerHandler extends TestHandler {
+
+        FirstContainerHandler() {
+            super(150);
+        }
+
+        @Override
+        List<ManifestSnippet> getSnippets(ServiceSpec serviceSpec, ManifestContext manifestContext) {
+            return Arrays.asList(snippet("Deployment", "spec.template.spec.containers", "[{\"name\": \"first\"}]"));
+        }
+    }
+
+    @ManifestPlugin(name = "secondContainer")
+    private static class SecondContainerHandler extends TestHandler {
+
+        SecondContainerHandler() {
+            super(10);
+        }
+
+        @Override
+        List<ManifestSnippet> getSnippets(ServiceSpec serviceSpec, ManifestContext manifestContext) {
+            return Arrays.asList(snippet("Deployment", "spec.template.spec.containers", "[{\"name\": \"second\"}]"));
+        }
+    }
+
+    @ManifestPlugin(name = "service")
+    private static class ServiceHandler extends TestHandler {
+
+        ServiceHandler() {
+            super(50);
+        }
+
+        @Override
+        List<ManifestSnippet> getSnippets(ServiceSpec serviceSpec, ManifestContext manifestContext)
+                throws HyscaleException {
+            return Arrays.asList(snippet("Service", "metadata.name", serviceSpec.get("name", String.class)),
+                    snippet("Service", "spec.ports", "[{\"port\": 8080}]"));
+        }
+    }
+
+    @ManifestPlugin(name = "labels")
+    private static class LabelsHandler extends TestHandler {
+
+        LabelsHandler() {
+            super(20);
+        }
+
+        @Override
+        List<ManifestSnippet> getSnippets(ServiceSpec serviceSpec, ManifestContext manifestContext) {
+            return Arrays.asList(snippet("Deployment", "metadata.labels", "{\"app\": \"myapp\"}"),
+                    snippet("Service", "metadata.labels", "{\"app\": \"myapp\"}"));
+        }
+    }
+
+    /**
+     * Declares no attributes, runs after all earlier plugins and before all later ones
+     */
+    private static class ConfigMapHandler extends TestHandler {
+
+        ConfigMapHandler() {
+            super(30);
+        }
+
+        @Override
+        List<ManifestSnippet> getSnippets(ServiceSpec serviceSpec, ManifestContext manifestContext) {
+            return Arrays.asList(snippet("ConfigMap", "data", "{\"env\": \"dev\"}"),
+                    snippet("Deployment", "metadata.labels", "{\"app\": \"myapp\", \"config\": \"true\"}"));
+        }
+    }
+
+    @ManifestPlugin(name = "replicasConsumer", consumes = REPLICAS_ATTRIBUTE)
+    private static class ReplicasConsumerHandler extends TestHandler {
+
+        ReplicasConsumerHandler() {
+            super(10);
+        }
+
+        @Override
+        List<ManifestSnippet> getSnippets(ServiceSpec serviceSpec, ManifestContext manifestContext) {
+            Object replicas = manifestContext.getGenerationAttribute(REPLICAS_ATTRIBUTE);
+            return Arrays.asList(snippet("Service", "metadata.annotations.replicas", String.valueOf(replicas)));
+        }
+    }
+}
@@ -0,0 +1,92 @@
+/**
+ * Copyright 2019 Pramati Prism, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.hyscale.generator.services.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import io.hyscale.commons.models.ManifestContext;
+import io.hyscale.plugin.framework.annotation.ManifestPlugin;
+import io.hyscale.plugin.framework.handler.ManifestHandler;
+import io.hyscale.plugin.framework.models.ManifestSnippet;
+import io.hyscale.servicespec.commons.model.service.ServiceSpec;
+
+public class PluginDependencyGraphTest {
+
+    @Test
+    public void testDependenciesFollowAttributes() {
+        PluginDependencyGraph graph = new PluginDependencyGraph(Arrays.asList(new ProducerHandler(),
+                new IndependentHandler(), new ConsumerHandler(), new OverridingProducerHandler()));
+
+        assertEquals(Collections.emptyList(), graph.getDependencies(0));
+        assertEquals(Collections.emptyList(), graph.getDependencies(1));
+        // consumer waits for the producer only
+        assertEquals(Arrays.asList(0), graph.getDependencies(2));
+        // producer of an attribute produced and consumed earlier waits for both
+        assertEquals(Arrays.asList(0, 2), graph.getDependencies(3));
+    }
+
+    @Test
+    public void testMutualDependencyResolvesToPluginOrder() {
+        List<ManifestHandler> handlers = Arrays.asList(new ConsumerHandler(), new ProducerHandler());
+        PluginDependencyGraph graph = new PluginDependencyGraph(handlers);
+
+        assertEquals(handlers, graph.getHandlers());
+        assertEquals(Collections.emptyList(), graph.getDependencies(0));
+        assertEquals(Arrays.asList(0), graph.getDependencies(1));
+    }
+
+    @Test
+    public void testUndeclaredHandlerIsSerialized() {
+        PluginDependencyGraph graph = new PluginDependencyGraph(Arrays.asList(new ProducerHandler(),
+                new IndependentHandler(), new UndeclaredHandler(), new IndependentHandler()));
+
+        assertEquals(Arrays.asList(0, 1), graph.getDependencies(2));
+        assertEquals(Arrays.asList(2), graph.getDependencies(3));
+    }
+
+    private abstract static class TestHandler implements ManifestHandler {
+
+        @Override
+        public List<ManifestSnippet> handle(ServiceSpec serviceSpec, ManifestContext manifestContext) {
+            return Collections.emptyList();
+        }
+    }
+
+    @ManifestPlugin(name = "producer", produces = "attribute")
+    private static class ProducerHandler extends TestHandler {
+    }
+
+    @ManifestPlugin(name = "consumer", consumes = "attribute")
+    private static class ConsumerHandler extends TestHandler {
+    }
+
+    @ManifestPlugin(name = "overridingProducer", produces = "attribute")
+    private static class OverridingProducerHandler extends TestHandler {
+    }
+
+    @ManifestPlugin(name = "independent")
+    private static class IndependentHandler extends TestHandler {
+    }
+
+    private static class UndeclaredHandler extends TestHandler {
+    }
+}
@@ -33,8 +33,13 @@ public @interface ManifestPlugin {
 	String name();
 
 	/**
-	 * @return
+	 * @return generation attributes read from the manifest context
+	 */
+	String[] consumes() default {};
+
+	/**
+	 * @return generation attributes added to the manifest context
 	 */
-	// String dependencies() default "";
+	String[] produces() default {};
 
 }
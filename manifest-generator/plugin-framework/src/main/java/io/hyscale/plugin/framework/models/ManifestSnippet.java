@@ -17,23 +17,54 @@ package io.hyscale.plugin.framework.models;
 
 import javax.validation.constraints.NotNull;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.databind.JsonNode;
+
 /**
  * Model for defining a json snippet in a kubernetes manifest
+ * Snippet is either a json/yaml string or a ready json tree,
+ * string form of a json tree is computed on demand
  */
 public class ManifestSnippet {
 
     private String snippet;
+    private JsonNode snippetNode;
     private String kind;
     private String path;
     private String name;
 
     @NotNull
     public String getSnippet() {
+        if (snippet == null && snippetNode != null) {
+            snippet = snippetNode.toString();
+        }
         return snippet;
     }
 
     public void setSnippet(String snippet) {
         this.snippet = snippet;
+        this.snippetNode = null;
+    }
+
+    /**
+     * @return json tree of the snippet, null if snippet is set as string
+     */
+    @JsonIgnore
+    public JsonNode getSnippetNode() {
+        return snippetNode;
+    }
+
+    /**
+     * Sets snippet as json tree, avoids serializing and parsing the snippet
+     * Use {@link io.hyscale.plugin.framework.util.JsonSnippetConvertor#toJsonNode(Object)}
+     * or {@link io.hyscale.plugin.framework.util.GsonSnippetConvertor#toJsonNode(Object)} for models
+     *
+     * @param snippetNode not to be modified once set
+     */
+    @JsonIgnore
+    public void setSnippetNode(JsonNode snippetNode) {
+        this.snippetNode = snippetNode;
+        this.snippet = null;
     }
 
     @NotNull
@@ -17,10 +17,19 @@ package io.hyscale.plugin.framework.util;
 
 import java.io.IOException;
 import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Map;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonPrimitive;
 
 public class GsonSnippetConvertor {
 
@@ -33,6 +42,70 @@ public class GsonSnippetConvertor {
 		return gson.toJson(element);
 	}
 
+	/**
+	 * Converts element to json tree without an intermediate string,
+	 * tree is same as the one parsed from {@link #serialize(Object)}
+	 *
+	 * @param element
+	 * @return json tree of element, null if element is null
+	 */
+	public static <T> JsonNode toJsonNode(T element) {
+		if (element == null) {
+			return null;
+		}
+		return toJsonNode(gson.toJsonTree(element));
+	}
+
+	private static JsonNode toJsonNode(JsonElement element) {
+		JsonNodeFactory nodeFactory = JsonNodeFactory.instance;
+		if (element == null || element.isJsonNull()) {
+			return nodeFactory.nullNode();
+		}
+		if (element.isJsonArray()) {
+			ArrayNode arrayNode = nodeFactory.arrayNode();
+			element.getAsJsonArray().forEach(each -> arrayNode.add(toJsonNode(each)));
+			return arrayNode;
+		}
+		if (element.isJsonObject()) {
+			ObjectNode objectNode = nodeFactory.objectNode();
+			for (Map.Entry<String, JsonElement> entry : element.getAsJsonObject().entrySet()) {
+				objectNode.set(entry.getKey(), toJsonNode(entry.getValue()));
+			}
+			return objectNode;
+		}
+		JsonPrimitive primitive = element.getAsJsonPrimitive();
+		if (primitive.isBoolean()) {
+			return nodeFactory.booleanNode(primitive.getAsBoolean());
+		}
+		if (primitive.isString()) {
+			return nodeFactory.textNode(primitive.getAsString());
+		}
+		return toNumberNode(primitive.getAsNumber());
+	}
+
+	private static JsonNode toNumberNode(Number number) {
+		JsonNodeFactory nodeFactory = JsonNodeFactory.instance;
+		if (number instanceof Integer || number instanceof Short || number instanceof Byte) {
+			return nodeFactory.numberNode(number.intValue());
+		}
+		if (number instanceof Long) {
+			long value = number.longValue();
+			return value == (int) value ? nodeFactory.numberNode((int) value) : nodeFactory.numberNode(value);
+		}
+		if (number instanceof Double || number instanceof Float) {
+			return nodeFactory.numberNode(number.doubleValue());
+		}
+		if (number instanceof BigInteger) {
+			return nodeFactory.numberNode((BigInteger) number);
+		}
+		BigDecimal decimal = new BigDecimal(number.toString());
+		if (decimal.scale() <= 0) {
+			BigInteger integer = decimal.toBigIntegerExact();
+			return integer.bitLength() < Long.SIZE ? toNumberNode(integer.longValue()) : nodeFactory.numberNode(integer);
+		}
+		return nodeFactory.numberNode(decimal);
+	}
+
 	public static <T> T deserialize(String element, Class<T> klazz) throws IOException {
 		if (element == null) {
 			return null;
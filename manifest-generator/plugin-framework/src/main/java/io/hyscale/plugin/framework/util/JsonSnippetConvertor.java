@@ -20,6 +20,7 @@ import java.io.IOException;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 public class JsonSnippetConvertor {
@@ -37,6 +38,20 @@ public class JsonSnippetConvertor {
 		return objectMapper.writeValueAsString(element);
 	}
 
+	/**
+	 * Converts element to json tree without an intermediate string,
+	 * tree is same as the one parsed from {@link #serialize(Object)}
+	 *
+	 * @param element
+	 * @return json tree of element, null if element is null
+	 */
+	public static <T> JsonNode toJsonNode(T element) {
+		if (element == null) {
+			return null;
+		}
+		return objectMapper.valueToTree(element);
+	}
+
 	public static <T> T deserialize(String element, Class<T> klazz) throws IOException {
 		if (element == null) {
 			return null;
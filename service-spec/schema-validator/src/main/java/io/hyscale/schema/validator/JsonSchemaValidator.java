@@ -28,14 +28,19 @@ import org.slf4j.LoggerFactory;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Created by vijays on 18/9/19.
  * Compares input spec with the reference Json Schema passed and returns report.
+ * Compiled schemas are cached process wide against the schema content,
+ * so a schema is loaded and compiled once irrespective of the number of specs validated against it.
  */
 public class JsonSchemaValidator {
     private static final Logger LOGGER = LoggerFactory.getLogger(JsonSchemaValidator.class);
     private static final JsonSchemaFactory factory = JsonSchemaFactory.byDefault();
+    private static final Map<String, JsonSchema> compiledSchemas = new ConcurrentHashMap<>();
 
     /**
      * Validates whether the given input string satisfies schema.
@@ -48,8 +53,7 @@ public class JsonSchemaValidator {
     public static ProcessingReport validate(String inputSpec, String schema) throws HyscaleException {
         try {
             JsonNode inputSpecJsonNode = JsonLoader.fromString(inputSpec);
-            JsonNode schemaNode = JsonLoader.fromString(schema);
-            return validate(inputSpecJsonNode,schemaNode);
+            return validate(inputSpecJsonNode, schema);
         }catch (IOException e) {
             LOGGER.error(e.getMessage());
             HyscaleException ex = new HyscaleException(e,CommonErrorCode.ERROR_OCCURED_WHILE_SCHEMA_VALIDATION,e.getMessage());
@@ -57,6 +61,23 @@ public class JsonSchemaValidator {
         }
     }
 
+    /**
+     * Validates whether the given input json node satisfies schema.
+     *
+     * @param inputSpecNode JsonNode input
+     * @param schema Reference Json Schema String Input
+     * @return ProcessingReport
+     * @throws HyscaleException
+     */
+    public static ProcessingReport validate(JsonNode inputSpecNode, String schema) throws HyscaleException {
+        try {
+            return getJsonSchema(schema).validate(inputSpecNode, true);
+        } catch (ProcessingException p) {
+            LOGGER.error(p.getMessage());
+            throw new HyscaleException(p, CommonErrorCode.SCHEMA_PROCESSING_ERROR);
+        }
+    }
+
     /**
      * validates whether the given input spec file satisfies schema
      *
@@ -90,13 +111,37 @@ public class JsonSchemaValidator {
             LOGGER.error(CommonErrorCode.EMPTY_REFERENCE_SCHEMA_FOUND.getMessage());
             throw new HyscaleException(CommonErrorCode.EMPTY_REFERENCE_SCHEMA_FOUND);
         }
+        return validate(inputSpecNode, referenceSchema.toString());
+    }
+
+    /**
+     * Returns the compiled schema for the given schema content, compiles and caches it on first use.
+     * Compiled schemas are immutable and safe to validate against from multiple threads.
+     *
+     * @param schema Reference Json Schema String Input
+     * @return compiled JsonSchema
+     * @throws HyscaleException
+     */
+    private static JsonSchema getJsonSchema(String schema) throws HyscaleException {
+        if (schema == null || schema.isBlank()) {
+            LOGGER.error(CommonErrorCode.EMPTY_REFERENCE_SCHEMA_FOUND.getMessage());
+            throw new HyscaleException(CommonErrorCode.EMPTY_REFERENCE_SCHEMA_FOUND);
+        }
+        JsonSchema jsonSchema = compiledSchemas.get(schema);
+        if (jsonSchema != null) {
+            return jsonSchema;
+        }
         try {
-            JsonSchema schema = factory.getJsonSchema(referenceSchema);
-            return schema.validate(inputSpecNode, true);
-        }catch (ProcessingException p){
+            jsonSchema = factory.getJsonSchema(JsonLoader.fromString(schema));
+        } catch (IOException e) {
+            LOGGER.error(e.getMessage());
+            throw new HyscaleException(e, CommonErrorCode.ERROR_OCCURED_WHILE_SCHEMA_VALIDATION, e.getMessage());
+        } catch (ProcessingException p) {
             LOGGER.error(p.getMessage());
-            throw new HyscaleException(p,CommonErrorCode.SCHEMA_PROCESSING_ERROR);
+            throw new HyscaleException(p, CommonErrorCode.SCHEMA_PROCESSING_ERROR);
         }
+        JsonSchema existing = compiledSchemas.putIfAbsent(schema, jsonSchema);
+        return existing != null ? existing : jsonSchema;
     }
 
 }
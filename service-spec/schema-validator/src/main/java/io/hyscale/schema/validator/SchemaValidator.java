@@ -15,6 +15,7 @@
  */
 package io.hyscale.schema.validator;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.github.fge.jsonschema.core.report.ProcessingReport;
 import io.hyscale.commons.constants.ToolConstants;
 import io.hyscale.commons.exception.CommonErrorCode;
@@ -31,6 +32,8 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Processes given input spec file,gets respective reference schema and returns validated ProcessingReport from JsonSchemaValidator.
@@ -42,6 +45,8 @@ public class SchemaValidator {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(SchemaValidator.class);
 
+    private final Map<HyscaleSpecType, String> schemas = new ConcurrentHashMap<>();
+
     /**
      * validates whether the given string satisfies respective reference schema.
      *
@@ -54,6 +59,18 @@ public class SchemaValidator {
         return JsonSchemaValidator.validate(spec,getSchema(type));
     }
 
+    /**
+     * validates whether the given json node satisfies respective reference schema.
+     *
+     * @param spec
+     * @param type
+     * @return ProcessingReport
+     * @throws HyscaleException
+     */
+    public ProcessingReport validateSpec(JsonNode spec, HyscaleSpecType type) throws HyscaleException {
+        return JsonSchemaValidator.validate(spec, getSchema(type));
+    }
+
     /**
      * validates whether the given spec file satisfies respective reference schema.
      *
@@ -82,9 +99,18 @@ public class SchemaValidator {
         return schemaPathBuilder.toString();
     }
 
-    private String getSchema(HyscaleSpecType type) throws HyscaleException{
+    private String getSchema(HyscaleSpecType type) throws HyscaleException {
+        String schema = schemas.get(type);
+        if (schema == null) {
+            schema = loadSchema(type);
+            schemas.putIfAbsent(type, schema);
+        }
+        return schema;
+    }
+
+    private String loadSchema(HyscaleSpecType type) throws HyscaleException{
         String schemaPath = getSchemaPath(type);
-        try (InputStream is = SchemaValidator.class.getClassLoader().getResourceAsStream(schemaPath)) {
+        try (InputStream is = SchemaValidator.class.getResourceAsStream(schemaPath)) {
             if (is == null) {
                 HyscaleException ex = new HyscaleException(CommonErrorCode.FAILED_TO_READ_FILE, schemaPath);
                 LOGGER.error(ex.getMessage());
@@ -19,20 +19,24 @@ package io.hyscale.servicespec.commons.builder;
 import java.io.IOException;
 
 import io.hyscale.commons.logger.WorkflowLogger;
-import io.hyscale.commons.utils.DataFormatConverter;
 import io.hyscale.servicespec.commons.activity.ServiceSpecActivity;
 import org.apache.commons.lang3.StringUtils;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 
 import io.hyscale.commons.exception.HyscaleException;
 import io.hyscale.commons.framework.patch.FieldMetaDataProvider;
-import io.hyscale.commons.framework.patch.StrategicPatch;
+import io.hyscale.commons.framework.patch.IndexedStrategicPatch;
 import io.hyscale.commons.utils.ObjectMapperFactory;
 import io.hyscale.servicespec.commons.exception.ServiceSpecErrorCodes;
 
 /**
  * Builder to create effective service spec by merging service spec and service profile
+ * Inputs are parsed once into trees, profile directives and strategic merge
+ * work on the trees, see {@link #buildTree()}
  * @author tushar
  *
  */
@@ -44,6 +48,10 @@ public class EffectiveServiceSpecBuilder {
 
     private String profile;
 
+    private JsonNode serviceSpecTree;
+
+    private JsonNode profileTree;
+
     private FieldMetaDataProvider fieldMetaDataProvider;
 
     public EffectiveServiceSpecBuilder type(ServiceInputType serviceInputType) {
@@ -53,11 +61,33 @@ public class EffectiveServiceSpecBuilder {
 
     public EffectiveServiceSpecBuilder withServiceSpec(String serviceSpec) {
         this.serviceSpec = serviceSpec;
+        this.serviceSpecTree = null;
+        return this;
+    }
+
+    /**
+     * @param serviceSpec parsed service spec, updated in place while building
+     * @return builder
+     */
+    public EffectiveServiceSpecBuilder withServiceSpec(JsonNode serviceSpec) {
+        this.serviceSpecTree = serviceSpec;
+        this.serviceSpec = null;
         return this;
     }
 
     public EffectiveServiceSpecBuilder withProfile(String profile) {
         this.profile = profile;
+        this.profileTree = null;
+        return this;
+    }
+
+    /**
+     * @param profile parsed profile, updated in place while building
+     * @return builder
+     */
+    public EffectiveServiceSpecBuilder withProfile(JsonNode profile) {
+        this.profileTree = profile;
+        this.profile = null;
         return this;
     }
 
@@ -66,50 +96,63 @@ public class EffectiveServiceSpecBuilder {
         return this;
     }
 
+    /**
+     * @return effective service spec as json
+     * @throws HyscaleException
+     */
     public String build() throws HyscaleException {
-
-        validate(serviceSpec, profile);
-
-        if (this.serviceInputType == ServiceInputType.YAML) {
-            // convert to JSON
-            serviceSpec = DataFormatConverter.yamlToJson(serviceSpec);
-            profile = DataFormatConverter.yamlToJson(profile);
+        JsonNode effectiveServiceSpec = buildTree();
+        try {
+            return ObjectMapperFactory.jsonMapper().writeValueAsString(effectiveServiceSpec);
+        } catch (JsonProcessingException e) {
+            throw new HyscaleException(e, ServiceSpecErrorCodes.SERVICE_SPEC_PARSE_ERROR);
         }
+    }
 
-        // Remove unrequired fields from the profile
-        profile = ServiceSpecBuilderUtil.updateProfile(profile);
+    /**
+     * Merges profile into service spec without serializing either of them
+     * @return effective service spec tree
+     * @throws HyscaleException
+     */
+    public ObjectNode buildTree() throws HyscaleException {
+        ObjectNode serviceSpecNode = getObjectNode(serviceSpecTree, serviceSpec,
+                ServiceSpecErrorCodes.SERVICE_SPEC_REQUIRED, ServiceSpecErrorCodes.SERVICE_SPEC_PARSE_ERROR);
+        ObjectNode profileNode = getObjectNode(profileTree, profile, ServiceSpecErrorCodes.SERVICE_PROFILE_REQUIRED,
+                ServiceSpecErrorCodes.SERVICE_PROFILE_PARSE_ERROR);
 
-        String strategicMergeJson = StrategicPatch.apply(serviceSpec, profile, fieldMetaDataProvider);
+        // Remove unrequired fields from the profile
+        profileNode = ServiceSpecBuilderUtil.updateProfile(profileNode);
 
-        return strategicMergeJson;
+        return IndexedStrategicPatch.apply(serviceSpecNode, profileNode, fieldMetaDataProvider);
     }
 
     //TODO   integrating service spec and profile schema validation
-    private void validate(String serviceSpec, String profile) throws HyscaleException {
-        if (StringUtils.isBlank(serviceSpec)) {
-            throw new HyscaleException(ServiceSpecErrorCodes.SERVICE_SPEC_REQUIRED);
+    private ObjectNode getObjectNode(JsonNode tree, String data, ServiceSpecErrorCodes requiredError,
+            ServiceSpecErrorCodes parseError) throws HyscaleException {
+        if (tree == null) {
+            if (StringUtils.isBlank(data)) {
+                throw new HyscaleException(requiredError);
+            }
+            ObjectMapper mapper;
+            if (ServiceInputType.JSON == this.serviceInputType) {
+                mapper = ObjectMapperFactory.jsonMapper();
+            } else {
+                mapper = ObjectMapperFactory.yamlMapper();
+            }
+            try {
+                tree = mapper.readTree(data);
+            } catch (IOException e) {
+                WorkflowLogger.error(ServiceSpecActivity.ERROR, e.getMessage());
+                throw new HyscaleException(e, parseError);
+            }
         }
-        if (StringUtils.isBlank(profile)) {
-            throw new HyscaleException(ServiceSpecErrorCodes.SERVICE_PROFILE_REQUIRED);
+        if (tree == null || tree.isMissingNode()) {
+            throw new HyscaleException(requiredError);
         }
-        ObjectMapper mapper;
-        if (ServiceInputType.JSON == this.serviceInputType) {
-            mapper = ObjectMapperFactory.jsonMapper();
-        } else {
-            mapper = ObjectMapperFactory.yamlMapper();
-        }
-        try {
-            mapper.readTree(serviceSpec);
-        } catch (IOException e) {
-            WorkflowLogger.error(ServiceSpecActivity.ERROR, e.getMessage());
-            throw new HyscaleException(e,ServiceSpecErrorCodes.SERVICE_SPEC_PARSE_ERROR);
-        }
-        try {
-            mapper.readTree(profile);
-        } catch (IOException e) {
-            WorkflowLogger.error(ServiceSpecActivity.ERROR, e.getMessage());
-            throw new HyscaleException(e,ServiceSpecErrorCodes.SERVICE_PROFILE_PARSE_ERROR);
+        if (!tree.isObject()) {
+            throw new HyscaleException(parseError);
         }
+        return (ObjectNode) tree;
     }
 
 }
@@ -15,6 +15,7 @@
  */
 package io.hyscale.servicespec.commons.builder;
 
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.jayway.jsonpath.DocumentContext;
 import com.jayway.jsonpath.JsonPath;
 import io.hyscale.servicespec.commons.fields.HyscaleSpecFields;
@@ -32,4 +33,21 @@ public class ServiceSpecBuilderUtil {
 		return doc.jsonString();
 	}
 
+	/**
+	 * Removes fields not to be merged from the profile tree in place
+	 * @param profileSpecification
+	 * @return profile tree
+	 */
+	public static ObjectNode updateProfile(ObjectNode profileSpecification) {
+		if (profileSpecification == null) {
+			return null;
+		}
+		// Environment information
+		profileSpecification.remove(HyscaleSpecFields.environment);
+		// Override information
+		profileSpecification.remove(HyscaleSpecFields.overrides);
+
+		return profileSpecification;
+	}
+
 }
@@ -15,12 +15,16 @@
  */
 package io.hyscale.servicespec.commons.json.parser;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jayway.jsonpath.DocumentContext;
 import com.jayway.jsonpath.JsonPath;
 
 import io.hyscale.commons.exception.HyscaleException;
@@ -36,6 +40,7 @@ public class JsonTreeParser {
 
     private static final ObjectMapper objectMapper = ObjectMapperFactory.jsonMapper();
     private static final Logger logger = LoggerFactory.getLogger(JsonTreeParser.class);
+    private static final Map<String, JsonPath> compiledPaths = new ConcurrentHashMap<>();
 
 	/**
 	 * Get JsonNode for field from the root
@@ -48,11 +53,83 @@ public class JsonTreeParser {
         if (root == null) {
             return null;
         }
+        return get(parse(root), field);
+    }
+
+	/**
+	 * Binds the json tree to a document, reads on the document
+	 * do not require the tree to be parsed again
+	 * @param root
+	 * @return document of root, null if root is null
+	 */
+
+    public static DocumentContext parse(JsonNode root) {
+        if (root == null) {
+            return null;
+        }
+        return JsonPath.using(JsonPathConfiguration.getConfiguration())
+                .parse(objectMapper.convertValue(root, Object.class));
+    }
+
+	/**
+	 * Get JsonNode for field from the parsed document
+	 * @param document
+	 * @param field
+	 * @return JsonNode for field
+	 */
+
+    public static JsonNode get(DocumentContext document, String field) {
+        if (document == null) {
+            return null;
+        }
+        return document.read(compile(field), JsonNode.class);
+    }
+
+	/**
+	 * @param document
+	 * @param field
+	 * @param klazz
+	 * @param <T> class object to be returned
+	 * @return object of class T
+	 * @throws HyscaleException
+	 */
+
+    public static <T> T get(DocumentContext document, String field, Class<T> klazz) throws HyscaleException {
+        if (document == null) {
+            return null;
+        }
+        return document.read(compile(field), klazz);
+    }
+
+	/**
+	 * @param document
+	 * @param field
+	 * @param typeReference
+	 * @param <T> based on {@link TypeReference}
+	 * @return object of class T
+	 * @throws HyscaleException
+	 */
+
+    public static <T> T get(DocumentContext document, String field, TypeReference<T> typeReference)
+            throws HyscaleException {
+        return deserializeJsonNode(get(document, field), typeReference);
+    }
+
+	/**
+	 * Compiled paths are cached as fields are read repeatedly across specs
+	 * @param field
+	 * @return compiled {@link JsonPath} of field
+	 */
+
+    public static JsonPath compile(String field) {
+        return compiledPaths.computeIfAbsent(field, key -> JsonPath.compile(getRootPath(key)));
+    }
+
+    private static String getRootPath(String field) {
         if (!field.startsWith(JsonPathConstants.JSON_ROOT_PATH)) {
-            field = JsonPathConstants.JSON_ROOT_PATH + field;
+            return JsonPathConstants.JSON_ROOT_PATH + field;
         }
-        return JsonPath.using(JsonPathConfiguration.getConfiguration()).parse(root.toString()).read(field,
-                JsonNode.class);
+        return field;
     }
 
 	/**
@@ -68,10 +145,7 @@ public class JsonTreeParser {
         if (root == null) {
             return null;
         }
-        if (!field.startsWith(JsonPathConstants.JSON_ROOT_PATH)) {
-            field = JsonPathConstants.JSON_ROOT_PATH + field;
-        }
-        return JsonPath.using(JsonPathConfiguration.getConfiguration()).parse(root.toString()).read(field, klazz);
+        return get(parse(root), field, klazz);
     }
 
 	/**
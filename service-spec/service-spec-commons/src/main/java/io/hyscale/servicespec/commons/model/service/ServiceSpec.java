@@ -19,17 +19,25 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jayway.jsonpath.DocumentContext;
 import io.hyscale.commons.exception.HyscaleException;
 import io.hyscale.commons.logger.WorkflowLogger;
 import io.hyscale.commons.utils.ObjectMapperFactory;
 import io.hyscale.servicespec.commons.activity.ServiceSpecActivity;
 import io.hyscale.servicespec.commons.exception.ServiceSpecErrorCodes;
+import io.hyscale.servicespec.commons.fields.HyscaleSpecFields;
 import io.hyscale.servicespec.commons.json.parser.JsonTreeParser;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 
 /**
  * Defines {@link ServiceSpec} as tree of JsonNode
@@ -41,13 +49,42 @@ public final class ServiceSpec implements HyscaleSpec {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(HyscaleSpec.class);
 
+    private static final String KEY_SEPARATOR = "#";
+
+    /**
+     * Fields read by several plugins and validators, typed reads of these are memoized
+     */
+    private static final Set<String> MEMOIZED_FIELDS = new HashSet<>(Arrays.asList(HyscaleSpecFields.image,
+            HyscaleSpecFields.volumes, HyscaleSpecFields.props, HyscaleSpecFields.ports));
+
     private JsonNode root;
 
+    private volatile DocumentContext document;
+
+    private final Map<String, Object> memoizedValues;
+
+    private final ServiceSpec source;
+
+    private final Consumer<String> readListener;
+
     public ServiceSpec(JsonNode root) {
         this.root = root;
+        this.memoizedValues = new ConcurrentHashMap<>();
+        this.source = null;
+        this.readListener = null;
+    }
+
+    private ServiceSpec(ServiceSpec source, Consumer<String> readListener) {
+        this.root = source.root;
+        this.memoizedValues = source.memoizedValues;
+        this.source = source;
+        this.readListener = readListener;
     }
 
     public ServiceSpec(String serviceSpec) throws HyscaleException {
+        this.memoizedValues = new ConcurrentHashMap<>();
+        this.source = null;
+        this.readListener = null;
         ObjectMapper mapper = ObjectMapperFactory.yamlMapper();
         try {
             this.root = mapper.readTree(serviceSpec);
@@ -57,16 +94,83 @@ public final class ServiceSpec implements HyscaleSpec {
         }
     }
 
+    /**
+     * Provides a view of this spec which notifies the listener of every path read through it,
+     * the view shares the parsed document and memoized values of this spec
+     * @param readListener
+     * @return {@link ServiceSpec} notifying reads
+     */
+    public ServiceSpec withReadListener(Consumer<String> readListener) {
+        return new ServiceSpec(this, readListener);
+    }
+
     public JsonNode get(String path) {
-        return JsonTreeParser.get(root, path);
+        notifyRead(path);
+        return JsonTreeParser.get(getDocument(), path);
     }
 
+    /**
+     * Results of {@link #MEMOIZED_FIELDS} are shared across reads and must not be modified
+     */
     public <T> T get(String path, Class<T> klass) throws HyscaleException {
-        return JsonTreeParser.get(root, path, klass);
+        notifyRead(path);
+        if (!MEMOIZED_FIELDS.contains(path)) {
+            return JsonTreeParser.get(getDocument(), path, klass);
+        }
+        String key = path + KEY_SEPARATOR + klass.getName();
+        Object value = memoizedValues.get(key);
+        if (value == null) {
+            value = JsonTreeParser.get(getDocument(), path, klass);
+            if (value != null) {
+                memoizedValues.putIfAbsent(key, value);
+            }
+        }
+        return klass.cast(value);
     }
 
+    /**
+     * Results of {@link #MEMOIZED_FIELDS} are shared across reads and must not be modified
+     */
+    @SuppressWarnings("unchecked")
     public <T> T get(String path, TypeReference<T> typeReference) throws HyscaleException {
-        return JsonTreeParser.get(root, path, typeReference);
+        notifyRead(path);
+        if (!MEMOIZED_FIELDS.contains(path)) {
+            return JsonTreeParser.get(getDocument(), path, typeReference);
+        }
+        String key = path + KEY_SEPARATOR + typeReference.getType().getTypeName();
+        Object value = memoizedValues.get(key);
+        if (value == null) {
+            value = JsonTreeParser.get(getDocument(), path, typeReference);
+            if (value != null) {
+                memoizedValues.putIfAbsent(key, value);
+            }
+        }
+        return (T) value;
+    }
+
+    private void notifyRead(String path) {
+        if (readListener != null) {
+            readListener.accept(path);
+        }
+    }
+
+    /**
+     * Spec is parsed once on first read, subsequent reads use the same document
+     */
+    private DocumentContext getDocument() {
+        if (source != null) {
+            return source.getDocument();
+        }
+        DocumentContext parsedDocument = document;
+        if (parsedDocument == null) {
+            synchronized (this) {
+                if (document == null) {
+                    document = JsonTreeParser.parse(root);
+                }
+                parsedDocument = document;
+            }
+        }
+        return parsedDocument;
     }
 
     @Override
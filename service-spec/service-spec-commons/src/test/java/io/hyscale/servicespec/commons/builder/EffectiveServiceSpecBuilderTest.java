@@ -0,0 +1,238 @@
+/**
+ * Copyright 2019 Pramati Prism, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.hyscale.servicespec.commons.builder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import io.hyscale.commons.exception.HyscaleException;
+import io.hyscale.commons.framework.patch.IndexedStrategicPatch;
+import io.hyscale.commons.framework.patch.StrategicPatch;
+import io.hyscale.commons.io.HyscaleFilesUtil;
+import io.hyscale.commons.utils.DataFormatConverter;
+import io.hyscale.commons.utils.ObjectMapperFactory;
+import io.hyscale.servicespec.commons.model.service.ServiceSpec;
+
+public class EffectiveServiceSpecBuilderTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(EffectiveServiceSpecBuilderTest.class);
+
+    private static final int ALLOCATION_RUNS = 20;
+
+    private static String serviceSpecData;
+    private static String profileData;
+
+    @BeforeAll
+    public static void init() throws HyscaleException {
+        serviceSpecData = getData("/servicespecs/myservice.hspec");
+        profileData = getData("/profiles/dev-myservice.hprof");
+    }
+
+    @Test
+    public void testTreeMerge() throws HyscaleException, IOException {
+        ObjectMapper mapper = ObjectMapperFactory.yamlMapper();
+        JsonNode effectiveSpec = new EffectiveServiceSpecBuilder().withServiceSpec(mapper.readTree(serviceSpecData))
+                .withProfile(mapper.readTree(profileData)).withFieldMetaDataProvider(new MapFieldDataProvider())
+                .buildTree();
+
+        assertEquals(getStringPathSpec(serviceSpecData, profileData), effectiveSpec);
+        assertNull(effectiveSpec.get("environment"));
+        assertNull(effectiveSpec.get("overrides"));
+        assertEquals("512Mi", effectiveSpec.get("memory").asText());
+        assertEquals(2, effectiveSpec.get("volumes").size());
+        assertEquals("2Gi", effectiveSpec.get("volumes").get(0).get("size").asText());
+        assertEquals("/volume/mount/path", effectiveSpec.get("volumes").get(0).get("path").asText());
+        assertEquals("logs", effectiveSpec.get("volumes").get(1).get("name").asText());
+        assertEquals("devvalue2", effectiveSpec.get("props").get("key2").asText());
+        assertEquals(3, effectiveSpec.get("secrets").size());
+    }
+
+    @Test
+    public void testStringBuild() throws HyscaleException, IOException {
+        String effectiveSpec = new EffectiveServiceSpecBuilder().withServiceSpec(serviceSpecData)
+                .withProfile(profileData).withFieldMetaDataProvider(new MapFieldDataProvider()).build();
+        assertEquals(getStringPathSpec(serviceSpecData, profileData),
+                ObjectMapperFactory.jsonMapper().readTree(effectiveSpec));
+    }
+
+    public static Stream<Arguments> profileInput() throws HyscaleException {
+        return Stream.of(Arguments.of(serviceSpecData, profileData),
+                Arguments.of(serviceSpecData, getData("/profiles/stage-myservice.hprof")),
+                Arguments.of(getData("/servicespecs/test1.hspec"), profileData),
+                Arguments.of(getLargeSpec("vol", 50), getLargeSpec("vol", 25) + "environment: dev\n"));
+    }
+
+    /**
+     * Tree merge matches the original javax.json {@link StrategicPatch} string path,
+     * which merges lists as sets, lists are compared irrespective of order
+     */
+    @ParameterizedTest
+    @MethodSource(value = "profileInput")
+    public void testTreeMergeMatchesBaseline(String serviceSpec, String profile)
+            throws HyscaleException, IOException {
+        ObjectMapper mapper = ObjectMapperFactory.yamlMapper();
+        JsonNode effectiveSpec = new EffectiveServiceSpecBuilder().withServiceSpec(mapper.readTree(serviceSpec))
+                .withProfile(mapper.readTree(profile)).withFieldMetaDataProvider(new MapFieldDataProvider())
+                .buildTree();
+
+        assertEquals(sortLists(getBaselineSpec(serviceSpec, profile)), sortLists(effectiveSpec));
+        assertEquals(getStringPathSpec(serviceSpec, profile), effectiveSpec);
+    }
+
+    /**
+     * Merging parsed trees allocates less than the string path of json string conversion,
+     * javax.json {@link StrategicPatch} merge and reparse of the result
+     */
+    @Test
+    public void testAllocation() throws HyscaleException, IOException, ReflectiveOperationException {
+        assumeTrue(isAllocationMeasurable(), "Thread allocation is not measurable on this JVM");
+        String serviceSpec = getLargeSpec("vol", 200);
+        String profile = getLargeSpec("vol", 100) + "environment: dev\n";
+        ObjectMapper mapper = ObjectMapperFactory.yamlMapper();
+        MapFieldDataProvider fieldDataProvider = new MapFieldDataProvider();
+
+        long baselineBytes = 0;
+        long treePathBytes = 0;
+        for (int run = 0; run < ALLOCATION_RUNS; run++) {
+            long start = getAllocatedBytes();
+            new ServiceSpec(getBaselineSpec(serviceSpec, profile));
+            baselineBytes = getAllocatedBytes() - start;
+
+            start = getAllocatedBytes();
+            new ServiceSpec(new EffectiveServiceSpecBuilder().withServiceSpec(mapper.readTree(serviceSpec))
+                    .withProfile(mapper.readTree(profile)).withFieldMetaDataProvider(fieldDataProvider).buildTree());
+            treePathBytes = getAllocatedBytes() - start;
+        }
+        logger.debug("Effective spec allocation, tree path: {} bytes, javax.json string path: {} bytes",
+                treePathBytes, baselineBytes);
+        assertTrue(treePathBytes < baselineBytes, "Tree path allocated " + treePathBytes
+                + " bytes, javax.json string path allocated " + baselineBytes + " bytes");
+    }
+
+    /**
+     * Effective spec through the string path, merged by {@link IndexedStrategicPatch}
+     * which keeps the order of merged lists
+     */
+    private static JsonNode getStringPathSpec(String serviceSpec, String profile)
+            throws HyscaleException, IOException {
+        String profileJson = ServiceSpecBuilderUtil.updateProfile(DataFormatConverter.yamlToJson(profile));
+        String merged = IndexedStrategicPatch.apply(DataFormatConverter.yamlToJson(serviceSpec), profileJson,
+                new MapFieldDataProvider());
+        return ObjectMapperFactory.jsonMapper().readTree(merged);
+    }
+
+    /**
+     * Effective spec through the original string path, merged by javax.json {@link StrategicPatch}
+     */
+    private static JsonNode getBaselineSpec(String serviceSpec, String profile)
+            throws HyscaleException, IOException {
+        ObjectMapper mapper = ObjectMapperFactory.yamlMapper();
+        // validation parse
+        mapper.readTree(serviceSpec);
+        mapper.readTree(profile);
+        String profileJson = ServiceSpecBuilderUtil.updateProfile(DataFormatConverter.yamlToJson(profile));
+        String merged = StrategicPatch.apply(DataFormatConverter.yamlToJson(serviceSpec), profileJson,
+                new MapFieldDataProvider());
+        return ObjectMapperFactory.jsonMapper().readTree(merged);
+    }
+
+    /**
+     * @return copy of node with fields and list elements sorted
+     */
+    private static JsonNode sortLists(JsonNode node) {
+        if (node.isObject()) {
+            ObjectNode sorted = JsonNodeFactory.instance.objectNode();
+            List<String> fieldNames = new ArrayList<>();
+            node.fieldNames().forEachRemaining(fieldNames::add);
+            Collections.sort(fieldNames);
+            fieldNames.forEach(fieldName -> sorted.set(fieldName, sortLists(node.get(fieldName))));
+            return sorted;
+        }
+        if (!node.isArray()) {
+            return node;
+        }
+        List<JsonNode> elements = new ArrayList<>();
+        node.forEach(element -> elements.add(sortLists(element)));
+        elements.sort(Comparator.comparing(JsonNode::toString));
+        ArrayNode sorted = JsonNodeFactory.instance.arrayNode();
+        elements.forEach(sorted::add);
+        return sorted;
+    }
+
+    private static String getLargeSpec(String volumePrefix, int count) {
+        StringBuilder sb = new StringBuilder("name: myservice\nvolumes:\n");
+        for (int index = 0; index < count; index++) {
+            sb.append("  - name: ").append(volumePrefix).append(index).append("\n    path: /data/").append(index)
+                    .append("\n    size: 1Gi\n");
+        }
+        sb.append("props:\n");
+        for (int index = 0; index < count; index++) {
+            sb.append("  key").append(index).append(": value").append(index).append("\n");
+        }
+        return sb.toString();
+    }
+
+    private static boolean isAllocationMeasurable() {
+        try {
+            getAllocatedBytes();
+            return true;
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Module does not read java.management, thread allocation is read reflectively
+     */
+    private static long getAllocatedBytes() throws ReflectiveOperationException {
+        Object threadMXBean = Class.forName("java.lang.management.ManagementFactory").getMethod("getThreadMXBean")
+                .invoke(null);
+        Method allocatedBytes = Class.forName("com.sun.management.ThreadMXBean").getMethod("getThreadAllocatedBytes",
+                long.class);
+        return (long) allocatedBytes.invoke(threadMXBean, Thread.currentThread().getId());
+    }
+
+    private static String getData(String path) throws HyscaleException {
+        URL urlPath = EffectiveServiceSpecBuilderTest.class.getResource(path);
+        return HyscaleFilesUtil.readFileData(new File(urlPath.getFile()));
+    }
+}
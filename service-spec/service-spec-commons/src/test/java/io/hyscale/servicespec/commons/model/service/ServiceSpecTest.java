@@ -0,0 +1,82 @@
+/**
+ * Copyright 2019 Pramati Prism, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.hyscale.servicespec.commons.model.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import io.hyscale.commons.constants.ToolConstants;
+import io.hyscale.commons.exception.HyscaleException;
+import io.hyscale.commons.utils.ObjectMapperFactory;
+import io.hyscale.servicespec.commons.fields.HyscaleSpecFields;
+import io.hyscale.servicespec.commons.json.parser.JsonTreeParser;
+
+public class ServiceSpecTest {
+
+    private static JsonNode root;
+
+    private static ServiceSpec serviceSpec;
+
+    @BeforeAll
+    public static void beforeTest() throws IOException, HyscaleException {
+        String spec = FileUtils.readFileToString(
+                new File(ServiceSpecTest.class.getResource("/servicespecs/buildspec.hspec").getFile()),
+                ToolConstants.CHARACTER_ENCODING);
+        root = ObjectMapperFactory.yamlMapper().readTree(spec);
+        serviceSpec = new ServiceSpec(root);
+    }
+
+    @Test
+    public void testReadsMatchTreeParser() throws HyscaleException {
+        assertEquals(JsonTreeParser.get(root, HyscaleSpecFields.name, String.class),
+                serviceSpec.get(HyscaleSpecFields.name, String.class));
+        assertEquals(JsonTreeParser.get(root, HyscaleSpecFields.replicas), serviceSpec.get(HyscaleSpecFields.replicas));
+        String registryPath = HyscaleSpecFields.getPath(HyscaleSpecFields.image, HyscaleSpecFields.registry);
+        assertEquals("x.y.z", serviceSpec.get(registryPath, String.class));
+        assertNull(serviceSpec.get("notAField", String.class));
+    }
+
+    @Test
+    public void testMemoizedFields() throws HyscaleException {
+        TypeReference<List<Port>> portsType = new TypeReference<List<Port>>() {
+        };
+        List<Port> ports = serviceSpec.get(HyscaleSpecFields.ports, portsType);
+        assertEquals(2, ports.size());
+        assertSame(ports, serviceSpec.get(HyscaleSpecFields.ports, portsType));
+
+        Image image = serviceSpec.get(HyscaleSpecFields.image, Image.class);
+        assertEquals("myServiceImage", image.getName());
+        assertSame(image, serviceSpec.get(HyscaleSpecFields.image, Image.class));
+
+        Map<String, String> props = serviceSpec.get(HyscaleSpecFields.props,
+                new TypeReference<Map<String, String>>() {
+                });
+        assertEquals("value1", props.get("key1"));
+    }
+}
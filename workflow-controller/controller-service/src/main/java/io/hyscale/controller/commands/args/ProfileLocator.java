@@ -17,7 +17,6 @@ package io.hyscale.controller.commands.args;
 
 import io.hyscale.commons.constants.ToolConstants;
 import io.hyscale.commons.exception.HyscaleException;
-import io.hyscale.commons.io.HyscaleFilesUtil;
 import io.hyscale.controller.util.ServiceSpecUtil;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
@@ -65,27 +64,38 @@ public class ProfileLocator {
             return null;
         }
         Set<File> profileFiles = new HashSet<File>();
+        // Service specs usually share directories, each directory is listed once
+        Map<String, List<File>> directoryVsFiles = new HashMap<>();
         for (File serviceSpec : serviceSpecs) {
             String serviceSpecPath = serviceSpec.getAbsoluteFile().getParent();
             String profileFilePattern = getProfileNamePattern(profileName, ServiceSpecUtil.getServiceName(serviceSpec));
 
             // Search for profile relative to servicespec directory
-            List<File> serviceProfileFiles = HyscaleFilesUtil.listFilesWithPattern(serviceSpecPath, profileFilePattern);
-            if (serviceProfileFiles != null && !serviceProfileFiles.isEmpty()) {
-                profileFiles.addAll(serviceProfileFiles);
-            }
+            profileFiles.addAll(getMatchingFiles(directoryVsFiles, serviceSpecPath, profileFilePattern));
 
             // Search for profile relative to servicespec/profiles directory
             serviceSpecPath = serviceSpecPath.concat(ToolConstants.FILE_SEPARATOR)
                     .concat(ToolConstants.PROFILES_DIR_NAME);
-            serviceProfileFiles = HyscaleFilesUtil.listFilesWithPattern(serviceSpecPath, profileFilePattern);
-            if (serviceProfileFiles != null && !serviceProfileFiles.isEmpty()) {
-                profileFiles.addAll(serviceProfileFiles);
-            }
+            profileFiles.addAll(getMatchingFiles(directoryVsFiles, serviceSpecPath, profileFilePattern));
         }
         return profileFiles;
     }
 
+    private List<File> getMatchingFiles(Map<String, List<File>> directoryVsFiles, String directory,
+            String fileNamePattern) {
+        List<File> files = directoryVsFiles.computeIfAbsent(directory, dir -> {
+            File[] dirFiles = new File(dir).listFiles();
+            return dirFiles == null ? Collections.emptyList() : Arrays.asList(dirFiles);
+        });
+        List<File> matchingFiles = new ArrayList<>();
+        for (File file : files) {
+            if (file.getName().matches(fileNamePattern)) {
+                matchingFiles.add(file);
+            }
+        }
+        return matchingFiles;
+    }
+
     /**
      * @param profileName
      * @return ^(profileName-).*({@value ToolConstants#HPROF_EXTENSION})$
@@ -42,6 +42,7 @@ import io.hyscale.controller.util.CommandUtil;
 import io.hyscale.controller.util.StatusUtil;
 import io.hyscale.controller.validator.impl.ClusterValidator;
 import io.hyscale.deployer.core.model.DeploymentStatus;
+import io.hyscale.deployer.services.cache.ClusterStateCache;
 import picocli.CommandLine.Command;
 import picocli.CommandLine.Option;
 
@@ -101,7 +102,7 @@ public class HyscaleAppStatusCommand implements Callable<Integer> {
         WorkflowLogger.info(ControllerActivity.WAITING_FOR_SERVICE_STATUS);
 
         WorkflowLogger.header(ControllerActivity.APP_NAME, appName);
-        try {
+        try (ClusterStateCache.Session cacheSession = ClusterStateCache.open()) {
             statusComponentInvoker.execute(context);
 
             Object statusAttr = context.getAttribute(
@@ -42,6 +42,7 @@ import io.hyscale.commons.logger.WorkflowLogger;
 import io.hyscale.controller.activity.ControllerActivity;
 import io.hyscale.controller.model.WorkflowContextBuilder;
 import io.hyscale.deployer.core.model.DeploymentStatus;
+import io.hyscale.deployer.services.cache.ClusterStateCache;
 import picocli.CommandLine.Command;
 import picocli.CommandLine.Option;
 
@@ -115,7 +116,7 @@ public class HyscaleServiceStatusCommand implements Callable<Integer> {
         WorkflowLogger.info(ControllerActivity.WAITING_FOR_SERVICE_STATUS);
 
         WorkflowLogger.header(ControllerActivity.APP_NAME, appName);
-        try {
+        try (ClusterStateCache.Session cacheSession = ClusterStateCache.open()) {
             boolean isLarge = false;
             List<String[]> rowList = new ArrayList<String[]>();
             for (WorkflowContext context : contextList) {
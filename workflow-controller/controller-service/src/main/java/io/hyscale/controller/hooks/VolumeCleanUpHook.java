@@ -42,6 +42,7 @@ import io.hyscale.deployer.services.model.DeployerActivity;
 import io.hyscale.deployer.services.provider.K8sClientProvider;
 import io.hyscale.deployer.services.util.KubernetesResourceUtil;
 import io.hyscale.deployer.services.util.KubernetesVolumeUtil;
+import io.hyscale.deployer.services.util.PodVolumeResolver;
 import io.kubernetes.client.openapi.ApiClient;
 import io.kubernetes.client.openapi.models.V1PersistentVolumeClaim;
 
@@ -119,8 +120,9 @@ public class VolumeCleanUpHook implements InvokerHook<WorkflowContext> {
 			V1PersistentVolumeClaimHandler pvcHandler = (V1PersistentVolumeClaimHandler) ResourceHandlers
 					.getHandlerOf(ResourceKind.PERSISTENT_VOLUME_CLAIM.getKind());
 
-			List<V1PersistentVolumeClaim> pvcItemsList = pvcHandler.getBySelector(apiClient, selector, true, namespace);
-			if (pvcItemsList == null || pvcItemsList.isEmpty()) {
+			PodVolumeResolver volumeResolver = new PodVolumeResolver(apiClient, selector, namespace);
+			List<V1PersistentVolumeClaim> pvcItemsList = volumeResolver.getClaims();
+			if (pvcItemsList.isEmpty()) {
 				return;
 			}
 			if (deleteAll) {
@@ -128,7 +130,7 @@ public class VolumeCleanUpHook implements InvokerHook<WorkflowContext> {
 				deleteAllPVC(pvcHandler, apiClient, namespace, pvcItemsList);
 				return;
 			}
-			Set<String> podsVolumes = KubernetesVolumeUtil.getPodVolumes(apiClient, selector, namespace);
+			Set<String> podsVolumes = volumeResolver.getPodClaimNames();
 
 			if (podsVolumes == null || podsVolumes.isEmpty()) {
 				printCleaningMsg();
@@ -0,0 +1,112 @@
+/**
+ * Copyright 2019 Pramati Prism, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.hyscale.controller.model;
+
+import java.io.File;
+import java.io.IOException;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.NullNode;
+
+import io.hyscale.commons.utils.ObjectMapperFactory;
+
+/**
+ * Input spec file as loaded by {@link io.hyscale.controller.util.InputSpecRegistry}
+ * Holds the raw content and the yaml tree parsed on first use.
+ * The tree is shared by all consumers of the file and must not be modified,
+ * consumers updating the spec work on a {@link JsonNode#deepCopy()}
+ *
+ */
+public class InputSpecFile {
+
+    private final File file;
+    private final String canonicalPath;
+    private final String digest;
+    private final byte[] content;
+    private final long lastModified;
+    private volatile JsonNode tree;
+
+    public InputSpecFile(File file, String canonicalPath, String digest, byte[] content, long lastModified) {
+        this.file = file;
+        this.canonicalPath = canonicalPath;
+        this.digest = digest;
+        this.content = content;
+        this.lastModified = lastModified;
+    }
+
+    /**
+     * Creates file with same content as source, parsed tree of source is retained
+     *
+     * @param source
+     * @param lastModified
+     */
+    public InputSpecFile(InputSpecFile source, long lastModified) {
+        this(source.file, source.canonicalPath, source.digest, source.content, lastModified);
+        this.tree = source.tree;
+    }
+
+    public File getFile() {
+        return file;
+    }
+
+    public String getCanonicalPath() {
+        return canonicalPath;
+    }
+
+    /**
+     * @return sha256 hex digest of file content
+     */
+    public String getDigest() {
+        return digest;
+    }
+
+    public byte[] getContent() {
+        return content;
+    }
+
+    public long getLastModified() {
+        return lastModified;
+    }
+
+    /**
+     * @param file
+     * @return true if file is modified after it was loaded
+     */
+    public boolean isModified(File file) {
+        return file.lastModified() != lastModified || file.length() != content.length;
+    }
+
+    /**
+     * @return yaml tree of the file, parsed once
+     * @throws IOException if content is not valid yaml
+     */
+    public JsonNode getTree() throws IOException {
+        JsonNode parsedTree = tree;
+        if (parsedTree == null) {
+            synchronized (this) {
+                parsedTree = tree;
+                if (parsedTree == null) {
+                    parsedTree = ObjectMapperFactory.yamlMapper().readTree(content);
+                    if (parsedTree == null || parsedTree.isMissingNode()) {
+                        parsedTree = NullNode.getInstance();
+                    }
+                    tree = parsedTree;
+                }
+            }
+        }
+        return parsedTree;
+    }
+}
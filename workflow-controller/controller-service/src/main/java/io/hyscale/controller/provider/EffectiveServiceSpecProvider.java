@@ -29,24 +29,24 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.JsonNode;
 
 import io.hyscale.commons.exception.HyscaleException;
-import io.hyscale.commons.io.HyscaleFilesUtil;
 import io.hyscale.commons.logger.WorkflowLogger;
 import io.hyscale.commons.models.Status;
-import io.hyscale.commons.utils.ObjectMapperFactory;
 import io.hyscale.controller.activity.ControllerActivity;
 import io.hyscale.controller.constants.WorkflowConstants;
 import io.hyscale.controller.exception.ControllerErrorCodes;
 import io.hyscale.controller.model.EffectiveServiceSpec;
 import io.hyscale.controller.model.HyscaleInputSpec;
+import io.hyscale.controller.util.InputSpecRegistry;
 import io.hyscale.controller.util.ServiceProfileUtil;
 import io.hyscale.controller.util.ServiceSpecUtil;
 import io.hyscale.generator.services.model.ServiceMetadata;
 import io.hyscale.servicespec.commons.builder.EffectiveServiceSpecBuilder;
 import io.hyscale.servicespec.commons.builder.MapFieldDataProvider;
-import io.hyscale.servicespec.commons.builder.ServiceInputType;
+import io.hyscale.servicespec.commons.activity.ServiceSpecActivity;
+import io.hyscale.servicespec.commons.exception.ServiceSpecErrorCodes;
 import io.hyscale.servicespec.commons.model.service.ServiceSpec;
 
 @Component
@@ -98,29 +98,33 @@ public class EffectiveServiceSpecProvider {
             Map<String, Entry<String, File>> serviceVsProfile) throws HyscaleException {
 
         List<EffectiveServiceSpec> effectiveServiceSpecList = new ArrayList<EffectiveServiceSpec>();
-        ObjectMapper mapper = null;
+        InputSpecRegistry inputSpecRegistry = InputSpecRegistry.getInstance();
 
         for (File serviceSpecFile : serviceSpecFiles) {
             EffectiveServiceSpec effectiveServiceSpec = new EffectiveServiceSpec();
             ServiceMetadata serviceMetadata = new ServiceMetadata();
             effectiveServiceSpec.setServiceMetadata(serviceMetadata);
-            mapper = ObjectMapperFactory.yamlMapper();
             String serviceName = ServiceSpecUtil.getServiceName(serviceSpecFile);
             serviceMetadata.setServiceName(serviceName);
             Entry<String, File> profileDetail = serviceVsProfile.remove(serviceName);
-            String serviceSpecData = HyscaleFilesUtil.readFileData(serviceSpecFile);
+            JsonNode serviceSpecTree = null;
+            try {
+                serviceSpecTree = inputSpecRegistry.get(serviceSpecFile).getTree();
+            } catch (IOException e) {
+                logger.error("Error while processing service spec ", e);
+                throw new HyscaleException(ControllerErrorCodes.SERVICE_SPEC_PROCESSING_FAILED, e.getMessage());
+            }
             if (profileDetail != null) {
                 String profileName = profileDetail.getKey();
                 serviceMetadata.setEnvName(profileName);
                 File profileFile = profileDetail.getValue();
                 WorkflowLogger.startActivity(ControllerActivity.APPLYING_PROFILE_FOR_SERVICE, profileName, serviceName);
-                mapper = ObjectMapperFactory.jsonMapper();
                 try {
                     MapFieldDataProvider mapFieldDataProvider = new MapFieldDataProvider();
-                    // Merge
-                    serviceSpecData = new EffectiveServiceSpecBuilder().type(ServiceInputType.YAML)
-                            .withServiceSpec(serviceSpecData).withProfile(HyscaleFilesUtil.readFileData(profileFile))
-                            .withFieldMetaDataProvider(mapFieldDataProvider).build();
+                    // Merge on copies, registry trees are shared
+                    serviceSpecTree = new EffectiveServiceSpecBuilder().withServiceSpec(serviceSpecTree.deepCopy())
+                            .withProfile(readProfile(inputSpecRegistry, profileFile).deepCopy())
+                            .withFieldMetaDataProvider(mapFieldDataProvider).buildTree();
                     WorkflowLogger.endActivity(Status.DONE);
                 } catch (HyscaleException e) {
                     logger.error("Error while applying profile {} for service {}", profileName, serviceName, e);
@@ -131,17 +135,21 @@ public class EffectiveServiceSpecProvider {
             if (serviceMetadata.getEnvName() == null) {
                 serviceMetadata.setEnvName(WorkflowConstants.DEV_ENV);
             }
-            try {
-                effectiveServiceSpec.setServiceSpec(new ServiceSpec(mapper.readTree(serviceSpecData)));
-                effectiveServiceSpecList.add(effectiveServiceSpec);
-            } catch (IOException e) {
-                logger.error("Error while processing service spec ", e);
-                throw new HyscaleException(ControllerErrorCodes.SERVICE_SPEC_PROCESSING_FAILED, e.getMessage());
-            }
+            effectiveServiceSpec.setServiceSpec(new ServiceSpec(serviceSpecTree));
+            effectiveServiceSpecList.add(effectiveServiceSpec);
         }
         return effectiveServiceSpecList;
     }
 
+    private JsonNode readProfile(InputSpecRegistry inputSpecRegistry, File profileFile) throws HyscaleException {
+        try {
+            return inputSpecRegistry.get(profileFile).getTree();
+        } catch (IOException e) {
+            WorkflowLogger.error(ServiceSpecActivity.ERROR, e.getMessage());
+            throw new HyscaleException(e, ServiceSpecErrorCodes.SERVICE_PROFILE_PARSE_ERROR);
+        }
+    }
+
     private Map<String, Map.Entry<String, File>> getDependencyMap(List<File> serviceSpecFiles, List<File> profileFiles)
             throws HyscaleException {
         Map<String, Entry<String, File>> serviceVsProfile = new HashMap<String, Map.Entry<String, File>>();
@@ -0,0 +1,98 @@
+/**
+ * Copyright 2019 Pramati Prism, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.hyscale.controller.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.commons.codec.digest.DigestUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.hyscale.commons.exception.CommonErrorCode;
+import io.hyscale.commons.exception.HyscaleException;
+import io.hyscale.controller.model.InputSpecFile;
+
+/**
+ * Loads input spec and profile files once per command.
+ * Files are keyed by canonical path, a file modified after it was loaded
+ * is read again and served only if its content digest changed.
+ * Validators, service name lookups and effective service spec creation
+ * share the loaded content and parsed tree through this registry.
+ *
+ */
+public class InputSpecRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(InputSpecRegistry.class);
+
+    private final Map<String, InputSpecFile> inputSpecFiles = new ConcurrentHashMap<>();
+
+    private static final class InstanceHolder {
+        private static final InputSpecRegistry INSTANCE = new InputSpecRegistry();
+    }
+
+    public static InputSpecRegistry getInstance() {
+        return InstanceHolder.INSTANCE;
+    }
+
+    private InputSpecRegistry() {
+    }
+
+    /**
+     * @param file
+     * @return loaded input spec file, null if file is null
+     * @throws HyscaleException if file cannot be read
+     */
+    public InputSpecFile get(File file) throws HyscaleException {
+        if (file == null) {
+            return null;
+        }
+        try {
+            String canonicalPath = file.getCanonicalPath();
+            InputSpecFile inputSpecFile = inputSpecFiles.get(canonicalPath);
+            if (inputSpecFile != null && !inputSpecFile.isModified(file)) {
+                return inputSpecFile;
+            }
+            InputSpecFile loadedFile = load(file, canonicalPath);
+            if (inputSpecFile != null && inputSpecFile.getDigest().equals(loadedFile.getDigest())) {
+                // Content unchanged, retain the parsed tree
+                loadedFile = new InputSpecFile(inputSpecFile, loadedFile.getLastModified());
+            }
+            inputSpecFiles.put(canonicalPath, loadedFile);
+            return loadedFile;
+        } catch (IOException e) {
+            logger.error("Failed to read input spec {}", file.getPath(), e);
+            throw new HyscaleException(e, CommonErrorCode.FAILED_TO_READ_FILE, file.getPath());
+        }
+    }
+
+    /**
+     * Releases loaded files, called once the command completes
+     */
+    public void clear() {
+        inputSpecFiles.clear();
+    }
+
+    private InputSpecFile load(File file, String canonicalPath) throws IOException {
+        long lastModified = file.lastModified();
+        byte[] content = Files.readAllBytes(file.toPath());
+        logger.debug("Loaded input spec {}", canonicalPath);
+        return new InputSpecFile(file, canonicalPath, DigestUtils.sha256Hex(content), content, lastModified);
+    }
+}
@@ -15,17 +15,20 @@
  */
 package io.hyscale.controller.util;
 
+import io.hyscale.commons.io.WriteBehindFileWriter;
 import io.hyscale.commons.utils.ThreadPoolUtil;
 
 /**
  * Executed after completion of command
  * Helps to clean local resources no longer in use 
- * like threads
+ * like threads, loaded input specs, waits for pending file writes
  *
  */
 public class ResourceCleanUpUtil {
 	
 	public static void performCleanUp() {
+		WriteBehindFileWriter.getInstance().flush();
+		InputSpecRegistry.getInstance().clear();
 		ThreadPoolUtil.getInstance().shutdown();
 	}
 
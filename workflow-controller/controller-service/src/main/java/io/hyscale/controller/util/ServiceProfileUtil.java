@@ -25,15 +25,12 @@ import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
-import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.fasterxml.jackson.databind.JsonNode;
 
-import io.hyscale.commons.constants.ToolConstants;
-import io.hyscale.commons.exception.CommonErrorCode;
 import io.hyscale.commons.exception.HyscaleException;
 import io.hyscale.commons.io.HyscaleFilesUtil;
 import io.hyscale.commons.logger.LoggerTags;
@@ -79,20 +76,21 @@ public class ServiceProfileUtil {
         if (profileFile == null) {
             return null;
         }
+        Profile profile;
         try {
-            Profile profile = new Profile(FileUtils.readFileToString(profileFile, ToolConstants.CHARACTER_ENCODING));
-            JsonNode fieldValue = profile.get(field);
-            if (fieldValue == null) {
-                HyscaleException hyscaleException = new HyscaleException(
-                        ServiceSpecErrorCodes.MISSING_FIELD_IN_PROFILE_FILE, field);
-                logger.error(hyscaleException.getMessage());
-                throw hyscaleException;
-            }
-            return fieldValue.asText();
+            profile = new Profile(InputSpecRegistry.getInstance().get(profileFile).getTree());
         } catch (IOException e) {
             logger.error(e.getMessage());
-            throw new HyscaleException(CommonErrorCode.FAILED_TO_READ_FILE, profileFile.getPath());
+            throw new HyscaleException(ServiceSpecErrorCodes.SERVICE_PROFILE_PARSE_ERROR);
         }
+        JsonNode fieldValue = profile.get(field);
+        if (fieldValue == null) {
+            HyscaleException hyscaleException = new HyscaleException(
+                    ServiceSpecErrorCodes.MISSING_FIELD_IN_PROFILE_FILE, field);
+            logger.error(hyscaleException.getMessage());
+            throw hyscaleException;
+        }
+        return fieldValue.asText();
     }
     
 }
\ No newline at end of file
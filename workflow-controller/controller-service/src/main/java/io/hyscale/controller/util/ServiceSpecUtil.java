@@ -16,13 +16,10 @@
 package io.hyscale.controller.util;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import io.hyscale.commons.constants.ToolConstants;
-import io.hyscale.commons.exception.CommonErrorCode;
 import io.hyscale.commons.exception.HyscaleException;
 import io.hyscale.servicespec.commons.exception.ServiceSpecErrorCodes;
 import io.hyscale.servicespec.commons.fields.HyscaleSpecFields;
 import io.hyscale.servicespec.commons.model.service.ServiceSpec;
-import org.apache.commons.io.FileUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -38,7 +35,7 @@ public class ServiceSpecUtil {
             return null;
         }
         try {
-            ServiceSpec serviceSpec = new ServiceSpec(FileUtils.readFileToString(serviceFile, ToolConstants.CHARACTER_ENCODING));
+            ServiceSpec serviceSpec = new ServiceSpec(InputSpecRegistry.getInstance().get(serviceFile).getTree());
             JsonNode serviceNodeValue = serviceSpec.get(HyscaleSpecFields.name);
             if (serviceNodeValue == null) {
                 HyscaleException hyscaleException = new HyscaleException(ServiceSpecErrorCodes.MISSING_FIELD_IN_SERVICE_FILE,HyscaleSpecFields.name);
@@ -48,7 +45,7 @@ public class ServiceSpecUtil {
             return serviceNodeValue.asText();
         } catch (IOException e) {
             logger.error(e.getMessage());
-            throw new HyscaleException(CommonErrorCode.FAILED_TO_READ_FILE, serviceFile.getPath());
+            throw new HyscaleException(e, ServiceSpecErrorCodes.SERVICE_SPEC_PARSE_ERROR);
         }
     }
 }
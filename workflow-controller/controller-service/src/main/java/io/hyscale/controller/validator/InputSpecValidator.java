@@ -16,12 +16,20 @@
 package io.hyscale.controller.validator;
 
 import java.io.File;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
 
 import io.hyscale.commons.exception.CommonErrorCode;
 import io.hyscale.commons.logger.LoggerTags;
+import io.hyscale.commons.utils.ThreadPoolUtil;
 import io.hyscale.commons.utils.WindowsUtil;
 import io.hyscale.controller.activity.ControllerActivity;
+import io.hyscale.controller.exception.ControllerErrorCodes;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -35,6 +43,7 @@ import io.hyscale.controller.util.ValidatorMessageHandler;
 
 /**
  * Ensures validators are called for all the input files even if some fails validation
+ * Files are validated concurrently, errors are aggregated per file and reported in input order
  *
  * @author tushar
  */
@@ -51,20 +60,80 @@ public abstract class InputSpecValidator implements Validator<List<File>> {
         boolean isInvalid = false;
         boolean isFailed = false;
         StringBuilder exceptionMsgBuilder = new StringBuilder().append(": \n");
-        for (File inputSpecFile : inputSpecFiles) {
-            try {
-                if (!validateFile(inputSpecFile) || !getSchemaValidator().validate(inputSpecFile)) {
-                    isInvalid = true;
-                }
-            } catch (HyscaleException e) {
+        for (FileValidationResult result : validateFiles(inputSpecFiles)) {
+            WorkflowLogger.persistBuffered(result.getPersistedActivities());
+            if (result.getErrorMessage() != null) {
                 isFailed = true;
-                exceptionMsgBuilder.append(e.getMessage()).append(ToolConstants.NEW_LINE);
+                exceptionMsgBuilder.append(result.getErrorMessage()).append(ToolConstants.NEW_LINE);
+            } else if (!result.isValid()) {
+                isInvalid = true;
             }
         }
         ValidatorMessageHandler.handleErrMsg(exceptionMsgBuilder, isInvalid, isFailed);
         return !isInvalid;
     }
-    
+
+    /**
+     * Validates files on the shared thread pool, files rejected by the pool are validated on the calling thread
+     *
+     * @param inputSpecFiles
+     * @return validation result of each file in input order
+     * @throws HyscaleException if interrupted while waiting for validation
+     */
+    private List<FileValidationResult> validateFiles(List<File> inputSpecFiles) throws HyscaleException {
+        if (inputSpecFiles.size() <= 1) {
+            return inputSpecFiles.stream().map(this::validateInputFile).collect(Collectors.toList());
+        }
+        List<Future<FileValidationResult>> resultFutures = inputSpecFiles.stream()
+                .map(each -> submit(() -> validateInputFile(each))).collect(Collectors.toList());
+        List<FileValidationResult> results = new ArrayList<>();
+        for (Future<FileValidationResult> resultFuture : resultFutures) {
+            try {
+                results.add(resultFuture.get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                logger.error("Interrupted while validating input files");
+                throw new HyscaleException(e, ControllerErrorCodes.UNEXPECTED_ERROR);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw new IllegalStateException(e.getCause());
+            }
+        }
+        return results;
+    }
+
+    private <T> Future<T> submit(Callable<T> task) {
+        Future<T> future = ThreadPoolUtil.getInstance().execute(task);
+        if (future != null) {
+            return future;
+        }
+        CompletableFuture<T> result = new CompletableFuture<>();
+        try {
+            result.complete(task.call());
+        } catch (Exception e) {
+            result.completeExceptionally(e);
+        }
+        return result;
+    }
+
+    private FileValidationResult validateInputFile(File inputSpecFile) {
+        // Activities are persisted in file order once all files are validated
+        WorkflowLogger.bufferPersistedActivities();
+        boolean isValid = false;
+        String errorMessage = null;
+        List<String> persistedActivities = null;
+        try {
+            isValid = validateFile(inputSpecFile) && getSchemaValidator().validate(inputSpecFile);
+        } catch (HyscaleException e) {
+            errorMessage = e.getMessage();
+        } finally {
+            persistedActivities = WorkflowLogger.releasePersistBuffer();
+        }
+        return new FileValidationResult(isValid, errorMessage, persistedActivities);
+    }
+
     private boolean validateFile(File inputFile) throws HyscaleException {
         logger.debug("Running Validator {}", getClass());
         if (inputFile == null) {
@@ -117,4 +186,29 @@ public abstract class InputSpecValidator implements Validator<List<File>> {
 
     protected abstract String getFilePattern();
 
+    private static class FileValidationResult {
+
+        private final boolean valid;
+        private final String errorMessage;
+        private final List<String> persistedActivities;
+
+        FileValidationResult(boolean valid, String errorMessage, List<String> persistedActivities) {
+            this.valid = valid;
+            this.errorMessage = errorMessage;
+            this.persistedActivities = persistedActivities;
+        }
+
+        boolean isValid() {
+            return valid;
+        }
+
+        String getErrorMessage() {
+            return errorMessage;
+        }
+
+        List<String> getPersistedActivities() {
+            return persistedActivities;
+        }
+    }
+
 }
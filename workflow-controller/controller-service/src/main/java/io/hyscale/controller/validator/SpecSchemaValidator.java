@@ -16,6 +16,7 @@
 package io.hyscale.controller.validator;
 
 import java.io.File;
+import java.io.IOException;
 import java.util.Iterator;
 
 import org.apache.commons.lang3.StringUtils;
@@ -28,13 +29,14 @@ import com.github.fge.jsonschema.core.report.ProcessingMessage;
 import com.github.fge.jsonschema.core.report.ProcessingReport;
 
 import io.hyscale.commons.constants.ToolConstants;
+import io.hyscale.commons.exception.CommonErrorCode;
 import io.hyscale.commons.exception.HyscaleException;
 import io.hyscale.commons.logger.LoggerTags;
 import io.hyscale.commons.logger.WorkflowLogger;
 import io.hyscale.commons.models.Activity;
 import io.hyscale.commons.models.HyscaleSpecType;
-import io.hyscale.commons.utils.DataFormatConverter;
 import io.hyscale.commons.validator.Validator;
+import io.hyscale.controller.util.InputSpecRegistry;
 import io.hyscale.controller.validator.impl.HprofSchemaValidator;
 import io.hyscale.controller.validator.impl.HSpecSchemaValidator;
 import io.hyscale.schema.validator.SchemaValidator;
@@ -57,15 +59,15 @@ public abstract class SpecSchemaValidator implements Validator<File> {
     public boolean validate(File specFile) throws HyscaleException {
         String fileName = specFile.getName();
         ProcessingReport processingReport;
-        String jsonData = null;
+        JsonNode specNode = null;
         try {
-            jsonData = DataFormatConverter.yamlToJson(specFile);
+            specNode = readSpec(specFile);
         } catch (HyscaleException e) {
             WorkflowLogger.persist(getActivity(), LoggerTags.ERROR, fileName, ERROR_MESSAGE);
             throw new HyscaleException(e.getHyscaleError(), ToolConstants.SCHEMA_VALIDATION_FAILURE_ERROR_CODE);
         }
         try {
-            processingReport = schemaValidator.validateSpec(jsonData,
+            processingReport = schemaValidator.validateSpec(specNode,
                     getReferenceSchemaType());
         } catch (HyscaleException e) {
             WorkflowLogger.persist(getActivity(), LoggerTags.ERROR, fileName, e.getMessage());
@@ -87,6 +89,22 @@ public abstract class SpecSchemaValidator implements Validator<File> {
         return false;
     }
     
+    /**
+     * Reads yaml spec as json tree for schema validation, the tree is shared through {@link InputSpecRegistry}
+     *
+     * @param specFile
+     * @return spec as json node
+     * @throws HyscaleException
+     */
+    private JsonNode readSpec(File specFile) throws HyscaleException {
+        try {
+            return InputSpecRegistry.getInstance().get(specFile).getTree();
+        } catch (IOException e) {
+            logger.error(e.getMessage());
+            throw new HyscaleException(e, CommonErrorCode.YAML_TO_JSON_CONVERSION_FAILURE, e.getMessage());
+        }
+    }
+
     /**
      * 
      * @param processingReport
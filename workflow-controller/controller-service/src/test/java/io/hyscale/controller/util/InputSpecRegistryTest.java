@@ -0,0 +1,78 @@
+/**
+ * Copyright 2019 Pramati Prism, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.hyscale.controller.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.hyscale.commons.exception.HyscaleException;
+import io.hyscale.controller.model.InputSpecFile;
+
+public class InputSpecRegistryTest {
+
+    @TempDir
+    Path tempDir;
+
+    @AfterEach
+    public void clearRegistry() {
+        InputSpecRegistry.getInstance().clear();
+    }
+
+    @Test
+    public void testFileLoadedOnce() throws HyscaleException, IOException {
+        File serviceSpec = writeSpec("myservice.hspec", "name: myservice");
+        InputSpecFile inputSpecFile = InputSpecRegistry.getInstance().get(serviceSpec);
+        // Same file through a different path
+        File relativeSpec = new File(tempDir.toFile(), "." + File.separator + "myservice.hspec");
+        assertSame(inputSpecFile, InputSpecRegistry.getInstance().get(relativeSpec));
+        assertSame(inputSpecFile.getTree(), InputSpecRegistry.getInstance().get(serviceSpec).getTree());
+        assertEquals("myservice", ServiceSpecUtil.getServiceName(relativeSpec));
+    }
+
+    @Test
+    public void testModifiedFileReloaded() throws HyscaleException, IOException {
+        File serviceSpec = writeSpec("myservice.hspec", "name: myservice");
+        InputSpecFile inputSpecFile = InputSpecRegistry.getInstance().get(serviceSpec);
+        writeSpec("myservice.hspec", "name: updatedservice");
+        serviceSpec.setLastModified(inputSpecFile.getLastModified() + 1000);
+        InputSpecFile updatedFile = InputSpecRegistry.getInstance().get(serviceSpec);
+        assertNotEquals(inputSpecFile.getDigest(), updatedFile.getDigest());
+        assertEquals("updatedservice", ServiceSpecUtil.getServiceName(serviceSpec));
+    }
+
+    @Test
+    public void testTreeRetainedForUnchangedContent() throws HyscaleException, IOException {
+        File serviceSpec = writeSpec("myservice.hspec", "name: myservice");
+        InputSpecFile inputSpecFile = InputSpecRegistry.getInstance().get(serviceSpec);
+        serviceSpec.setLastModified(inputSpecFile.getLastModified() + 1000);
+        assertSame(inputSpecFile.getTree(), InputSpecRegistry.getInstance().get(serviceSpec).getTree());
+    }
+
+    private File writeSpec(String fileName, String content) throws IOException {
+        return Files.write(tempDir.resolve(fileName), content.getBytes(StandardCharsets.UTF_8)).toFile();
+    }
+}
@@ -0,0 +1,131 @@
+/**
+ * Copyright 2019 Pramati Prism, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.hyscale.controller.validator.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.lang3.StringUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.info.BuildProperties;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import io.hyscale.commons.constants.ToolConstants;
+import io.hyscale.commons.exception.HyscaleException;
+import io.hyscale.schema.validator.JsonSchemaValidator;
+
+@SpringBootTest
+public class ServiceSpecInputValidatorTest {
+
+    private static final String VALID_SPEC = "name: %s\nimage:\n  registry: x.y.z\n  name: myimage\n  tag: 1.0\n"
+            + "ports:\n  - port: 8080/tcp\n";
+
+    @Autowired
+    private ServiceSpecInputValidator serviceSpecInputValidator;
+
+    @Autowired
+    private BuildProperties buildProperties;
+
+    @Test
+    public void testBatchValidationAggregatesErrors() {
+        List<File> serviceSpecs = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            serviceSpecs.add(getFile("/servicespecs/validator"));
+        }
+        serviceSpecs.add(1, new File("missing-first.hspec"));
+        serviceSpecs.add(new File("missing-second.hspec"));
+        HyscaleException exception = assertThrows(HyscaleException.class,
+                () -> serviceSpecInputValidator.validate(serviceSpecs));
+        String message = exception.getMessage();
+        // Errors of every file are reported, in input order
+        assertTrue(message.indexOf("missing-first.hspec") >= 0);
+        assertTrue(message.indexOf("missing-first.hspec") < message.indexOf("missing-second.hspec"));
+        assertEquals(8, StringUtils.countMatches(message, "validator"));
+    }
+
+    @Test
+    public void testBatchSchemaValidation(@TempDir Path specDir) throws Exception {
+        String schemaPath = "/hspec/" + buildProperties.get(ToolConstants.HSPEC_VERSION) + "/service-spec.json";
+        assumeTrue(JsonSchemaValidator.class.getResource(schemaPath) != null, "Schema not found at " + schemaPath);
+        List<File> serviceSpecs = Arrays.asList(writeSpec(specDir, "frontend", VALID_SPEC),
+                writeSpec(specDir, "backend", VALID_SPEC.replace("ports:\n  - port: 8080/tcp\n", "ports: 8080\n")),
+                writeSpec(specDir, "cache", VALID_SPEC), writeSpec(specDir, "worker", VALID_SPEC + "external: maybe\n"),
+                writeSpec(specDir, "gateway", VALID_SPEC));
+
+        PrintStream systemOut = System.out;
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        boolean isValid;
+        try {
+            System.setOut(new PrintStream(output, true, StandardCharsets.UTF_8));
+            isValid = serviceSpecInputValidator.validate(serviceSpecs);
+        } finally {
+            System.setOut(systemOut);
+        }
+        String message = output.toString(StandardCharsets.UTF_8);
+
+        assertFalse(isValid);
+        // Errors of schema invalid files are reported per file in input order
+        int backendError = message.indexOf("Service spec validation failed for backend.hspec");
+        int workerError = message.indexOf("Service spec validation failed for worker.hspec");
+        assertTrue(backendError >= 0, message);
+        assertTrue(workerError > backendError, message);
+        assertFalse(message.contains("frontend.hspec"), message);
+        assertFalse(message.contains("cache.hspec"), message);
+        assertFalse(message.contains("gateway.hspec"), message);
+
+        // Compiled schema is reused across files and batches
+        Map<String, Object> compiledSchemas = new HashMap<>(getCompiledSchemas());
+        assertTrue(serviceSpecInputValidator.validate(Arrays.asList(serviceSpecs.get(0), serviceSpecs.get(2))));
+        Map<String, Object> reusedSchemas = getCompiledSchemas();
+        assertEquals(compiledSchemas.keySet(), reusedSchemas.keySet());
+        compiledSchemas.forEach((schema, compiledSchema) -> assertSame(compiledSchema, reusedSchemas.get(schema)));
+    }
+
+    private File writeSpec(Path specDir, String serviceName, String spec) throws IOException {
+        return Files.writeString(specDir.resolve(serviceName + ".hspec"), String.format(spec, serviceName)).toFile();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> getCompiledSchemas() throws ReflectiveOperationException {
+        Field compiledSchemas = JsonSchemaValidator.class.getDeclaredField("compiledSchemas");
+        compiledSchemas.setAccessible(true);
+        return (Map<String, Object>) compiledSchemas.get(null);
+    }
+
+    private File getFile(String path) {
+        return new File(ServiceSpecInputValidatorTest.class.getResource(path).getFile());
+    }
+}